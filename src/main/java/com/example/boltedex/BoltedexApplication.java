@@ -2,6 +2,7 @@ package com.example.boltedex;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -9,10 +10,12 @@ import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.lang.NonNull;
 import org.springframework.beans.factory.annotation.Value;
+import com.example.boltedex.config.NativeRuntimeHints;
 
 @SpringBootApplication
 @EnableCaching
 @EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class BoltedexApplication {
 
 	@Value("${cors.allowed-origins}")
@@ -0,0 +1,78 @@
+package com.example.boltedex.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+public class CacheAdminController {
+
+	@Autowired
+	private SnapshotService snapshotService;
+
+	@Autowired
+	private RefreshJobService refreshJobService;
+
+	@Autowired
+	private TieredCacheRegistry tieredCacheRegistry;
+
+	@Autowired
+	private CacheWriteBehind cacheWriteBehind;
+
+	@Autowired
+	private HotKeyTracker hotKeyTracker;
+
+	@PostMapping("/snapshot")
+	public ResponseEntity<Map<String, Object>> writeSnapshot() {
+		int entries = snapshotService.writeSnapshot();
+		return ResponseEntity.ok(Map.of("entries", entries));
+	}
+
+	@GetMapping("/stats")
+	public ResponseEntity<List<Map<String, Object>>> getCacheStats() {
+		return ResponseEntity.ok(tieredCacheRegistry.describe());
+	}
+
+	@GetMapping("/write-behind")
+	public ResponseEntity<Map<String, Object>> getWriteBehindStats() {
+		return ResponseEntity.ok(cacheWriteBehind.describe());
+	}
+
+	@GetMapping("/hot-keys")
+	public ResponseEntity<Map<String, Object>> getHotKeys(@RequestParam(defaultValue = "20") int limit) {
+		return ResponseEntity.ok(hotKeyTracker.describe(limit));
+	}
+
+	@PostMapping("/refresh")
+	public ResponseEntity<Map<String, Object>> startRefresh(@RequestBody RefreshJobRequest request) {
+		RefreshJob job = refreshJobService.submit(request);
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.describe());
+	}
+
+	@GetMapping("/refresh")
+	public ResponseEntity<List<Map<String, Object>>> listRefreshJobs() {
+		return ResponseEntity.ok(refreshJobService.list().stream().map(RefreshJob::describe).toList());
+	}
+
+	@GetMapping("/refresh/{id}")
+	public ResponseEntity<Map<String, Object>> getRefreshJob(@PathVariable String id) {
+		return ResponseEntity.ok(refreshJobService.get(id).describe());
+	}
+
+	@DeleteMapping("/refresh/{id}")
+	public ResponseEntity<Map<String, Object>> cancelRefreshJob(@PathVariable String id) {
+		return ResponseEntity.ok(refreshJobService.cancel(id).describe());
+	}
+}
@@ -0,0 +1,33 @@
+package com.example.boltedex.cache;
+
+import java.util.function.Function;
+
+/**
+ * Converts between what a RedisTemplate stores (S) and what callers work with (V).
+ * decode returns null for entries that are unusable (old formats, incomplete data) so they are
+ * treated as misses; encode returns null for values that should not be cached.
+ */
+public interface CacheCodec<S, V> {
+
+	V decode(S stored);
+
+	S encode(V value);
+
+	static <V> CacheCodec<V, V> identity() {
+		return of(Function.identity(), Function.identity());
+	}
+
+	static <S, V> CacheCodec<S, V> of(Function<S, V> decoder, Function<V, S> encoder) {
+		return new CacheCodec<>() {
+			@Override
+			public V decode(S stored) {
+				return decoder.apply(stored);
+			}
+
+			@Override
+			public S encode(V value) {
+				return encoder.apply(value);
+			}
+		};
+	}
+}
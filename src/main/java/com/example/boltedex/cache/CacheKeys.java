@@ -0,0 +1,36 @@
+package com.example.boltedex.cache;
+
+/**
+ * Redis key layout shared by the client, the schedulers and the snapshot.
+ *
+ * The name index, search result sets and Pokemon details carry the {dex} hash tag so they hash to
+ * the same Redis Cluster slot: a search page, the details it resolves and the name index can be
+ * read with multi-key commands (MGET, pipelines) against a single node. The per-Pokemon satellite
+ * datasets are untagged and spread across the cluster.
+ */
+public final class CacheKeys {
+	private CacheKeys() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static final String HASH_TAG = "{dex}";
+
+	public static final String POKEMON_NAMES_ZSET_KEY = "pokemon:" + HASH_TAG + ":names:sorted";
+	public static final String POKEMON_DETAIL_CACHE_PREFIX = "pokemon:" + HASH_TAG + ":detail:";
+	public static final String POKEMON_SEARCH_PREFIX = "pokemon:" + HASH_TAG + ":search:";
+	// Hash of name -> UpstreamValidator for the detail entries, used to revalidate instead of re-download
+	public static final String POKEMON_DETAIL_VALIDATORS_KEY = "pokemon:" + HASH_TAG + ":validators:detail";
+
+	public static final String POKEMON_EVOLUTION_CHAIN_CACHE_PREFIX = "pokemon:evolution:chain:";
+	public static final String POKEMON_LOCATION_AREA_ENCOUNTERS_CACHE_PREFIX = "pokemon:location:encounters:";
+	// Reverse encounter index: hash per location area of Pokemon name -> encoded rates
+	public static final String LOCATION_AREA_POKEMON_PREFIX = "pokemon:location:area:";
+	public static final String POKEMON_SPECIES_CACHE_PREFIX = "pokemon:species:";
+	public static final String POKEMON_ABILITIES_CACHE_PREFIX = "pokemon:abilities:";
+	// Short-lived markers for names PokeAPI answered with 404
+	public static final String POKEMON_MISSING_PREFIX = "pokemon:missing:";
+	// Persisted top-K per tracked dataset (ZSET of name -> request count); {hot} keeps the staging key in the same slot
+	public static final String POKEMON_HOT_KEYS_PREFIX = "pokemon:{hot}:hot:";
+
+	public static final String REDIS_HEALTH_CHECK_KEY = "redis:health:check";
+}
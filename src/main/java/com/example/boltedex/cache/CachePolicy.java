@@ -0,0 +1,62 @@
+package com.example.boltedex.cache;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How one cached dataset is kept: Redis TTL, how long the in-process tier trusts an entry before
+ * re-reading Redis (soft TTL), how many entries that tier holds, and whether a stale local entry is
+ * served while it is re-read in the background.
+ */
+public class CachePolicy {
+
+	private final Duration ttl;
+	private final Duration softTtl;
+	private final int localMaxSize;
+	private final boolean asyncRefresh;
+
+	public CachePolicy(Duration ttl, Duration softTtl, int localMaxSize, boolean asyncRefresh) {
+		this.ttl = ttl;
+		this.softTtl = softTtl.compareTo(ttl) > 0 ? ttl : softTtl;
+		this.localMaxSize = Math.max(0, localMaxSize);
+		this.asyncRefresh = asyncRefresh;
+	}
+
+	public Duration getTtl() {
+		return ttl;
+	}
+
+	public Duration getSoftTtl() {
+		return softTtl;
+	}
+
+	public int getLocalMaxSize() {
+		return localMaxSize;
+	}
+
+	public boolean isAsyncRefresh() {
+		return asyncRefresh;
+	}
+
+	/**
+	 * TTL in the coarsest unit that expresses it exactly, e.g. 24 HOURS rather than 86400 SECONDS
+	 */
+	public long getTtlAmount() {
+		TimeUnit unit = getTtlUnit();
+		return unit.convert(ttl.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	public TimeUnit getTtlUnit() {
+		long millis = ttl.toMillis();
+		if (millis % TimeUnit.HOURS.toMillis(1) == 0) {
+			return TimeUnit.HOURS;
+		}
+		if (millis % TimeUnit.MINUTES.toMillis(1) == 0) {
+			return TimeUnit.MINUTES;
+		}
+		if (millis % TimeUnit.SECONDS.toMillis(1) == 0) {
+			return TimeUnit.SECONDS;
+		}
+		return TimeUnit.MILLISECONDS;
+	}
+}
@@ -4,18 +4,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.example.boltedex.pokemon.Pokemon;
 import com.example.boltedex.pokemon.PokemonAPIClientImplementation;
-import org.springframework.scheduling.annotation.Async;
-import java.util.concurrent.atomic.AtomicBoolean;
 import com.example.boltedex.exception.APIException;
 import com.example.boltedex.exception.ExceptionConstants;
+import com.example.boltedex.search.PokedexIndex;
+import com.example.boltedex.encounter.EncounterCodec;
+import com.example.boltedex.sprite.SpriteStore;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -26,14 +35,12 @@ public class CacheRefreshScheduler {
 	private static final Logger logger = LoggerFactory.getLogger(CacheRefreshScheduler.class);
 
 	private static final String POKEAPI_BASE_URL = "https://pokeapi.co/api/v2";
-	private static final String POKEMON_NAMES_ZSET_KEY = "pokemon:names:sorted";
-	private static final String POKEMON_DETAIL_CACHE_PREFIX = "pokemon:detail:";
 	private static final int CACHE_TTL_HOURS = 24;
+	// Rows merged into the Pokedex index at once; each merge copies the columns
+	private static final int INDEX_BATCH_SIZE = 200;
 
-	private final AtomicBoolean preloadCompleted = new AtomicBoolean(false);
-
-	@Value("${cache.preload.on-startup:true}")
-	private boolean preloadOnStartup;
+	@Value("${pokeapi.base-url:" + POKEAPI_BASE_URL + "}")
+	private String pokeApiBaseUrl = POKEAPI_BASE_URL;
 
 	@Autowired
 	private RedisTemplate<String, String> stringRedisTemplate;
@@ -44,7 +51,36 @@ public class CacheRefreshScheduler {
 	@Autowired
 	private PokemonAPIClientImplementation pokemonAPIClient;
 
-	private final RestTemplate restTemplate = new RestTemplate();
+	@Autowired
+	private WarmupProgress warmupProgress;
+
+	@Autowired
+	private PokedexIndex pokedexIndex;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Value("${cache.preload.encounters:true}")
+	private boolean preloadEncounters;
+
+	@Value("${sprites.preload.enabled:false}")
+	private boolean preloadSprites;
+
+	@Autowired
+	private SpriteStore spriteStore;
+
+	@Autowired
+	private HotKeyTracker hotKeyTracker;
+
+	@Value("${cache.hot-keys.refresh-ahead:6h}")
+	private Duration hotKeyRefreshAhead = Duration.ofHours(6);
+
+	@Autowired
+	private RestTemplate restTemplate;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final Object namesPreloadLock = new Object();
 
 	/**
 	 * Preload Pokemon names into Redis ZSET on application startup and at 3am daily
@@ -53,60 +89,67 @@ public class CacheRefreshScheduler {
 	public void preloadPokemonCache() {
 		logger.info("Starting Pokemon cache preload...");
 
-		try {
-			// Check if cache already exists and is fresh
-			Long cacheSize = stringRedisTemplate.opsForZSet().size(POKEMON_NAMES_ZSET_KEY);
-			Long ttl = stringRedisTemplate.getExpire(POKEMON_NAMES_ZSET_KEY);
-
-			// Skip if cache exists and has more than 12 hours remaining
-			if (cacheSize != null && cacheSize > 0 && ttl != null && ttl > 12 * 60 * 60) {
-				logger.info("Pokemon cache is fresh, skipping preload. Size: {}, TTL: {} seconds",
-						cacheSize, ttl);
-				return;
-			}
-			String url = POKEAPI_BASE_URL + "/pokemon?limit=2000";
-			JsonNode response = restTemplate.getForObject(url, JsonNode.class);
+		// One preload at a time: a caller that waited here finds the index fresh and skips the fetch
+		synchronized (namesPreloadLock) {
+			try {
+				// Check if cache already exists and is fresh
+				Long cacheSize = stringRedisTemplate.opsForZSet().size(CacheKeys.POKEMON_NAMES_ZSET_KEY);
+				Long ttl = stringRedisTemplate.getExpire(CacheKeys.POKEMON_NAMES_ZSET_KEY);
+
+				// Skip if cache exists and has more than 12 hours remaining
+				if (cacheSize != null && cacheSize > 0 && ttl != null && ttl > 12 * 60 * 60) {
+					logger.info("Pokemon cache is fresh, skipping preload. Size: {}, TTL: {} seconds",
+							cacheSize, ttl);
+					Set<String> cachedNames = stringRedisTemplate.opsForZSet().range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, -1);
+					if (cachedNames != null) {
+						eventPublisher.publishEvent(new PokemonNamesRefreshedEvent(new ArrayList<>(cachedNames)));
+					}
+					warmupProgress.complete(WarmupProgress.NAMES);
+					return;
+				}
+				String url = pokeApiBaseUrl + "/pokemon?limit=2000";
+				JsonNode response = restTemplate.getForObject(url, JsonNode.class);
+
+				if (response == null || !response.has("results")) {
+					throw new APIException(
+						ExceptionConstants.POKEMON_API_ERROR_MESSAGE,
+						ExceptionConstants.API_ERROR,
+						ExceptionConstants.BAD_GATEWAY,
+						Instant.now().toString(),
+						null
+					);
+				}
 
-			if (response == null || !response.has("results")) {
-				throw new APIException(
-					ExceptionConstants.POKEMON_API_ERROR_MESSAGE,
-					ExceptionConstants.API_ERROR,
-					ExceptionConstants.BAD_GATEWAY,
-					Instant.now().toString(),
-					null
-				);
-			}
+				List<String> names = new ArrayList<>();
+				for (JsonNode pokemon : response.get("results")) {
+					names.add(pokemon.get("name").asText());
+				}
 
-			JsonNode results = response.get("results");
-			ZSetOperations<String, String> zSetOps = stringRedisTemplate.opsForZSet();
+				// Swap the new index in whole, so pages read during the refresh never see it empty or partial
+				SortedSetWriter.replace(stringRedisTemplate, CacheKeys.POKEMON_NAMES_ZSET_KEY, names,
+						CACHE_TTL_HOURS, TimeUnit.HOURS);
+				int count = names.size();
+				eventPublisher.publishEvent(new PokemonNamesRefreshedEvent(names));
 
-			// Clear existing cache
-			stringRedisTemplate.delete(POKEMON_NAMES_ZSET_KEY);
+				warmupProgress.complete(WarmupProgress.NAMES);
+				logger.info("Successfully preloaded {} Pokemon names into cache", count);
 
-			// Add all Pokemon names with score 0 for lexicographical ordering
-			int count = 0;
-			for (JsonNode pokemon : results) {
-				String name = pokemon.get("name").asText();
-				zSetOps.add(POKEMON_NAMES_ZSET_KEY, name, 0);
-				count++;
+			} catch (Exception e) {
+				throw new APIException(
+					String.format(ExceptionConstants.REDIS_PRELOAD_ERROR_DETAILED, e.getMessage()),
+					ExceptionConstants.CACHE_ERROR,
+					ExceptionConstants.SERVICE_UNAVAILABLE,
+					Instant.now().toString(),
+					e
+				);
 			}
-			stringRedisTemplate.expire(POKEMON_NAMES_ZSET_KEY, CACHE_TTL_HOURS, TimeUnit.HOURS);
-
-			logger.info("Successfully preloaded {} Pokemon names into cache", count);
-
-		} catch (Exception e) {
-			throw new APIException(
-				String.format(ExceptionConstants.REDIS_PRELOAD_ERROR_DETAILED, e.getMessage()),
-				ExceptionConstants.CACHE_ERROR,
-				ExceptionConstants.SERVICE_UNAVAILABLE,
-				Instant.now().toString(),
-				e
-			);
 		}
 	}
 
 	/**
-	 * Preload Pokemon details for improved getPokemons API performance
+	 * Preload Pokemon details for improved getPokemons API performance.
+	 * Entries close to expiry are revalidated with If-None-Match and the stored content hash;
+	 * unchanged documents only have their TTL extended.
 	 */
 	@Scheduled(cron = "0 2 3 * * *")
 	public void preloadPokemonDetails() {
@@ -115,50 +158,111 @@ public class CacheRefreshScheduler {
 		try {
 			// Get all Pokemon names from the sorted set
 			Set<String> pokemonNames = stringRedisTemplate.opsForZSet()
-					.range(POKEMON_NAMES_ZSET_KEY, 0, -1);
+					.range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, -1);
 
 			if (pokemonNames == null || pokemonNames.isEmpty()) {
 				logger.warn("No Pokemon names found in cache, skipping details preload");
+				warmupProgress.complete(WarmupProgress.DETAILS);
 				return;
 			}
 			logger.info("Found {} Pokemon names in cache, checking for cached details...", pokemonNames.size());
+			warmupProgress.start(WarmupProgress.DETAILS, pokemonNames.size());
 
 			int preloaded = 0;
+			int revalidated = 0;
 			int skipped = 0;
 			int failed = 0;
-
-			for (String name : pokemonNames) {
-				String cacheKey = POKEMON_DETAIL_CACHE_PREFIX + name;
-
-				// Skip if already cached and fresh
-				if (pokemonRedisTemplate.opsForValue().get(cacheKey) != null) {
-					skipped++;
-					continue;
-				}
-
-				String url = POKEAPI_BASE_URL + "/pokemon/" + name;
-				JsonNode pokemonData = restTemplate.getForObject(url, JsonNode.class);
-
-				if (pokemonData != null) {
-					Pokemon pokemon = pokemonAPIClient.mapToPokemon(pokemonData);
-					if (pokemon != null) {
-						pokemonRedisTemplate.opsForValue().set(cacheKey, pokemon, CACHE_TTL_HOURS, TimeUnit.HOURS);
-						preloaded++;
-					} else {
+			HashOperations<String, String, String> validators = stringRedisTemplate.opsForHash();
+			List<Pokemon> indexBatch = new ArrayList<>(INDEX_BATCH_SIZE);
+
+			// Preloaded details outlive the detail TTL by a quarter of it (6h of the default 24h), so the
+			// next daily run finds them inside the revalidation window before they expire
+			TieredCache<Pokemon> detailCache = pokemonAPIClient.getDetailCache();
+			Duration detailTtl = detailCache.getPolicy().getTtl();
+			Duration preloadTtl = detailTtl.plus(detailTtl.dividedBy(4));
+			Duration revalidateWithin = detailTtl.dividedBy(2);
+
+			// Most requested first, so the entries traffic needs are warm earliest. A name that fails is
+			// counted and skipped, and does not count towards readiness; only losing Redis ends the run.
+			try {
+				for (String name : hotKeyTracker.prioritize(RefreshDataset.DETAILS, pokemonNames)) {
+					if (indexBatch.size() >= INDEX_BATCH_SIZE) {
+						pokedexIndex.upsertAll(indexBatch);
+						indexBatch.clear();
+					}
+					try {
+						String cacheKey = CacheKeys.POKEMON_DETAIL_CACHE_PREFIX + name;
+
+						// Entries that are fresh, or that we cannot revalidate, are skipped and indexed as they are
+						Pokemon cached = pokemonRedisTemplate.opsForValue().get(cacheKey);
+						UpstreamValidator validator = null;
+						if (cached != null) {
+							indexBatch.add(cached);
+							if (detailCache.expiresWithin(name, revalidateWithin)) {
+								validator = UpstreamValidator.decode(validators.get(CacheKeys.POKEMON_DETAIL_VALIDATORS_KEY, name));
+							}
+							if (validator == null) {
+								skipped++;
+								warmupProgress.advance(WarmupProgress.DETAILS);
+								continue;
+							}
+						}
+
+						HttpHeaders headers = new HttpHeaders();
+						if (validator != null && validator.getEtag() != null) {
+							headers.setIfNoneMatch(validator.getEtag());
+						}
+						String url = pokeApiBaseUrl + "/pokemon/" + name;
+						ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+						String body = response.getBody();
+						String etag = response.getHeaders().getETag();
+
+						if (validator != null && (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)
+								|| (body != null && validator.matches(body)))) {
+							// Unchanged upstream: keep the value, only push the expiry out
+							detailCache.extend(name, preloadTtl);
+							if (etag != null && !etag.equals(validator.getEtag())) {
+								validators.put(CacheKeys.POKEMON_DETAIL_VALIDATORS_KEY, name,
+										new UpstreamValidator(etag, validator.getContentHash()).encode());
+							}
+							revalidated++;
+						} else if (body != null) {
+							Pokemon pokemon = pokemonAPIClient.mapToPokemon(objectMapper.readTree(body));
+							if (pokemon == null) {
+								throw new IllegalStateException("Failed to map Pokemon data");
+							}
+							// Through the detail cache, so this pod's local tier and write-behind queue see it too
+							detailCache.put(name, pokemon, preloadTtl);
+							validators.put(CacheKeys.POKEMON_DETAIL_VALIDATORS_KEY, name, UpstreamValidator.of(etag, body).encode());
+							indexBatch.add(pokemon);
+							preloaded++;
+						} else {
+							throw new IllegalStateException("No data returned");
+						}
+						warmupProgress.advance(WarmupProgress.DETAILS);
+					} catch (Exception e) {
+						if (RedisHealthMonitor.isConnectionFailure(e)) {
+							throw e;
+						}
 						failed++;
-						logger.warn("Failed to map Pokemon data for: {}", name);
+						warmupProgress.fail(WarmupProgress.DETAILS);
+						logger.warn("Failed to preload details for {}: {}", name, e.getMessage());
+					}
+
+					if ((preloaded + revalidated + failed) % 50 == 0) {
+						logger.info("Progress: {} preloaded, {} revalidated, {} skipped, {} failed",
+								preloaded, revalidated, skipped, failed);
 					}
-				} else {
-					failed++;
-					logger.warn("No data returned for Pokemon: {}", name);
-				}
-				
-				if ((preloaded + failed) % 50 == 0) {
-					logger.info("Progress: {} preloaded, {} skipped, {} failed", preloaded, skipped, failed);
 				}
+			} finally {
+				pokedexIndex.upsertAll(indexBatch);
 			}
-			logger.info("Pokemon details preload completed. Preloaded: {}, Skipped: {}, Failed: {}",
-					preloaded, skipped, failed);
+			// With failures the fraction stays at the share that did load, and the next run retries them
+			if (failed == 0) {
+				warmupProgress.complete(WarmupProgress.DETAILS);
+			}
+			logger.info("Pokemon details preload completed. Preloaded: {}, Revalidated: {}, Skipped: {}, Failed: {}",
+					preloaded, revalidated, skipped, failed);
 
 		} catch (Exception e) {
 			throw new APIException(
@@ -172,52 +276,91 @@ public class CacheRefreshScheduler {
 	}
 
 	/**
-	 * Run cache preload on application startup with Redis availability check
+	 * Load the hottest entries of each tracked dataset from Redis into the in-process tiers
 	 */
-	@Scheduled(fixedDelay = 2000)
-	@Async("taskExecutor")
-	public void scheduleStartupPreload() {
-		if (!preloadOnStartup || preloadCompleted.get()) {
-			return;
+	public void prewarmHotKeys() {
+		int warmed = 0;
+		for (RefreshDataset dataset : HotKeyTracker.TRACKED) {
+			List<String> hottest = hotKeyTracker.hottest(dataset, hotKeyTracker.getTopK());
+			if (!hottest.isEmpty()) {
+				warmed += pokemonAPIClient.prewarmLocalTier(dataset, hottest);
+			}
 		}
+		logger.info("Prewarmed {} hot entries into the local cache tier", warmed);
+	}
 
-		if (!isRedisAvailable()) {
-			logger.warn(ExceptionConstants.WARNING_MESSAGE_REDIS_CONNECTION_FAILED);
-			return;
+	/**
+	 * Re-fetch hot entries whose Redis copy is missing or close to expiry, so the most requested
+	 * data is never a miss
+	 */
+	@Scheduled(fixedDelayString = "${cache.hot-keys.refresh-interval-ms:300000}",
+			initialDelayString = "${cache.hot-keys.refresh-interval-ms:300000}")
+	public void refreshHotKeys() {
+		int refreshed = 0;
+		int failed = 0;
+		for (RefreshDataset dataset : HotKeyTracker.TRACKED) {
+			for (String name : hotKeyTracker.hottest(dataset, hotKeyTracker.getTopK())) {
+				try {
+					if (pokemonAPIClient.refreshIfExpiring(dataset, name, hotKeyRefreshAhead)) {
+						refreshed++;
+					}
+				} catch (Exception e) {
+					failed++;
+					logger.debug("Early refresh of {} {} failed: {}", dataset.getKey(), name, e.getMessage());
+				}
+			}
 		}
+		if (refreshed > 0 || failed > 0) {
+			logger.info("Hot key refresh completed. Refreshed: {}, Failed: {}", refreshed, failed);
+		}
+	}
 
-		try {
-			logger.info("Redis available, running initial cache preload...");
-			preloadPokemonCache();
-
-			Long cacheSize = stringRedisTemplate.opsForZSet().size(POKEMON_NAMES_ZSET_KEY);
-			if (cacheSize != null && cacheSize > 0) {
-				preloadPokemonDetails();
+	/**
+	 * Fetch structured encounters for every Pokemon without a current entry; each fetch also
+	 * updates the reverse location index, which is how that index gets built
+	 */
+	@Scheduled(cron = "0 10 3 * * *")
+	public void preloadEncounters() {
+		if (!preloadEncounters) {
+			return;
+		}
+		Set<String> pokemonNames = stringRedisTemplate.opsForZSet().range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, -1);
+		if (pokemonNames == null || pokemonNames.isEmpty()) {
+			logger.warn("No Pokemon names found in cache, skipping encounters preload");
+			return;
+		}
+		logger.info("Starting encounters preload for {} Pokemon...", pokemonNames.size());
+
+		int preloaded = 0;
+		int skipped = 0;
+		int failed = 0;
+		for (String name : pokemonNames) {
+			String cached = stringRedisTemplate.opsForValue().get(CacheKeys.POKEMON_LOCATION_AREA_ENCOUNTERS_CACHE_PREFIX + name);
+			if (EncounterCodec.decode(cached) != null) {
+				skipped++;
+				continue;
+			}
+			try {
+				pokemonAPIClient.refreshCachedEntry(RefreshDataset.ENCOUNTERS, name);
+				preloaded++;
+			} catch (Exception e) {
+				failed++;
+				logger.warn("Failed to preload encounters for {}: {}", name, e.getMessage());
 			}
-			preloadCompleted.set(true);
-			logger.info("Startup cache preload completed");
-		} catch (Exception e) {
-			throw new APIException(
-				String.format(ExceptionConstants.REDIS_PRELOAD_ERROR_DETAILED, e.getMessage()),
-				ExceptionConstants.CACHE_ERROR,
-				ExceptionConstants.SERVICE_UNAVAILABLE,
-				Instant.now().toString(),
-				e
-			);
 		}
+		logger.info("Encounters preload completed. Preloaded: {}, Skipped: {}, Failed: {}", preloaded, skipped, failed);
 	}
 
 	/**
-	 * Check if Redis is available and operational
+	 * Optionally download every sprite to the local disk cache after the details preload
 	 */
-	private boolean isRedisAvailable() {
-		try {
-			stringRedisTemplate.opsForValue().set("redis:health:check", "ok", 1, TimeUnit.SECONDS);
-			String result = stringRedisTemplate.opsForValue().get("redis:health:check");
-			return "ok".equals(result);
-		} catch (Exception e) {
-			logger.warn(ExceptionConstants.REDIS_CONNECTION_ERROR_DETAILED, e.getMessage());
-			return false;
+	@Scheduled(cron = "0 30 3 * * *")
+	public void preloadSprites() {
+		if (!preloadSprites) {
+			return;
 		}
+		logger.info("Starting sprite preload...");
+		int downloaded = spriteStore.preloadAll();
+		logger.info("Sprite preload completed. Downloaded: {}", downloaded);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,149 @@
+package com.example.boltedex.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import com.example.boltedex.exception.ExceptionConstants;
+import com.example.boltedex.upstream.UpstreamPriority;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Warms the cache as soon as Redis accepts connections and gates readiness on it.
+ * Registered as the "cacheWarmup" health indicator, which the readiness group includes,
+ * so a pod only receives traffic once the configured share of details is cached.
+ */
+@Service("cacheWarmup")
+public class CacheWarmupService implements HealthIndicator {
+
+	private static final Logger logger = LoggerFactory.getLogger(CacheWarmupService.class);
+
+	private static final long INITIAL_BACKOFF_MILLIS = 250;
+	private static final long MAX_BACKOFF_MILLIS = 2000;
+
+	@Value("${cache.preload.on-startup:true}")
+	private boolean preloadOnStartup;
+
+	@Value("${cache.warmup.ready-threshold:0.95}")
+	private double readyThreshold;
+
+	@Autowired
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Autowired
+	private CacheRefreshScheduler cacheRefreshScheduler;
+
+	@Autowired
+	private SnapshotService snapshotService;
+
+	@Autowired
+	private WarmupProgress warmupProgress;
+
+	@Autowired
+	private HotKeyTracker hotKeyTracker;
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+	private final AtomicBoolean warm = new AtomicBoolean(false);
+	private volatile boolean completed;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void startWarmup() {
+		if (!preloadOnStartup) {
+			warm.set(true);
+			return;
+		}
+		if (!started.compareAndSet(false, true)) {
+			return;
+		}
+		Thread warmupThread = new Thread(UpstreamPriority.background(this::runWarmup), "cache-warmup");
+		warmupThread.setDaemon(true);
+		warmupThread.start();
+	}
+
+	/**
+	 * Readiness flips to UP once names are cached and the details reach the warm threshold, and stays UP
+	 */
+	@Override
+	public Health health() {
+		Health.Builder builder = isWarm() ? Health.up() : Health.outOfService();
+		return builder
+				.withDetail("threshold", readyThreshold)
+				.withDetail("completed", completed)
+				.withDetail("datasets", warmupProgress.describe())
+				.build();
+	}
+
+	public boolean isWarm() {
+		if (warm.get()) {
+			return true;
+		}
+		if (warmupProgress.fraction(WarmupProgress.NAMES) >= 1.0
+				&& warmupProgress.fraction(WarmupProgress.DETAILS) >= readyThreshold
+				&& warm.compareAndSet(false, true)) {
+			logger.info("Cache warm threshold of {}% reached, accepting traffic", readyThreshold * 100);
+		}
+		return warm.get();
+	}
+
+	private void runWarmup() {
+		// Misses are answered from the snapshot on disk until the cache is warm, even while Redis is down
+		snapshotService.openForServing();
+		long backoff = INITIAL_BACKOFF_MILLIS;
+		while (!completed) {
+			if (!isRedisAvailable()) {
+				logger.warn(ExceptionConstants.WARNING_MESSAGE_REDIS_CONNECTION_FAILED);
+				sleep(backoff);
+				backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+				continue;
+			}
+
+			try {
+				logger.info("Redis available, running initial cache preload...");
+				snapshotService.loadIntoRedisIfEmpty();
+				hotKeyTracker.restore();
+				cacheRefreshScheduler.preloadPokemonCache();
+				cacheRefreshScheduler.preloadPokemonDetails();
+				cacheRefreshScheduler.prewarmHotKeys();
+				completed = true;
+				isWarm();
+				snapshotService.stopServing();
+				logger.info("Startup cache preload completed");
+				cacheRefreshScheduler.preloadEncounters();
+				cacheRefreshScheduler.preloadSprites();
+			} catch (Exception e) {
+				logger.error(String.format(ExceptionConstants.REDIS_PRELOAD_ERROR_DETAILED, e.getMessage()), e);
+				sleep(MAX_BACKOFF_MILLIS);
+			}
+		}
+	}
+
+	/**
+	 * Check if Redis is available and operational
+	 */
+	private boolean isRedisAvailable() {
+		try {
+			stringRedisTemplate.opsForValue().set(CacheKeys.REDIS_HEALTH_CHECK_KEY, "ok", 1, TimeUnit.SECONDS);
+			String result = stringRedisTemplate.opsForValue().get(CacheKeys.REDIS_HEALTH_CHECK_KEY);
+			return "ok".equals(result);
+		} catch (Exception e) {
+			logger.warn(String.format(ExceptionConstants.REDIS_CONNECTION_ERROR_DETAILED, e.getMessage()));
+			return false;
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
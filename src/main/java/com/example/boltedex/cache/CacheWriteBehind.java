@@ -0,0 +1,284 @@
+package com.example.boltedex.cache;
+
+import com.example.boltedex.exception.ExceptionConstants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind queue for cache fills, so a request only waits for its reads.
+ *
+ * Writes are keyed by cache key (a newer value replaces a queued one) and flushed by one thread as
+ * pipelined SET EX batches. Queued values stay readable through {@link #pending(String)} until Redis
+ * has them. When the queue is full, the on-full policy either hands the write back to the caller
+ * (caller-runs, the default) or drops it. Whatever is queued at shutdown is flushed before Redis closes.
+ */
+@Component
+public class CacheWriteBehind {
+
+	private static final Logger logger = LoggerFactory.getLogger(CacheWriteBehind.class);
+
+	static final String ON_FULL_CALLER_RUNS = "caller-runs";
+	static final String ON_FULL_DROP = "drop";
+
+	private static final long SHUTDOWN_JOIN_MILLIS = 5000;
+
+	@Value("${cache.write-behind.enabled:true}")
+	private boolean enabled = true;
+
+	@Value("${cache.write-behind.capacity:5000}")
+	private int capacity = 5000;
+
+	@Value("${cache.write-behind.batch-size:128}")
+	private int batchSize = 128;
+
+	@Value("${cache.write-behind.flush-interval-ms:20}")
+	private long flushIntervalMillis = 20;
+
+	@Value("${cache.write-behind.on-full:caller-runs}")
+	private String onFull = ON_FULL_CALLER_RUNS;
+
+	@Autowired
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Autowired
+	private RedisHealthMonitor redisHealthMonitor;
+
+	@Autowired
+	private LocalFallbackCache localFallbackCache;
+
+	private final ConcurrentHashMap<String, PendingWrite> pending = new ConcurrentHashMap<>();
+	private final Object signal = new Object();
+	private volatile boolean running;
+	private Thread flusher;
+
+	private final LongAdder enqueued = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final LongAdder written = new LongAdder();
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder overflowed = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+
+	@PostConstruct
+	public void start() {
+		if (!enabled || running) {
+			return;
+		}
+		running = true;
+		flusher = new Thread(this::runFlusher, "cache-write-behind");
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	/**
+	 * Stop accepting writes and flush what is queued; runs before the Redis connection factory is closed
+	 */
+	@PreDestroy
+	public void stop() {
+		if (!running) {
+			return;
+		}
+		running = false;
+		synchronized (signal) {
+			signal.notifyAll();
+		}
+		try {
+			flusher.join(SHUTDOWN_JOIN_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		int flushed = flush();
+		if (flushed > 0) {
+			logger.info("Flushed {} queued cache writes on shutdown", flushed);
+		}
+	}
+
+	/**
+	 * Queue a SET of the template-serialized value with a TTL. Returns false if the caller has to
+	 * write it itself: the queue is not running, or it is full and the on-full policy is caller-runs.
+	 */
+	public boolean submit(RedisTemplate<String, ?> template, String key, Object value, long ttl, TimeUnit unit) {
+		if (!running) {
+			return false;
+		}
+		if (pending.size() >= capacity && !pending.containsKey(key)) {
+			overflowed.increment();
+			return ON_FULL_DROP.equals(onFull);
+		}
+		if (pending.put(key, new PendingWrite(template, value, unit.toSeconds(ttl))) != null) {
+			coalesced.increment();
+		} else {
+			enqueued.increment();
+		}
+		if (pending.size() >= batchSize) {
+			synchronized (signal) {
+				signal.notifyAll();
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Queued value for a key that has not reached Redis yet, or null
+	 */
+	public Object pending(String key) {
+		PendingWrite write = pending.get(key);
+		return write != null ? write.value : null;
+	}
+
+	/**
+	 * Write everything queued right now; returns the number of entries handled
+	 */
+	int flush() {
+		int total = 0;
+		int flushed;
+		do {
+			flushed = flushBatch();
+			total += flushed;
+		} while (flushed > 0);
+		return total;
+	}
+
+	public Map<String, Object> describe() {
+		Map<String, Object> description = new LinkedHashMap<>();
+		description.put("running", running);
+		description.put("pending", pending.size());
+		description.put("capacity", capacity);
+		description.put("batchSize", batchSize);
+		description.put("onFull", onFull);
+		description.put("enqueued", enqueued.sum());
+		description.put("coalesced", coalesced.sum());
+		description.put("written", written.sum());
+		description.put("batches", batches.sum());
+		description.put("overflowed", overflowed.sum());
+		description.put("failed", failed.sum());
+		return description;
+	}
+
+	private void runFlusher() {
+		while (running) {
+			synchronized (signal) {
+				if (running && pending.size() < batchSize) {
+					try {
+						signal.wait(flushIntervalMillis);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+				}
+			}
+			try {
+				flush();
+			} catch (RuntimeException e) {
+				logger.warn(String.format(ExceptionConstants.WRITE_BEHIND_FLUSH_ERROR_DETAILED, e.getMessage()));
+			}
+		}
+	}
+
+	private int flushBatch() {
+		List<String> keys = new ArrayList<>(batchSize);
+		List<PendingWrite> writes = new ArrayList<>(batchSize);
+		for (Map.Entry<String, PendingWrite> entry : pending.entrySet()) {
+			keys.add(entry.getKey());
+			writes.add(entry.getValue());
+			if (keys.size() == batchSize) {
+				break;
+			}
+		}
+		if (keys.isEmpty()) {
+			return 0;
+		}
+
+		if (!redisHealthMonitor.isAvailable()) {
+			moveToFallback(keys, writes);
+			return keys.size();
+		}
+
+		// Serialize up front so one bad value does not fail the whole pipeline
+		List<byte[]> rawValues = new ArrayList<>(writes.size());
+		for (int i = 0; i < writes.size(); i++) {
+			try {
+				rawValues.add(writes.get(i).serialize());
+			} catch (RuntimeException e) {
+				failed.increment();
+				rawValues.add(null);
+				logger.warn(String.format(ExceptionConstants.WRITE_BEHIND_FLUSH_ERROR_DETAILED, keys.get(i) + ": " + e.getMessage()));
+			}
+		}
+
+		try {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (int i = 0; i < keys.size(); i++) {
+					if (rawValues.get(i) != null) {
+						connection.stringCommands().set(keys.get(i).getBytes(StandardCharsets.UTF_8), rawValues.get(i),
+								Expiration.seconds(writes.get(i).ttlSeconds), RedisStringCommands.SetOption.upsert());
+					}
+				}
+				return null;
+			});
+			batches.increment();
+			written.add(keys.size());
+		} catch (RuntimeException e) {
+			if (redisHealthMonitor.reportFailure(e)) {
+				moveToFallback(keys, writes);
+				return keys.size();
+			}
+			failed.add(keys.size());
+			logger.warn(String.format(ExceptionConstants.WRITE_BEHIND_FLUSH_ERROR_DETAILED, e.getMessage()));
+		}
+		release(keys, writes);
+		return keys.size();
+	}
+
+	/**
+	 * Redis went away: keep the batch in the local fallback cache, which resyncs it once Redis is back
+	 */
+	private void moveToFallback(List<String> keys, List<PendingWrite> writes) {
+		for (int i = 0; i < keys.size(); i++) {
+			localFallbackCache.put(keys.get(i), writes.get(i).value, writes.get(i).ttlSeconds, TimeUnit.SECONDS);
+		}
+		release(keys, writes);
+	}
+
+	private void release(List<String> keys, List<PendingWrite> writes) {
+		// A write queued for the same key during the flush is newer and stays queued
+		for (int i = 0; i < keys.size(); i++) {
+			pending.remove(keys.get(i), writes.get(i));
+		}
+	}
+
+	private static final class PendingWrite {
+		final RedisTemplate<String, ?> template;
+		final Object value;
+		final long ttlSeconds;
+
+		PendingWrite(RedisTemplate<String, ?> template, Object value, long ttlSeconds) {
+			this.template = template;
+			this.value = value;
+			this.ttlSeconds = ttlSeconds;
+		}
+
+		@SuppressWarnings("unchecked")
+		byte[] serialize() {
+			return ((RedisSerializer<Object>) template.getValueSerializer()).serialize(value);
+		}
+	}
+}
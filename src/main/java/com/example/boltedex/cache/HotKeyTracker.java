@@ -0,0 +1,324 @@
+package com.example.boltedex.cache;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Approximate request counts per Pokemon for the detail, evolution and abilities endpoints.
+ *
+ * Each dataset has a count-min sketch whose counters are halved after every 10 x width recordings,
+ * so popularity follows recent traffic, plus a small candidate set ranked by the sketch for the
+ * top-K. The top-K is written to Redis periodically and read back on startup, where it orders the
+ * details preload, prewarms the in-process tiers and picks the entries refreshed ahead of expiry.
+ */
+@Component
+public class HotKeyTracker {
+
+	private static final Logger logger = LoggerFactory.getLogger(HotKeyTracker.class);
+
+	public static final List<RefreshDataset> TRACKED =
+			List.of(RefreshDataset.DETAILS, RefreshDataset.EVOLUTION, RefreshDataset.ABILITIES);
+
+	private static final long PERSISTED_TTL_DAYS = 7;
+
+	@Value("${cache.hot-keys.top-k:200}")
+	private int topK = 200;
+
+	@Value("${cache.hot-keys.sketch-width:4096}")
+	private int sketchWidth = 4096;
+
+	@Autowired
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Autowired
+	private RedisHealthMonitor redisHealthMonitor;
+
+	private final Map<RefreshDataset, Tracked> tracked = new EnumMap<>(RefreshDataset.class);
+	// Nothing is persisted until the previous top-K has been read back, so a restart cannot wipe it
+	private volatile boolean restored;
+
+	@PostConstruct
+	void init() {
+		for (RefreshDataset dataset : TRACKED) {
+			tracked.put(dataset, new Tracked(new FrequencySketch(sketchWidth), topK));
+		}
+	}
+
+	public int getTopK() {
+		return topK;
+	}
+
+	public void record(RefreshDataset dataset, String name) {
+		Tracked entry = tracked.get(dataset);
+		if (entry != null && name != null) {
+			entry.record(name);
+		}
+	}
+
+	/**
+	 * Most requested names first, at most limit of them
+	 */
+	public List<String> hottest(RefreshDataset dataset, int limit) {
+		Tracked entry = tracked.get(dataset);
+		return entry != null ? entry.top(limit) : List.of();
+	}
+
+	/**
+	 * The given names with the hot ones moved to the front in popularity order; the rest keep their order
+	 */
+	public List<String> prioritize(RefreshDataset dataset, Collection<String> names) {
+		Set<String> remaining = new LinkedHashSet<>(names);
+		List<String> ordered = new ArrayList<>(remaining.size());
+		for (String name : hottest(dataset, topK)) {
+			if (remaining.remove(name)) {
+				ordered.add(name);
+			}
+		}
+		ordered.addAll(remaining);
+		return ordered;
+	}
+
+	/**
+	 * Seed the sketches from the top-K persisted by the last run (or another instance). Runs once;
+	 * later calls return straight away.
+	 */
+	public synchronized void restore() {
+		if (restored) {
+			return;
+		}
+		try {
+			int seeded = 0;
+			for (Map.Entry<RefreshDataset, Tracked> entry : tracked.entrySet()) {
+				Set<ZSetOperations.TypedTuple<String>> persisted = stringRedisTemplate.opsForZSet()
+						.reverseRangeWithScores(key(entry.getKey()), 0, topK - 1);
+				if (persisted == null) {
+					continue;
+				}
+				for (ZSetOperations.TypedTuple<String> tuple : persisted) {
+					if (tuple.getValue() != null && tuple.getScore() != null) {
+						entry.getValue().seed(tuple.getValue(), tuple.getScore().intValue());
+						seeded++;
+					}
+				}
+			}
+			restored = true;
+			logger.info("Restored {} hot keys from Redis", seeded);
+		} catch (Exception e) {
+			logger.warn("Failed to restore hot keys: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Replace each persisted top-K through a staging key and RENAME, so readers never see a partial list.
+	 * Reads the previous top-K back first if that has not happened yet, e.g. while warm-up is still waiting.
+	 */
+	@Scheduled(fixedDelayString = "${cache.hot-keys.persist-interval-ms:60000}",
+			initialDelayString = "${cache.hot-keys.persist-interval-ms:60000}")
+	public void persist() {
+		if (!redisHealthMonitor.isAvailable()) {
+			return;
+		}
+		restore();
+		if (!restored) {
+			return;
+		}
+		try {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (Map.Entry<RefreshDataset, Tracked> entry : tracked.entrySet()) {
+					Set<Tuple> tuples = new LinkedHashSet<>();
+					Tracked hot = entry.getValue();
+					for (String name : hot.top(topK)) {
+						tuples.add(new DefaultTuple(raw(name), (double) hot.sketch.estimate(name)));
+					}
+					if (tuples.isEmpty()) {
+						continue;
+					}
+					byte[] key = raw(key(entry.getKey()));
+					byte[] staging = raw(key(entry.getKey()) + ":staging");
+					connection.keyCommands().del(staging);
+					connection.zSetCommands().zAdd(staging, tuples);
+					connection.keyCommands().expire(staging, TimeUnit.DAYS.toSeconds(PERSISTED_TTL_DAYS));
+					connection.keyCommands().rename(staging, key);
+				}
+				return null;
+			});
+		} catch (Exception e) {
+			redisHealthMonitor.reportFailure(e);
+			logger.warn("Failed to persist hot keys: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Names currently ranked for the top-K; stays below 4 x K however many distinct names are recorded
+	 */
+	int candidateCount(RefreshDataset dataset) {
+		Tracked entry = tracked.get(dataset);
+		return entry != null ? entry.candidates.size() : 0;
+	}
+
+	public Map<String, Object> describe(int limit) {
+		Map<String, Object> description = new LinkedHashMap<>();
+		for (Map.Entry<RefreshDataset, Tracked> entry : tracked.entrySet()) {
+			Map<String, Integer> top = new LinkedHashMap<>();
+			for (String name : entry.getValue().top(limit)) {
+				top.put(name, entry.getValue().sketch.estimate(name));
+			}
+			description.put(entry.getKey().getKey(), top);
+		}
+		return description;
+	}
+
+	private static String key(RefreshDataset dataset) {
+		return CacheKeys.POKEMON_HOT_KEYS_PREFIX + dataset.getKey();
+	}
+
+	private static byte[] raw(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static final class Tracked {
+		final FrequencySketch sketch;
+		final int topK;
+		final Set<String> candidates = ConcurrentHashMap.newKeySet();
+
+		Tracked(FrequencySketch sketch, int topK) {
+			this.sketch = sketch;
+			this.topK = topK;
+		}
+
+		void record(String name) {
+			sketch.increment(name);
+			if (candidates.add(name) && candidates.size() > topK * 4) {
+				prune();
+			}
+		}
+
+		void seed(String name, int count) {
+			sketch.add(name, count);
+			candidates.add(name);
+		}
+
+		List<String> top(int limit) {
+			List<String> ranked = new ArrayList<>();
+			Map<String, Integer> estimates = new HashMap<>();
+			for (String name : candidates) {
+				int estimate = sketch.estimate(name);
+				if (estimate > 0) {
+					estimates.put(name, estimate);
+					ranked.add(name);
+				}
+			}
+			ranked.sort(Comparator.<String, Integer>comparing(estimates::get, Comparator.reverseOrder())
+					.thenComparing(Comparator.naturalOrder()));
+			return ranked.size() > limit ? new ArrayList<>(ranked.subList(0, limit)) : ranked;
+		}
+
+		/**
+		 * Keep the candidate set small: only the 2 x K best survive, everything else has to be seen again
+		 */
+		synchronized void prune() {
+			if (candidates.size() <= topK * 4) {
+				return;
+			}
+			candidates.retainAll(new LinkedHashSet<>(top(topK * 2)));
+		}
+	}
+
+	/**
+	 * Count-min sketch with periodic halving. Counts never undercount between halvings; collisions
+	 * can only overcount, and with a few hundred hot names in a 4 x 4096 table they rarely do.
+	 */
+	static final class FrequencySketch {
+
+		private static final int DEPTH = 4;
+		private static final int[] SEEDS = {0x97cb3127, 0xb1a6d0f5, 0x3c6ef372, 0x1b873593};
+
+		final AtomicIntegerArray counters;
+		final int width;
+		final int sampleSize;
+		final AtomicInteger additions = new AtomicInteger();
+
+		FrequencySketch(int width) {
+			this.width = Integer.highestOneBit(Math.max(width, 16) - 1) << 1;
+			this.counters = new AtomicIntegerArray(DEPTH * this.width);
+			this.sampleSize = this.width * 10;
+		}
+
+		void increment(String key) {
+			add(key, 1);
+			if (additions.incrementAndGet() >= sampleSize) {
+				age();
+			}
+		}
+
+		void add(String key, int count) {
+			int hash = spread(key.hashCode());
+			for (int row = 0; row < DEPTH; row++) {
+				counters.addAndGet(index(hash, row), count);
+			}
+		}
+
+		int estimate(String key) {
+			int hash = spread(key.hashCode());
+			int min = Integer.MAX_VALUE;
+			for (int row = 0; row < DEPTH; row++) {
+				min = Math.min(min, counters.get(index(hash, row)));
+			}
+			return min;
+		}
+
+		synchronized void age() {
+			if (additions.get() < sampleSize) {
+				return;
+			}
+			additions.set(0);
+			for (int i = 0; i < counters.length(); i++) {
+				counters.set(i, counters.get(i) >>> 1);
+			}
+		}
+
+		private int index(int hash, int row) {
+			int h = hash * SEEDS[row];
+			h ^= h >>> 16;
+			return row * width + (h & (width - 1));
+		}
+
+		/**
+		 * Murmur3 finaliser, so similar names land in unrelated columns
+		 */
+		private static int spread(int hash) {
+			hash ^= hash >>> 16;
+			hash *= 0x85ebca6b;
+			hash ^= hash >>> 13;
+			hash *= 0xc2b2ae35;
+			hash ^= hash >>> 16;
+			return hash;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.example.boltedex.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-process cache used while Redis is unreachable, plus an in-memory copy of the name index.
+ * Entries keep the expiry their dataset's policy gave them: reads stop serving them once it passes,
+ * and those written during an outage are pushed back with what is left of it once Redis returns.
+ * A resynced entry is handed over to Redis and dropped here, so a later outage never serves it after
+ * Redis got a newer value.
+ */
+@Component
+public class LocalFallbackCache {
+
+	@Value("${cache.degraded.max-entries:2000}")
+	private int maxEntries = 2000;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			if (size() > maxEntries) {
+				pendingResync.remove(eldest.getKey());
+				return true;
+			}
+			return false;
+		}
+	};
+	// Keys written since the last resync
+	private final Set<String> pendingResync = new LinkedHashSet<>();
+
+	private volatile List<String> names = Collections.emptyList();
+
+	public synchronized Object get(String key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt <= System.currentTimeMillis()) {
+			entries.remove(key);
+			pendingResync.remove(key);
+			return null;
+		}
+		return entry.value;
+	}
+
+	public synchronized void put(String key, Object value, long ttl, TimeUnit unit) {
+		entries.put(key, new Entry(value, System.currentTimeMillis() + unit.toMillis(ttl)));
+		pendingResync.add(key);
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Remove and return the entries written while Redis was down, each with the TTL it has left.
+	 * Entries that would already have expired in Redis are dropped.
+	 */
+	synchronized Map<String, PendingEntry> drainPendingResync() {
+		long now = System.currentTimeMillis();
+		Map<String, PendingEntry> pending = new LinkedHashMap<>();
+		for (String key : pendingResync) {
+			Entry entry = entries.remove(key);
+			long remainingSeconds = entry != null ? TimeUnit.MILLISECONDS.toSeconds(entry.expiresAt - now) : 0;
+			if (remainingSeconds > 0) {
+				pending.put(key, new PendingEntry(entry.value, remainingSeconds));
+			}
+		}
+		pendingResync.clear();
+		return pending;
+	}
+
+	/**
+	 * Put back entries whose resync failed, so they are still served and retried on the next one
+	 */
+	synchronized void restorePendingResync(Map<String, PendingEntry> pending) {
+		for (Map.Entry<String, PendingEntry> entry : pending.entrySet()) {
+			if (!entries.containsKey(entry.getKey())) {
+				put(entry.getKey(), entry.getValue().value, entry.getValue().ttlSeconds, TimeUnit.SECONDS);
+			}
+		}
+	}
+
+	/**
+	 * Sorted copy of the Pokemon name index, in the same order as the Redis ZSET
+	 */
+	public List<String> getNames() {
+		return names;
+	}
+
+	public void setNames(Collection<String> pokemonNames) {
+		List<String> sorted = new ArrayList<>(pokemonNames);
+		Collections.sort(sorted);
+		names = Collections.unmodifiableList(sorted);
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private final long expiresAt;
+
+		private Entry(Object value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	static final class PendingEntry {
+		final Object value;
+		final long ttlSeconds;
+
+		PendingEntry(Object value, long ttlSeconds) {
+			this.value = value;
+			this.ttlSeconds = ttlSeconds;
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.boltedex.cache;
+
+import java.util.List;
+
+/**
+ * Published whenever the Pokemon name index is (re)loaded, so in-memory name structures can rebuild
+ */
+public class PokemonNamesRefreshedEvent {
+
+	private final List<String> names;
+
+	public PokemonNamesRefreshedEvent(List<String> names) {
+		this.names = List.copyOf(names);
+	}
+
+	public List<String> getNames() {
+		return names;
+	}
+}
@@ -0,0 +1,176 @@
+package com.example.boltedex.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import com.example.boltedex.exception.ExceptionConstants;
+import com.example.boltedex.pokemon.Pokemon;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tracks whether Redis is reachable. Connection failures reported by callers, or a failed periodic
+ * PING, switch the application into degraded mode (reads served from {@link LocalFallbackCache} and
+ * the upstream API); the first successful PING afterwards resyncs local writes back into Redis.
+ *
+ * The PING runs on its own thread rather than the shared scheduler, which the daily preloads keep
+ * busy for minutes at a time; degraded mode must end as soon as Redis is back.
+ */
+@Component
+public class RedisHealthMonitor {
+
+	private static final Logger logger = LoggerFactory.getLogger(RedisHealthMonitor.class);
+
+	// Name index TTL, as set by the preload
+	private static final int CACHE_TTL_HOURS = 24;
+
+	private final AtomicBoolean available = new AtomicBoolean(true);
+
+	@Value("${cache.degraded.health-check-interval-ms:1000}")
+	private long healthCheckIntervalMillis = 1000;
+
+	private ThreadPoolTaskScheduler healthCheckScheduler;
+
+	@Autowired
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Autowired
+	private RedisTemplate<String, Pokemon> pokemonRedisTemplate;
+
+	@Autowired
+	private RedisTemplate<String, List<Pokemon.Abilities>> abilitiesRedisTemplate;
+
+	@Autowired
+	private LocalFallbackCache localFallbackCache;
+
+	@PostConstruct
+	public void start() {
+		if (healthCheckScheduler != null) {
+			return;
+		}
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setThreadNamePrefix("redis-health-");
+		scheduler.setDaemon(true);
+		scheduler.initialize();
+		scheduler.scheduleWithFixedDelay(this::checkHealth, Duration.ofMillis(healthCheckIntervalMillis));
+		healthCheckScheduler = scheduler;
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (healthCheckScheduler != null) {
+			healthCheckScheduler.shutdown();
+			healthCheckScheduler = null;
+		}
+	}
+
+	public boolean isAvailable() {
+		return available.get();
+	}
+
+	/**
+	 * Record a failed Redis call. Returns true if the error was a connection failure and the caller
+	 * should fall back to local memory, false if it is unrelated to Redis availability.
+	 */
+	public boolean reportFailure(Throwable error) {
+		if (!isConnectionFailure(error)) {
+			return false;
+		}
+		if (available.compareAndSet(true, false)) {
+			logger.warn(String.format(ExceptionConstants.REDIS_DEGRADED_MODE_MESSAGE, rootMessage(error)));
+		}
+		return true;
+	}
+
+	public void checkHealth() {
+		boolean reachable = ping();
+		if (reachable && !available.get()) {
+			resync();
+		} else if (!reachable && available.compareAndSet(true, false)) {
+			logger.warn(String.format(ExceptionConstants.REDIS_DEGRADED_MODE_MESSAGE, "health check failed"));
+		}
+	}
+
+	private boolean ping() {
+		try {
+			String reply = stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.ping());
+			return "PONG".equalsIgnoreCase(reply);
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Push the name index and entries fetched during the outage back into Redis, then leave degraded mode
+	 */
+	@SuppressWarnings("unchecked")
+	private void resync() {
+		Map<String, LocalFallbackCache.PendingEntry> pending = Collections.emptyMap();
+		try {
+			List<String> names = localFallbackCache.getNames();
+			Long cacheSize = stringRedisTemplate.opsForZSet().size(CacheKeys.POKEMON_NAMES_ZSET_KEY);
+			if (!names.isEmpty() && (cacheSize == null || cacheSize == 0)) {
+				Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+				for (String name : names) {
+					tuples.add(ZSetOperations.TypedTuple.of(name, 0.0));
+				}
+				stringRedisTemplate.opsForZSet().add(CacheKeys.POKEMON_NAMES_ZSET_KEY, tuples);
+				stringRedisTemplate.expire(CacheKeys.POKEMON_NAMES_ZSET_KEY, CACHE_TTL_HOURS, TimeUnit.HOURS);
+			}
+
+			// Each entry keeps the TTL its dataset's policy gave it, less the time spent in the fallback
+			pending = localFallbackCache.drainPendingResync();
+			for (Map.Entry<String, LocalFallbackCache.PendingEntry> entry : pending.entrySet()) {
+				Object value = entry.getValue().value;
+				long ttlSeconds = entry.getValue().ttlSeconds;
+				if (value instanceof Pokemon) {
+					pokemonRedisTemplate.opsForValue().set(entry.getKey(), (Pokemon) value, ttlSeconds, TimeUnit.SECONDS);
+				} else if (value instanceof String) {
+					stringRedisTemplate.opsForValue().set(entry.getKey(), (String) value, ttlSeconds, TimeUnit.SECONDS);
+				} else if (value instanceof List) {
+					abilitiesRedisTemplate.opsForValue().set(entry.getKey(), (List<Pokemon.Abilities>) value,
+							ttlSeconds, TimeUnit.SECONDS);
+				}
+			}
+
+			available.set(true);
+			logger.info("Redis reachable again, resynced {} entries from local fallback cache", pending.size());
+		} catch (Exception e) {
+			localFallbackCache.restorePendingResync(pending);
+			logger.warn(String.format(ExceptionConstants.REDIS_CONNECTION_ERROR_DETAILED, e.getMessage()));
+		}
+	}
+
+	public static boolean isConnectionFailure(Throwable error) {
+		for (Throwable current = error; current != null; current = current.getCause()) {
+			if (current instanceof DataAccessResourceFailureException || current instanceof QueryTimeoutException) {
+				return true;
+			}
+			if (current.getCause() == current) {
+				break;
+			}
+		}
+		return false;
+	}
+
+	private static String rootMessage(Throwable error) {
+		Throwable root = error;
+		while (root.getCause() != null && root.getCause() != root) {
+			root = root.getCause();
+		}
+		return root.getMessage();
+	}
+}
@@ -0,0 +1,31 @@
+package com.example.boltedex.cache;
+
+/**
+ * Cached per-Pokemon datasets that admin refresh jobs can re-fetch
+ */
+public enum RefreshDataset {
+	DETAILS("details"),
+	SPECIES("species"),
+	EVOLUTION("evolution"),
+	ABILITIES("abilities"),
+	ENCOUNTERS("encounters");
+
+	private final String key;
+
+	RefreshDataset(String key) {
+		this.key = key;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public static RefreshDataset fromKey(String key) {
+		for (RefreshDataset dataset : values()) {
+			if (dataset.key.equalsIgnoreCase(key.trim())) {
+				return dataset;
+			}
+		}
+		return null;
+	}
+}
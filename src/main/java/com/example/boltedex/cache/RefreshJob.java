@@ -0,0 +1,111 @@
+package com.example.boltedex.cache;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one admin cache refresh: a set of Pokemon names times a set of datasets
+ */
+public class RefreshJob {
+
+	public enum Status { QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED }
+
+	private final String id;
+	private final String dedupeKey;
+	private final List<RefreshDataset> datasets;
+	private final List<String> names;
+	private final long total;
+	private final Instant createdAt = Instant.now();
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+
+	private volatile Status status = Status.QUEUED;
+	private volatile boolean cancelRequested;
+	private volatile long startedNanos;
+	private volatile long finishedNanos;
+	private volatile Instant finishedAt;
+
+	RefreshJob(String id, String dedupeKey, List<RefreshDataset> datasets, List<String> names) {
+		this.id = id;
+		this.dedupeKey = dedupeKey;
+		this.datasets = datasets;
+		this.names = names;
+		this.total = (long) datasets.size() * names.size();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	String getDedupeKey() {
+		return dedupeKey;
+	}
+
+	List<RefreshDataset> getDatasets() {
+		return datasets;
+	}
+
+	List<String> getNames() {
+		return names;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public boolean isActive() {
+		return status == Status.QUEUED || status == Status.RUNNING;
+	}
+
+	boolean isCancelRequested() {
+		return cancelRequested;
+	}
+
+	void requestCancel() {
+		cancelRequested = true;
+	}
+
+	void start() {
+		startedNanos = System.nanoTime();
+		status = Status.RUNNING;
+	}
+
+	void recordSuccess() {
+		completed.incrementAndGet();
+	}
+
+	void recordFailure() {
+		failed.incrementAndGet();
+	}
+
+	void finish(Status finalStatus) {
+		finishedNanos = System.nanoTime();
+		finishedAt = Instant.now();
+		status = finalStatus;
+	}
+
+	public Map<String, Object> describe() {
+		long done = completed.get() + failed.get();
+		long endNanos = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+		double elapsedSeconds = startedNanos != 0 ? (endNanos - startedNanos) / 1_000_000_000.0 : 0.0;
+		double throughput = elapsedSeconds > 0 ? done / elapsedSeconds : 0.0;
+
+		Map<String, Object> details = new LinkedHashMap<>();
+		details.put("id", id);
+		details.put("status", status);
+		details.put("datasets", datasets.stream().map(RefreshDataset::getKey).toList());
+		details.put("pokemon", names.size());
+		details.put("total", total);
+		details.put("completed", completed.get());
+		details.put("failed", failed.get());
+		details.put("percent", total > 0 ? Math.round(done * 1000.0 / total) / 10.0 : 100.0);
+		details.put("throughputPerSecond", Math.round(throughput * 10) / 10.0);
+		details.put("etaSeconds", isActive() && throughput > 0 ? Math.round((total - done) / throughput) : null);
+		details.put("createdAt", createdAt.toString());
+		details.put("finishedAt", finishedAt != null ? finishedAt.toString() : null);
+		return details;
+	}
+}
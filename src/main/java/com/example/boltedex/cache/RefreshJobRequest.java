@@ -0,0 +1,17 @@
+package com.example.boltedex.cache;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Body of POST /api/admin/cache/refresh. Names and the id range are combined; with neither, every
+ * indexed Pokemon is refreshed. Datasets default to all of them.
+ */
+@Data
+public class RefreshJobRequest {
+	private List<String> names;
+	private Integer fromId;
+	private Integer toId;
+	private List<String> datasets;
+}
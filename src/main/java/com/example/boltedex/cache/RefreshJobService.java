@@ -0,0 +1,207 @@
+package com.example.boltedex.cache;
+
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.exception.ExceptionConstants;
+import com.example.boltedex.pokemon.PokemonAPIClientImplementation;
+import com.example.boltedex.search.PokedexIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executor;
+
+/**
+ * Targeted cache refreshes started from the admin API.
+ *
+ * A job re-fetches a set of names for a set of datasets on the cacheRefreshExecutor, overwriting
+ * entries in place. Identical jobs (same names and datasets) are not queued twice while one is active.
+ */
+@Service
+public class RefreshJobService {
+
+	private static final Logger logger = LoggerFactory.getLogger(RefreshJobService.class);
+
+	private static final int FINISHED_JOBS_RETAINED = 50;
+
+	@Autowired
+	private PokemonAPIClientImplementation pokemonAPIClient;
+
+	@Autowired
+	private PokedexIndex pokedexIndex;
+
+	@Autowired
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Autowired
+	@Qualifier("cacheRefreshExecutor")
+	private Executor cacheRefreshExecutor;
+
+	// Insertion ordered so the oldest finished jobs are evicted first
+	private final Map<String, RefreshJob> jobs = new LinkedHashMap<>();
+
+	public RefreshJob submit(RefreshJobRequest request) {
+		List<RefreshDataset> datasets = resolveDatasets(request.getDatasets());
+		List<String> names = resolveNames(request);
+		if (names.isEmpty()) {
+			throw new APIException(
+				ExceptionConstants.REFRESH_JOB_NO_TARGETS_MESSAGE,
+				ExceptionConstants.VALIDATION_ERROR,
+				ExceptionConstants.BAD_REQUEST,
+				Instant.now().toString()
+			);
+		}
+
+		String dedupeKey = datasets + "|" + String.join(",", names);
+		RefreshJob job;
+		synchronized (jobs) {
+			for (RefreshJob existing : jobs.values()) {
+				if (existing.isActive() && existing.getDedupeKey().equals(dedupeKey)) {
+					throw new APIException(
+						String.format(ExceptionConstants.REFRESH_JOB_DUPLICATE_MESSAGE, existing.getId()),
+						ExceptionConstants.CONFLICT_ERROR,
+						ExceptionConstants.CONFLICT,
+						Instant.now().toString()
+					);
+				}
+			}
+			job = new RefreshJob(UUID.randomUUID().toString(), dedupeKey, datasets, names);
+			jobs.put(job.getId(), job);
+			evictFinishedJobs();
+		}
+
+		cacheRefreshExecutor.execute(() -> run(job));
+		logger.info("Queued refresh job {} for {} Pokemon x {}", job.getId(), names.size(), datasets);
+		return job;
+	}
+
+	public List<RefreshJob> list() {
+		synchronized (jobs) {
+			return new ArrayList<>(jobs.values());
+		}
+	}
+
+	public RefreshJob get(String id) {
+		RefreshJob job;
+		synchronized (jobs) {
+			job = jobs.get(id);
+		}
+		if (job == null) {
+			throw new APIException(
+				String.format(ExceptionConstants.REFRESH_JOB_NOT_FOUND_MESSAGE, id),
+				ExceptionConstants.NOT_FOUND_ERROR,
+				ExceptionConstants.NOT_FOUND,
+				Instant.now().toString()
+			);
+		}
+		return job;
+	}
+
+	/**
+	 * Ask a job to stop; it finishes the entry in flight and then ends as CANCELLED
+	 */
+	public RefreshJob cancel(String id) {
+		RefreshJob job = get(id);
+		job.requestCancel();
+		return job;
+	}
+
+	private void run(RefreshJob job) {
+		if (job.isCancelRequested()) {
+			job.finish(RefreshJob.Status.CANCELLED);
+			return;
+		}
+		job.start();
+		try {
+			for (String name : job.getNames()) {
+				for (RefreshDataset dataset : job.getDatasets()) {
+					if (job.isCancelRequested()) {
+						job.finish(RefreshJob.Status.CANCELLED);
+						logger.info("Refresh job {} cancelled", job.getId());
+						return;
+					}
+					try {
+						pokemonAPIClient.refreshCachedEntry(dataset, name);
+						job.recordSuccess();
+					} catch (Exception e) {
+						job.recordFailure();
+						logger.warn("Refresh job {} failed on {} {}: {}", job.getId(), dataset.getKey(), name, e.getMessage());
+					}
+				}
+			}
+			job.finish(RefreshJob.Status.COMPLETED);
+			logger.info("Refresh job {} completed", job.getId());
+		} catch (RuntimeException e) {
+			job.finish(RefreshJob.Status.FAILED);
+			logger.error("Refresh job {} failed: {}", job.getId(), e.getMessage());
+		}
+	}
+
+	private List<RefreshDataset> resolveDatasets(List<String> keys) {
+		if (keys == null || keys.isEmpty()) {
+			return List.of(RefreshDataset.values());
+		}
+		EnumSet<RefreshDataset> datasets = EnumSet.noneOf(RefreshDataset.class);
+		for (String key : keys) {
+			RefreshDataset dataset = RefreshDataset.fromKey(key);
+			if (dataset == null) {
+				throw new APIException(
+					String.format(ExceptionConstants.REFRESH_JOB_INVALID_DATASET_MESSAGE, key),
+					ExceptionConstants.VALIDATION_ERROR,
+					ExceptionConstants.BAD_REQUEST,
+					Instant.now().toString()
+				);
+			}
+			datasets.add(dataset);
+		}
+		return new ArrayList<>(datasets);
+	}
+
+	/**
+	 * Explicit names plus the id range (resolved through the Pokedex index), sorted for the dedupe key
+	 */
+	private List<String> resolveNames(RefreshJobRequest request) {
+		boolean hasNames = request.getNames() != null && !request.getNames().isEmpty();
+		boolean hasRange = request.getFromId() != null || request.getToId() != null;
+		if (!hasNames && !hasRange) {
+			Set<String> all = stringRedisTemplate.opsForZSet().range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, -1);
+			return all != null ? new ArrayList<>(new TreeSet<>(all)) : Collections.emptyList();
+		}
+
+		TreeSet<String> names = new TreeSet<>();
+		if (hasNames) {
+			for (String name : request.getNames()) {
+				String normalized = name.trim().toLowerCase();
+				if (!normalized.isEmpty()) {
+					names.add(normalized);
+				}
+			}
+		}
+		if (hasRange) {
+			int fromId = request.getFromId() != null ? request.getFromId() : 1;
+			int toId = request.getToId() != null ? request.getToId() : Integer.MAX_VALUE;
+			names.addAll(pokedexIndex.namesWithIdsBetween(fromId, toId));
+		}
+		return new ArrayList<>(names);
+	}
+
+	private void evictFinishedJobs() {
+		int finished = 0;
+		for (RefreshJob job : jobs.values()) {
+			if (!job.isActive()) {
+				finished++;
+			}
+		}
+		Iterator<RefreshJob> iterator = jobs.values().iterator();
+		while (finished > FINISHED_JOBS_RETAINED && iterator.hasNext()) {
+			if (!iterator.next().isActive()) {
+				iterator.remove();
+				finished--;
+			}
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.example.boltedex.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Compact on-disk snapshot of the Pokemon cache.
+ *
+ * Layout (big-endian): magic, version, created-at millis, the sorted name index,
+ * then every cached entry as its Redis key and the raw serialized Redis value.
+ * Values are stored exactly as Redis holds them so they can be replayed with
+ * pipelined SETs without a decode/encode round trip.
+ */
+public final class SnapshotFile {
+
+	private static final int MAGIC = 0x42445853; // "BDXS"
+	private static final int VERSION = 1;
+
+	private final MappedByteBuffer buffer;
+	private final long createdAt;
+	private final List<String> names;
+	private final Map<String, Integer> valueOffsets;
+
+	private SnapshotFile(MappedByteBuffer buffer, long createdAt, List<String> names, Map<String, Integer> valueOffsets) {
+		this.buffer = buffer;
+		this.createdAt = createdAt;
+		this.names = names;
+		this.valueOffsets = valueOffsets;
+	}
+
+	/**
+	 * Write a snapshot atomically (temp file + move) so a reader never maps a partial file
+	 */
+	public static void write(Path path, Collection<String> names, Map<String, byte[]> entries) throws IOException {
+		Path parent = path.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+		try (OutputStream file = Files.newOutputStream(temp);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(System.currentTimeMillis());
+
+			out.writeInt(names.size());
+			for (String name : names) {
+				writeString(out, name);
+			}
+
+			out.writeInt(entries.size());
+			for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+				writeString(out, entry.getKey());
+				out.writeInt(entry.getValue().length);
+				out.write(entry.getValue());
+			}
+		}
+
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Memory-map a snapshot and index its entries; values stay in the mapping until read
+	 */
+	public static SnapshotFile open(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			if (buffer.getInt() != MAGIC) {
+				throw new IOException("Not a Pokemon cache snapshot: " + path);
+			}
+			int version = buffer.getInt();
+			if (version != VERSION) {
+				throw new IOException("Unsupported snapshot version " + version + ": " + path);
+			}
+			long createdAt = buffer.getLong();
+
+			int nameCount = buffer.getInt();
+			List<String> names = new ArrayList<>(nameCount);
+			for (int i = 0; i < nameCount; i++) {
+				names.add(readString(buffer));
+			}
+
+			int entryCount = buffer.getInt();
+			Map<String, Integer> valueOffsets = new LinkedHashMap<>(entryCount * 2);
+			for (int i = 0; i < entryCount; i++) {
+				String key = readString(buffer);
+				int offset = buffer.position();
+				int length = buffer.getInt();
+				valueOffsets.put(key, offset);
+				buffer.position(offset + 4 + length);
+			}
+
+			return new SnapshotFile(buffer, createdAt, Collections.unmodifiableList(names), valueOffsets);
+		}
+	}
+
+	public long getCreatedAt() {
+		return createdAt;
+	}
+
+	public List<String> getNames() {
+		return names;
+	}
+
+	public Set<String> getKeys() {
+		return Collections.unmodifiableSet(valueOffsets.keySet());
+	}
+
+	public int size() {
+		return valueOffsets.size();
+	}
+
+	/**
+	 * Copy a raw value out of the mapping, or null if the key is not in the snapshot
+	 */
+	public byte[] get(String key) {
+		Integer offset = valueOffsets.get(key);
+		if (offset == null) {
+			return null;
+		}
+		// duplicate() gives each reader its own position over the shared mapping
+		ByteBuffer view = buffer.duplicate();
+		view.position(offset);
+		byte[] value = new byte[view.getInt()];
+		view.get(value);
+		return value;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeShort(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,262 @@
+package com.example.boltedex.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.exception.ExceptionConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class SnapshotService {
+
+	private static final Logger logger = LoggerFactory.getLogger(SnapshotService.class);
+
+	private static final List<String> PER_POKEMON_PREFIXES = List.of(
+			CacheKeys.POKEMON_DETAIL_CACHE_PREFIX,
+			CacheKeys.POKEMON_SPECIES_CACHE_PREFIX,
+			CacheKeys.POKEMON_ABILITIES_CACHE_PREFIX);
+	private static final int CACHE_TTL_HOURS = 24;
+	private static final int PIPELINE_BATCH_SIZE = 500;
+
+	@Value("${cache.snapshot.path:data/pokedex.snapshot}")
+	private String snapshotPath;
+
+	@Value("${cache.snapshot.load-on-startup:true}")
+	private boolean loadOnStartup;
+
+	@Autowired
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private LocalFallbackCache localFallbackCache;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	// Non-null from startup until warm-up completes, whether or not Redis could be loaded from it
+	private volatile SnapshotFile servingSnapshot;
+
+	/**
+	 * Dump the name index and every detail, species, evolution and ability entry to the snapshot file
+	 */
+	public int writeSnapshot() {
+		try {
+			Set<String> names = stringRedisTemplate.opsForZSet().range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, -1);
+			if (names == null || names.isEmpty()) {
+				throw new APIException(
+					ExceptionConstants.SNAPSHOT_EMPTY_CACHE_MESSAGE,
+					ExceptionConstants.CACHE_ERROR,
+					ExceptionConstants.SERVICE_UNAVAILABLE,
+					Instant.now().toString()
+				);
+			}
+
+			// Keys are derived from the name index rather than SCANned, which also works in cluster mode
+			Map<String, byte[]> entries = new LinkedHashMap<>();
+			for (String prefix : PER_POKEMON_PREFIXES) {
+				List<String> keys = new ArrayList<>(names.size());
+				for (String name : names) {
+					keys.add(prefix + name);
+				}
+				readInto(entries, keys);
+			}
+
+			// Evolution chains are keyed by chain id, which the cached species data points to
+			Set<String> chainKeys = new LinkedHashSet<>();
+			for (String name : names) {
+				byte[] species = entries.get(CacheKeys.POKEMON_SPECIES_CACHE_PREFIX + name);
+				String chainId = species != null ? evolutionChainId(species) : null;
+				if (chainId != null) {
+					chainKeys.add(CacheKeys.POKEMON_EVOLUTION_CHAIN_CACHE_PREFIX + chainId);
+				}
+			}
+			readInto(entries, new ArrayList<>(chainKeys));
+
+			Path path = Paths.get(snapshotPath);
+			SnapshotFile.write(path, names, entries);
+			logger.info("Wrote cache snapshot to {}: {} names, {} entries", path, names.size(), entries.size());
+			return entries.size();
+		} catch (APIException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new APIException(
+				String.format(ExceptionConstants.SNAPSHOT_WRITE_ERROR_DETAILED, e.getMessage()),
+				ExceptionConstants.CACHE_ERROR,
+				ExceptionConstants.SERVICE_UNAVAILABLE,
+				Instant.now().toString(),
+				e
+			);
+		}
+	}
+
+	/**
+	 * Map the snapshot and serve cache misses from it until {@link #stopServing()}, so a cold start
+	 * answers from disk while Redis is unreachable, empty or still being loaded. The names also seed
+	 * the local name index used while Redis is down.
+	 */
+	public boolean openForServing() {
+		if (!loadOnStartup) {
+			return false;
+		}
+		if (servingSnapshot != null) {
+			return true;
+		}
+		Path path = Paths.get(snapshotPath);
+		if (!Files.isReadable(path)) {
+			logger.info("No cache snapshot at {}, skipping snapshot load", path);
+			return false;
+		}
+		try {
+			SnapshotFile snapshot = SnapshotFile.open(path);
+			servingSnapshot = snapshot;
+			if (localFallbackCache.getNames().isEmpty()) {
+				localFallbackCache.setNames(snapshot.getNames());
+			}
+			logger.info("Serving reads from cache snapshot {} until warm-up completes", path);
+			return true;
+		} catch (Exception e) {
+			logger.warn(String.format(ExceptionConstants.SNAPSHOT_LOAD_ERROR_DETAILED, e.getMessage()));
+			return false;
+		}
+	}
+
+	/**
+	 * Stop serving from the snapshot once warm-up has filled the cache; the mapping is released with it
+	 */
+	public void stopServing() {
+		if (servingSnapshot != null) {
+			servingSnapshot = null;
+			logger.info("Cache warm, stopped serving reads from the cache snapshot");
+		}
+	}
+
+	/**
+	 * Bulk-load Redis from the snapshot when the name index is empty (fresh deploy or failover).
+	 * The snapshot keeps serving reads after the load, and when it fails, until {@link #stopServing()}.
+	 */
+	public boolean loadIntoRedisIfEmpty() {
+		if (!openForServing()) {
+			return false;
+		}
+		Long cacheSize = stringRedisTemplate.opsForZSet().size(CacheKeys.POKEMON_NAMES_ZSET_KEY);
+		if (cacheSize != null && cacheSize > 0) {
+			return false;
+		}
+
+		try {
+			long start = System.nanoTime();
+			SnapshotFile snapshot = servingSnapshot;
+			Path path = Paths.get(snapshotPath);
+			logger.info("Loading cache snapshot from {} (created {}): {} names, {} entries",
+					path, Instant.ofEpochMilli(snapshot.getCreatedAt()), snapshot.getNames().size(), snapshot.size());
+
+			long ttlSeconds = TimeUnit.HOURS.toSeconds(CACHE_TTL_HOURS);
+			List<String> keys = new ArrayList<>(snapshot.getKeys());
+			for (int from = 0; from < keys.size(); from += PIPELINE_BATCH_SIZE) {
+				List<String> batch = keys.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, keys.size()));
+				stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+					for (String key : batch) {
+						connection.stringCommands().set(raw(key), snapshot.get(key),
+								Expiration.seconds(ttlSeconds), RedisStringCommands.SetOption.upsert());
+					}
+					return null;
+				});
+			}
+
+			// Name index goes last so the preload sees a complete cache once it is visible
+			stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				writeNameIndex(connection, snapshot.getNames(), ttlSeconds);
+				return null;
+			});
+			eventPublisher.publishEvent(new PokemonNamesRefreshedEvent(snapshot.getNames()));
+
+			logger.info("Cache snapshot loaded into Redis in {} ms",
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+			return true;
+		} catch (Exception e) {
+			logger.warn(String.format(ExceptionConstants.SNAPSHOT_LOAD_ERROR_DETAILED, e.getMessage()));
+			return false;
+		}
+	}
+
+	/**
+	 * Raw serialized value for a cache key from the snapshot being served, or null
+	 */
+	public byte[] read(String cacheKey) {
+		SnapshotFile snapshot = servingSnapshot;
+		return snapshot != null ? snapshot.get(cacheKey) : null;
+	}
+
+	private void writeNameIndex(RedisConnection connection, List<String> names, long ttlSeconds) {
+		byte[] key = raw(CacheKeys.POKEMON_NAMES_ZSET_KEY);
+		Set<Tuple> tuples = new LinkedHashSet<>(names.size() * 2);
+		for (String name : names) {
+			tuples.add(new DefaultTuple(raw(name), 0.0));
+		}
+		// Built under a staging key and renamed over the index, so pages being served never see it partial
+		byte[] staging = raw(CacheKeys.POKEMON_NAMES_ZSET_KEY + ":staging");
+		connection.keyCommands().del(staging);
+		connection.zSetCommands().zAdd(staging, tuples);
+		connection.keyCommands().expire(staging, ttlSeconds);
+		connection.keyCommands().rename(staging, key);
+	}
+
+	private void readInto(Map<String, byte[]> entries, List<String> keys) {
+		for (int from = 0; from < keys.size(); from += PIPELINE_BATCH_SIZE) {
+			List<String> batch = keys.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, keys.size()));
+			List<byte[]> values = stringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+					connection.stringCommands().mGet(toRawKeys(batch)));
+			for (int i = 0; i < batch.size(); i++) {
+				byte[] value = values != null ? values.get(i) : null;
+				if (value != null) {
+					entries.put(batch.get(i), value);
+				}
+			}
+		}
+	}
+
+	private String evolutionChainId(byte[] species) {
+		try {
+			String url = objectMapper.readTree(species).path("evolution_chain").path("url").asText("");
+			if (url.endsWith("/")) {
+				url = url.substring(0, url.length() - 1);
+			}
+			return url.isEmpty() ? null : url.substring(url.lastIndexOf('/') + 1);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private static byte[][] toRawKeys(List<String> keys) {
+		byte[][] rawKeys = new byte[keys.size()][];
+		for (int i = 0; i < keys.size(); i++) {
+			rawKeys[i] = raw(keys.get(i));
+		}
+		return rawKeys;
+	}
+
+	private static byte[] raw(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.boltedex.cache;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaces a lexicographic (all scores 0) ZSET such as the name index or a search result set.
+ *
+ * DEL, ZADD and PEXPIRE run as one Lua script, so readers see either the old set or the complete
+ * new one, concurrent rebuilds of the same key cannot interleave their members, and the key never
+ * exists without its TTL. A script touching one key works the same in cluster mode, where MULTI does not.
+ */
+public final class SortedSetWriter {
+	// KEYS[1] is the set, ARGV[1] the TTL in milliseconds and the rest its members. ZADD goes in
+	// batches to stay below Lua's unpack limit.
+	private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+			redis.call('DEL', KEYS[1])
+			for first = 2, #ARGV, 1000 do
+				local batch = {}
+				for i = first, math.min(first + 999, #ARGV) do
+					batch[#batch + 1] = 0
+					batch[#batch + 1] = ARGV[i]
+				end
+				redis.call('ZADD', KEYS[1], unpack(batch))
+			end
+			redis.call('PEXPIRE', KEYS[1], ARGV[1])
+			return #ARGV - 1
+			""", Long.class);
+
+	private SortedSetWriter() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Swap the members in under key with the given TTL. Writes nothing for an empty collection,
+	 * leaving the current set (or the miss) in place.
+	 */
+	public static void replace(RedisTemplate<String, String> template, String key, Collection<String> members,
+			long ttl, TimeUnit unit) {
+		if (members.isEmpty()) {
+			return;
+		}
+		List<String> args = new ArrayList<>(members.size() + 1);
+		args.add(String.valueOf(unit.toMillis(ttl)));
+		args.addAll(new LinkedHashSet<>(members));
+		template.execute(REPLACE_SCRIPT, List.of(key), args.toArray());
+	}
+}
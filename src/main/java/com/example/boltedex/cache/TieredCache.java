@@ -0,0 +1,536 @@
+package com.example.boltedex.cache;
+
+import com.example.boltedex.timing.RequestTiming;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Read-through cache for one dataset: a bounded in-process tier in front of Redis (or the
+ * {@link LocalFallbackCache} while Redis is down), then the cold-start snapshot, then the loader.
+ *
+ * Concurrent loads of the same key share one loader call, page reads go to Redis as a single MGET,
+ * and every tier reports its hits and misses through {@link #describe()}. Local entries older than
+ * the soft TTL are re-read from Redis, in the background when the policy allows async refresh, so
+ * a refresh made by another instance shows up here within the soft TTL. Fills go to Redis through the
+ * {@link CacheWriteBehind} queue and are readable from it until flushed.
+ */
+public class TieredCache<V> {
+
+	private static final Logger logger = LoggerFactory.getLogger(TieredCache.class);
+
+	private final String dataset;
+	private final String keyPrefix;
+	private final CachePolicy policy;
+	private final RedisTier<?, V> redis;
+	private final RedisHealthMonitor redisHealthMonitor;
+	private final LocalFallbackCache localFallbackCache;
+	private final SnapshotService snapshotService;
+	private final CacheWriteBehind writeBehind;
+	private final Executor refreshExecutor;
+	private final long softTtlNanos;
+	private final long ttlNanos;
+
+	private final LinkedHashMap<String, LocalEntry<V>> local;
+	private final ConcurrentHashMap<String, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+	private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+	private final LongAdder localHits = new LongAdder();
+	private final LongAdder staleHits = new LongAdder();
+	private final LongAdder remoteHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder loads = new LongAdder();
+	private final LongAdder coalescedLoads = new LongAdder();
+	private final LongAdder loadFailures = new LongAdder();
+	private final LongAdder batchReads = new LongAdder();
+
+	<S> TieredCache(String dataset, String keyPrefix, CachePolicy policy, RedisTemplate<String, S> template,
+			CacheCodec<S, V> codec, RedisHealthMonitor redisHealthMonitor, LocalFallbackCache localFallbackCache,
+			SnapshotService snapshotService, CacheWriteBehind writeBehind, Executor refreshExecutor) {
+		this.dataset = dataset;
+		this.keyPrefix = keyPrefix;
+		this.policy = policy;
+		this.redis = new RedisTier<>(template, codec);
+		this.redisHealthMonitor = redisHealthMonitor;
+		this.localFallbackCache = localFallbackCache;
+		this.snapshotService = snapshotService;
+		this.writeBehind = writeBehind;
+		this.refreshExecutor = refreshExecutor;
+		this.softTtlNanos = policy.getSoftTtl().toNanos();
+		this.ttlNanos = policy.getTtl().toNanos();
+		int maxSize = policy.getLocalMaxSize();
+		this.local = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, LocalEntry<V>> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	public String getDataset() {
+		return dataset;
+	}
+
+	public CachePolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Cached value, or the loader's result written to every tier. Null results are not cached.
+	 */
+	public V get(String id, Function<String, V> loader) {
+		V value = getIfPresent(id);
+		return value != null ? value : load(id, loader, true);
+	}
+
+	/**
+	 * Cached value from any tier, without calling upstream
+	 */
+	public V getIfPresent(String id) {
+		String key = keyPrefix + id;
+		V value = readLocal(key);
+		if (value != null) {
+			RequestTiming.countCache(1, 0);
+			return value;
+		}
+		value = readPending(key);
+		if (value == null) {
+			value = readRemote(key);
+		}
+		if (value == null) {
+			value = readSnapshot(key);
+		}
+		if (value == null) {
+			misses.increment();
+			RequestTiming.countCache(0, 1);
+			return null;
+		}
+		remoteHits.increment();
+		RequestTiming.countCache(1, 0);
+		putLocal(key, value);
+		return value;
+	}
+
+	/**
+	 * Cached values for a page of ids; local misses are read from Redis with one MGET.
+	 * Ids missing from every tier are absent from the result.
+	 */
+	public Map<String, V> getAllPresent(List<String> ids) {
+		Map<String, V> found = new HashMap<>();
+		List<String> pendingIds = new ArrayList<>();
+		List<String> pendingKeys = new ArrayList<>();
+		for (String id : ids) {
+			String key = keyPrefix + id;
+			V value = readLocal(key);
+			if (value == null) {
+				value = readPending(key);
+			}
+			if (value != null) {
+				found.put(id, value);
+			} else {
+				pendingIds.add(id);
+				pendingKeys.add(key);
+			}
+		}
+		if (pendingKeys.isEmpty()) {
+			RequestTiming.countCache(found.size(), 0);
+			return found;
+		}
+
+		List<V> values = readRemote(pendingKeys);
+		for (int i = 0; i < pendingKeys.size(); i++) {
+			V value = values.get(i);
+			if (value == null) {
+				value = readSnapshot(pendingKeys.get(i));
+			}
+			if (value == null) {
+				misses.increment();
+				continue;
+			}
+			remoteHits.increment();
+			putLocal(pendingKeys.get(i), value);
+			found.put(pendingIds.get(i), value);
+		}
+		RequestTiming.countCache(found.size(), ids.size() - found.size());
+		return found;
+	}
+
+	/**
+	 * Load a value the caller already missed on (e.g. after getAllPresent). A load already running
+	 * for the same key is joined instead of starting another one.
+	 */
+	public V load(String id, Function<String, V> loader) {
+		return load(id, loader, true);
+	}
+
+	/**
+	 * Call the loader even if the key is cached and overwrite the entry in place, so readers never see a miss
+	 */
+	public V refresh(String id, Function<String, V> loader) {
+		return load(id, loader, false);
+	}
+
+	/**
+	 * True if the Redis entry is missing or expires within the window. False while Redis is
+	 * unreachable or the value is still queued for writing.
+	 */
+	public boolean expiresWithin(String id, Duration window) {
+		String key = keyPrefix + id;
+		if (!redisHealthMonitor.isAvailable() || writeBehind.pending(key) != null) {
+			return false;
+		}
+		try {
+			Long remaining = redis.template.getExpire(key, TimeUnit.SECONDS);
+			return remaining != null && (remaining == -2 || (remaining >= 0 && remaining < window.getSeconds()));
+		} catch (RuntimeException error) {
+			if (!redisHealthMonitor.reportFailure(error)) {
+				throw error;
+			}
+			return false;
+		}
+	}
+
+	public void put(String id, V value) {
+		String key = keyPrefix + id;
+		if (writeRemote(key, value, policy.getTtlAmount(), policy.getTtlUnit())) {
+			putLocal(key, value);
+		}
+	}
+
+	/**
+	 * Write with a TTL other than the policy's, e.g. for entries a scheduled job revalidates before
+	 * they expire
+	 */
+	public void put(String id, V value, Duration ttl) {
+		String key = keyPrefix + id;
+		if (writeRemote(key, value, ttl.getSeconds(), TimeUnit.SECONDS)) {
+			putLocal(key, value);
+		}
+	}
+
+	/**
+	 * Push out the Redis expiry of an entry found unchanged upstream; false if Redis is unreachable
+	 * or the entry is gone
+	 */
+	public boolean extend(String id, Duration ttl) {
+		if (!redisHealthMonitor.isAvailable()) {
+			return false;
+		}
+		try {
+			return Boolean.TRUE.equals(redis.template.expire(keyPrefix + id, ttl.getSeconds(), TimeUnit.SECONDS));
+		} catch (RuntimeException error) {
+			if (!redisHealthMonitor.reportFailure(error)) {
+				throw error;
+			}
+			return false;
+		}
+	}
+
+	private V load(String id, Function<String, V> loader, boolean onMiss) {
+		String key = keyPrefix + id;
+		CompletableFuture<V> pending = new CompletableFuture<>();
+		CompletableFuture<V> running = loading.putIfAbsent(key, pending);
+		if (running != null) {
+			coalescedLoads.increment();
+			return await(running);
+		}
+		try {
+			// A load for this key may have finished between the caller's miss and taking the slot
+			LocalEntry<V> loaded = onMiss ? peekLocal(key) : null;
+			if (loaded != null) {
+				pending.complete(loaded.value);
+				return loaded.value;
+			}
+			loads.increment();
+			V value = loader.apply(id);
+			if (value != null && writeRemote(key, value, policy.getTtlAmount(), policy.getTtlUnit())) {
+				putLocal(key, value);
+			}
+			pending.complete(value);
+			return value;
+		} catch (RuntimeException error) {
+			loadFailures.increment();
+			pending.completeExceptionally(error);
+			throw error;
+		} finally {
+			loading.remove(key);
+		}
+	}
+
+	public Map<String, Object> describe() {
+		long hits = localHits.sum() + staleHits.sum() + remoteHits.sum();
+		long lookups = hits + misses.sum();
+
+		Map<String, Object> description = new LinkedHashMap<>();
+		description.put("dataset", dataset);
+		description.put("ttl", policy.getTtl().toString());
+		description.put("softTtl", policy.getSoftTtl().toString());
+		description.put("asyncRefresh", policy.isAsyncRefresh());
+		description.put("localMaxSize", policy.getLocalMaxSize());
+		synchronized (local) {
+			description.put("localSize", local.size());
+		}
+		description.put("localHits", localHits.sum());
+		description.put("staleHits", staleHits.sum());
+		description.put("remoteHits", remoteHits.sum());
+		description.put("misses", misses.sum());
+		description.put("hitRatio", lookups == 0 ? 0.0 : Math.round(hits * 1000.0 / lookups) / 1000.0);
+		description.put("loads", loads.sum());
+		description.put("coalescedLoads", coalescedLoads.sum());
+		description.put("loadFailures", loadFailures.sum());
+		description.put("batchReads", batchReads.sum());
+		return description;
+	}
+
+	private V readLocal(String key) {
+		if (policy.getLocalMaxSize() == 0) {
+			return null;
+		}
+		LocalEntry<V> entry;
+		synchronized (local) {
+			entry = local.get(key);
+		}
+		if (entry == null) {
+			return null;
+		}
+		long age = System.nanoTime() - entry.loadedAt;
+		if (age < softTtlNanos) {
+			localHits.increment();
+			return entry.value;
+		}
+		if (age < ttlNanos && policy.isAsyncRefresh()) {
+			staleHits.increment();
+			refreshLocal(key);
+			return entry.value;
+		}
+		synchronized (local) {
+			local.remove(key, entry);
+		}
+		return null;
+	}
+
+	/**
+	 * Re-read a stale local entry from Redis in the background; dropped if Redis no longer has it
+	 */
+	private void refreshLocal(String key) {
+		if (!refreshing.add(key)) {
+			return;
+		}
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					V value = readRemote(key);
+					if (value != null) {
+						putLocal(key, value);
+					} else {
+						synchronized (local) {
+							local.remove(key);
+						}
+					}
+				} catch (RuntimeException error) {
+					logger.debug("Background refresh of {} failed: {}", key, error.getMessage());
+				} finally {
+					refreshing.remove(key);
+				}
+			});
+		} catch (RejectedExecutionException error) {
+			// Busy pool: the stale entry is served again and retried on a later read
+			refreshing.remove(key);
+		}
+	}
+
+	private LocalEntry<V> peekLocal(String key) {
+		synchronized (local) {
+			return local.get(key);
+		}
+	}
+
+	private void putLocal(String key, V value) {
+		if (policy.getLocalMaxSize() == 0) {
+			return;
+		}
+		synchronized (local) {
+			local.put(key, new LocalEntry<>(value, System.nanoTime()));
+		}
+	}
+
+	private V readPending(String key) {
+		Object queued = writeBehind.pending(key);
+		return queued != null ? redis.decodeFallback(queued) : null;
+	}
+
+	private V readRemote(String key) {
+		if (redisHealthMonitor.isAvailable()) {
+			try {
+				return redis.get(key);
+			} catch (RuntimeException error) {
+				if (!redisHealthMonitor.reportFailure(error)) {
+					throw error;
+				}
+			}
+		}
+		return redis.decodeFallback(localFallbackCache.get(key));
+	}
+
+	private List<V> readRemote(List<String> keys) {
+		if (redisHealthMonitor.isAvailable()) {
+			try {
+				batchReads.increment();
+				List<V> values = redis.multiGet(keys);
+				if (values != null) {
+					return values;
+				}
+			} catch (RuntimeException error) {
+				if (!redisHealthMonitor.reportFailure(error)) {
+					throw error;
+				}
+			}
+		}
+		boolean degraded = !redisHealthMonitor.isAvailable();
+		List<V> values = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			values.add(degraded ? redis.decodeFallback(localFallbackCache.get(key)) : null);
+		}
+		return values;
+	}
+
+	/**
+	 * Queue the write for Redis (written inline when the queue hands it back), or write to the local
+	 * fallback cache while Redis is unreachable. Returns false if the codec declined the value.
+	 */
+	private boolean writeRemote(String key, V value, long ttl, TimeUnit unit) {
+		Object stored = redis.encode(value);
+		if (stored == null) {
+			return false;
+		}
+		if (redisHealthMonitor.isAvailable()) {
+			if (writeBehind.submit(redis.template, key, stored, ttl, unit)) {
+				return true;
+			}
+			try {
+				redis.set(key, stored, ttl, unit);
+				return true;
+			} catch (RuntimeException error) {
+				if (!redisHealthMonitor.reportFailure(error)) {
+					throw error;
+				}
+			}
+		}
+		localFallbackCache.put(key, stored, ttl, unit);
+		return true;
+	}
+
+	/**
+	 * Serve a Redis miss from the cache snapshot while it is being bulk-loaded on cold start
+	 */
+	private V readSnapshot(String key) {
+		byte[] raw = snapshotService.read(key);
+		return raw != null ? redis.deserialize(raw) : null;
+	}
+
+	private static <V> V await(CompletableFuture<V> running) {
+		try {
+			return running.join();
+		} catch (CompletionException error) {
+			if (error.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw error;
+		}
+	}
+
+	private static final class LocalEntry<V> {
+		final V value;
+		final long loadedAt;
+
+		LocalEntry(V value, long loadedAt) {
+			this.value = value;
+			this.loadedAt = loadedAt;
+		}
+	}
+
+	/**
+	 * The Redis side of the cache, typed by what the template stores
+	 */
+	private static final class RedisTier<S, V> {
+		final RedisTemplate<String, S> template;
+		final CacheCodec<S, V> codec;
+
+		RedisTier(RedisTemplate<String, S> template, CacheCodec<S, V> codec) {
+			this.template = template;
+			this.codec = codec;
+		}
+
+		V get(String key) {
+			long started = RequestTiming.start();
+			try {
+				return decode(template.opsForValue().get(key));
+			} finally {
+				RequestTiming.stop(RequestTiming.Phase.REDIS, started);
+			}
+		}
+
+		List<V> multiGet(List<String> keys) {
+			List<S> stored;
+			long started = RequestTiming.start();
+			try {
+				stored = template.opsForValue().multiGet(keys);
+			} finally {
+				RequestTiming.stop(RequestTiming.Phase.REDIS, started);
+			}
+			// Null inside a pipeline or transaction; a short reply is treated the same way
+			if (stored == null || stored.size() != keys.size()) {
+				return null;
+			}
+			List<V> values = new ArrayList<>(stored.size());
+			for (S entry : stored) {
+				values.add(decode(entry));
+			}
+			return values;
+		}
+
+		Object encode(V value) {
+			return codec.encode(value);
+		}
+
+		@SuppressWarnings("unchecked")
+		void set(String key, Object stored, long ttl, TimeUnit unit) {
+			long started = RequestTiming.start();
+			try {
+				template.opsForValue().set(key, (S) stored, ttl, unit);
+			} finally {
+				RequestTiming.stop(RequestTiming.Phase.REDIS, started);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		V decodeFallback(Object stored) {
+			return decode((S) stored);
+		}
+
+		@SuppressWarnings("unchecked")
+		V deserialize(byte[] raw) {
+			return decode((S) template.getValueSerializer().deserialize(raw));
+		}
+
+		private V decode(S stored) {
+			return stored != null ? codec.decode(stored) : null;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.example.boltedex.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Creates the per-dataset {@link TieredCache}s from cache.dataset.{name}.* properties and keeps
+ * them for the admin stats endpoint.
+ */
+@Component
+public class TieredCacheRegistry {
+
+	public static final String DETAIL = "detail";
+	public static final String SPECIES = "species";
+	public static final String EVOLUTION = "evolution";
+	public static final String ENCOUNTERS = "encounters";
+	public static final String ABILITIES = "abilities";
+	public static final String SEARCH = "search";
+	public static final String MISSING = "missing";
+
+	private static final String PROPERTY_PREFIX = "cache.dataset.";
+
+	@Autowired
+	private Environment environment;
+
+	@Autowired
+	private RedisHealthMonitor redisHealthMonitor;
+
+	@Autowired
+	private LocalFallbackCache localFallbackCache;
+
+	@Autowired
+	private SnapshotService snapshotService;
+
+	@Autowired
+	private CacheWriteBehind cacheWriteBehind;
+
+	@Autowired
+	@Qualifier("localRefreshExecutor")
+	private Executor refreshExecutor;
+
+	private final Map<String, TieredCache<?>> caches = new ConcurrentSkipListMap<>();
+
+	public <S, V> TieredCache<V> create(String dataset, String keyPrefix, RedisTemplate<String, S> template,
+			CacheCodec<S, V> codec) {
+		TieredCache<V> cache = new TieredCache<>(dataset, keyPrefix, policy(dataset), template, codec,
+				redisHealthMonitor, localFallbackCache, snapshotService, cacheWriteBehind, refreshExecutor);
+		caches.put(dataset, cache);
+		return cache;
+	}
+
+	/**
+	 * Configured policy for a dataset, falling back to the defaults below for unset properties
+	 */
+	public CachePolicy policy(String dataset) {
+		CachePolicy defaults = defaultPolicy(dataset);
+		String prefix = PROPERTY_PREFIX + dataset + ".";
+		return new CachePolicy(
+			environment.getProperty(prefix + "ttl", Duration.class, defaults.getTtl()),
+			environment.getProperty(prefix + "soft-ttl", Duration.class, defaults.getSoftTtl()),
+			environment.getProperty(prefix + "local-max-size", Integer.class, defaults.getLocalMaxSize()),
+			environment.getProperty(prefix + "async-refresh", Boolean.class, defaults.isAsyncRefresh())
+		);
+	}
+
+	public List<Map<String, Object>> describe() {
+		List<Map<String, Object>> descriptions = new ArrayList<>();
+		for (TieredCache<?> cache : caches.values()) {
+			descriptions.add(cache.describe());
+		}
+		return descriptions;
+	}
+
+	private static CachePolicy defaultPolicy(String dataset) {
+		switch (dataset) {
+			case DETAIL:
+				return new CachePolicy(Duration.ofHours(24), Duration.ofMinutes(10), 2000, true);
+			case SEARCH:
+				return new CachePolicy(Duration.ofHours(1), Duration.ZERO, 0, false);
+			case MISSING:
+				// Markers never change, so local copies are good for their whole lifetime
+				return new CachePolicy(Duration.ofMinutes(10), Duration.ofMinutes(10), 1000, false);
+			default:
+				return new CachePolicy(Duration.ofHours(24), Duration.ofMinutes(30), 500, true);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.boltedex.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * What we know about the upstream document behind a cached entry: its ETag (when PokeAPI sends one)
+ * and a SHA-256 of the body, so an unchanged document can be recognised without re-parsing it.
+ *
+ * Stored in Redis as "&lt;hash&gt; &lt;etag&gt;"; the hash is fixed-width hex so the ETag may contain anything.
+ */
+public final class UpstreamValidator {
+
+	private static final int HASH_LENGTH = 64;
+
+	private final String etag;
+	private final String contentHash;
+
+	public UpstreamValidator(String etag, String contentHash) {
+		this.etag = etag;
+		this.contentHash = contentHash;
+	}
+
+	public static UpstreamValidator of(String etag, String body) {
+		return new UpstreamValidator(etag, hash(body));
+	}
+
+	public String getEtag() {
+		return etag;
+	}
+
+	public String getContentHash() {
+		return contentHash;
+	}
+
+	public boolean matches(String body) {
+		return contentHash.equals(hash(body));
+	}
+
+	public String encode() {
+		return etag != null ? contentHash + " " + etag : contentHash;
+	}
+
+	public static UpstreamValidator decode(String encoded) {
+		if (encoded == null || encoded.length() < HASH_LENGTH) {
+			return null;
+		}
+		String etag = encoded.length() > HASH_LENGTH + 1 ? encoded.substring(HASH_LENGTH + 1) : null;
+		return new UpstreamValidator(etag, encoded.substring(0, HASH_LENGTH));
+	}
+
+	static String hash(String body) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(body.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+}
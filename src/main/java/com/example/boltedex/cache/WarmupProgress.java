@@ -0,0 +1,104 @@
+package com.example.boltedex.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-dataset progress of the cache preload, shared by the startup warm-up and the nightly refresh
+ */
+@Component
+public class WarmupProgress {
+
+	public static final String NAMES = "names";
+	public static final String DETAILS = "details";
+
+	private final Map<String, Dataset> datasets = new ConcurrentHashMap<>();
+
+	public void start(String dataset, long total) {
+		datasets.put(dataset, new Dataset(total));
+	}
+
+	public void advance(String dataset) {
+		Dataset progress = datasets.get(dataset);
+		if (progress != null) {
+			progress.completed.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Count an entry that failed to load; it does not move the fraction
+	 */
+	public void fail(String dataset) {
+		Dataset progress = datasets.get(dataset);
+		if (progress != null) {
+			progress.failed.incrementAndGet();
+		}
+	}
+
+	public void complete(String dataset) {
+		Dataset progress = datasets.computeIfAbsent(dataset, key -> new Dataset(0));
+		progress.finished = true;
+	}
+
+	/**
+	 * Fraction of the dataset loaded, from 0.0 (not started) to 1.0 (finished)
+	 */
+	public double fraction(String dataset) {
+		Dataset progress = datasets.get(dataset);
+		if (progress == null) {
+			return 0.0;
+		}
+		if (progress.finished) {
+			return 1.0;
+		}
+		long total = progress.total;
+		return total > 0 ? Math.min(1.0, (double) progress.completed.get() / total) : 0.0;
+	}
+
+	/**
+	 * True until a run over the dataset has gone through every entry, whether or not some of them failed
+	 */
+	public boolean isLoading(String dataset) {
+		Dataset progress = datasets.get(dataset);
+		if (progress == null) {
+			return true;
+		}
+		return !progress.finished && progress.completed.get() + progress.failed.get() < progress.total;
+	}
+
+	public Map<String, Object> describe() {
+		Map<String, Object> details = new LinkedHashMap<>();
+		for (String dataset : new String[] { NAMES, DETAILS }) {
+			details.put(dataset, describe(dataset));
+		}
+		datasets.keySet().stream().sorted()
+				.filter(dataset -> !details.containsKey(dataset))
+				.forEach(dataset -> details.put(dataset, describe(dataset)));
+		return details;
+	}
+
+	private Map<String, Object> describe(String dataset) {
+		Dataset progress = datasets.get(dataset);
+		Map<String, Object> details = new LinkedHashMap<>();
+		details.put("percent", Math.round(fraction(dataset) * 1000) / 10.0);
+		details.put("completed", progress != null ? progress.completed.get() : 0);
+		details.put("failed", progress != null ? progress.failed.get() : 0);
+		details.put("total", progress != null ? progress.total : 0);
+		return details;
+	}
+
+	private static final class Dataset {
+		private final long total;
+		private final AtomicLong completed = new AtomicLong();
+		private final AtomicLong failed = new AtomicLong();
+		private volatile boolean finished;
+
+		private Dataset(long total) {
+			this.total = total;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.example.boltedex.config;
+
+import com.example.boltedex.timing.RequestTiming;
+import com.example.boltedex.upstream.UpstreamPriority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+	@Value("${pokemon.fetch.pool-size:8}")
+	private int poolSize;
+
+	@Value("${pokemon.fetch.queue-capacity:200}")
+	private int queueCapacity;
+
+	@Value("${cache.refresh.job-concurrency:2}")
+	private int refreshJobConcurrency;
+
+	@Value("${cache.local-refresh.pool-size:2}")
+	private int localRefreshPoolSize;
+
+	@Value("${cache.local-refresh.queue-capacity:100}")
+	private int localRefreshQueueCapacity;
+
+	/**
+	 * Scheduled tasks are the daily preloads, so their PokeAPI calls yield to interactive requests
+	 */
+	@Bean
+	public ThreadPoolTaskSchedulerCustomizer backgroundUpstreamPriority() {
+		return scheduler -> scheduler.setTaskDecorator(UpstreamPriority::background);
+	}
+
+	/**
+	 * Runs admin cache refresh jobs in the background, a few at a time, behind interactive upstream calls
+	 */
+	@Bean(name = "cacheRefreshExecutor")
+	public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(refreshJobConcurrency);
+		executor.setMaxPoolSize(refreshJobConcurrency);
+		executor.setThreadNamePrefix("cache-refresh-");
+		executor.setTaskDecorator(UpstreamPriority::background);
+		return executor;
+	}
+
+	/**
+	 * Re-reads stale in-process cache entries from Redis, apart from the streaming pool so a burst of
+	 * soft-TTL expiries cannot queue ahead of page fetches. A full queue rejects, and the stale entry
+	 * is served again until a later read gets it refreshed.
+	 */
+	@Bean(name = "localRefreshExecutor")
+	public ThreadPoolTaskExecutor localRefreshExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(localRefreshPoolSize);
+		executor.setMaxPoolSize(localRefreshPoolSize);
+		executor.setQueueCapacity(localRefreshQueueCapacity);
+		executor.setThreadNamePrefix("local-refresh-");
+		return executor;
+	}
+
+	/**
+	 * Resolves cache misses of a streamed page concurrently so each item is written as soon as it is ready.
+	 * Time spent on the pool is added to the Server-Timing of the request that submitted it.
+	 */
+	@Bean(name = "pokemonFetchExecutor")
+	public ThreadPoolTaskExecutor pokemonFetchExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("pokemon-fetch-");
+		executor.setTaskDecorator(RequestTiming::propagate);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		return executor;
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.boltedex.config;
+
+import com.example.boltedex.upstream.BulkheadInterceptor;
+import com.example.boltedex.upstream.EndpointBulkheads;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Maps each endpoint group to its bulkhead; admin, suggest and actuator endpoints are not bulkheaded
+ */
+@Configuration
+public class BulkheadConfig implements WebMvcConfigurer {
+
+	@Autowired
+	private EndpointBulkheads endpointBulkheads;
+
+	@Override
+	public void addInterceptors(@NonNull InterceptorRegistry registry) {
+		if (!endpointBulkheads.isEnabled()) {
+			return;
+		}
+		add(registry, EndpointBulkheads.DETAIL, "/api/pokemon/detail/**");
+		add(registry, EndpointBulkheads.SEARCH, "/api/pokemon/search");
+		add(registry, EndpointBulkheads.EVOLUTION, "/api/pokemon/evolution/**");
+		add(registry, EndpointBulkheads.ABILITIES, "/api/pokemon/abilities/**");
+		add(registry, EndpointBulkheads.ENCOUNTERS, "/api/pokemon/location/**", "/api/pokemon/encounters/**",
+				"/api/locations/**");
+		add(registry, EndpointBulkheads.COVERAGE, "/api/types/**");
+		add(registry, EndpointBulkheads.SPRITES, "/api/pokemon/sprite/**");
+	}
+
+	private void add(InterceptorRegistry registry, String name, String... paths) {
+		registry.addInterceptor(new BulkheadInterceptor(endpointBulkheads.get(name))).addPathPatterns(paths);
+	}
+}
@@ -0,0 +1,34 @@
+package com.example.boltedex.config;
+
+import com.example.boltedex.pokemon.Pokemon;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.ArrayList;
+
+/**
+ * Native image hints Spring AOT cannot infer from controller signatures: the types Jackson binds
+ * inside the Redis serializers, the mixin on the detail serializer and the "@class" ids written by
+ * GenericJackson2JsonRedisSerializer for abilities. Error bodies are ProblemDetail, which spring-web
+ * registers itself.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+	private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		bindingHints.registerReflectionHints(hints.reflection(),
+				Pokemon.class,
+				Pokemon.Stats.class,
+				Pokemon.Sprites.class,
+				Pokemon.EvolutionStage.class,
+				Pokemon.Abilities.class,
+				Pokemon.Encounter.class);
+
+		hints.reflection().registerType(RedisConfig.StoredPokemon.class);
+		hints.reflection().registerType(ArrayList.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+	}
+}
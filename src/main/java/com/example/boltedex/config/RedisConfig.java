@@ -1,18 +1,35 @@
 package com.example.boltedex.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import com.example.boltedex.timing.TimedRedisSerializer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.context.annotation.Bean;
 
 import com.example.boltedex.pokemon.Pokemon;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 @Configuration
@@ -31,33 +48,175 @@ public class RedisConfig {
 	@Value("${spring.data.redis.username:}")
 	private String username;
 
+	@Value("${spring.data.redis.timeout:2s}")
+	private Duration commandTimeout;
+
+	@Value("${redis.mode:standalone}")
+	private String mode;
+
+	@Value("${redis.read-from:replicaPreferred}")
+	private String readFrom;
+
+	@Value("${redis.replica.nodes:}")
+	private String replicaNodes;
+
+	@Value("${redis.sentinel.master:}")
+	private String sentinelMaster;
+
+	@Value("${redis.sentinel.nodes:}")
+	private String sentinelNodes;
+
+	@Value("${redis.cluster.nodes:}")
+	private String clusterNodes;
+
+	/**
+	 * Reads and writes on the primary. The name index, search sets and markers are read back right
+	 * after they are written, or checked for existence before being rebuilt, so they must not see a
+	 * replica that is lagging behind.
+	 */
 	@Bean
+	@Primary
 	public LettuceConnectionFactory lettuceConnectionFactory() {
+		return connectionFactory(false);
+	}
+
+	/**
+	 * Same topology with reads routed by redis.read-from. Only the detail template reads through it:
+	 * a detail read from a lagging replica is at worst a miss the detail cache loads again.
+	 */
+	@Bean
+	public LettuceConnectionFactory replicaReadsConnectionFactory() {
+		return connectionFactory(true);
+	}
+
+	private LettuceConnectionFactory connectionFactory(boolean replicaReads) {
 		// Guarantees fixed redis connection without autowiring
-		RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
-		redisStandaloneConfiguration.setHostName(hostName);
-		redisStandaloneConfiguration.setPort(port);
-		
+		switch (mode.trim().toLowerCase()) {
+			case "cluster":
+				return clusterConnectionFactory(replicaReads);
+			case "sentinel":
+				return sentinelConnectionFactory(replicaReads);
+			case "standalone":
+				return standaloneConnectionFactory(replicaReads);
+			default:
+				throw new IllegalStateException("Unsupported redis.mode: " + mode);
+		}
+	}
+
+	private LettuceConnectionFactory standaloneConnectionFactory(boolean replicaReads) {
+		List<String> replicas = splitNodes(replicaNodes);
+
+		if (replicas.isEmpty()) {
+			RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
+			redisStandaloneConfiguration.setHostName(hostName);
+			redisStandaloneConfiguration.setPort(port);
+			applyCredentials(redisStandaloneConfiguration);
+			return new LettuceConnectionFactory(redisStandaloneConfiguration, clientConfiguration(false, false));
+		}
+
+		// Primary plus statically known replicas: replica reads are routed by redis.read-from
+		RedisStaticMasterReplicaConfiguration masterReplicaConfiguration =
+				new RedisStaticMasterReplicaConfiguration(hostName, port);
+		for (String replica : replicas) {
+			masterReplicaConfiguration.addNode(host(replica), port(replica));
+		}
+		applyCredentials(masterReplicaConfiguration);
+		return new LettuceConnectionFactory(masterReplicaConfiguration, clientConfiguration(replicaReads, false));
+	}
+
+	private LettuceConnectionFactory sentinelConnectionFactory(boolean replicaReads) {
+		RedisSentinelConfiguration sentinelConfiguration =
+				new RedisSentinelConfiguration(sentinelMaster, new HashSet<>(splitNodes(sentinelNodes)));
+		applyCredentials(sentinelConfiguration);
+		return new LettuceConnectionFactory(sentinelConfiguration, clientConfiguration(replicaReads, false));
+	}
+
+	private LettuceConnectionFactory clusterConnectionFactory(boolean replicaReads) {
+		RedisClusterConfiguration clusterConfiguration = new RedisClusterConfiguration(splitNodes(clusterNodes));
+		applyCredentials(clusterConfiguration);
+		return new LettuceConnectionFactory(clusterConfiguration, clientConfiguration(replicaReads, true));
+	}
+
+	private LettuceClientConfiguration clientConfiguration(boolean replicaReads, boolean cluster) {
+		// Fail fast while disconnected so callers can switch to the local fallback cache
+		ClientOptions clientOptions;
+		if (cluster) {
+			clientOptions = ClusterClientOptions.builder()
+					.autoReconnect(true)
+					.disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+					.topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+							.enablePeriodicRefresh(Duration.ofSeconds(30))
+							.enableAllAdaptiveRefreshTriggers()
+							.build())
+					.build();
+		} else {
+			clientOptions = ClientOptions.builder()
+					.autoReconnect(true)
+					.disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+					.build();
+		}
+
+		LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+				.commandTimeout(commandTimeout)
+				.clientOptions(clientOptions);
+		if (replicaReads) {
+			// Writes always go to the primary; read commands follow redis.read-from.
+			// Without a ReadFrom, Lettuce reads from the primary as well
+			builder.readFrom(ReadFrom.valueOf(readFrom));
+		}
+		return builder.build();
+	}
+
+	private void applyCredentials(RedisConfiguration.WithAuthentication configuration) {
 		// Only set password and username if they are not empty
 		if (password != null && !password.trim().isEmpty()) {
-			redisStandaloneConfiguration.setPassword(password);
+			configuration.setPassword(password);
 		}
 		if (username != null && !username.trim().isEmpty()) {
-			redisStandaloneConfiguration.setUsername(username);
+			configuration.setUsername(username);
 		}
-		
-		return new LettuceConnectionFactory(redisStandaloneConfiguration);
+	}
+
+	private static List<String> splitNodes(String nodes) {
+		List<String> result = new ArrayList<>();
+		if (nodes == null) {
+			return result;
+		}
+		for (String node : nodes.split(",")) {
+			if (!node.trim().isEmpty()) {
+				result.add(node.trim());
+			}
+		}
+		return result;
+	}
+
+	private static String host(String node) {
+		return node.substring(0, node.lastIndexOf(':'));
+	}
+
+	private static int port(String node) {
+		return Integer.parseInt(node.substring(node.lastIndexOf(':') + 1));
 	}
 
 	@Bean
-	public RedisTemplate<String, Pokemon> redisTemplate(RedisConnectionFactory factory) {
+	public RedisTemplate<String, Pokemon> redisTemplate(
+			@Qualifier("replicaReadsConnectionFactory") RedisConnectionFactory factory) {
 		RedisTemplate<String, Pokemon> template = new RedisTemplate<>();
 		template.setConnectionFactory(factory);
 		template.setKeySerializer(new StringRedisSerializer());
-		template.setValueSerializer(new Jackson2JsonRedisSerializer<>(Pokemon.class));
+		ObjectMapper mapper = new ObjectMapper().addMixIn(Pokemon.class, StoredPokemon.class);
+		template.setValueSerializer(new TimedRedisSerializer<>(new Jackson2JsonRedisSerializer<>(mapper, Pokemon.class)));
 		return template;
 	}
 
+	/**
+	 * Matchups are derived from the types when read, so stored details only carry the types.
+	 * Older entries that still contain them are read as before.
+	 */
+	@JsonIgnoreProperties(value = {"weaknesses", "resistances", "immunities"}, ignoreUnknown = true)
+	abstract static class StoredPokemon {
+	}
+
 	@Bean
 	public RedisTemplate<String, String> stringRedisTemplate(RedisConnectionFactory factory) {
 		RedisTemplate<String, String> template = new RedisTemplate<>();
@@ -72,7 +231,7 @@ public class RedisConfig {
 		RedisTemplate<String, List<Pokemon.Abilities>> template = new RedisTemplate<>();
 		template.setConnectionFactory(factory);
 		template.setKeySerializer(new StringRedisSerializer());
-		template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+		template.setValueSerializer(new TimedRedisSerializer<>(new GenericJackson2JsonRedisSerializer()));
 		return template;
 	}
 }
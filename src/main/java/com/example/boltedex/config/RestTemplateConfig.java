@@ -1,14 +1,52 @@
 package com.example.boltedex.config;
 
+import com.example.boltedex.upstream.BulkheadClientInterceptor;
+import com.example.boltedex.upstream.UpstreamLimiter;
+import com.example.boltedex.upstream.UpstreamLimiterInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
-    
+
+    @Value("${pokeapi.limiter.min-limit:2}")
+    private int minLimit;
+
+    @Value("${pokeapi.limiter.max-limit:64}")
+    private int maxLimit;
+
+    @Value("${pokeapi.limiter.initial-limit:8}")
+    private int initialLimit;
+
+    @Value("${pokeapi.limiter.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${pokeapi.limiter.base-backoff-ms:200}")
+    private long baseBackoffMillis;
+
+    @Value("${pokeapi.limiter.max-backoff-ms:5000}")
+    private long maxBackoffMillis;
+
+    @Value("${pokeapi.limiter.acquire-timeout-ms:5000}")
+    private long acquireTimeoutMillis;
+
+    @Bean
+    public UpstreamLimiter upstreamLimiter() {
+        return new UpstreamLimiter(minLimit, maxLimit, initialLimit);
+    }
+
+    /**
+     * Shared by the client and the cache schedulers so every PokeAPI call goes through one limiter.
+     * The endpoint bulkhead comes first, so a shed request never waits on the limiter.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(UpstreamLimiter upstreamLimiter) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new BulkheadClientInterceptor());
+        restTemplate.getInterceptors().add(new UpstreamLimiterInterceptor(
+                upstreamLimiter, maxRetries, baseBackoffMillis, maxBackoffMillis, acquireTimeoutMillis));
+        return restTemplate;
     }
 }
@@ -0,0 +1,110 @@
+package com.example.boltedex.encounter;
+
+import com.example.boltedex.pokemon.Pokemon;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact text encoding for encounter records.
+ *
+ * A Pokemon's list is stored as "e1|dictionary|rows": the dictionary holds each distinct area,
+ * version and method name once (comma separated) and every row is six dot-separated integers
+ * (area, version, method as dictionary indices, then min level, max level, chance). PokeAPI names
+ * are slugs, so the separators never collide with them.
+ *
+ * The reverse index stores one Pokemon's rows for a single area as "version:method:min:max:chance;...".
+ */
+public final class EncounterCodec {
+	private EncounterCodec() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	private static final String FORMAT = "e1";
+
+	public static String encode(List<Pokemon.Encounter> encounters) {
+		Map<String, Integer> dictionary = new LinkedHashMap<>();
+		StringBuilder rows = new StringBuilder();
+		for (Pokemon.Encounter encounter : encounters) {
+			if (rows.length() > 0) {
+				rows.append(';');
+			}
+			rows.append(index(dictionary, encounter.getLocationArea())).append('.')
+				.append(index(dictionary, encounter.getVersion())).append('.')
+				.append(index(dictionary, encounter.getMethod())).append('.')
+				.append(encounter.getMinLevel()).append('.')
+				.append(encounter.getMaxLevel()).append('.')
+				.append(encounter.getChance());
+		}
+		return FORMAT + "|" + String.join(",", dictionary.keySet()) + "|" + rows;
+	}
+
+	/**
+	 * Decoded records, or null if the value is not in this format (e.g. the older list of area names)
+	 */
+	public static List<Pokemon.Encounter> decode(String encoded) {
+		if (encoded == null || !encoded.startsWith(FORMAT + "|")) {
+			return null;
+		}
+		String[] parts = encoded.split("\\|", -1);
+		if (parts.length != 3) {
+			return null;
+		}
+		String[] dictionary = parts[1].split(",");
+		List<Pokemon.Encounter> encounters = new ArrayList<>();
+		if (parts[2].isEmpty()) {
+			return encounters;
+		}
+		for (String row : parts[2].split(";")) {
+			String[] fields = row.split("\\.");
+			encounters.add(encounter(dictionary[Integer.parseInt(fields[0])], dictionary[Integer.parseInt(fields[1])],
+					dictionary[Integer.parseInt(fields[2])], fields[3], fields[4], fields[5]));
+		}
+		return encounters;
+	}
+
+	public static String encodeRates(List<Pokemon.Encounter> encounters) {
+		StringBuilder rates = new StringBuilder();
+		for (Pokemon.Encounter encounter : encounters) {
+			if (rates.length() > 0) {
+				rates.append(';');
+			}
+			rates.append(encounter.getVersion()).append(':')
+				.append(encounter.getMethod()).append(':')
+				.append(encounter.getMinLevel()).append(':')
+				.append(encounter.getMaxLevel()).append(':')
+				.append(encounter.getChance());
+		}
+		return rates.toString();
+	}
+
+	public static List<Pokemon.Encounter> decodeRates(String locationArea, String encoded) {
+		List<Pokemon.Encounter> encounters = new ArrayList<>();
+		if (encoded == null || encoded.isEmpty()) {
+			return encounters;
+		}
+		for (String rate : encoded.split(";")) {
+			String[] fields = rate.split(":");
+			encounters.add(encounter(locationArea, fields[0], fields[1], fields[2], fields[3], fields[4]));
+		}
+		return encounters;
+	}
+
+	private static int index(Map<String, Integer> dictionary, String value) {
+		return dictionary.computeIfAbsent(value, key -> dictionary.size());
+	}
+
+	private static Pokemon.Encounter encounter(String locationArea, String version, String method,
+			String minLevel, String maxLevel, String chance) {
+		Pokemon.Encounter encounter = new Pokemon.Encounter();
+		encounter.setLocationArea(locationArea);
+		encounter.setVersion(version);
+		encounter.setMethod(method);
+		encounter.setMinLevel(Integer.parseInt(minLevel));
+		encounter.setMaxLevel(Integer.parseInt(maxLevel));
+		encounter.setChance(Integer.parseInt(chance));
+		return encounter;
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.boltedex.encounter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/locations")
+public class LocationController {
+
+	@Autowired
+	private LocationIndex locationIndex;
+
+	@GetMapping("/{area}/pokemon")
+	public ResponseEntity<List<LocationPokemonDTO>> getPokemonInArea(@PathVariable String area) {
+		return ResponseEntity.ok(locationIndex.lookup(area));
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.boltedex.encounter;
+
+import com.example.boltedex.cache.CacheKeys;
+import com.example.boltedex.cache.RedisHealthMonitor;
+import com.example.boltedex.pokemon.Pokemon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reverse encounter index: one Redis hash per location area, field = Pokemon name, value = its
+ * rates there. Updated whenever a Pokemon's encounters are fetched, so the encounters preload
+ * builds it incrementally and "what can I catch here?" is a single HGETALL.
+ */
+@Component
+public class LocationIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(LocationIndex.class);
+
+	// Outlives one missed daily preload before an abandoned area disappears
+	private static final int AREA_TTL_HOURS = 48;
+
+	@Autowired
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Autowired
+	private RedisHealthMonitor redisHealthMonitor;
+
+	/**
+	 * Point every area of the new encounter list at this Pokemon and drop areas it no longer appears in
+	 */
+	public void record(String pokemonName, List<Pokemon.Encounter> previous, List<Pokemon.Encounter> current) {
+		if (!redisHealthMonitor.isAvailable()) {
+			return;
+		}
+		Map<String, List<Pokemon.Encounter>> byArea = groupByArea(current);
+		try {
+			for (Map.Entry<String, List<Pokemon.Encounter>> area : byArea.entrySet()) {
+				String key = CacheKeys.LOCATION_AREA_POKEMON_PREFIX + area.getKey();
+				stringRedisTemplate.opsForHash().put(key, pokemonName, EncounterCodec.encodeRates(area.getValue()));
+				stringRedisTemplate.expire(key, AREA_TTL_HOURS, TimeUnit.HOURS);
+			}
+			if (previous != null) {
+				for (String area : groupByArea(previous).keySet()) {
+					if (!byArea.containsKey(area)) {
+						stringRedisTemplate.opsForHash().delete(CacheKeys.LOCATION_AREA_POKEMON_PREFIX + area, pokemonName);
+					}
+				}
+			}
+		} catch (RuntimeException error) {
+			// The forward entry is already cached; a missed reverse update is repaired on the next refresh
+			if (!redisHealthMonitor.reportFailure(error)) {
+				logger.warn("Failed to update location index for {}: {}", pokemonName, error.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Pokemon catchable in an area, best single rate first
+	 */
+	public List<LocationPokemonDTO> lookup(String locationArea) {
+		String area = locationArea.trim().toLowerCase();
+		Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(CacheKeys.LOCATION_AREA_POKEMON_PREFIX + area);
+
+		List<LocationPokemonDTO> pokemon = new ArrayList<>(entries.size());
+		for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+			List<Pokemon.Encounter> encounters = EncounterCodec.decodeRates(area, (String) entry.getValue());
+			int bestChance = 0;
+			for (Pokemon.Encounter encounter : encounters) {
+				bestChance = Math.max(bestChance, encounter.getChance());
+			}
+			pokemon.add(new LocationPokemonDTO((String) entry.getKey(), bestChance, encounters));
+		}
+		pokemon.sort(Comparator.comparingInt(LocationPokemonDTO::getBestChance).reversed()
+				.thenComparing(LocationPokemonDTO::getName));
+		return pokemon;
+	}
+
+	private static Map<String, List<Pokemon.Encounter>> groupByArea(List<Pokemon.Encounter> encounters) {
+		Map<String, List<Pokemon.Encounter>> byArea = new LinkedHashMap<>();
+		for (Pokemon.Encounter encounter : encounters) {
+			byArea.computeIfAbsent(encounter.getLocationArea(), key -> new ArrayList<>()).add(encounter);
+		}
+		return byArea;
+	}
+}
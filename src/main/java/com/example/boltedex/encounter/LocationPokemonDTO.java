@@ -0,0 +1,33 @@
+package com.example.boltedex.encounter;
+
+import com.example.boltedex.pokemon.Pokemon;
+
+import java.util.List;
+
+/**
+ * One Pokemon that can be caught in a location area, with its rates there
+ */
+public class LocationPokemonDTO {
+
+	private String name;
+	private int bestChance;
+	private List<Pokemon.Encounter> encounters;
+
+	public LocationPokemonDTO(String name, int bestChance, List<Pokemon.Encounter> encounters) {
+		this.name = name;
+		this.bestChance = bestChance;
+		this.encounters = encounters;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getBestChance() {
+		return bestChance;
+	}
+
+	public List<Pokemon.Encounter> getEncounters() {
+		return encounters;
+	}
+}
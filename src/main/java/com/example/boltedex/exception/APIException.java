@@ -2,6 +2,11 @@ package com.example.boltedex.exception;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+/**
+ * An APIException without a cause describes an expected outcome (unknown name, bad filter, shed load)
+ * and is created without a stack trace, so 404 storms do not pay for stack walking. One with a cause
+ * wraps an unexpected failure and keeps the full trace for the log.
+ */
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class APIException extends RuntimeException {
@@ -10,7 +15,7 @@ public class APIException extends RuntimeException {
 	private final String timestamp;
 
 	public APIException(String message, String errorCode, int statusCode, String timestamp) {
-		super(message);
+		super(message, null, false, false);
 		this.errorCode = errorCode;
 		this.statusCode = statusCode;
 		this.timestamp = timestamp;
@@ -22,4 +27,8 @@ public class APIException extends RuntimeException {
 		this.statusCode = statusCode;
 		this.timestamp = timestamp;
 	}
+
+	public boolean isExpected() {
+		return getCause() == null;
+	}
 }
@@ -10,11 +10,18 @@ public final class ExceptionConstants {
 	public static final String API_ERROR = "API_ERROR";
 	public static final String INTERNAL_ERROR = "INTERNAL_ERROR";
 	public static final String WARNING_ERROR = "WARNING_ERROR";
+	public static final String VALIDATION_ERROR = "VALIDATION_ERROR";
+	public static final String NOT_FOUND_ERROR = "NOT_FOUND_ERROR";
+	public static final String CONFLICT_ERROR = "CONFLICT_ERROR";
+	public static final String OVERLOADED_ERROR = "OVERLOADED_ERROR";
 
 	// Error status codes
 	public static final int SERVICE_UNAVAILABLE = 503;
 	public static final int BAD_GATEWAY = 502;
 	public static final int INTERNAL_SERVER_ERROR = 500;
+	public static final int CONFLICT = 409;
+	public static final int NOT_FOUND = 404;
+	public static final int BAD_REQUEST = 400;
 	public static final int WARNING_STATUS_CODE = 200;
 
 	// Generic error messages
@@ -29,17 +36,40 @@ public final class ExceptionConstants {
 	public static final String REDIS_CONNECTION_ERROR_DETAILED = "Redis connection failed: %s";
 	public static final String REDIS_PRELOAD_ERROR_DETAILED = "Failed to preload Pokemon cache: %s";
 	public static final String REDIS_PRELOAD_DETAILS_ERROR_DETAILED = "Failed to preload Pokemon details: %s";
+	public static final String REDIS_DEGRADED_MODE_MESSAGE = "Redis unavailable, serving reads from local fallback cache: %s";
+	public static final String SNAPSHOT_EMPTY_CACHE_MESSAGE = "Cannot write cache snapshot: Pokemon name index is empty";
+	public static final String SNAPSHOT_WRITE_ERROR_DETAILED = "Failed to write cache snapshot: %s";
+	public static final String SNAPSHOT_LOAD_ERROR_DETAILED = "Failed to load cache snapshot: %s";
+	public static final String WRITE_BEHIND_FLUSH_ERROR_DETAILED = "Failed to flush queued cache writes: %s";
+	public static final String REFRESH_JOB_INVALID_DATASET_MESSAGE = "Unknown refresh dataset: %s";
+	public static final String REFRESH_JOB_NO_TARGETS_MESSAGE = "Refresh job matched no Pokemon";
+	public static final String REFRESH_JOB_DUPLICATE_MESSAGE = "An identical refresh job is already running: %s";
+	public static final String REFRESH_JOB_NOT_FOUND_MESSAGE = "Refresh job not found: %s";
 
 	// API related messages
 	public static final String API_FETCH_FAILED_MESSAGE = "Failed to fetch Pokemon data";
 	public static final String POKEMON_API_ERROR_MESSAGE = "Failed to fetch Pokemon data from API";
 	public static final String POKEMON_FETCH_FAILED_MESSAGE = "Failed to fetch Pokemon: %s";
+	public static final String POKEMON_NOT_FOUND_MESSAGE = "Pokemon not found: %s";
 	public static final String POKEMON_API_FETCH_CACHE_ERROR_MESSAGE = "Failed to fetch Pokemon data from cache";
 	public static final String POKEMEMON_API_FETCH_INSTANCE_ERROR_MESSAGE = "Failed to fetch Pokemon instance";
 	public static final String POKEMON_API_FETCH_EVOLUTION_CHAIN_ERROR_MESSAGE = "Failed to fetch Pokemon evolution chain";
 	public static final String POKEMON_API_FETCH_EVOLUTION_STAGE_ERROR_MESSAGE = "Failed to fetch Pokemon evolution stage";
 	public static final String POKEMON_API_FETCH_LOCATION_AREA_ENCOUNTERS_ERROR_MESSAGE = "Failed to fetch Pokemon location area encounters";
 	public static final String POKEMON_API_FETCH_ABILITIES_ERROR_MESSAGE = "Failed to fetch Pokemon abilities";
+	public static final String SPRITE_FETCH_FAILED_MESSAGE = "Failed to fetch sprite %d/%s";
+	public static final String SPRITE_NOT_FOUND_MESSAGE = "Sprite not found: %d/%s";
+	public static final String SPRITE_INVALID_VARIANT_MESSAGE = "Unknown sprite variant: %s";
+	public static final String UPSTREAM_BUSY_MESSAGE = "PokeAPI concurrency limit reached, please retry shortly";
+	public static final String BULKHEAD_FULL_MESSAGE = "Too many %s requests waiting on PokeAPI, please retry shortly";
+
+	// Search related messages
+	public static final String SEARCH_INVALID_FILTER_MESSAGE = "Invalid search filter: %s";
+	public static final String SEARCH_INVALID_SORT_MESSAGE = "Invalid search sort: %s";
+	public static final String SEARCH_INVALID_TYPE_MESSAGE = "Invalid Pokemon type: %s";
+	public static final String SEARCH_INDEX_LOADING_MESSAGE = "Search index is still loading (%d of %d Pokemon indexed), please retry shortly";
+	public static final String SEARCH_STREAM_UNSUPPORTED_MESSAGE = "Streamed search does not support type, filter, sort or fuzzy mode";
+	public static final String TYPE_COVERAGE_TEAM_SIZE_MESSAGE = "Team must contain between 1 and %d Pokemon";
 
 	// Warning messages
 	public static final String WARNING_MESSAGE = "Warning: %s";
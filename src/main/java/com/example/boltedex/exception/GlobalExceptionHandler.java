@@ -1,32 +1,100 @@
 package com.example.boltedex.exception;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import java.time.Instant;
+import com.example.boltedex.upstream.LoadShedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Errors go out as compact application/problem+json bodies (status, title, detail, instance plus
+ * errorCode and timestamp), never as the serialized exception. Expected errors are logged as one line;
+ * only unexpected ones get a stack trace, and at most errors.stack-traces-per-minute of those.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 	private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+	private static final long STACK_TRACE_WINDOW_MILLIS = 60_000;
+
+	private StackTraceLogLimiter stackTraceLimiter = new StackTraceLogLimiter(10, STACK_TRACE_WINDOW_MILLIS);
+
+	@Value("${errors.stack-traces-per-minute:10}")
+	void setStackTracesPerMinute(int stackTracesPerMinute) {
+		stackTraceLimiter = new StackTraceLogLimiter(stackTracesPerMinute, STACK_TRACE_WINDOW_MILLIS);
+	}
+
+	/**
+	 * Shed load is expected under pressure: the client is told when to come back
+	 */
+	@ExceptionHandler(LoadShedException.class)
+	public ResponseEntity<ProblemDetail> handleLoadShed(LoadShedException ex) {
+		logger.warn("Shedding request: {}", ex.getMessage());
+		return ResponseEntity.status(ex.getStatusCode())
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+				.body(problem(ex));
+	}
+
 	@ExceptionHandler(APIException.class)
-	public ResponseEntity<APIException> handleAPIException(APIException ex) {
-		logger.error("API Exception occurred: {}", ex.getMessage(), ex);
-		return ResponseEntity.status(ex.getStatusCode()).body(ex);
+	public ResponseEntity<ProblemDetail> handleAPIException(APIException ex) {
+		if (!ex.isExpected()) {
+			logUnexpected("API Exception occurred: " + ex.getMessage(), ex);
+		} else if (ex.getStatusCode() >= ExceptionConstants.INTERNAL_SERVER_ERROR) {
+			logger.warn("API Exception occurred: {}", ex.getMessage());
+		} else {
+			logger.debug("API Exception occurred: {}", ex.getMessage());
+		}
+		return ResponseEntity.status(ex.getStatusCode()).body(problem(ex));
+	}
+
+	@ExceptionHandler(MethodArgumentTypeMismatchException.class)
+	public ResponseEntity<ProblemDetail> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+		logger.debug("Rejected request: {}", ex.getMessage());
+		return ResponseEntity.status(ExceptionConstants.BAD_REQUEST).body(problem(ExceptionConstants.BAD_REQUEST,
+				"Invalid value for parameter " + ex.getName(), ExceptionConstants.VALIDATION_ERROR, Instant.now().toString()));
 	}
 
 	@ExceptionHandler(Exception.class)
-	public ResponseEntity<APIException> handleGenericException(Exception ex) {
-		logger.error("Unexpected error occurred: {}", ex.getMessage(), ex);
-		APIException error = new APIException(
-				ExceptionConstants.GENERIC_ERROR_MESSAGE,
-				ExceptionConstants.INTERNAL_ERROR,
-				ExceptionConstants.INTERNAL_SERVER_ERROR,
-				Instant.now().toString(),
-				ex
-		);
-		return ResponseEntity.status(ExceptionConstants.INTERNAL_SERVER_ERROR).body(error);
+	public ResponseEntity<ProblemDetail> handleGenericException(Exception ex) {
+		// Spring MVC's own request errors (missing parameter, type mismatch, ...) carry their 4xx and body
+		if (ex instanceof ErrorResponse errorResponse) {
+			logger.debug("Rejected request: {}", ex.getMessage());
+			return ResponseEntity.status(errorResponse.getStatusCode()).body(errorResponse.getBody());
+		}
+		logUnexpected("Unexpected error occurred: " + ex.getMessage(), ex);
+		return ResponseEntity.status(ExceptionConstants.INTERNAL_SERVER_ERROR).body(problem(ExceptionConstants.INTERNAL_SERVER_ERROR,
+				ExceptionConstants.GENERIC_ERROR_MESSAGE, ExceptionConstants.INTERNAL_ERROR, Instant.now().toString()));
+	}
+
+	private void logUnexpected(String message, Throwable ex) {
+		if (!stackTraceLimiter.tryAcquire(System.currentTimeMillis())) {
+			logger.error("{} ({})", message, ex.toString());
+			return;
+		}
+		long suppressed = stackTraceLimiter.drainSuppressed();
+		if (suppressed > 0) {
+			logger.error("{} ({} stack traces suppressed since the last one)", message, suppressed, ex);
+		} else {
+			logger.error(message, ex);
+		}
+	}
+
+	private static ProblemDetail problem(APIException ex) {
+		return problem(ex.getStatusCode(), ex.getMessage(), ex.getErrorCode(), ex.getTimestamp());
+	}
+
+	private static ProblemDetail problem(int status, String detail, String errorCode, String timestamp) {
+		ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(status), detail);
+		problem.setProperty("errorCode", errorCode);
+		problem.setProperty("timestamp", timestamp);
+		return problem;
 	}
 }
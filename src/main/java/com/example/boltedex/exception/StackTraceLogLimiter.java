@@ -0,0 +1,41 @@
+package com.example.boltedex.exception;
+
+/**
+ * Lets at most maxPerWindow stack traces into the log per window. Failures past the limit are logged
+ * as one line, and how many traces were left out is reported with the next one that gets through.
+ */
+class StackTraceLogLimiter {
+
+	private final int maxPerWindow;
+	private final long windowMillis;
+	private long windowStartedAt;
+	private int logged;
+	private long suppressed;
+
+	StackTraceLogLimiter(int maxPerWindow, long windowMillis) {
+		this.maxPerWindow = maxPerWindow;
+		this.windowMillis = windowMillis;
+	}
+
+	synchronized boolean tryAcquire(long nowMillis) {
+		if (nowMillis - windowStartedAt >= windowMillis) {
+			windowStartedAt = nowMillis;
+			logged = 0;
+		}
+		if (logged < maxPerWindow) {
+			logged++;
+			return true;
+		}
+		suppressed++;
+		return false;
+	}
+
+	/**
+	 * Traces skipped since the last call
+	 */
+	synchronized long drainSuppressed() {
+		long count = suppressed;
+		suppressed = 0;
+		return count;
+	}
+}
@@ -2,7 +2,9 @@ package com.example.boltedex.pokemon;
 
 import org.springframework.data.annotation.Id;
 import lombok.Data;
+import com.example.boltedex.types.TypeMatchups;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import java.util.Map;
 
@@ -18,11 +20,27 @@ public class Pokemon {
 	private int weight;
 	private Stats baseStats;
 	private List<String> types;
-	private Map<String, Double> weaknesses;
-	private Map<String, Double> resistances;
-	private Map<String, Double> immunities;
 	private Sprites sprites;
 
+	/**
+	 * Matchups follow from the types, so they are shared per type combination instead of stored
+	 * with each Pokemon, and are left out of the Redis value (see RedisConfig)
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	public Map<String, Double> getWeaknesses() {
+		return TypeMatchups.weaknesses(types);
+	}
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	public Map<String, Double> getResistances() {
+		return TypeMatchups.resistances(types);
+	}
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	public Map<String, Double> getImmunities() {
+		return TypeMatchups.immunities(types);
+	}
+
 	@Data
 	@JsonIgnoreProperties(ignoreUnknown = true)
 	public static class Stats {
@@ -58,4 +76,19 @@ public class Pokemon {
 		private String description;
 		private boolean hidden;
 	}
+
+	/**
+	 * Encounter details for one location area, game version and method; chance is summed over
+	 * PokeAPI's per-condition rows and the level range spans them
+	 */
+	@Data
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class Encounter {
+		private String locationArea;
+		private String version;
+		private String method;
+		private int minLevel;
+		private int maxLevel;
+		private int chance;
+	}
 }
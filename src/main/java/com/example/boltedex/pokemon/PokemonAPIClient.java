@@ -1,12 +1,19 @@
 package com.example.boltedex.pokemon;
 
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.lang.Nullable;
+import com.example.boltedex.search.PokedexQuery;
 
 public interface PokemonAPIClient {
 	PokemonAPIClientDTO getPokemons(String cursor, int limit, @Nullable String searchQuery);
+	PokemonAPIClientDTO streamPokemons(String cursor, int limit, @Nullable String searchQuery, Consumer<Pokemon> onResolved);
+	PokemonAPIClientDTO searchPokemons(String cursor, int limit, PokedexQuery query);
+	PokemonAPIClientDTO fuzzySearchPokemons(String cursor, int limit, String searchQuery);
+	List<PokemonSuggestionDTO> suggestPokemons(String prefix, int limit);
 	Pokemon getPokemon(String name);
 	List<Pokemon.EvolutionStage> getPokemonEvolutionChain(String pokemonName);
 	List<String> getPokemonLocationAreaEncounters(String pokemonName);
+	List<Pokemon.Encounter> getPokemonEncounters(String pokemonName);
 	List<Pokemon.Abilities> getPokemonAbilities(String pokemonName);
 }
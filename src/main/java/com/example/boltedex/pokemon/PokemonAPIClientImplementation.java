@@ -1,34 +1,68 @@
 package com.example.boltedex.pokemon;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.lang.Nullable;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.data.redis.core.ZSetOperations;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.example.boltedex.cache.CacheCodec;
+import com.example.boltedex.cache.CacheKeys;
+import com.example.boltedex.cache.CachePolicy;
+import com.example.boltedex.cache.HotKeyTracker;
+import com.example.boltedex.cache.LocalFallbackCache;
+import com.example.boltedex.cache.PokemonNamesRefreshedEvent;
+import com.example.boltedex.cache.RefreshDataset;
+import com.example.boltedex.cache.RedisHealthMonitor;
+import com.example.boltedex.cache.SortedSetWriter;
+import com.example.boltedex.cache.TieredCache;
+import com.example.boltedex.cache.TieredCacheRegistry;
+import com.example.boltedex.cache.WarmupProgress;
+import com.example.boltedex.encounter.EncounterCodec;
+import com.example.boltedex.encounter.LocationIndex;
 import com.example.boltedex.exception.APIException;
 import com.example.boltedex.exception.ExceptionConstants;
-
+import com.example.boltedex.search.FuzzyNameIndex;
+import com.example.boltedex.search.KnownNameFilter;
+import com.example.boltedex.search.NameSuggestIndex;
+import com.example.boltedex.search.PokedexIndex;
+import com.example.boltedex.search.PokedexQuery;
+import com.example.boltedex.timing.RequestTiming;
+import com.example.boltedex.upstream.EndpointBulkhead;
+import com.example.boltedex.upstream.LoadShedException;
+import jakarta.annotation.PostConstruct;
+
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.time.Duration;
 import java.time.Instant;
 
 @Service
 public class PokemonAPIClientImplementation implements PokemonAPIClient {
 
+	private static final Logger logger = LoggerFactory.getLogger(PokemonAPIClientImplementation.class);
+
 	private static final String POKEAPI_BASE_URL = "https://pokeapi.co/api/v2";
-	private static final String POKEMON_NAMES_ZSET_KEY = "pokemon:names:sorted";
-	private static final String POKEMON_DETAIL_CACHE_PREFIX = "pokemon:detail:";
-	private static final String POKEMON_SEARCH_PREFIX = "pokemon:search:";
-	private static final String POKEMON_EVOLUTION_CHAIN_CACHE_PREFIX = "pokemon:evolution:chain:";
-	private static final String POKEMON_LOCATION_AREA_ENCOUNTERS_CACHE_PREFIX = "pokemon:location:encounters:";
-	private static final String POKEMON_SPECIES_CACHE_PREFIX = "pokemon:species:";
-	private static final String POKEMON_ABILITIES_CACHE_PREFIX = "pokemon:abilities:";
-	private static final int CACHE_TTL_HOURS = 24;
-	private static final int CACHE_SEARCH_TTL_HOURS = 1;
+	private static final int NAME_INDEX_TTL_HOURS = 24;
+	private static final int MAX_SUGGESTIONS = 50;
+
+	@Value("${pokeapi.base-url:" + POKEAPI_BASE_URL + "}")
+	private String pokeApiBaseUrl = POKEAPI_BASE_URL;
 
 	@Autowired
 	private RedisTemplate<String, Pokemon> pokemonRedisTemplate;
@@ -42,28 +76,179 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 	@Autowired
 	private RestTemplate restTemplate;
 
+	@Autowired
+	private TieredCacheRegistry tieredCacheRegistry;
+
+	@Autowired
+	private RedisHealthMonitor redisHealthMonitor;
+
+	@Autowired
+	private LocalFallbackCache localFallbackCache;
+
+	@Autowired
+	private PokedexIndex pokedexIndex;
+
+	@Autowired
+	private FuzzyNameIndex fuzzyNameIndex;
+
+	@Autowired
+	private NameSuggestIndex nameSuggestIndex;
+
+	@Autowired
+	private KnownNameFilter knownNameFilter;
+
+	@Autowired
+	private LocationIndex locationIndex;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private HotKeyTracker hotKeyTracker;
+
+	@Autowired
+	private WarmupProgress warmupProgress;
+
+	@Autowired
+	@Qualifier("pokemonFetchExecutor")
+	private Executor pokemonFetchExecutor;
+
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
+	private final Object nameIndexLock = new Object();
+
+	private TieredCache<Pokemon> detailCache;
+	private TieredCache<JsonNode> speciesCache;
+	private TieredCache<JsonNode> evolutionCache;
+	private TieredCache<List<Pokemon.Encounter>> encounterCache;
+	private TieredCache<List<Pokemon.Abilities>> abilitiesCache;
+	private TieredCache<String> missingCache;
+
+	/**
+	 * One cache per dataset; TTLs, local tier size and refresh behavior come from cache.dataset.* properties
+	 */
+	@PostConstruct
+	void initCaches() {
+		CacheCodec<String, JsonNode> json = CacheCodec.of(this::parseJson, this::writeJson);
+		detailCache = tieredCacheRegistry.create(TieredCacheRegistry.DETAIL,
+				CacheKeys.POKEMON_DETAIL_CACHE_PREFIX, pokemonRedisTemplate, CacheCodec.identity());
+		speciesCache = tieredCacheRegistry.create(TieredCacheRegistry.SPECIES,
+				CacheKeys.POKEMON_SPECIES_CACHE_PREFIX, stringRedisTemplate, json);
+		evolutionCache = tieredCacheRegistry.create(TieredCacheRegistry.EVOLUTION,
+				CacheKeys.POKEMON_EVOLUTION_CHAIN_CACHE_PREFIX, stringRedisTemplate, json);
+		// Entries in the older area-name-only format do not decode and are refetched
+		encounterCache = tieredCacheRegistry.create(TieredCacheRegistry.ENCOUNTERS,
+				CacheKeys.POKEMON_LOCATION_AREA_ENCOUNTERS_CACHE_PREFIX, stringRedisTemplate,
+				CacheCodec.of(EncounterCodec::decode, EncounterCodec::encode));
+		// Abilities cached before descriptions were fetched count as misses; empty lists are not cached
+		abilitiesCache = tieredCacheRegistry.create(TieredCacheRegistry.ABILITIES,
+				CacheKeys.POKEMON_ABILITIES_CACHE_PREFIX, abilitiesRedisTemplate,
+				CacheCodec.of(
+					abilities -> abilities.isEmpty() || abilities.get(0).getDescription().isEmpty() ? null : abilities,
+					abilities -> abilities.isEmpty() ? null : abilities));
+		missingCache = tieredCacheRegistry.create(TieredCacheRegistry.MISSING,
+				CacheKeys.POKEMON_MISSING_PREFIX, stringRedisTemplate, CacheCodec.identity());
+	}
+
 	@Override
 	public PokemonAPIClientDTO getPokemons(String cursor, int limit, @Nullable String searchQuery) {
+		PageNames page = getPageNames(cursor, limit, searchQuery);
+		return new PokemonAPIClientDTO(fetchPokemons(page.names), page.nextCursor(), page.totalCount);
+	}
+
+	/**
+	 * Same page as getPokemons, but each Pokemon is handed to onResolved as soon as it is available:
+	 * cached ones immediately, cache misses concurrently in completion order
+	 */
+	@Override
+	public PokemonAPIClientDTO streamPokemons(String cursor, int limit, @Nullable String searchQuery,
+			Consumer<Pokemon> onResolved) {
+		PageNames page = getPageNames(cursor, limit, searchQuery);
+		Pokemon[] resolved = new Pokemon[page.names.size()];
+		ExecutorCompletionService<Integer> completion = new ExecutorCompletionService<>(pokemonFetchExecutor);
+
+		Map<String, Pokemon> cached = detailCache.getAllPresent(page.names);
+		if (cached.size() < page.names.size()) {
+			// Take the request's bulkhead slot before anything is written, so a cold page is still shed
+			// with a 503; the fetch pool threads below work under it
+			EndpointBulkhead.enterUpstream();
+		}
+		int pending = 0;
+		for (int i = 0; i < resolved.length; i++) {
+			String name = page.names.get(i);
+			Pokemon pokemon = cached.get(name);
+			if (pokemon != null) {
+				resolved[i] = pokemon;
+				onResolved.accept(pokemon);
+				continue;
+			}
+			int index = i;
+			try {
+				completion.submit(() -> {
+					resolved[index] = fetchAndCachePokemon(name);
+					return index;
+				});
+				pending++;
+			} catch (RejectedExecutionException rejected) {
+				// The fetch pool is saturated and the response is already committed: resolve it here
+				resolved[i] = fetchStreamedPokemon(name);
+				if (resolved[i] != null) {
+					onResolved.accept(resolved[i]);
+				}
+			}
+		}
+
+		for (; pending > 0; pending--) {
+			try {
+				Pokemon pokemon = resolved[completion.take().get()];
+				if (pokemon != null) {
+					onResolved.accept(pokemon);
+				}
+			} catch (ExecutionException error) {
+				// One failing upstream fetch should not fail the whole page
+				logger.warn("Skipping Pokemon on streamed page: {}", error.getCause().getMessage());
+			} catch (InterruptedException error) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+
+		List<Pokemon> pokemons = new ArrayList<>(resolved.length);
+		for (Pokemon pokemon : resolved) {
+			if (pokemon != null) {
+				pokemons.add(pokemon);
+			}
+		}
+		return new PokemonAPIClientDTO(pokemons, page.nextCursor(), page.totalCount);
+	}
+
+	/**
+	 * Names on the requested page and the total match count, from Redis or the local name copy
+	 */
+	private PageNames getPageNames(String cursor, int limit, @Nullable String searchQuery) {
+		if (!redisHealthMonitor.isAvailable()) {
+			return getPageNamesDegraded(cursor, limit, searchQuery);
+		}
+		long started = RequestTiming.start();
 		try {
-			if (stringRedisTemplate.opsForZSet().size(POKEMON_NAMES_ZSET_KEY) == 0) {
+			if (stringRedisTemplate.opsForZSet().size(CacheKeys.POKEMON_NAMES_ZSET_KEY) == 0) {
 				fetchAndCacheAllPokemonNames();
 			}
 			ZSetOperations<String, String> zSetOps = stringRedisTemplate.opsForZSet();
 			String key = (searchQuery != null && !searchQuery.trim().isEmpty())
-					? POKEMON_SEARCH_PREFIX + searchQuery.toLowerCase().trim()
-					: POKEMON_NAMES_ZSET_KEY;
+					? CacheKeys.POKEMON_SEARCH_PREFIX + searchQuery.toLowerCase().trim()
+					: CacheKeys.POKEMON_NAMES_ZSET_KEY;
 
 			List<String> pokemonNames = getPaginatedPokemonNames(cursor, limit, searchQuery);
-			List<Pokemon> pokemons = fetchPokemons(pokemonNames);
-
-			String nextCursor = (pokemonNames.isEmpty()) ? null : pokemonNames.get(pokemonNames.size() - 1);
 			Long size = zSetOps.size(key);
 			long totalCount = size != null ? size : 0;
 
-			return new PokemonAPIClientDTO(pokemons, nextCursor, totalCount);
+			return new PageNames(pokemonNames, totalCount);
 		} catch (Exception error) {
+			rethrowIfShed(error);
+			if (redisHealthMonitor.reportFailure(error)) {
+				return getPageNamesDegraded(cursor, limit, searchQuery);
+			}
 			throw new APIException(
 				String.format(ExceptionConstants.UNEXPECTED_ERROR_MESSAGE, "Pokemons"),
 				ExceptionConstants.CACHE_ERROR,
@@ -71,25 +256,108 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 				Instant.now().toString(),
 				error
 			);
+		} finally {
+			RequestTiming.stop(RequestTiming.Phase.REDIS, started);
 		}
 	}
 	
-	public Pokemon getPokemon(String name) {
+	/**
+	 * Filter and sort by stats and types over the in-memory index; only the page is loaded from the cache.
+	 * While the details preload is still filling the index, answers 503 rather than a partial result.
+	 */
+	@Override
+	public PokemonAPIClientDTO searchPokemons(String cursor, int limit, PokedexQuery query) {
+		long knownNames = searchIndexLoadingBehind();
+		if (knownNames > 0) {
+			throw new APIException(
+				String.format(ExceptionConstants.SEARCH_INDEX_LOADING_MESSAGE, pokedexIndex.size(), knownNames),
+				ExceptionConstants.CACHE_ERROR,
+				ExceptionConstants.SERVICE_UNAVAILABLE,
+				Instant.now().toString()
+			);
+		}
+		PokedexIndex.Page page = pokedexIndex.search(query, cursor, limit);
+		List<Pokemon> pokemons = fetchPokemons(page.getNames());
+		String nextCursor = page.getNames().isEmpty() ? null : page.getNames().get(page.getNames().size() - 1);
+		return new PokemonAPIClientDTO(pokemons, nextCursor, page.getTotalCount());
+	}
+
+	/**
+	 * Typo-tolerant name search ranked by edit distance; the cursor is the last name of the previous page
+	 */
+	@Override
+	public PokemonAPIClientDTO fuzzySearchPokemons(String cursor, int limit, String searchQuery) {
 		try {
-			String cacheKey = POKEMON_DETAIL_CACHE_PREFIX + name;
-			Pokemon cachedPokemon = pokemonRedisTemplate.opsForValue().get(cacheKey);
+			if (fuzzyNameIndex.isEmpty()) {
+				fuzzyNameIndex.rebuild(loadPokemonNames());
+			}
+			List<String> matches = fuzzyNameIndex.search(searchQuery);
 
-			if (cachedPokemon != null) {
-				return cachedPokemon;
+			int startIndex = 0;
+			if (cursor != null && !cursor.isEmpty()) {
+				startIndex = matches.indexOf(cursor) + 1;
 			}
+			int endIndex = Math.min(matches.size(), startIndex + limit);
+			List<String> pokemonNames = startIndex < endIndex
+					? matches.subList(startIndex, endIndex)
+					: Collections.emptyList();
 
-			Pokemon pokemon = fetchPokemonFromAPI(name);
-			if (pokemon != null) {
-				pokemonRedisTemplate.opsForValue().set(cacheKey, pokemon, CACHE_TTL_HOURS, TimeUnit.HOURS);
+			List<Pokemon> pokemons = fetchPokemons(pokemonNames);
+			String nextCursor = pokemonNames.isEmpty() ? null : pokemonNames.get(pokemonNames.size() - 1);
+			return new PokemonAPIClientDTO(pokemons, nextCursor, matches.size());
+		} catch (Exception error) {
+			rethrowIfShed(error);
+			throw new APIException(
+				String.format(ExceptionConstants.UNEXPECTED_ERROR_MESSAGE, "Pokemons"),
+				ExceptionConstants.CACHE_ERROR,
+				ExceptionConstants.SERVICE_UNAVAILABLE,
+				Instant.now().toString(),
+				error
+			);
+		}
+	}
+
+	/**
+	 * Autocomplete from the in-memory name trie; id and sprite come from the Pokedex index,
+	 * so no search keys are written and no details are fetched
+	 */
+	@Override
+	public List<PokemonSuggestionDTO> suggestPokemons(String prefix, int limit) {
+		try {
+			if (nameSuggestIndex.isEmpty()) {
+				nameSuggestIndex.rebuild(loadPokemonNames());
 			}
+			List<String> names = nameSuggestIndex.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
 
-			return pokemon;
+			List<PokemonSuggestionDTO> suggestions = new ArrayList<>(names.size());
+			for (String name : names) {
+				suggestions.add(new PokemonSuggestionDTO(name, pokedexIndex.getId(name), pokedexIndex.getSprite(name)));
+			}
+			return suggestions;
 		} catch (Exception error) {
+			throw new APIException(
+				String.format(ExceptionConstants.UNEXPECTED_ERROR_MESSAGE, "Pokemon suggestions"),
+				ExceptionConstants.CACHE_ERROR,
+				ExceptionConstants.SERVICE_UNAVAILABLE,
+				Instant.now().toString(),
+				error
+			);
+		}
+	}
+
+	public Pokemon getPokemon(String name) {
+		// Names the index has never seen are answered here, without touching Redis or PokeAPI
+		if (!knownNameFilter.mightContain(name)) {
+			throw pokemonNotFound(name);
+		}
+		Pokemon pokemon;
+		try {
+			pokemon = detailCache.get(name, this::loadPokemon);
+		} catch (Exception error) {
+			rethrowIfShed(error);
+			if (error instanceof APIException apiError && apiError.getStatusCode() == ExceptionConstants.NOT_FOUND) {
+				throw apiError;
+			}
 			throw new APIException(
 				String.format(ExceptionConstants.UNEXPECTED_ERROR_MESSAGE, "Pokemon"),
 				ExceptionConstants.INTERNAL_ERROR,
@@ -98,40 +366,111 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 				error
 			);
 		}
+		// Only names that loaded count as hot, so misses and failing names never get prewarmed or refreshed
+		if (pokemon != null) {
+			hotKeyTracker.record(RefreshDataset.DETAILS, name);
+		}
+		return pokemon;
 	}
 
+	/**
+	 * Rebuild the missing name index. Concurrent first pages wait for one fetch instead of each
+	 * fetching the full list, and the index is swapped in whole.
+	 */
 	private void fetchAndCacheAllPokemonNames() {
-		try {
-			String url = POKEAPI_BASE_URL + "/pokemon?limit=2000";
-			JsonNode response = restTemplate.getForObject(url, JsonNode.class);
+		synchronized (nameIndexLock) {
+			Long size = stringRedisTemplate.opsForZSet().size(CacheKeys.POKEMON_NAMES_ZSET_KEY);
+			if (size != null && size > 0) {
+				return;
+			}
+			try {
+				List<String> names = fetchAllPokemonNames();
 
-			if (response == null) {
+				SortedSetWriter.replace(stringRedisTemplate, CacheKeys.POKEMON_NAMES_ZSET_KEY, names,
+						NAME_INDEX_TTL_HOURS, TimeUnit.HOURS);
+				eventPublisher.publishEvent(new PokemonNamesRefreshedEvent(names));
+			} catch (Exception error) {
+				rethrowIfShed(error);
 				throw new APIException(
-					ExceptionConstants.POKEMON_API_ERROR_MESSAGE,
-					ExceptionConstants.API_ERROR,
-					ExceptionConstants.BAD_GATEWAY,
-					Instant.now().toString()
+					ExceptionConstants.POKEMON_API_FETCH_CACHE_ERROR_MESSAGE,
+					ExceptionConstants.CACHE_ERROR,
+					ExceptionConstants.SERVICE_UNAVAILABLE,
+					Instant.now().toString(),
+					error
 				);
 			}
+		}
+	}
 
-			JsonNode results = response.get("results");
-			if (results != null) {
-				ZSetOperations<String, String> ZSetOps = stringRedisTemplate.opsForZSet();
-				for (JsonNode result : results) {
-					String name = result.get("name").asText();
-					ZSetOps.add(POKEMON_NAMES_ZSET_KEY, name, 0);
-				}
-				stringRedisTemplate.expire(POKEMON_NAMES_ZSET_KEY, CACHE_TTL_HOURS, TimeUnit.HOURS);
-			}
-		} catch (Exception error) {
+	/**
+	 * Fetch every Pokemon name from the API and keep the in-memory copy of the name index current
+	 */
+	private List<String> fetchAllPokemonNames() {
+		String url = pokeApiBaseUrl + "/pokemon?limit=2000";
+		JsonNode response = fetchJson(url);
+
+		if (response == null) {
 			throw new APIException(
-				ExceptionConstants.POKEMON_API_FETCH_CACHE_ERROR_MESSAGE,
-				ExceptionConstants.CACHE_ERROR,
-				ExceptionConstants.SERVICE_UNAVAILABLE,
-				Instant.now().toString(),
-				error
+				ExceptionConstants.POKEMON_API_ERROR_MESSAGE,
+				ExceptionConstants.API_ERROR,
+				ExceptionConstants.BAD_GATEWAY,
+				Instant.now().toString()
 			);
 		}
+
+		List<String> names = new ArrayList<>();
+		JsonNode results = response.get("results");
+		if (results != null) {
+			for (JsonNode result : results) {
+				names.add(result.get("name").asText());
+			}
+			localFallbackCache.setNames(names);
+		}
+		return names;
+	}
+
+	/**
+	 * Current name index from Redis, or from the local copy while Redis is unreachable
+	 */
+	/**
+	 * Number of known names while the details preload runs and the index holds fewer rows, otherwise 0
+	 */
+	private long searchIndexLoadingBehind() {
+		if (!warmupProgress.isLoading(WarmupProgress.DETAILS)) {
+			return 0;
+		}
+		long knownNames = localFallbackCache.getNames().size();
+		if (redisHealthMonitor.isAvailable()) {
+			try {
+				Long size = stringRedisTemplate.opsForZSet().size(CacheKeys.POKEMON_NAMES_ZSET_KEY);
+				knownNames = Math.max(knownNames, size != null ? size : 0);
+			} catch (RuntimeException error) {
+				redisHealthMonitor.reportFailure(error);
+			}
+		}
+		// Nothing indexed and no names known yet is still loading
+		knownNames = Math.max(knownNames, 1);
+		return pokedexIndex.size() < knownNames ? knownNames : 0;
+	}
+
+	private List<String> loadPokemonNames() {
+		if (redisHealthMonitor.isAvailable()) {
+			long started = RequestTiming.start();
+			try {
+				Set<String> names = stringRedisTemplate.opsForZSet().range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, -1);
+				if (names != null && !names.isEmpty()) {
+					return new ArrayList<>(names);
+				}
+			} catch (RuntimeException error) {
+				if (!redisHealthMonitor.reportFailure(error)) {
+					throw error;
+				}
+			} finally {
+				RequestTiming.stop(RequestTiming.Phase.REDIS, started);
+			}
+		}
+		List<String> names = localFallbackCache.getNames();
+		return names.isEmpty() ? fetchAllPokemonNames() : names;
 	}
 
 	private List<String> getPaginatedPokemonNames(String cursor, int limit, @Nullable String searchQuery) {
@@ -142,23 +481,23 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 		}
 
 		if (cursor == null || cursor.isEmpty()) {
-			Set<String> names = zSetOps.range(POKEMON_NAMES_ZSET_KEY, 0, limit - 1);
+			Set<String> names = zSetOps.range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, limit - 1);
 			return new ArrayList<>(names);
 		} else {
-			Long cursorRank = zSetOps.rank(POKEMON_NAMES_ZSET_KEY, cursor);
+			Long cursorRank = zSetOps.rank(CacheKeys.POKEMON_NAMES_ZSET_KEY, cursor);
 			if (cursorRank == null) {
-				Set<String> names = zSetOps.range(POKEMON_NAMES_ZSET_KEY, 0, limit - 1);
+				Set<String> names = zSetOps.range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, limit - 1);
 				return new ArrayList<>(names);
 			}
 			long startIndex = cursorRank + 1;
 			long endIndex = startIndex + limit - 1;
-			Set<String> names = zSetOps.range(POKEMON_NAMES_ZSET_KEY, startIndex, endIndex);
+			Set<String> names = zSetOps.range(CacheKeys.POKEMON_NAMES_ZSET_KEY, startIndex, endIndex);
 			return new ArrayList<>(names);
 		}
 	}
 
 	private List<String> getPaginatedSearchResults(String cursor, int limit, String searchQuery) {
-		String searchCacheKey = POKEMON_SEARCH_PREFIX + searchQuery;
+		String searchCacheKey = CacheKeys.POKEMON_SEARCH_PREFIX + searchQuery;
 		ZSetOperations<String, String> zSetOps = stringRedisTemplate.opsForZSet();
 
 		// Check if search results are cached (ensure all elements have score 0)
@@ -186,32 +525,40 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 
 	private void cacheSearchResults(String searchQuery, String cacheKey) {
 		ZSetOperations<String, String> zSetOps = stringRedisTemplate.opsForZSet();
-		Set<String> allNames = zSetOps.range(POKEMON_NAMES_ZSET_KEY, 0, -1);
+		Set<String> allNames = zSetOps.range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, -1);
 
 		if (allNames == null) {
 			allNames = new HashSet<>();
 		}
 
+		List<String> matches = new ArrayList<>();
 		for (String name : allNames) {
 			if (name.toLowerCase().contains(searchQuery)) {
-				zSetOps.add(cacheKey, name, 0);
+				matches.add(name);
 			}
 		}
 
-		stringRedisTemplate.expire(cacheKey, CACHE_SEARCH_TTL_HOURS, TimeUnit.HOURS);
+		// Swapped in whole so concurrent searches never page through a half-written set; a miss writes nothing
+		CachePolicy searchPolicy = tieredCacheRegistry.policy(TieredCacheRegistry.SEARCH);
+		SortedSetWriter.replace(stringRedisTemplate, cacheKey, matches,
+				searchPolicy.getTtlAmount(), searchPolicy.getTtlUnit());
 	}
 
 	private List<Pokemon> fetchPokemons(List<String> pokemonNames) {
+		Map<String, Pokemon> cached = detailCache.getAllPresent(pokemonNames);
 		List<Pokemon> pokemons = new ArrayList<>();
 		for (String name : pokemonNames) {
-			String cacheKey = POKEMON_DETAIL_CACHE_PREFIX + name;
-			Pokemon pokemon = pokemonRedisTemplate.opsForValue().get(cacheKey);
-
+			Pokemon pokemon = cached.get(name);
 			if (pokemon == null) {
-				pokemon = fetchPokemonFromAPI(name);
-
-				if (pokemon != null) {
-					pokemonRedisTemplate.opsForValue().set(cacheKey, pokemon, CACHE_TTL_HOURS, TimeUnit.HOURS);
+				try {
+					pokemon = fetchAndCachePokemon(name);
+				} catch (LoadShedException error) {
+					// Shed pages fail as a whole, so the client retries instead of seeing a page with gaps
+					throw error;
+				} catch (APIException error) {
+					// One failing upstream fetch should not fail the whole page
+					logger.warn("Skipping Pokemon {} on page: {}", name, error.getMessage());
+					continue;
 				}
 			}
 			if (pokemon != null) {
@@ -221,12 +568,91 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 		return pokemons;
 	}
 
+	private Pokemon fetchAndCachePokemon(String name) {
+		return detailCache.load(name, this::loadPokemon);
+	}
+
+	private Pokemon fetchStreamedPokemon(String name) {
+		try {
+			return fetchAndCachePokemon(name);
+		} catch (Exception error) {
+			logger.warn("Skipping Pokemon on streamed page: {}", error.getMessage());
+			return null;
+		}
+	}
+
+	private Pokemon loadPokemon(String name) {
+		Pokemon pokemon = fetchPokemonFromAPI(name);
+		if (pokemon != null) {
+			pokedexIndex.upsert(pokemon);
+		}
+		return pokemon;
+	}
+
+	/**
+	 * Page names from the in-memory name index while Redis is unreachable
+	 */
+	private PageNames getPageNamesDegraded(String cursor, int limit, @Nullable String searchQuery) {
+		try {
+			List<String> names = localFallbackCache.getNames();
+			if (names.isEmpty()) {
+				fetchAllPokemonNames();
+				names = localFallbackCache.getNames();
+			}
+
+			List<String> matches = names;
+			if (searchQuery != null && !searchQuery.trim().isEmpty()) {
+				String query = searchQuery.toLowerCase().trim();
+				matches = new ArrayList<>();
+				for (String name : names) {
+					if (name.toLowerCase().contains(query)) {
+						matches.add(name);
+					}
+				}
+			}
+
+			int startIndex = 0;
+			if (cursor != null && !cursor.isEmpty()) {
+				int cursorIndex = Collections.binarySearch(matches, cursor);
+				startIndex = cursorIndex >= 0 ? cursorIndex + 1 : 0;
+			}
+			int endIndex = Math.min(matches.size(), startIndex + limit);
+			List<String> pokemonNames = startIndex < endIndex
+					? matches.subList(startIndex, endIndex)
+					: Collections.emptyList();
+
+			return new PageNames(pokemonNames, matches.size());
+		} catch (Exception error) {
+			rethrowIfShed(error);
+			throw new APIException(
+				String.format(ExceptionConstants.UNEXPECTED_ERROR_MESSAGE, "Pokemons"),
+				ExceptionConstants.API_ERROR,
+				ExceptionConstants.BAD_GATEWAY,
+				Instant.now().toString(),
+				error
+			);
+		}
+	}
+
 	private Pokemon fetchPokemonFromAPI(String name) {
+		if (missingCache.getIfPresent(name) != null) {
+			throw pokemonNotFound(name);
+		}
 		try {
-			String url = POKEAPI_BASE_URL + "/pokemon/" + name;
-			JsonNode pokemonData = restTemplate.getForObject(url, JsonNode.class);
-			return mapToPokemon(pokemonData);
+			String url = pokeApiBaseUrl + "/pokemon/" + name;
+			JsonNode pokemonData = fetchJson(url);
+			long started = RequestTiming.start();
+			try {
+				return mapToPokemon(pokemonData);
+			} finally {
+				RequestTiming.stop(RequestTiming.Phase.JSON, started);
+			}
+		} catch (HttpClientErrorException.NotFound error) {
+			// Remember upstream misses briefly so repeated lookups of the same name stay in-process
+			missingCache.put(name, "1");
+			throw pokemonNotFound(name);
 		} catch (Exception error) {
+			rethrowIfShed(error);
 			throw new APIException(
 				ExceptionConstants.POKEMEMON_API_FETCH_INSTANCE_ERROR_MESSAGE,
 				ExceptionConstants.INTERNAL_ERROR,
@@ -237,6 +663,24 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 		}
 	}
 
+	/**
+	 * Shed requests keep their 503 and Retry-After instead of turning into a failed fetch
+	 */
+	private static void rethrowIfShed(Exception error) {
+		if (error instanceof LoadShedException shed) {
+			throw shed;
+		}
+	}
+
+	private static APIException pokemonNotFound(String name) {
+		return new APIException(
+			String.format(ExceptionConstants.POKEMON_NOT_FOUND_MESSAGE, name),
+			ExceptionConstants.NOT_FOUND_ERROR,
+			ExceptionConstants.NOT_FOUND,
+			Instant.now().toString()
+		);
+	}
+
 	public Pokemon mapToPokemon(JsonNode data) {
 		Pokemon pokemon = new Pokemon();
 
@@ -253,24 +697,6 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 		}
 		pokemon.setTypes(types);
 
-		// Map weaknesses and resistances
-		Map<String, Double> weaknesses = new HashMap<>();
-		Map<String, Double> resistances = new HashMap<>();
-		Map<String, Double> immunities = new HashMap<>();
-		for (String attackType : PokemonTypeEffectiveness.TYPES) {
-			double effectiveness = PokemonTypeEffectiveness.getEffectiveness(attackType, types);
-			if (effectiveness > 1.0) {
-				weaknesses.put(attackType, effectiveness);
-			} else if (effectiveness == 0.0) {
-				immunities.put(attackType, effectiveness);
-			} else if (effectiveness < 1.0) {
-				resistances.put(attackType, effectiveness);
-			}
-		}
-		pokemon.setWeaknesses(weaknesses);
-		pokemon.setResistances(resistances);
-		pokemon.setImmunities(immunities);
-
 		// Map stats
 		Pokemon.Stats stats = new Pokemon.Stats();
 		JsonNode statsArray = data.get("stats");
@@ -301,52 +727,37 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 		}
 		pokemon.setBaseStats(stats);
 
-		Pokemon.Sprites sprites = new Pokemon.Sprites();
-		JsonNode spritesNode = data.path("sprites");
+		pokemon.setSprites(mapSprites(data.path("sprites")));
 
-		// Try showdown .gif sprites first
-		JsonNode showdownNode = spritesNode.path("other").path("showdown");
+		return pokemon;
+	}
 
-		if (!showdownNode.isMissingNode() && !showdownNode.isNull()) {
-			sprites.setFrontDefault(showdownNode.path("front_default").asText(null));
-			sprites.setBackDefault(showdownNode.path("back_default").asText(null));
-			sprites.setFrontShiny(showdownNode.path("front_shiny").asText(null));
-			sprites.setBackShiny(showdownNode.path("back_shiny").asText(null));
-		}
+	/**
+	 * Showdown .gif sprites, with the static .png sprites for Pokemon that have no showdown art.
+	 * Details and evolution stages share this mapping.
+	 */
+	private static Pokemon.Sprites mapSprites(JsonNode spritesNode) {
+		Pokemon.Sprites sprites = new Pokemon.Sprites();
+		JsonNode showdownNode = spritesNode.path("other").path("showdown");
 
-		pokemon.setSprites(sprites);
+		sprites.setFrontDefault(sprite(showdownNode, spritesNode, "front_default"));
+		sprites.setBackDefault(sprite(showdownNode, spritesNode, "back_default"));
+		sprites.setFrontShiny(sprite(showdownNode, spritesNode, "front_shiny"));
+		sprites.setBackShiny(sprite(showdownNode, spritesNode, "back_shiny"));
+		return sprites;
+	}
 
-		return pokemon;
+	private static String sprite(JsonNode showdownNode, JsonNode spritesNode, String field) {
+		String showdown = showdownNode.path(field).asText(null);
+		return showdown != null ? showdown : spritesNode.path(field).asText(null);
 	}
 
 	public List<Pokemon.EvolutionStage> getPokemonEvolutionChain(String pokemonName) {
+		List<Pokemon.EvolutionStage> chain;
 		try {
-			// Step 1: Get species data to find evolution chain URL
-			JsonNode speciesData = getSpeciesData(pokemonName);
-			if (speciesData == null || !speciesData.has("evolution_chain") ||
-					speciesData.get("evolution_chain") == null ||
-					!speciesData.get("evolution_chain").has("url")) {
-				return new ArrayList<>();
-			}
-
-			String evolutionChainUrl = speciesData.get("evolution_chain").get("url").asText();
-
-			if (evolutionChainUrl.endsWith("/")) {
-				evolutionChainUrl = evolutionChainUrl.substring(0, evolutionChainUrl.length() - 1);
-			}
-
-			// Now extract the last segment
-			String chainId = evolutionChainUrl.substring(evolutionChainUrl.lastIndexOf('/') + 1);
-
-			// Step 2: Get evolution chain data (cached)
-			JsonNode evolutionChainData = getEvolutionChainData(chainId);
-			if (evolutionChainData == null || !evolutionChainData.has("chain")) {
-				return new ArrayList<>();
-			}
-
-			// Step 3: Parse evolution chain recursively
-			return parseEvolutionChain(evolutionChainData.get("chain"));
+			chain = loadEvolutionChain(pokemonName);
 		} catch (Exception error) {
+			rethrowIfShed(error);
 			throw new APIException(
 				String.format(ExceptionConstants.UNEXPECTED_ERROR_MESSAGE, "Evolution chain"),
 				ExceptionConstants.INTERNAL_ERROR,
@@ -355,86 +766,96 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 				error
 			);
 		}
+		hotKeyTracker.record(RefreshDataset.EVOLUTION, pokemonName);
+		return chain;
 	}
 
-	private JsonNode getSpeciesData(String pokemonName) {
-		String cacheKey = POKEMON_SPECIES_CACHE_PREFIX + pokemonName;
-		String cachedData = stringRedisTemplate.opsForValue().get(cacheKey);
+	private List<Pokemon.EvolutionStage> loadEvolutionChain(String pokemonName) {
+		// Step 1: Get species data to find evolution chain URL
+		JsonNode speciesData = getSpeciesData(pokemonName);
+		if (speciesData == null || !speciesData.has("evolution_chain") ||
+				speciesData.get("evolution_chain") == null ||
+				!speciesData.get("evolution_chain").has("url")) {
+			return new ArrayList<>();
+		}
 
-		if (cachedData != null) {
-			try {
-				return objectMapper.readTree(cachedData);
-			} catch (Exception error) {
-				throw new APIException(
-					"Error parsing species data for: " + pokemonName,
-					ExceptionConstants.CACHE_ERROR,
-					ExceptionConstants.SERVICE_UNAVAILABLE,
-					Instant.now().toString(),
-					error
-				);
-			}
+		String chainId = evolutionChainId(speciesData);
+
+		// Step 2: Get evolution chain data (cached)
+		JsonNode evolutionChainData = getEvolutionChainData(chainId);
+		if (evolutionChainData == null || !evolutionChainData.has("chain")) {
+			return new ArrayList<>();
 		}
 
-		// Fetch from API
-		String url = POKEAPI_BASE_URL + "/pokemon-species/" + pokemonName;
-		JsonNode speciesData = restTemplate.getForObject(url, JsonNode.class);
+		// Step 3: Parse evolution chain recursively
+		return parseEvolutionChain(evolutionChainData.get("chain"));
+	}
 
-		// Cache the result
-		try {
-			stringRedisTemplate.opsForValue().set(cacheKey,
-					objectMapper.writeValueAsString(speciesData),
-					CACHE_TTL_HOURS, TimeUnit.HOURS);
-		} catch (Exception error) {
-			throw new APIException(
-				String.format(ExceptionConstants.UNEXPECTED_ERROR_MESSAGE, "Species data"),
-				ExceptionConstants.CACHE_ERROR,
-				ExceptionConstants.SERVICE_UNAVAILABLE,
-				Instant.now().toString(),
-				error
-			);
+	private String evolutionChainId(JsonNode speciesData) {
+		String evolutionChainUrl = speciesData.get("evolution_chain").get("url").asText();
+
+		if (evolutionChainUrl.endsWith("/")) {
+			evolutionChainUrl = evolutionChainUrl.substring(0, evolutionChainUrl.length() - 1);
 		}
 
-		return speciesData;
+		// Now extract the last segment
+		return evolutionChainUrl.substring(evolutionChainUrl.lastIndexOf('/') + 1);
+	}
+
+	private JsonNode getSpeciesData(String pokemonName) {
+		return speciesCache.get(pokemonName, this::fetchSpeciesData);
+	}
+
+	private JsonNode fetchSpeciesData(String pokemonName) {
+		String url = pokeApiBaseUrl + "/pokemon-species/" + pokemonName;
+		return fetchJson(url);
 	}
 
 	private JsonNode getEvolutionChainData(String chainId) {
-		String cacheKey = POKEMON_EVOLUTION_CHAIN_CACHE_PREFIX + chainId;
-		String cachedData = stringRedisTemplate.opsForValue().get(cacheKey);
+		return evolutionCache.get(chainId, this::fetchEvolutionChainData);
+	}
 
-		if (cachedData != null) {
-			try {
-				return objectMapper.readTree(cachedData);
-			} catch (Exception error) {
-				throw new APIException(
-					ExceptionConstants.POKEMON_API_FETCH_EVOLUTION_CHAIN_ERROR_MESSAGE,
-					ExceptionConstants.CACHE_ERROR,
-					ExceptionConstants.SERVICE_UNAVAILABLE,
-					Instant.now().toString(),
-					error
-				);
-			}
-		}
+	private JsonNode fetchEvolutionChainData(String chainId) {
+		String url = pokeApiBaseUrl + "/evolution-chain/" + chainId;
+		return fetchJson(url);
+	}
 
-		// Fetch from API
-		String url = POKEAPI_BASE_URL + "/evolution-chain/" + chainId;
-		JsonNode chainData = restTemplate.getForObject(url, JsonNode.class);
+	/**
+	 * Cached species and evolution JSON; an unparseable entry is treated as a miss and refetched
+	 */
+	private JsonNode parseJson(String cached) {
+		long started = RequestTiming.start();
+		try {
+			return objectMapper.readTree(cached);
+		} catch (JsonProcessingException error) {
+			logger.warn("Discarding unparseable cache entry: {}", error.getOriginalMessage());
+			return null;
+		} finally {
+			RequestTiming.stop(RequestTiming.Phase.JSON, started);
+		}
+	}
 
-		// Cache the result
+	private String writeJson(JsonNode data) {
+		long started = RequestTiming.start();
 		try {
-			stringRedisTemplate.opsForValue().set(cacheKey,
-					objectMapper.writeValueAsString(chainData),
-					CACHE_TTL_HOURS, TimeUnit.HOURS);
-		} catch (Exception error) {
-			throw new APIException(
-				ExceptionConstants.POKEMON_API_FETCH_EVOLUTION_CHAIN_ERROR_MESSAGE,
-				ExceptionConstants.CACHE_ERROR,
-				ExceptionConstants.SERVICE_UNAVAILABLE,
-				Instant.now().toString(),
-				error
-			);
+			return objectMapper.writeValueAsString(data);
+		} catch (JsonProcessingException error) {
+			throw new UncheckedIOException(error);
+		} finally {
+			RequestTiming.stop(RequestTiming.Phase.JSON, started);
 		}
+	}
 
-		return chainData;
+	/**
+	 * GET a PokeAPI resource; the span covers the round trip and reading the JSON body
+	 */
+	private JsonNode fetchJson(String url) {
+		long started = RequestTiming.start();
+		try {
+			return restTemplate.getForObject(url, JsonNode.class);
+		} finally {
+			RequestTiming.stop(RequestTiming.Phase.UPSTREAM, started);
+		}
 	}
 
 	private List<Pokemon.EvolutionStage> parseEvolutionChain(JsonNode chainNode) {
@@ -467,66 +888,21 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 
 	private Pokemon.EvolutionStage createEvolutionStage(String pokemonName) {
 		try {
-			// Check if we already have this Pokemon's basic data cached
-			Pokemon cachedPokemon = pokemonRedisTemplate.opsForValue().get(POKEMON_DETAIL_CACHE_PREFIX + pokemonName);
-
-			if (cachedPokemon != null) {
-				// Use cached data
-				Pokemon.EvolutionStage stage = new Pokemon.EvolutionStage();
-				stage.setId(cachedPokemon.getId());
-				stage.setName(cachedPokemon.getName());
-				stage.setSprites(cachedPokemon.getSprites());
-				return stage;
-			}
+			// Stages come from the detail cache; a miss joins any load already running for the name,
+			// so concurrent chain lookups fetch each stage from PokeAPI once
+			Pokemon pokemon = detailCache.get(pokemonName, this::loadPokemon);
 
-			// Need to fetch basic Pokemon data for ID and sprites
-			String url = POKEAPI_BASE_URL + "/pokemon/" + pokemonName;
-			JsonNode pokemonData = restTemplate.getForObject(url, JsonNode.class);
-
-			if (pokemonData == null) {
+			if (pokemon == null) {
 				return null;
 			}
 
 			Pokemon.EvolutionStage stage = new Pokemon.EvolutionStage();
-			stage.setId(pokemonData.get("id").asInt());
-			stage.setName(pokemonData.get("name").asText());
-
-			Pokemon.Sprites sprites = new Pokemon.Sprites();
-			JsonNode spritesNode = pokemonData.path("sprites");
-
-			// Try showdown .gif sprites first
-			JsonNode showdownNode = spritesNode.path("other").path("showdown");
-
-			if (!showdownNode.isMissingNode() && !showdownNode.isNull()) {
-				sprites.setFrontDefault(showdownNode.path("front_default").asText(null));
-				sprites.setBackDefault(showdownNode.path("back_default").asText(null));
-				sprites.setFrontShiny(showdownNode.path("front_shiny").asText(null));
-				sprites.setBackShiny(showdownNode.path("back_shiny").asText(null));
-			}
-
-			// Fallback to static .png sprites if any are still missing
-			if (sprites.getFrontDefault() == null && spritesNode.has("front_default")
-					&& !spritesNode.get("front_default").isNull()) {
-				sprites.setFrontDefault(spritesNode.get("front_default").asText());
-			}
-			if (sprites.getBackDefault() == null && spritesNode.has("back_default")
-					&& !spritesNode.get("back_default").isNull()) {
-				sprites.setBackDefault(spritesNode.get("back_default").asText());
-			}
-			if (sprites.getFrontShiny() == null && spritesNode.has("front_shiny")
-					&& !spritesNode.get("front_shiny").isNull()) {
-				sprites.setFrontShiny(spritesNode.get("front_shiny").asText());
-			}
-			if (sprites.getBackShiny() == null && spritesNode.has("back_shiny")
-					&& !spritesNode.get("back_shiny").isNull()) {
-				sprites.setBackShiny(spritesNode.get("back_shiny").asText());
-			}
-
-			stage.setSprites(sprites);
-
+			stage.setId(pokemon.getId());
+			stage.setName(pokemon.getName());
+			stage.setSprites(pokemon.getSprites());
 			return stage;
-
 		} catch (Exception error) {
+			rethrowIfShed(error);
 			throw new APIException(
 				ExceptionConstants.POKEMON_API_FETCH_EVOLUTION_STAGE_ERROR_MESSAGE,
 				ExceptionConstants.INTERNAL_ERROR,
@@ -537,112 +913,236 @@ public class PokemonAPIClientImplementation implements PokemonAPIClient {
 		}
 	}
 
+	/**
+	 * Distinct location areas the Pokemon can be found in, derived from its encounter records
+	 */
 	public List<String> getPokemonLocationAreaEncounters(String pokemonName) {
+		Set<String> areas = new LinkedHashSet<>();
+		for (Pokemon.Encounter encounter : getPokemonEncounters(pokemonName)) {
+			areas.add(encounter.getLocationArea());
+		}
+		return new ArrayList<>(areas);
+	}
+
+	public List<Pokemon.Encounter> getPokemonEncounters(String pokemonName) {
 		try {
-			String cacheKey = POKEMON_LOCATION_AREA_ENCOUNTERS_CACHE_PREFIX + pokemonName;
-			String cachedData = stringRedisTemplate.opsForValue().get(cacheKey);
+			return encounterCache.get(pokemonName, this::fetchLocationAreaEncounters);
+		} catch (Exception error) {
+			rethrowIfShed(error);
+			throw new APIException(
+				ExceptionConstants.POKEMON_API_FETCH_LOCATION_AREA_ENCOUNTERS_ERROR_MESSAGE,
+				ExceptionConstants.API_ERROR,
+				ExceptionConstants.BAD_GATEWAY,
+				Instant.now().toString(),
+				error
+			);
+		}
+	}
 
-			if (cachedData != null) {
-				try {
-					return objectMapper.readValue(cachedData, new TypeReference<List<String>>() {});
-				} catch (Exception error) {
-					throw new APIException(
-						ExceptionConstants.POKEMON_API_FETCH_LOCATION_AREA_ENCOUNTERS_ERROR_MESSAGE,
-						ExceptionConstants.CACHE_ERROR,
-						ExceptionConstants.SERVICE_UNAVAILABLE,
-						Instant.now().toString(),
-						error
-					);
-				}
-			}
+	private List<Pokemon.Encounter> fetchLocationAreaEncounters(String pokemonName) {
+		String url = pokeApiBaseUrl + "/pokemon/" + pokemonName + "/encounters";
+		JsonNode encountersData = fetchJson(url);
 
-			String url = POKEAPI_BASE_URL + "/pokemon/" + pokemonName + "/encounters";
-			JsonNode encountersData = restTemplate.getForObject(url, JsonNode.class);
+		List<Pokemon.Encounter> encounters = mapToEncounters(encountersData);
 
-			List<String> encounters = new ArrayList<>();
+		// The previous records are still cached here, so areas the Pokemon has left can be dropped
+		List<Pokemon.Encounter> previous = encounterCache.getIfPresent(pokemonName);
+		locationIndex.record(pokemonName, previous, encounters);
 
-			if (encountersData != null && encountersData.isArray()) {
-				for (JsonNode encounterNode : encountersData) {
-					JsonNode locationArea = encounterNode.get("location_area");
-					if (locationArea != null && locationArea.has("name")) {
-						encounters.add(locationArea.get("name").asText());
+		return encounters;
+	}
+
+	/**
+	 * One record per (area, version, method): chances summed and level range widened across
+	 * PokeAPI's per-condition encounter_details rows
+	 */
+	private List<Pokemon.Encounter> mapToEncounters(JsonNode encountersData) {
+		Map<String, Pokemon.Encounter> merged = new LinkedHashMap<>();
+		if (encountersData == null || !encountersData.isArray()) {
+			return new ArrayList<>();
+		}
+		for (JsonNode encounterNode : encountersData) {
+			String area = encounterNode.path("location_area").path("name").asText(null);
+			if (area == null) {
+				continue;
+			}
+			for (JsonNode versionNode : encounterNode.path("version_details")) {
+				String version = versionNode.path("version").path("name").asText("unknown");
+				for (JsonNode detail : versionNode.path("encounter_details")) {
+					String method = detail.path("method").path("name").asText("unknown");
+					int minLevel = detail.path("min_level").asInt();
+					int maxLevel = detail.path("max_level").asInt();
+					Pokemon.Encounter encounter = merged.get(area + "/" + version + "/" + method);
+					if (encounter == null) {
+						encounter = new Pokemon.Encounter();
+						encounter.setLocationArea(area);
+						encounter.setVersion(version);
+						encounter.setMethod(method);
+						encounter.setMinLevel(minLevel);
+						encounter.setMaxLevel(maxLevel);
+						merged.put(area + "/" + version + "/" + method, encounter);
+					} else {
+						encounter.setMinLevel(Math.min(encounter.getMinLevel(), minLevel));
+						encounter.setMaxLevel(Math.max(encounter.getMaxLevel(), maxLevel));
 					}
+					encounter.setChance(Math.min(100, encounter.getChance() + detail.path("chance").asInt()));
 				}
 			}
+		}
+		return new ArrayList<>(merged.values());
+	}
 
-			// Cache the result
-			stringRedisTemplate.opsForValue().set(cacheKey,
-					objectMapper.writeValueAsString(encounters),
-					CACHE_TTL_HOURS, TimeUnit.HOURS);
-
-			return encounters;
-
+	public List<Pokemon.Abilities> getPokemonAbilities(String pokemonName) {
+		List<Pokemon.Abilities> abilities;
+		try {
+			abilities = abilitiesCache.get(pokemonName, this::fetchPokemonAbilities);
 		} catch (Exception error) {
+			rethrowIfShed(error);
 			throw new APIException(
-				ExceptionConstants.POKEMON_API_FETCH_LOCATION_AREA_ENCOUNTERS_ERROR_MESSAGE,
+				ExceptionConstants.POKEMON_API_FETCH_ABILITIES_ERROR_MESSAGE,
 				ExceptionConstants.API_ERROR,
 				ExceptionConstants.BAD_GATEWAY,
 				Instant.now().toString(),
 				error
 			);
 		}
+		if (abilities != null) {
+			hotKeyTracker.record(RefreshDataset.ABILITIES, pokemonName);
+		}
+		return abilities;
 	}
 
-	public List<Pokemon.Abilities> getPokemonAbilities(String pokemonName) {
-		try {
-			String cacheKey = POKEMON_ABILITIES_CACHE_PREFIX + pokemonName;
-			List<Pokemon.Abilities> cachedAbilities = abilitiesRedisTemplate.opsForValue().get(cacheKey);
-
-			if (cachedAbilities != null && !cachedAbilities.isEmpty()
-					&& !cachedAbilities.get(0).getDescription().isEmpty()) {
-				return cachedAbilities;
-			}
-
-			List<Pokemon.Abilities> abilities = new ArrayList<>();
-			String url = POKEAPI_BASE_URL + "/pokemon/" + pokemonName;
-			JsonNode pokemonData = restTemplate.getForObject(url, JsonNode.class);
-
-			if (pokemonData != null) {
-				JsonNode abilitiesNode = pokemonData.path("abilities");
-
-				for (JsonNode abilityNode : abilitiesNode) {
-					Pokemon.Abilities ability = new Pokemon.Abilities();
-					String abilityName = abilityNode.get("ability").get("name").asText();
-					ability.setName(abilityName);
-
-					ability.setHidden(abilityNode.get("is_hidden").asBoolean());
-
-					String abilityUrl = abilityNode.get("ability").get("url").asText();
-					JsonNode abilityData = restTemplate.getForObject(abilityUrl, JsonNode.class);
-					String description = "";
-					if (abilityData != null) {
-						JsonNode effectEntries = abilityData.path("effect_entries");
-						for (JsonNode effect : effectEntries) {
-							if (effect.get("language").get("name").asText().equals("en")) {
-								description = effect.get("short_effect").asText();
-								break;
-							}
+	private List<Pokemon.Abilities> fetchPokemonAbilities(String pokemonName) {
+		List<Pokemon.Abilities> abilities = new ArrayList<>();
+		String url = pokeApiBaseUrl + "/pokemon/" + pokemonName;
+		JsonNode pokemonData = fetchJson(url);
+
+		if (pokemonData != null) {
+			JsonNode abilitiesNode = pokemonData.path("abilities");
+
+			for (JsonNode abilityNode : abilitiesNode) {
+				Pokemon.Abilities ability = new Pokemon.Abilities();
+				String abilityName = abilityNode.get("ability").get("name").asText();
+				ability.setName(abilityName);
+
+				ability.setHidden(abilityNode.get("is_hidden").asBoolean());
+
+				String abilityUrl = abilityNode.get("ability").get("url").asText();
+				JsonNode abilityData = fetchJson(abilityUrl);
+				String description = "";
+				if (abilityData != null) {
+					JsonNode effectEntries = abilityData.path("effect_entries");
+					for (JsonNode effect : effectEntries) {
+						if (effect.get("language").get("name").asText().equals("en")) {
+							description = effect.get("short_effect").asText();
+							break;
 						}
 					}
-					ability.setDescription(description);
-					abilities.add(ability);
 				}
+				ability.setDescription(description);
+				abilities.add(ability);
 			}
+		}
 
-			// Cache the updated abilities
-			if (!abilities.isEmpty()) {
-				abilitiesRedisTemplate.opsForValue().set(cacheKey, abilities, CACHE_TTL_HOURS, TimeUnit.HOURS);
-			}
+		return abilities;
+	}
 
-			return abilities;
-		} catch (Exception error) {
-			throw new APIException(
-				ExceptionConstants.POKEMON_API_FETCH_ABILITIES_ERROR_MESSAGE,
-				ExceptionConstants.API_ERROR,
-				ExceptionConstants.BAD_GATEWAY,
-				Instant.now().toString(),
-				error
-			);
+	/**
+	 * Detail tier, for the scheduled preload that writes revalidated details through it
+	 */
+	public TieredCache<Pokemon> getDetailCache() {
+		return detailCache;
+	}
+
+	/**
+	 * Re-fetch one cached entry from upstream and overwrite it in place, so readers never see a miss
+	 */
+	public void refreshCachedEntry(RefreshDataset dataset, String pokemonName) {
+		switch (dataset) {
+			case DETAILS:
+				detailCache.refresh(pokemonName, this::loadPokemon);
+				break;
+			case SPECIES:
+				speciesCache.refresh(pokemonName, this::fetchSpeciesData);
+				break;
+			case EVOLUTION:
+				JsonNode speciesData = getSpeciesData(pokemonName);
+				if (speciesData != null && speciesData.path("evolution_chain").has("url")) {
+					evolutionCache.refresh(evolutionChainId(speciesData), this::fetchEvolutionChainData);
+				}
+				break;
+			case ABILITIES:
+				abilitiesCache.refresh(pokemonName, this::fetchPokemonAbilities);
+				break;
+			case ENCOUNTERS:
+				encounterCache.refresh(pokemonName, this::fetchLocationAreaEncounters);
+				break;
+		}
+	}
+
+	/**
+	 * Re-fetch an entry whose Redis copy is missing or expires within the window; returns true if it did
+	 */
+	public boolean refreshIfExpiring(RefreshDataset dataset, String pokemonName, Duration window) {
+		switch (dataset) {
+			case DETAILS:
+				if (!detailCache.expiresWithin(pokemonName, window)) {
+					return false;
+				}
+				break;
+			case ABILITIES:
+				if (!abilitiesCache.expiresWithin(pokemonName, window)) {
+					return false;
+				}
+				break;
+			case EVOLUTION:
+				JsonNode speciesData = speciesCache.getIfPresent(pokemonName);
+				if (speciesData == null || !speciesData.path("evolution_chain").has("url")
+						|| !evolutionCache.expiresWithin(evolutionChainId(speciesData), window)) {
+					return false;
+				}
+				break;
+			default:
+				return false;
+		}
+		refreshCachedEntry(dataset, pokemonName);
+		return true;
+	}
+
+	/**
+	 * Pull already-cached entries into the in-process tier with one MGET per dataset, without calling
+	 * upstream; returns how many were found
+	 */
+	public int prewarmLocalTier(RefreshDataset dataset, List<String> pokemonNames) {
+		switch (dataset) {
+			case DETAILS:
+				return detailCache.getAllPresent(pokemonNames).size();
+			case ABILITIES:
+				return abilitiesCache.getAllPresent(pokemonNames).size();
+			case EVOLUTION:
+				Set<String> chainIds = new LinkedHashSet<>();
+				for (JsonNode speciesData : speciesCache.getAllPresent(pokemonNames).values()) {
+					if (speciesData.path("evolution_chain").has("url")) {
+						chainIds.add(evolutionChainId(speciesData));
+					}
+				}
+				return evolutionCache.getAllPresent(new ArrayList<>(chainIds)).size();
+			default:
+				return 0;
+		}
+	}
+
+	private static final class PageNames {
+		final List<String> names;
+		final long totalCount;
+
+		PageNames(List<String> names, long totalCount) {
+			this.names = names;
+			this.totalCount = totalCount;
+		}
+
+		String nextCursor() {
+			return names.isEmpty() ? null : names.get(names.size() - 1);
 		}
 	}
 
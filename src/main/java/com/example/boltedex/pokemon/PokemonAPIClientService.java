@@ -2,19 +2,101 @@ package com.example.boltedex.pokemon;
 
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Autowired;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.lang.Nullable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.exception.ExceptionConstants;
+import com.example.boltedex.search.PokedexQuery;
 
 @Service
 public class PokemonAPIClientService {
 
+	public static final String SEARCH_MODE_FUZZY = "fuzzy";
+
 	@Autowired
 	private PokemonAPIClient pokemonAPIClient;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
 	public PokemonAPIClientDTO getPokemons(String cursor, int limit, @Nullable String searchQuery) {
 		return pokemonAPIClient.getPokemons(cursor, limit, searchQuery);
 	}
 
+	public PokemonAPIClientDTO getPokemons(String cursor, int limit, @Nullable String searchQuery,
+			@Nullable List<String> types, @Nullable List<String> filters, @Nullable String sort,
+			@Nullable String mode) {
+		// Stat/type filters and sorting are answered by the in-memory index
+		PokedexQuery query = PokedexQuery.of(searchQuery, types, filters, sort);
+		if (query != null) {
+			return pokemonAPIClient.searchPokemons(cursor, limit, query);
+		}
+		if (isFuzzy(searchQuery, mode)) {
+			return pokemonAPIClient.fuzzySearchPokemons(cursor, limit, searchQuery);
+		}
+		return pokemonAPIClient.getPokemons(cursor, limit, searchQuery);
+	}
+
+	/**
+	 * Streamed pages only cover name search. Parameters that would send the same query to the index
+	 * or the fuzzy search are rejected, instead of silently streaming a different result set.
+	 */
+	public void checkStreamable(@Nullable String searchQuery, @Nullable List<String> types,
+			@Nullable List<String> filters, @Nullable String sort, @Nullable String mode) {
+		if (PokedexQuery.of(searchQuery, types, filters, sort) != null || isFuzzy(searchQuery, mode)) {
+			throw new APIException(
+				ExceptionConstants.SEARCH_STREAM_UNSUPPORTED_MESSAGE,
+				ExceptionConstants.VALIDATION_ERROR,
+				ExceptionConstants.BAD_REQUEST,
+				Instant.now().toString()
+			);
+		}
+	}
+
+	private static boolean isFuzzy(@Nullable String searchQuery, @Nullable String mode) {
+		return SEARCH_MODE_FUZZY.equalsIgnoreCase(mode) && searchQuery != null && !searchQuery.isBlank();
+	}
+
+	/**
+	 * Write a page as NDJSON: one Pokemon per line as it resolves, then a trailer line with
+	 * nextCursor and totalCount
+	 */
+	public void streamPokemons(String cursor, int limit, @Nullable String searchQuery, OutputStream output)
+			throws IOException {
+		PokemonAPIClientDTO page;
+		try {
+			page = pokemonAPIClient.streamPokemons(cursor, limit, searchQuery, pokemon -> writeLine(output, pokemon));
+		} catch (UncheckedIOException error) {
+			throw error.getCause();
+		}
+
+		Map<String, Object> trailer = new LinkedHashMap<>();
+		trailer.put("nextCursor", page.getNextCursor());
+		trailer.put("totalCount", page.getTotalCount());
+		writeLine(output, trailer);
+	}
+
+	private void writeLine(OutputStream output, Object value) {
+		try {
+			output.write(objectMapper.writeValueAsBytes(value));
+			output.write('\n');
+			output.flush();
+		} catch (IOException error) {
+			throw new UncheckedIOException(error);
+		}
+	}
+
+	public List<PokemonSuggestionDTO> suggestPokemons(String prefix, int limit) {
+		return pokemonAPIClient.suggestPokemons(prefix, limit);
+	}
+
 	public Pokemon getPokemon(String name) {
 		return pokemonAPIClient.getPokemon(name);
 	}
@@ -27,6 +109,10 @@ public class PokemonAPIClientService {
 		return pokemonAPIClient.getPokemonLocationAreaEncounters(name);
 	}
 
+	public List<Pokemon.Encounter> getPokemonEncounters(String name) {
+		return pokemonAPIClient.getPokemonEncounters(name);
+	}
+
 	public List<Pokemon.Abilities> getPokemonAbilities(String name) {
 		return pokemonAPIClient.getPokemonAbilities(name);
 	}
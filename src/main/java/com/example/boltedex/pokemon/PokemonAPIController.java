@@ -6,12 +6,17 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.beans.factory.annotation.Autowired;
 import java.util.List;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.PathVariable;
+import com.example.boltedex.upstream.EndpointBulkhead;
 
 @RestController
 @RequestMapping("/api/pokemon")
 public class PokemonAPIController {
+
+	private static final String NDJSON = "application/x-ndjson";
 	
 	@Autowired
 	private PokemonAPIClientService pokemonAPIClientService;
@@ -20,12 +25,48 @@ public class PokemonAPIController {
 	public ResponseEntity<PokemonAPIClientDTO> searchPokemons(
 		@RequestParam(required = false) String query,
 		@RequestParam(defaultValue = "") String cursor,
-		@RequestParam(defaultValue = "30") int limit
+		@RequestParam(defaultValue = "30") int limit,
+		@RequestParam(required = false) List<String> type,
+		@RequestParam(required = false) List<String> filter,
+		@RequestParam(required = false) String sort,
+		@RequestParam(required = false) String mode
 	) {
-		PokemonAPIClientDTO result = pokemonAPIClientService.getPokemons(cursor, limit, query);
+		PokemonAPIClientDTO result = pokemonAPIClientService.getPokemons(cursor, limit, query, type, filter, sort, mode);
 		return ResponseEntity.ok(result);
 	}
 
+	@GetMapping(value = "/search", params = "stream=true")
+	public ResponseEntity<StreamingResponseBody> streamPokemons(
+		@RequestParam(required = false) String query,
+		@RequestParam(defaultValue = "") String cursor,
+		@RequestParam(defaultValue = "30") int limit,
+		@RequestParam(required = false) List<String> type,
+		@RequestParam(required = false) List<String> filter,
+		@RequestParam(required = false) String sort,
+		@RequestParam(required = false) String mode
+	) {
+		pokemonAPIClientService.checkStreamable(query, type, filter, sort, mode);
+		// The body is written on another thread; it keeps the request's bulkhead so cold pages are still shed
+		EndpointBulkhead bulkhead = EndpointBulkhead.current();
+		StreamingResponseBody body = output -> {
+			EndpointBulkhead.resume(bulkhead);
+			try {
+				pokemonAPIClientService.streamPokemons(cursor, limit, query, output);
+			} finally {
+				EndpointBulkhead.unbind();
+			}
+		};
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+	}
+
+	@GetMapping("/suggest")
+	public List<PokemonSuggestionDTO> suggestPokemons(
+		@RequestParam(defaultValue = "") String prefix,
+		@RequestParam(defaultValue = "10") int limit
+	) {
+		return pokemonAPIClientService.suggestPokemons(prefix, limit);
+	}
+
 	@GetMapping("/detail/{name}")
 	public ResponseEntity<Pokemon> getPokemon(@PathVariable String name) {
 		Pokemon pokemon = pokemonAPIClientService.getPokemon(name);
@@ -42,6 +83,11 @@ public class PokemonAPIController {
 		return pokemonAPIClientService.getPokemonLocationAreaEncounters(name);
 	}
 
+	@GetMapping("/encounters/{name}")
+	public List<Pokemon.Encounter> getPokemonEncounters(@PathVariable String name) {
+		return pokemonAPIClientService.getPokemonEncounters(name);
+	}
+
 	@GetMapping("/abilities/{name}")
 	public List<Pokemon.Abilities> getPokemonAbilities(@PathVariable String name) {
 		return pokemonAPIClientService.getPokemonAbilities(name);
@@ -0,0 +1,26 @@
+package com.example.boltedex.pokemon;
+
+public class PokemonSuggestionDTO {
+
+	private String name;
+	private int id;
+	private String sprite;
+
+	public PokemonSuggestionDTO(String name, int id, String sprite) {
+		this.name = name;
+		this.id = id;
+		this.sprite = sprite;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public String getSprite() {
+		return sprite;
+	}
+}
@@ -0,0 +1,164 @@
+package com.example.boltedex.search;
+
+import com.example.boltedex.cache.PokemonNamesRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Typo-tolerant name lookup using a SymSpell-style deletion index.
+ *
+ * Every name is indexed under all strings reachable by deleting up to MAX_EDITS characters.
+ * A query generates its own deletes, so candidates are found with hash lookups only and
+ * then verified with a bounded edit distance; the work depends on query length, not dex size.
+ */
+@Component
+public class FuzzyNameIndex {
+
+	public static final int MAX_EDITS = 2;
+
+	private volatile Snapshot snapshot = new Snapshot(new String[0], Collections.emptyMap());
+
+	@EventListener
+	public void onNamesRefreshed(PokemonNamesRefreshedEvent event) {
+		rebuild(event.getNames());
+	}
+
+	public void rebuild(Collection<String> names) {
+		String[] sorted = new TreeSet<>(names).toArray(new String[0]);
+		Map<String, List<Integer>> building = new HashMap<>(sorted.length * 32);
+		for (int id = 0; id < sorted.length; id++) {
+			for (String delete : deletes(sorted[id], MAX_EDITS)) {
+				building.computeIfAbsent(delete, key -> new ArrayList<>(2)).add(id);
+			}
+		}
+
+		Map<String, int[]> deletes = new HashMap<>(building.size() * 2);
+		for (Map.Entry<String, List<Integer>> entry : building.entrySet()) {
+			List<Integer> ids = entry.getValue();
+			int[] packed = new int[ids.size()];
+			for (int i = 0; i < packed.length; i++) {
+				packed[i] = ids.get(i);
+			}
+			deletes.put(entry.getKey(), packed);
+		}
+		snapshot = new Snapshot(sorted, deletes);
+	}
+
+	public boolean isEmpty() {
+		return snapshot.names.length == 0;
+	}
+
+	/**
+	 * Names within the edit budget for the query length, closest first and then alphabetical
+	 */
+	public List<String> search(String query) {
+		String term = query.trim().toLowerCase();
+		if (term.isEmpty()) {
+			return Collections.emptyList();
+		}
+		int maxEdits = term.length() <= 4 ? 1 : MAX_EDITS;
+		Snapshot current = snapshot;
+
+		// Verified distance per candidate id, so names reached through several deletes are checked once
+		Map<Integer, Integer> distances = new HashMap<>();
+		for (String delete : deletes(term, maxEdits)) {
+			int[] ids = current.deletes.get(delete);
+			if (ids == null) {
+				continue;
+			}
+			for (int id : ids) {
+				if (distances.containsKey(id)) {
+					continue;
+				}
+				int distance = editDistance(term, current.names[id], maxEdits);
+				distances.put(id, distance);
+			}
+		}
+
+		List<long[]> ranked = new ArrayList<>(distances.size());
+		for (Map.Entry<Integer, Integer> entry : distances.entrySet()) {
+			if (entry.getValue() <= maxEdits) {
+				ranked.add(new long[] { entry.getValue(), entry.getKey() });
+			}
+		}
+		// Ids are assigned in name order, so (distance, id) ranks closest first, then alphabetically
+		ranked.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+		List<String> results = new ArrayList<>(ranked.size());
+		for (long[] entry : ranked) {
+			results.add(current.names[(int) entry[1]]);
+		}
+		return results;
+	}
+
+	/**
+	 * The term itself plus every string made by deleting up to maxEdits characters
+	 */
+	static Set<String> deletes(String term, int maxEdits) {
+		Set<String> result = new HashSet<>();
+		result.add(term);
+		Set<String> frontier = Set.of(term);
+		for (int edit = 0; edit < maxEdits; edit++) {
+			Set<String> next = new HashSet<>();
+			for (String value : frontier) {
+				for (int i = 0; i < value.length(); i++) {
+					String delete = value.substring(0, i) + value.substring(i + 1);
+					if (result.add(delete)) {
+						next.add(delete);
+					}
+				}
+			}
+			frontier = next;
+		}
+		return result;
+	}
+
+	/**
+	 * Optimal string alignment distance (adjacent transpositions count as one edit).
+	 * Returns maxEdits + 1 as soon as the distance is known to exceed the budget.
+	 */
+	static int editDistance(String a, String b, int maxEdits) {
+		if (Math.abs(a.length() - b.length()) > maxEdits) {
+			return maxEdits + 1;
+		}
+		int[] previousPrevious = new int[b.length() + 1];
+		int[] previous = new int[b.length() + 1];
+		int[] current = new int[b.length() + 1];
+		for (int j = 0; j <= b.length(); j++) {
+			previous[j] = j;
+		}
+		for (int i = 1; i <= a.length(); i++) {
+			current[0] = i;
+			int rowMin = current[0];
+			for (int j = 1; j <= b.length(); j++) {
+				int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+				int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+				if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+					value = Math.min(value, previousPrevious[j - 2] + 1);
+				}
+				current[j] = value;
+				rowMin = Math.min(rowMin, value);
+			}
+			if (rowMin > maxEdits) {
+				return maxEdits + 1;
+			}
+			int[] recycled = previousPrevious;
+			previousPrevious = previous;
+			previous = current;
+			current = recycled;
+		}
+		return Math.min(previous[b.length()], maxEdits + 1);
+	}
+
+	private static final class Snapshot {
+		final String[] names;
+		final Map<String, int[]> deletes;
+
+		Snapshot(String[] names, Map<String, int[]> deletes) {
+			this.names = names;
+			this.deletes = deletes;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.example.boltedex.search;
+
+import com.example.boltedex.cache.PokemonNamesRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Bloom filter over the name index, so lookups of names that cannot exist are rejected without I/O.
+ *
+ * Sized for a 1% false-positive rate; a false positive only means the lookup goes on to Redis and
+ * PokeAPI as before. Until the first name index is loaded the filter admits everything.
+ */
+@Component
+public class KnownNameFilter {
+
+	private static final double FALSE_POSITIVE_RATE = 0.01;
+
+	private volatile Bloom bloom;
+
+	@EventListener
+	public void onNamesRefreshed(PokemonNamesRefreshedEvent event) {
+		rebuild(event.getNames());
+	}
+
+	public void rebuild(Collection<String> names) {
+		Bloom building = Bloom.sized(names.size(), FALSE_POSITIVE_RATE);
+		for (String name : names) {
+			building.add(name);
+		}
+		bloom = names.isEmpty() ? null : building;
+	}
+
+	public boolean isEmpty() {
+		return bloom == null;
+	}
+
+	/**
+	 * False only when the name is definitely not in the index. Numeric ids are not indexed and always pass.
+	 */
+	public boolean mightContain(String name) {
+		Bloom current = bloom;
+		if (current == null || name.isEmpty() || isNumeric(name)) {
+			return true;
+		}
+		return current.mightContain(name);
+	}
+
+	private static boolean isNumeric(String name) {
+		for (int i = 0; i < name.length(); i++) {
+			if (!Character.isDigit(name.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static final class Bloom {
+
+		final long[] bits;
+		final int bitCount;
+		final int hashCount;
+
+		private Bloom(int bitCount, int hashCount) {
+			this.bits = new long[(bitCount + 63) / 64];
+			this.bitCount = bits.length * 64;
+			this.hashCount = hashCount;
+		}
+
+		static Bloom sized(int expected, double falsePositiveRate) {
+			int n = Math.max(1, expected);
+			int m = (int) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+			int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+			return new Bloom(m, k);
+		}
+
+		void add(String name) {
+			long hash = hash(name);
+			int h1 = (int) hash;
+			int h2 = (int) (hash >>> 32);
+			for (int i = 0; i < hashCount; i++) {
+				int bit = Math.floorMod(h1 + i * h2, bitCount);
+				bits[bit >>> 6] |= 1L << bit;
+			}
+		}
+
+		boolean mightContain(String name) {
+			long hash = hash(name);
+			int h1 = (int) hash;
+			int h2 = (int) (hash >>> 32);
+			for (int i = 0; i < hashCount; i++) {
+				int bit = Math.floorMod(h1 + i * h2, bitCount);
+				if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * 64-bit FNV-1a with a murmur finaliser; the two halves drive double hashing
+		 */
+		private static long hash(String name) {
+			long hash = 0xcbf29ce484222325L;
+			for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+				hash ^= b & 0xff;
+				hash *= 0x100000001b3L;
+			}
+			hash ^= hash >>> 33;
+			hash *= 0xff51afd7ed558ccdL;
+			hash ^= hash >>> 33;
+			hash *= 0xc4ceb9fe1a85ec53L;
+			hash ^= hash >>> 33;
+			return hash;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.example.boltedex.search;
+
+import com.example.boltedex.cache.PokemonNamesRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Prefix autocomplete over the name index, stored as an array-packed trie.
+ *
+ * Names are inserted in sorted order, so every node covers a contiguous range of name ids
+ * and a prefix lookup is a walk of prefix-length steps followed by reading the first k ids
+ * of that node's range. Nodes live in parallel primitive arrays rather than objects.
+ */
+@Component
+public class NameSuggestIndex {
+
+	private volatile Trie trie = Trie.build(new String[0]);
+
+	@EventListener
+	public void onNamesRefreshed(PokemonNamesRefreshedEvent event) {
+		rebuild(event.getNames());
+	}
+
+	public void rebuild(Collection<String> names) {
+		trie = Trie.build(new TreeSet<>(names).toArray(new String[0]));
+	}
+
+	public boolean isEmpty() {
+		return trie.names.length == 0;
+	}
+
+	/**
+	 * Up to limit names starting with the prefix, alphabetically (an exact match comes first)
+	 */
+	public List<String> suggest(String prefix, int limit) {
+		Trie current = trie;
+		String term = prefix.trim().toLowerCase();
+		int node = current.find(term);
+		if (node < 0 || limit <= 0) {
+			return Collections.emptyList();
+		}
+		int start = current.rangeStart[node];
+		int end = Math.min(current.rangeEnd[node], start + limit);
+		return Arrays.asList(current.names).subList(start, end);
+	}
+
+	private static final class Trie {
+
+		final String[] names;
+		final char[] labels;
+		final int[] firstChild;
+		final int[] nextSibling;
+		final int[] rangeStart;
+		final int[] rangeEnd;
+
+		private Trie(String[] names, int nodeCount, char[] labels, int[] firstChild, int[] nextSibling,
+				int[] rangeStart, int[] rangeEnd) {
+			this.names = names;
+			this.labels = Arrays.copyOf(labels, nodeCount);
+			this.firstChild = Arrays.copyOf(firstChild, nodeCount);
+			this.nextSibling = Arrays.copyOf(nextSibling, nodeCount);
+			this.rangeStart = Arrays.copyOf(rangeStart, nodeCount);
+			this.rangeEnd = Arrays.copyOf(rangeEnd, nodeCount);
+		}
+
+		static Trie build(String[] sorted) {
+			int capacity = 1;
+			for (String name : sorted) {
+				capacity += name.length();
+			}
+			char[] labels = new char[capacity];
+			int[] firstChild = new int[capacity];
+			int[] nextSibling = new int[capacity];
+			int[] rangeStart = new int[capacity];
+			int[] rangeEnd = new int[capacity];
+			Arrays.fill(firstChild, -1);
+			Arrays.fill(nextSibling, -1);
+
+			// Node 0 is the root and covers every name
+			int nodeCount = 1;
+			rangeEnd[0] = sorted.length;
+			for (int id = 0; id < sorted.length; id++) {
+				String name = sorted[id];
+				int node = 0;
+				for (int i = 0; i < name.length(); i++) {
+					char c = name.charAt(i);
+					// Sorted insertion means a matching child, if any, is the most recently added one
+					int child = lastChild(firstChild, nextSibling, node);
+					if (child < 0 || labels[child] != c) {
+						int created = nodeCount++;
+						labels[created] = c;
+						rangeStart[created] = id;
+						if (child < 0) {
+							firstChild[node] = created;
+						} else {
+							nextSibling[child] = created;
+						}
+						child = created;
+					}
+					rangeEnd[child] = id + 1;
+					node = child;
+				}
+			}
+			return new Trie(sorted, nodeCount, labels, firstChild, nextSibling, rangeStart, rangeEnd);
+		}
+
+		private static int lastChild(int[] firstChild, int[] nextSibling, int node) {
+			int child = firstChild[node];
+			if (child < 0) {
+				return -1;
+			}
+			while (nextSibling[child] >= 0) {
+				child = nextSibling[child];
+			}
+			return child;
+		}
+
+		int find(String prefix) {
+			int node = 0;
+			for (int i = 0; i < prefix.length() && node >= 0; i++) {
+				char c = prefix.charAt(i);
+				int child = firstChild[node];
+				while (child >= 0 && labels[child] != c) {
+					child = nextSibling[child];
+				}
+				node = child;
+			}
+			return node;
+		}
+	}
+}
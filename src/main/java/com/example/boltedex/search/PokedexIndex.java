@@ -0,0 +1,357 @@
+package com.example.boltedex.search;
+
+import com.example.boltedex.pokemon.Pokemon;
+import com.example.boltedex.types.TypeChart;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Columnar in-memory index over the cached Pokemon details.
+ *
+ * Rows are kept in name order (matching the Redis name index) with one primitive
+ * array per base stat and a type bitmask per row. Writers build a new column set
+ * and publish it with a volatile write, so searches run lock-free over a stable
+ * snapshot and never see a half-applied update.
+ */
+@Component
+public class PokedexIndex {
+
+	private final Object writeLock = new Object();
+	private volatile Columns columns = Columns.EMPTY;
+
+	/**
+	 * A page of matching names, in result order, plus the total number of matches
+	 */
+	public static final class Page {
+		private final List<String> names;
+		private final long totalCount;
+
+		Page(List<String> names, long totalCount) {
+			this.names = names;
+			this.totalCount = totalCount;
+		}
+
+		public List<String> getNames() {
+			return names;
+		}
+
+		public long getTotalCount() {
+			return totalCount;
+		}
+	}
+
+	/**
+	 * Scores one row from its type mask and base stat total; Long.MIN_VALUE skips the row
+	 */
+	@FunctionalInterface
+	public interface RowScorer {
+		long score(int typeMask, int statTotal);
+	}
+
+	/**
+	 * A row picked by {@link #top}, with the score it was ranked by
+	 */
+	public static final class Ranked {
+		private final String name;
+		private final int id;
+		private final int typeMask;
+		private final long score;
+
+		Ranked(String name, int id, int typeMask, long score) {
+			this.name = name;
+			this.id = id;
+			this.typeMask = typeMask;
+			this.score = score;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public int getId() {
+			return id;
+		}
+
+		public int getTypeMask() {
+			return typeMask;
+		}
+
+		public long getScore() {
+			return score;
+		}
+	}
+
+	public void upsert(Pokemon pokemon) {
+		if (pokemon != null) {
+			upsertAll(List.of(pokemon));
+		}
+	}
+
+	public void upsertAll(Collection<Pokemon> pokemons) {
+		synchronized (writeLock) {
+			columns = columns.with(pokemons);
+		}
+	}
+
+	public int size() {
+		return columns.size;
+	}
+
+	/**
+	 * Id of an indexed Pokemon, or 0 if its details have not been indexed yet
+	 */
+	public int getId(String name) {
+		Columns c = columns;
+		int row = Arrays.binarySearch(c.names, 0, c.size, name);
+		return row >= 0 ? c.ids[row] : 0;
+	}
+
+	/**
+	 * Names of indexed Pokemon whose id is within [fromId, toId], in id order
+	 */
+	public List<String> namesWithIdsBetween(int fromId, int toId) {
+		Columns c = columns;
+		long[] keys = new long[c.size];
+		int count = 0;
+		for (int row = 0; row < c.size; row++) {
+			if (c.ids[row] >= fromId && c.ids[row] <= toId) {
+				keys[count++] = ((long) c.ids[row] << 32) | row;
+			}
+		}
+		Arrays.sort(keys, 0, count);
+		List<String> names = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			names.add(c.names[(int) keys[i]]);
+		}
+		return names;
+	}
+
+	/**
+	 * Default front sprite of an indexed Pokemon, or null
+	 */
+	public String getSprite(String name) {
+		Columns c = columns;
+		int row = Arrays.binarySearch(c.names, 0, c.size, name);
+		return row >= 0 ? c.sprites[row] : null;
+	}
+
+	public Page search(PokedexQuery query, String cursor, int limit) {
+		Columns c = columns;
+		int[] matches = new int[c.size];
+		int count = 0;
+
+		String nameContains = query.getNameContains();
+		int requiredTypes = query.getRequiredTypes();
+		PokedexStat[] filteredStats = query.getFilteredStats();
+
+		rows:
+		for (int row = 0; row < c.size; row++) {
+			if ((c.typeMasks[row] & requiredTypes) != requiredTypes) {
+				continue;
+			}
+			for (PokedexStat stat : filteredStats) {
+				int value = c.stats[stat.ordinal()][row];
+				if (value < query.getMin(stat) || value > query.getMax(stat)) {
+					continue rows;
+				}
+			}
+			if (nameContains != null && !c.names[row].contains(nameContains)) {
+				continue;
+			}
+			matches[count++] = row;
+		}
+
+		sort(c, query, matches, count);
+
+		int start = 0;
+		if (cursor != null && !cursor.isEmpty()) {
+			for (int i = 0; i < count; i++) {
+				if (c.names[matches[i]].equals(cursor)) {
+					start = i + 1;
+					break;
+				}
+			}
+		}
+		int end = Math.min(count, start + Math.max(limit, 0));
+		List<String> names = new ArrayList<>(Math.max(end - start, 0));
+		for (int i = start; i < end; i++) {
+			names.add(c.names[matches[i]]);
+		}
+		return new Page(names, count);
+	}
+
+	/**
+	 * Highest scoring rows, best first. Candidates are scored straight from the columns and
+	 * kept in a fixed-size insertion buffer, so nothing is allocated per row.
+	 */
+	public List<Ranked> top(RowScorer scorer, int limit, Set<String> excluded) {
+		Columns c = columns;
+		int k = Math.max(0, Math.min(limit, c.size));
+		long[] bestScores = new long[k];
+		int[] bestRows = new int[k];
+		int count = 0;
+
+		for (int row = 0; row < c.size; row++) {
+			long score = scorer.score(c.typeMasks[row], c.stats[PokedexStat.TOTAL.ordinal()][row]);
+			if (score == Long.MIN_VALUE || k == 0 || (count == k && score <= bestScores[k - 1])) {
+				continue;
+			}
+			if (excluded.contains(c.names[row])) {
+				continue;
+			}
+			int i = count < k ? count++ : k - 1;
+			while (i > 0 && bestScores[i - 1] < score) {
+				bestScores[i] = bestScores[i - 1];
+				bestRows[i] = bestRows[i - 1];
+				i--;
+			}
+			bestScores[i] = score;
+			bestRows[i] = row;
+		}
+
+		List<Ranked> ranked = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int row = bestRows[i];
+			ranked.add(new Ranked(c.names[row], c.ids[row], c.typeMasks[row], bestScores[i]));
+		}
+		return ranked;
+	}
+
+	/**
+	 * Order matching rows by the sort column, breaking ties by name. Rows are already in
+	 * name order, so sort keys are packed as (value, row) longs and sorted as primitives.
+	 */
+	private static void sort(Columns c, PokedexQuery query, int[] matches, int count) {
+		boolean descending = query.isDescending();
+		int[] column = query.isSortById() ? c.ids
+				: query.getSortStat() != null ? c.stats[query.getSortStat().ordinal()]
+				: null;
+
+		if (column == null) {
+			if (descending) {
+				for (int i = 0, j = count - 1; i < j; i++, j--) {
+					int row = matches[i];
+					matches[i] = matches[j];
+					matches[j] = row;
+				}
+			}
+			return;
+		}
+
+		long[] keys = new long[count];
+		for (int i = 0; i < count; i++) {
+			int row = matches[i];
+			long value = descending ? -(long) column[row] : column[row];
+			keys[i] = (value << 32) | row;
+		}
+		Arrays.sort(keys);
+		for (int i = 0; i < count; i++) {
+			matches[i] = (int) keys[i];
+		}
+	}
+
+	private static final class Columns {
+
+		static final Columns EMPTY = new Columns(0);
+
+		final int size;
+		final String[] names;
+		final int[] ids;
+		final int[][] stats;
+		final int[] typeMasks;
+		final String[] sprites;
+
+		Columns(int size) {
+			this.size = size;
+			this.names = new String[size];
+			this.ids = new int[size];
+			this.stats = new int[PokedexStat.values().length][size];
+			this.typeMasks = new int[size];
+			this.sprites = new String[size];
+		}
+
+		/**
+		 * Merge updated rows into a copy of these columns; unchanged input returns this
+		 */
+		Columns with(Collection<Pokemon> pokemons) {
+			TreeMap<String, Pokemon> updates = new TreeMap<>();
+			for (Pokemon pokemon : pokemons) {
+				if (pokemon != null && pokemon.getName() != null) {
+					updates.put(pokemon.getName(), pokemon);
+				}
+			}
+
+			int added = 0;
+			boolean changed = false;
+			for (Pokemon pokemon : updates.values()) {
+				int row = Arrays.binarySearch(names, 0, size, pokemon.getName());
+				if (row < 0) {
+					added++;
+					changed = true;
+				} else if (!matches(row, pokemon)) {
+					changed = true;
+				}
+			}
+			if (!changed) {
+				return this;
+			}
+
+			Columns next = new Columns(size + added);
+			Iterator<Pokemon> pending = updates.values().iterator();
+			Pokemon update = pending.hasNext() ? pending.next() : null;
+			int from = 0;
+			int to = 0;
+			while (from < size || update != null) {
+				int cmp = update == null ? -1 : from >= size ? 1 : names[from].compareTo(update.getName());
+				if (cmp < 0) {
+					next.copyRow(to++, this, from++);
+				} else {
+					next.setRow(to++, update);
+					if (cmp == 0) {
+						from++;
+					}
+					update = pending.hasNext() ? pending.next() : null;
+				}
+			}
+			return next;
+		}
+
+		private boolean matches(int row, Pokemon pokemon) {
+			if (ids[row] != pokemon.getId() || typeMasks[row] != TypeChart.typeMask(pokemon.getTypes())
+					|| !Objects.equals(sprites[row], sprite(pokemon))) {
+				return false;
+			}
+			for (PokedexStat stat : PokedexStat.values()) {
+				if (stats[stat.ordinal()][row] != stat.valueOf(pokemon.getBaseStats())) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void copyRow(int to, Columns source, int from) {
+			names[to] = source.names[from];
+			ids[to] = source.ids[from];
+			typeMasks[to] = source.typeMasks[from];
+			sprites[to] = source.sprites[from];
+			for (int s = 0; s < stats.length; s++) {
+				stats[s][to] = source.stats[s][from];
+			}
+		}
+
+		private void setRow(int to, Pokemon pokemon) {
+			names[to] = pokemon.getName();
+			ids[to] = pokemon.getId();
+			typeMasks[to] = TypeChart.typeMask(pokemon.getTypes());
+			sprites[to] = sprite(pokemon);
+			for (PokedexStat stat : PokedexStat.values()) {
+				stats[stat.ordinal()][to] = stat.valueOf(pokemon.getBaseStats());
+			}
+		}
+
+		private static String sprite(Pokemon pokemon) {
+			return pokemon.getSprites() != null ? pokemon.getSprites().getFrontDefault() : null;
+		}
+	}
+}
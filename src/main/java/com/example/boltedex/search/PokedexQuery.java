@@ -0,0 +1,178 @@
+package com.example.boltedex.search;
+
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.exception.ExceptionConstants;
+import com.example.boltedex.types.TypeChart;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed filter and sort parameters of a search, evaluated against the Pokedex index.
+ *
+ * Filters look like "speed>=100" or "total<400", types must all match ("fire,flying"),
+ * and sort is a stat name, "id" or "name", prefixed with "-" for descending order.
+ */
+public final class PokedexQuery {
+
+	// At most 10 digits, so the value always fits a long and out-of-range bounds can be clamped
+	private static final Pattern FILTER_PATTERN = Pattern.compile("^\\s*([A-Za-z_-]+)\\s*(>=|<=|>|<|=)\\s*(-?\\d{1,10})\\s*$");
+
+	public static final String SORT_NAME = "name";
+	public static final String SORT_ID = "id";
+
+	private final String nameContains;
+	private final int requiredTypes;
+	private final int[] min = new int[PokedexStat.values().length];
+	private final int[] max = new int[PokedexStat.values().length];
+	private final PokedexStat[] filteredStats;
+	private final PokedexStat sortStat;
+	private final boolean sortById;
+	private final boolean descending;
+
+	private PokedexQuery(String nameContains, int requiredTypes, List<String> filters, String sort) {
+		this.nameContains = nameContains;
+		this.requiredTypes = requiredTypes;
+
+		Arrays.fill(min, Integer.MIN_VALUE);
+		Arrays.fill(max, Integer.MAX_VALUE);
+		boolean[] filtered = new boolean[PokedexStat.values().length];
+		int filteredCount = 0;
+		for (String filter : filters) {
+			Matcher matcher = FILTER_PATTERN.matcher(filter);
+			PokedexStat stat = matcher.matches() ? PokedexStat.fromKey(matcher.group(1)) : null;
+			if (stat == null) {
+				throw invalid(ExceptionConstants.SEARCH_INVALID_FILTER_MESSAGE, filter);
+			}
+			long value = Long.parseLong(matcher.group(3));
+			int i = stat.ordinal();
+			switch (matcher.group(2)) {
+				case ">=":
+					min[i] = Math.max(min[i], clamp(value));
+					break;
+				case ">":
+					min[i] = Math.max(min[i], clamp(value + 1));
+					break;
+				case "<=":
+					max[i] = Math.min(max[i], clamp(value));
+					break;
+				case "<":
+					max[i] = Math.min(max[i], clamp(value - 1));
+					break;
+				default:
+					min[i] = Math.max(min[i], clamp(value));
+					max[i] = Math.min(max[i], clamp(value));
+					break;
+			}
+			if (!filtered[i]) {
+				filtered[i] = true;
+				filteredCount++;
+			}
+		}
+		this.filteredStats = new PokedexStat[filteredCount];
+		int next = 0;
+		for (PokedexStat stat : PokedexStat.values()) {
+			if (filtered[stat.ordinal()]) {
+				filteredStats[next++] = stat;
+			}
+		}
+
+		String sortKey = sort == null ? "" : sort.trim();
+		this.descending = sortKey.startsWith("-");
+		if (descending) {
+			sortKey = sortKey.substring(1);
+		}
+		if (sortKey.isEmpty() || sortKey.equalsIgnoreCase(SORT_NAME)) {
+			this.sortStat = null;
+			this.sortById = false;
+		} else if (sortKey.equalsIgnoreCase(SORT_ID)) {
+			this.sortStat = null;
+			this.sortById = true;
+		} else {
+			this.sortStat = PokedexStat.fromKey(sortKey);
+			this.sortById = false;
+			if (sortStat == null) {
+				throw invalid(ExceptionConstants.SEARCH_INVALID_SORT_MESSAGE, sort);
+			}
+		}
+	}
+
+	/**
+	 * Build a query from request parameters; returns null when none of them need the index
+	 */
+	@Nullable
+	public static PokedexQuery of(@Nullable String nameContains, @Nullable List<String> types,
+			@Nullable List<String> filters, @Nullable String sort) {
+		boolean hasTypes = types != null && !types.isEmpty();
+		boolean hasFilters = filters != null && !filters.isEmpty();
+		boolean hasSort = sort != null && !sort.isBlank();
+		if (!hasTypes && !hasFilters && !hasSort) {
+			return null;
+		}
+
+		int requiredTypes = 0;
+		if (hasTypes) {
+			for (String type : types) {
+				int bit = TypeChart.indexOf(type.trim().toLowerCase());
+				if (bit < 0) {
+					throw invalid(ExceptionConstants.SEARCH_INVALID_TYPE_MESSAGE, type);
+				}
+				requiredTypes |= 1 << bit;
+			}
+		}
+		String name = nameContains != null && !nameContains.isBlank() ? nameContains.trim().toLowerCase() : null;
+		return new PokedexQuery(name, requiredTypes, hasFilters ? filters : List.of(), sort);
+	}
+
+	String getNameContains() {
+		return nameContains;
+	}
+
+	int getRequiredTypes() {
+		return requiredTypes;
+	}
+
+	PokedexStat[] getFilteredStats() {
+		return filteredStats;
+	}
+
+	int getMin(PokedexStat stat) {
+		return min[stat.ordinal()];
+	}
+
+	int getMax(PokedexStat stat) {
+		return max[stat.ordinal()];
+	}
+
+	PokedexStat getSortStat() {
+		return sortStat;
+	}
+
+	boolean isSortById() {
+		return sortById;
+	}
+
+	boolean isDescending() {
+		return descending;
+	}
+
+	/**
+	 * Bounds beyond the int range match nothing (or everything) either way, so they saturate
+	 */
+	private static int clamp(long value) {
+		return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+	}
+
+	private static APIException invalid(String message, String value) {
+		return new APIException(
+			String.format(message, value),
+			ExceptionConstants.VALIDATION_ERROR,
+			ExceptionConstants.BAD_REQUEST,
+			Instant.now().toString()
+		);
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.boltedex.search;
+
+import com.example.boltedex.pokemon.Pokemon;
+
+/**
+ * Base stats held as columns in the Pokedex index
+ */
+public enum PokedexStat {
+	HP("hp"),
+	ATTACK("attack"),
+	DEFENSE("defense"),
+	SPECIAL_ATTACK("specialAttack"),
+	SPECIAL_DEFENSE("specialDefense"),
+	SPEED("speed"),
+	TOTAL("total");
+
+	private final String key;
+
+	PokedexStat(String key) {
+		this.key = key;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public int valueOf(Pokemon.Stats stats) {
+		if (stats == null) {
+			return 0;
+		}
+		switch (this) {
+			case HP:
+				return stats.getHp();
+			case ATTACK:
+				return stats.getAttack();
+			case DEFENSE:
+				return stats.getDefense();
+			case SPECIAL_ATTACK:
+				return stats.getSpecialAttack();
+			case SPECIAL_DEFENSE:
+				return stats.getSpecialDefense();
+			case SPEED:
+				return stats.getSpeed();
+			default:
+				return stats.getHp() + stats.getAttack() + stats.getDefense()
+						+ stats.getSpecialAttack() + stats.getSpecialDefense() + stats.getSpeed();
+		}
+	}
+
+	/**
+	 * Resolve "specialAttack", "special-attack" or "special_attack" style names, or null
+	 */
+	public static PokedexStat fromKey(String name) {
+		String normalized = name.replace("-", "").replace("_", "");
+		for (PokedexStat stat : values()) {
+			if (stat.key.equalsIgnoreCase(normalized)) {
+				return stat;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,131 @@
+package com.example.boltedex.sprite;
+
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.exception.ExceptionConstants;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Serves sprites from the local disk cache. Uses the container's sendfile when it offers one
+ * (Tomcat NIO does), otherwise FileChannel.transferTo into the response channel.
+ */
+@RestController
+@RequestMapping("/api/pokemon/sprite")
+public class SpriteController {
+
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+	private static final String CACHE_CONTROL = "public, max-age=86400";
+
+	@Autowired
+	private SpriteStore spriteStore;
+
+	@GetMapping("/{id}/{variant}")
+	public void getSprite(@PathVariable int id, @PathVariable String variant,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+		SpriteVariant spriteVariant = SpriteVariant.fromKey(variant);
+		if (spriteVariant == null) {
+			throw new APIException(
+				String.format(ExceptionConstants.SPRITE_INVALID_VARIANT_MESSAGE, variant),
+				ExceptionConstants.VALIDATION_ERROR,
+				ExceptionConstants.BAD_REQUEST,
+				Instant.now().toString()
+			);
+		}
+		SpriteFile sprite = spriteStore.resolve(id, spriteVariant);
+
+		response.setHeader(HttpHeaders.ETAG, sprite.getEtag());
+		response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), sprite.getEtag())) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+
+		long length = sprite.getSize();
+		long start = 0;
+		long end = length - 1;
+		String range = request.getHeader(HttpHeaders.RANGE);
+		// A stale If-Range means the client's partial copy is outdated, so it gets the whole sprite
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (range != null && (ifRange == null || ifRange.equals(sprite.getEtag()))) {
+			List<HttpRange> ranges;
+			try {
+				ranges = HttpRange.parseRanges(range);
+			} catch (IllegalArgumentException e) {
+				ranges = List.of();
+			}
+			if (ranges.size() == 1) {
+				HttpRange requested = ranges.get(0);
+				if (length == 0 || requested.getRangeStart(length) >= length) {
+					response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+					return;
+				}
+				start = requested.getRangeStart(length);
+				end = requested.getRangeEnd(length);
+				response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+			}
+			// Multi-range requests are answered with the full body, which RFC 9110 allows
+		}
+
+		long count = end - start + 1;
+		response.setContentType(sprite.getContentType());
+		response.setContentLengthLong(count);
+
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, sprite.getPath().toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, end + 1);
+			return;
+		}
+
+		try (FileChannel file = FileChannel.open(sprite.getPath(), StandardOpenOption.READ)) {
+			OutputStream out = response.getOutputStream();
+			WritableByteChannel target = Channels.newChannel(out);
+			long position = start;
+			long remaining = count;
+			while (remaining > 0) {
+				long sent = file.transferTo(position, remaining, target);
+				if (sent <= 0) {
+					break;
+				}
+				position += sent;
+				remaining -= sent;
+			}
+			out.flush();
+		}
+	}
+
+	private static boolean matchesEtag(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String value = candidate.trim();
+			if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
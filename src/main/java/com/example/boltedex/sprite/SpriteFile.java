@@ -0,0 +1,41 @@
+package com.example.boltedex.sprite;
+
+import java.nio.file.Path;
+
+/**
+ * A sprite blob on local disk, named by the SHA-256 of its bytes
+ */
+public final class SpriteFile {
+
+	private final Path path;
+	private final String hash;
+	private final String contentType;
+	private final long size;
+
+	public SpriteFile(Path path, String hash, String contentType, long size) {
+		this.path = path;
+		this.hash = hash;
+		this.contentType = contentType;
+		this.size = size;
+	}
+
+	public Path getPath() {
+		return path;
+	}
+
+	public String getHash() {
+		return hash;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	public String getEtag() {
+		return "\"" + hash + "\"";
+	}
+}
@@ -0,0 +1,248 @@
+package com.example.boltedex.sprite;
+
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.exception.ExceptionConstants;
+import com.example.boltedex.pokemon.Pokemon;
+import com.example.boltedex.pokemon.PokemonAPIClientService;
+import com.example.boltedex.search.PokedexIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-disk, content-addressed sprite cache.
+ *
+ * Blobs live under blobs/ab/abcd... named by SHA-256, so identical images (many forms share one)
+ * are stored once. refs/{id}-{variant} maps a sprite to its blob and survives restarts. Each sprite
+ * is downloaded at most once at a time; concurrent requests for it wait on the same download.
+ */
+@Service
+public class SpriteStore {
+
+	private static final Logger logger = LoggerFactory.getLogger(SpriteStore.class);
+
+	@Value("${sprites.cache.path:data/sprites}")
+	private String cachePath = "data/sprites";
+
+	@Autowired
+	private PokemonAPIClientService pokemonAPIClientService;
+
+	@Autowired
+	private PokedexIndex pokedexIndex;
+
+	@Autowired
+	private RestTemplate restTemplate;
+
+	private final ConcurrentHashMap<String, SpriteFile> files = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, CompletableFuture<SpriteFile>> downloads = new ConcurrentHashMap<>();
+
+	/**
+	 * The local file for a sprite, downloading it first if this is the first request for it
+	 */
+	public SpriteFile resolve(int id, SpriteVariant variant) {
+		String key = id + "-" + variant.getKey();
+		SpriteFile known = files.get(key);
+		if (known != null && Files.exists(known.getPath())) {
+			return known;
+		}
+		SpriteFile stored = readRef(key);
+		if (stored != null) {
+			files.put(key, stored);
+			return stored;
+		}
+
+		CompletableFuture<SpriteFile> download = new CompletableFuture<>();
+		CompletableFuture<SpriteFile> running = downloads.putIfAbsent(key, download);
+		if (running != null) {
+			return await(running);
+		}
+		try {
+			SpriteFile fetched = download(id, variant, key);
+			files.put(key, fetched);
+			download.complete(fetched);
+			return fetched;
+		} catch (RuntimeException e) {
+			download.completeExceptionally(e);
+			throw e;
+		} finally {
+			downloads.remove(key);
+		}
+	}
+
+	/**
+	 * Download every variant of every indexed Pokemon that is not on disk yet
+	 */
+	public int preloadAll() {
+		List<String> names = pokedexIndex.namesWithIdsBetween(1, Integer.MAX_VALUE);
+		int downloaded = 0;
+		for (String name : names) {
+			int id = pokedexIndex.getId(name);
+			for (SpriteVariant variant : SpriteVariant.values()) {
+				String key = id + "-" + variant.getKey();
+				if (files.containsKey(key) || Files.exists(refPath(key))) {
+					continue;
+				}
+				try {
+					resolve(id, variant);
+					downloaded++;
+				} catch (RuntimeException e) {
+					logger.debug("Skipping sprite {}: {}", key, e.getMessage());
+				}
+			}
+		}
+		return downloaded;
+	}
+
+	private SpriteFile download(int id, SpriteVariant variant, String key) {
+		String url = variant.urlOf(lookupSprites(id));
+		if (url == null) {
+			throw spriteNotFound(id, variant);
+		}
+
+		Path root = Paths.get(cachePath);
+		try {
+			Files.createDirectories(root);
+			Path temp = Files.createTempFile(root, "download-", ".tmp");
+			try {
+				String hash = restTemplate.execute(url, HttpMethod.GET, null, response -> {
+					MessageDigest digest = sha256();
+					try (InputStream in = new DigestInputStream(response.getBody(), digest)) {
+						Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+					}
+					return HexFormat.of().formatHex(digest.digest());
+				});
+
+				Path blob = blobPath(hash);
+				if (Files.exists(blob)) {
+					Files.delete(temp);
+				} else {
+					Files.createDirectories(blob.getParent());
+					Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+				}
+
+				String contentType = contentTypeOf(url);
+				writeRef(key, hash + " " + contentType);
+				return new SpriteFile(blob, hash, contentType, Files.size(blob));
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException | RuntimeException e) {
+			if (e instanceof APIException apiError) {
+				throw apiError;
+			}
+			throw new APIException(
+				String.format(ExceptionConstants.SPRITE_FETCH_FAILED_MESSAGE, id, variant.getKey()),
+				ExceptionConstants.API_ERROR,
+				ExceptionConstants.BAD_GATEWAY,
+				Instant.now().toString(),
+				e
+			);
+		}
+	}
+
+	/**
+	 * Sprite URLs for a Pokemon id, going through the detail cache by name when the index knows it
+	 */
+	private Pokemon.Sprites lookupSprites(int id) {
+		List<String> names = pokedexIndex.namesWithIdsBetween(id, id);
+		String name = names.isEmpty() ? String.valueOf(id) : names.get(0);
+		Pokemon pokemon = pokemonAPIClientService.getPokemon(name);
+		return pokemon != null ? pokemon.getSprites() : null;
+	}
+
+	private SpriteFile readRef(String key) {
+		Path ref = refPath(key);
+		try {
+			if (!Files.exists(ref)) {
+				return null;
+			}
+			String[] parts = Files.readString(ref, StandardCharsets.UTF_8).trim().split(" ", 2);
+			Path blob = blobPath(parts[0]);
+			if (!Files.exists(blob)) {
+				return null;
+			}
+			String contentType = parts.length > 1 ? parts[1] : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+			return new SpriteFile(blob, parts[0], contentType, Files.size(blob));
+		} catch (IOException e) {
+			logger.warn("Ignoring unreadable sprite ref {}: {}", key, e.getMessage());
+			return null;
+		}
+	}
+
+	private void writeRef(String key, String value) throws IOException {
+		Path ref = refPath(key);
+		Files.createDirectories(ref.getParent());
+		Path temp = Files.createTempFile(ref.getParent(), key, ".tmp");
+		Files.writeString(temp, value, StandardCharsets.UTF_8);
+		Files.move(temp, ref, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private Path refPath(String key) {
+		return Paths.get(cachePath, "refs", key);
+	}
+
+	private Path blobPath(String hash) {
+		return Paths.get(cachePath, "blobs", hash.substring(0, 2), hash);
+	}
+
+	private static String contentTypeOf(String url) {
+		String lower = url.toLowerCase();
+		if (lower.endsWith(".gif")) {
+			return MediaType.IMAGE_GIF_VALUE;
+		}
+		if (lower.endsWith(".png")) {
+			return MediaType.IMAGE_PNG_VALUE;
+		}
+		return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+	}
+
+	private static SpriteFile await(CompletableFuture<SpriteFile> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private static APIException spriteNotFound(int id, SpriteVariant variant) {
+		return new APIException(
+			String.format(ExceptionConstants.SPRITE_NOT_FOUND_MESSAGE, id, variant.getKey()),
+			ExceptionConstants.NOT_FOUND_ERROR,
+			ExceptionConstants.NOT_FOUND,
+			Instant.now().toString()
+		);
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.example.boltedex.sprite;
+
+import com.example.boltedex.pokemon.Pokemon;
+
+public enum SpriteVariant {
+	FRONT_DEFAULT("front-default"),
+	BACK_DEFAULT("back-default"),
+	FRONT_SHINY("front-shiny"),
+	BACK_SHINY("back-shiny");
+
+	private final String key;
+
+	SpriteVariant(String key) {
+		this.key = key;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Upstream URL of this variant, or null if the Pokemon has none
+	 */
+	public String urlOf(Pokemon.Sprites sprites) {
+		if (sprites == null) {
+			return null;
+		}
+		switch (this) {
+			case FRONT_DEFAULT:
+				return sprites.getFrontDefault();
+			case BACK_DEFAULT:
+				return sprites.getBackDefault();
+			case FRONT_SHINY:
+				return sprites.getFrontShiny();
+			case BACK_SHINY:
+				return sprites.getBackShiny();
+			default:
+				return null;
+		}
+	}
+
+	public static SpriteVariant fromKey(String key) {
+		for (SpriteVariant variant : values()) {
+			if (variant.key.equalsIgnoreCase(key)) {
+				return variant;
+			}
+		}
+		return null;
+	}
+}
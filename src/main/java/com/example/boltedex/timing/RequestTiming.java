@@ -0,0 +1,218 @@
+package com.example.boltedex.timing;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Time one API request spent in Redis, PokeAPI and Jackson, plus its cache hits and misses.
+ *
+ * A span is a ThreadLocal lookup and two System.nanoTime() calls, and does nothing on threads
+ * without a request in progress (schedulers, the write-behind flusher). Time spent in a span
+ * started inside another one is taken out of the outer span, so a Redis read that deserializes
+ * JSON counts once as redis and once as json. Tasks handed to the fetch pool through
+ * {@link #propagate(Runnable)} are timed on the worker and added to the request that submitted them.
+ */
+public final class RequestTiming {
+
+	public enum Phase {
+		REDIS("redis"),
+		UPSTREAM("upstream"),
+		JSON("json");
+
+		private final String metric;
+
+		Phase(String metric) {
+			this.metric = metric;
+		}
+
+		public String getMetric() {
+			return metric;
+		}
+	}
+
+	private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+	private static final long NOT_TIMED = Long.MIN_VALUE;
+	private static final int MAX_DEPTH = 8;
+
+	private final long startedAt;
+	private final long[] nanos = new long[Phase.values().length];
+	private final int[] calls = new int[Phase.values().length];
+	private final long[] nestedNanos = new long[MAX_DEPTH];
+	private final Queue<RequestTiming> forked = new ConcurrentLinkedQueue<>();
+	private int depth;
+	private int cacheHits;
+	private int cacheMisses;
+	private volatile long writeStartedAt;
+
+	private RequestTiming(long startedAt) {
+		this.startedAt = startedAt;
+	}
+
+	/**
+	 * Start timing the request on this thread
+	 */
+	public static RequestTiming begin() {
+		RequestTiming timing = new RequestTiming(System.nanoTime());
+		CURRENT.set(timing);
+		return timing;
+	}
+
+	public static void end() {
+		CURRENT.remove();
+	}
+
+	public static RequestTiming current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Open a span; pass the result to {@link #stop(Phase, long)} in a finally block
+	 */
+	public static long start() {
+		RequestTiming timing = CURRENT.get();
+		if (timing == null) {
+			return NOT_TIMED;
+		}
+		if (timing.depth < MAX_DEPTH) {
+			timing.nestedNanos[timing.depth] = 0;
+		}
+		timing.depth++;
+		return System.nanoTime();
+	}
+
+	public static void stop(Phase phase, long startedAt) {
+		if (startedAt == NOT_TIMED) {
+			return;
+		}
+		RequestTiming timing = CURRENT.get();
+		if (timing == null || timing.depth == 0) {
+			return;
+		}
+		long elapsed = System.nanoTime() - startedAt;
+		int depth = --timing.depth;
+		long own = depth < MAX_DEPTH ? elapsed - timing.nestedNanos[depth] : elapsed;
+		timing.nanos[phase.ordinal()] += own;
+		timing.calls[phase.ordinal()]++;
+		if (depth > 0 && depth <= MAX_DEPTH) {
+			timing.nestedNanos[depth - 1] += elapsed;
+		}
+	}
+
+	public static void countCache(int hits, int misses) {
+		RequestTiming timing = CURRENT.get();
+		if (timing != null) {
+			timing.cacheHits += hits;
+			timing.cacheMisses += misses;
+		}
+	}
+
+	/**
+	 * Task decorator for pools that resolve work for a request (the streamed page's fetch pool)
+	 */
+	public static Runnable propagate(Runnable task) {
+		RequestTiming parent = CURRENT.get();
+		if (parent == null) {
+			return task;
+		}
+		return () -> {
+			RequestTiming previous = CURRENT.get();
+			RequestTiming child = new RequestTiming(System.nanoTime());
+			CURRENT.set(child);
+			try {
+				task.run();
+			} finally {
+				if (previous != null) {
+					CURRENT.set(previous);
+				} else {
+					CURRENT.remove();
+				}
+				parent.forked.add(child);
+			}
+		};
+	}
+
+	/**
+	 * Response writing starts now; everything after this point is reported as write time
+	 */
+	public void markWriteStarted() {
+		writeStartedAt = System.nanoTime();
+	}
+
+	public long elapsedNanos() {
+		return System.nanoTime() - startedAt;
+	}
+
+	public long writeNanos() {
+		long started = writeStartedAt;
+		return started == 0 ? 0 : System.nanoTime() - started;
+	}
+
+	public long nanos(Phase phase) {
+		long total = nanos[phase.ordinal()];
+		for (RequestTiming child : forked) {
+			total += child.nanos(phase);
+		}
+		return total;
+	}
+
+	public int calls(Phase phase) {
+		int total = calls[phase.ordinal()];
+		for (RequestTiming child : forked) {
+			total += child.calls(phase);
+		}
+		return total;
+	}
+
+	public int cacheHits() {
+		int total = cacheHits;
+		for (RequestTiming child : forked) {
+			total += child.cacheHits();
+		}
+		return total;
+	}
+
+	public int cacheMisses() {
+		int total = cacheMisses;
+		for (RequestTiming child : forked) {
+			total += child.cacheMisses();
+		}
+		return total;
+	}
+
+	/**
+	 * Server-Timing header value, e.g.
+	 * redis;dur=1.2;desc="3 calls", upstream;dur=0, json;dur=0.4;desc="20 calls", cache;desc="hit=20 miss=0", app;dur=2.1
+	 */
+	public String toServerTiming() {
+		StringBuilder header = new StringBuilder(160);
+		for (Phase phase : Phase.values()) {
+			header.append(phase.metric).append(";dur=").append(millis(nanos(phase)));
+			int count = calls(phase);
+			if (count > 0) {
+				header.append(";desc=\"").append(count).append(count == 1 ? " call\"" : " calls\"");
+			}
+			header.append(", ");
+		}
+		header.append("cache;desc=\"hit=").append(cacheHits()).append(" miss=").append(cacheMisses()).append("\", ");
+		header.append("app;dur=").append(millis(elapsedNanos()));
+		return header.toString();
+	}
+
+	/**
+	 * One-line breakdown for the slow-request log
+	 */
+	public String describe() {
+		StringBuilder line = new StringBuilder(160);
+		for (Phase phase : Phase.values()) {
+			line.append(phase.metric).append('=').append(millis(nanos(phase))).append("ms (")
+					.append(calls(phase)).append("), ");
+		}
+		line.append("write=").append(millis(writeNanos())).append("ms, ");
+		line.append("cache hit=").append(cacheHits()).append(" miss=").append(cacheMisses());
+		return line.toString();
+	}
+
+	static double millis(long nanos) {
+		return Math.round(nanos / 10_000.0) / 100.0;
+	}
+}
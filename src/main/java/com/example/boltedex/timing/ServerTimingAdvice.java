@@ -0,0 +1,36 @@
+package com.example.boltedex.timing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the Server-Timing header to response bodies written by message converters (JSON,
+ * resources and error bodies) while headers can still be set
+ */
+@RestControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+	public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		RequestTiming timing = RequestTiming.current();
+		if (timing != null) {
+			response.getHeaders().set(SERVER_TIMING_HEADER, timing.toServerTiming());
+			timing.markWriteStarted();
+		}
+		return body;
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.boltedex.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every /api request (see {@link RequestTiming}) and logs a sample of the slow ones with their
+ * per-phase breakdown. The Server-Timing header itself is added by {@link ServerTimingAdvice}
+ * just before the body is written, since headers cannot change once writing starts.
+ */
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+	@Value("${timing.enabled:true}")
+	private boolean enabled = true;
+
+	@Value("${timing.slow-log.threshold-ms:500}")
+	private long slowThresholdMillis = 500;
+
+	@Value("${timing.slow-log.sample-rate:0.25}")
+	private double slowSampleRate = 0.25;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled || !request.getRequestURI().startsWith("/api/");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		RequestTiming timing = RequestTiming.begin();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			RequestTiming.end();
+			long elapsed = timing.elapsedNanos();
+			if (elapsed >= TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis)
+					&& ThreadLocalRandom.current().nextDouble() < slowSampleRate) {
+				String query = request.getQueryString();
+				logger.warn("Slow request {} {}{} -> {} in {} ms: {}", request.getMethod(), request.getRequestURI(),
+						query != null ? "?" + query : "", response.getStatus(), RequestTiming.millis(elapsed),
+						timing.describe());
+			}
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.boltedex.timing;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Counts a Jackson value serializer's work as json time, so Redis spans only cover the round trip
+ */
+public class TimedRedisSerializer<T> implements RedisSerializer<T> {
+
+	private final RedisSerializer<T> delegate;
+
+	public TimedRedisSerializer(RedisSerializer<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public byte[] serialize(T value) throws SerializationException {
+		long started = RequestTiming.start();
+		try {
+			return delegate.serialize(value);
+		} finally {
+			RequestTiming.stop(RequestTiming.Phase.JSON, started);
+		}
+	}
+
+	@Override
+	public T deserialize(byte[] bytes) throws SerializationException {
+		long started = RequestTiming.start();
+		try {
+			return delegate.deserialize(bytes);
+		} finally {
+			RequestTiming.stop(RequestTiming.Phase.JSON, started);
+		}
+	}
+
+	@Override
+	public Class<?> getTargetType() {
+		return delegate.getTargetType();
+	}
+}
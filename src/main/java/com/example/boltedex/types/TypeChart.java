@@ -0,0 +1,144 @@
+package com.example.boltedex.types;
+
+import com.example.boltedex.pokemon.PokemonTypeEffectiveness;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precomputed type matchup tables indexed by type position in {@link PokemonTypeEffectiveness#TYPES}.
+ *
+ * Multipliers are stored as small integers in quarter steps (0 = immune, 1 = 0.25x, 2 = 0.5x,
+ * 4 = neutral, 8 = 2x, 16 = 4x) so matchups can be summed and compared without doubles.
+ * A defending profile ("combo") is one or two types, indexed as first * TYPE_COUNT + second
+ * with first <= second; single types use first == second.
+ */
+public final class TypeChart {
+	private TypeChart() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static final int TYPE_COUNT = PokemonTypeEffectiveness.TYPES.length;
+	public static final int COMBO_COUNT = TYPE_COUNT * TYPE_COUNT;
+	public static final int ALL_TYPES = (1 << TYPE_COUNT) - 1;
+	public static final int NEUTRAL = 4;
+
+	private static final byte[] MULTIPLIERS = new byte[COMBO_COUNT * TYPE_COUNT];
+	private static final int[] WEAKNESS_MASKS = new int[COMBO_COUNT];
+	private static final int[] RESISTANCE_MASKS = new int[COMBO_COUNT];
+	private static final int[] IMMUNITY_MASKS = new int[COMBO_COUNT];
+	private static final int[] SUPER_EFFECTIVE_MASKS = new int[TYPE_COUNT];
+
+	static {
+		String[] types = PokemonTypeEffectiveness.TYPES;
+		for (int first = 0; first < TYPE_COUNT; first++) {
+			for (int second = first; second < TYPE_COUNT; second++) {
+				int combo = first * TYPE_COUNT + second;
+				List<String> defenders = first == second
+						? List.of(types[first])
+						: List.of(types[first], types[second]);
+				for (int attack = 0; attack < TYPE_COUNT; attack++) {
+					int quarters = (int) Math.round(
+							PokemonTypeEffectiveness.getEffectiveness(types[attack], defenders) * NEUTRAL);
+					MULTIPLIERS[combo * TYPE_COUNT + attack] = (byte) quarters;
+					if (quarters > NEUTRAL) {
+						WEAKNESS_MASKS[combo] |= 1 << attack;
+					} else if (quarters == 0) {
+						IMMUNITY_MASKS[combo] |= 1 << attack;
+					} else if (quarters < NEUTRAL) {
+						RESISTANCE_MASKS[combo] |= 1 << attack;
+					}
+					if (first == second && quarters > NEUTRAL) {
+						SUPER_EFFECTIVE_MASKS[attack] |= 1 << first;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Position of a type name, or -1 if unknown
+	 */
+	public static int indexOf(String type) {
+		String[] types = PokemonTypeEffectiveness.TYPES;
+		for (int i = 0; i < types.length; i++) {
+			if (types[i].equals(type)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public static int typeMask(List<String> types) {
+		int mask = 0;
+		if (types != null) {
+			for (String type : types) {
+				int index = indexOf(type);
+				if (index >= 0) {
+					mask |= 1 << index;
+				}
+			}
+		}
+		return mask;
+	}
+
+	public static List<String> typeNames(int mask) {
+		List<String> names = new ArrayList<>(Integer.bitCount(mask));
+		for (int type = 0; type < TYPE_COUNT; type++) {
+			if ((mask & (1 << type)) != 0) {
+				names.add(PokemonTypeEffectiveness.TYPES[type]);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Defending profile for a one- or two-type mask, or -1 for an empty mask
+	 */
+	public static int combo(int typeMask) {
+		if (typeMask == 0) {
+			return -1;
+		}
+		int first = Integer.numberOfTrailingZeros(typeMask);
+		int second = 31 - Integer.numberOfLeadingZeros(typeMask);
+		return first * TYPE_COUNT + second;
+	}
+
+	public static int firstType(int combo) {
+		return combo / TYPE_COUNT;
+	}
+
+	public static int secondType(int combo) {
+		return combo % TYPE_COUNT;
+	}
+
+	/**
+	 * Damage multiplier of an attacking type against a defending profile, in quarter steps
+	 */
+	public static int multiplier(int attackType, int combo) {
+		return MULTIPLIERS[combo * TYPE_COUNT + attackType];
+	}
+
+	public static int weaknessMask(int combo) {
+		return WEAKNESS_MASKS[combo];
+	}
+
+	public static int resistanceMask(int combo) {
+		return RESISTANCE_MASKS[combo];
+	}
+
+	public static int immunityMask(int combo) {
+		return IMMUNITY_MASKS[combo];
+	}
+
+	/**
+	 * Single defending types an attacking type hits super-effectively
+	 */
+	public static int superEffectiveMask(int attackType) {
+		return SUPER_EFFECTIVE_MASKS[attackType];
+	}
+
+	public static double toMultiplier(int quarters) {
+		return quarters / (double) NEUTRAL;
+	}
+}
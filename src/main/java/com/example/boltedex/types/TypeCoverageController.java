@@ -0,0 +1,26 @@
+package com.example.boltedex.types;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/types")
+public class TypeCoverageController {
+
+	@Autowired
+	private TypeCoverageService typeCoverageService;
+
+	@GetMapping("/coverage")
+	public ResponseEntity<TypeCoverageDTO> getTeamCoverage(
+		@RequestParam List<String> team,
+		@RequestParam(defaultValue = "10") int limit
+	) {
+		return ResponseEntity.ok(typeCoverageService.analyze(team, limit));
+	}
+}
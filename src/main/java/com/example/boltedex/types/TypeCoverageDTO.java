@@ -0,0 +1,67 @@
+package com.example.boltedex.types;
+
+import java.util.List;
+import java.util.Map;
+
+public class TypeCoverageDTO {
+
+	private List<String> team;
+	private Map<String, Integer> sharedWeaknesses;
+	private List<String> uncoveredTypes;
+	private List<Counter> counters;
+
+	public TypeCoverageDTO(List<String> team, Map<String, Integer> sharedWeaknesses,
+			List<String> uncoveredTypes, List<Counter> counters) {
+		this.team = team;
+		this.sharedWeaknesses = sharedWeaknesses;
+		this.uncoveredTypes = uncoveredTypes;
+		this.counters = counters;
+	}
+
+	public List<String> getTeam() {
+		return team;
+	}
+
+	public Map<String, Integer> getSharedWeaknesses() {
+		return sharedWeaknesses;
+	}
+
+	public List<String> getUncoveredTypes() {
+		return uncoveredTypes;
+	}
+
+	public List<Counter> getCounters() {
+		return counters;
+	}
+
+	public static class Counter {
+
+		private int id;
+		private String name;
+		private List<String> types;
+		private int score;
+
+		public Counter(int id, String name, List<String> types, int score) {
+			this.id = id;
+			this.name = name;
+			this.types = types;
+			this.score = score;
+		}
+
+		public int getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<String> getTypes() {
+			return types;
+		}
+
+		public int getScore() {
+			return score;
+		}
+	}
+}
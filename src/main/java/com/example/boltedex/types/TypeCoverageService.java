@@ -0,0 +1,154 @@
+package com.example.boltedex.types;
+
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.exception.ExceptionConstants;
+import com.example.boltedex.pokemon.Pokemon;
+import com.example.boltedex.pokemon.PokemonAPIClientService;
+import com.example.boltedex.pokemon.PokemonTypeEffectiveness;
+import com.example.boltedex.search.PokedexIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+
+@Service
+public class TypeCoverageService {
+
+	public static final int MAX_TEAM_SIZE = 6;
+
+	@Autowired
+	private PokemonAPIClientService pokemonAPIClientService;
+
+	@Autowired
+	private PokedexIndex pokedexIndex;
+
+	/**
+	 * Shared weaknesses, uncovered attacking types and the best counters from the indexed dex
+	 */
+	public TypeCoverageDTO analyze(List<String> teamNames, int counterLimit) {
+		List<String> team = normalize(teamNames);
+
+		int[] combos = new int[team.size()];
+		int teamTypes = 0;
+		for (int i = 0; i < team.size(); i++) {
+			Pokemon pokemon = pokemonAPIClientService.getPokemon(team.get(i));
+			int typeMask = TypeChart.typeMask(pokemon != null ? pokemon.getTypes() : null);
+			if (typeMask == 0) {
+				throw new APIException(
+					String.format(ExceptionConstants.POKEMON_FETCH_FAILED_MESSAGE, team.get(i)),
+					ExceptionConstants.VALIDATION_ERROR,
+					ExceptionConstants.BAD_REQUEST,
+					Instant.now().toString()
+				);
+			}
+			combos[i] = TypeChart.combo(typeMask);
+			teamTypes |= typeMask;
+		}
+
+		return new TypeCoverageDTO(
+			team,
+			sharedWeaknesses(combos),
+			TypeChart.typeNames(TypeChart.ALL_TYPES & ~coveredTypes(teamTypes)),
+			counters(combos, counterLimit, new HashSet<>(team))
+		);
+	}
+
+	/**
+	 * Attacking types that at least two team members are weak to, most shared first
+	 */
+	private Map<String, Integer> sharedWeaknesses(int[] combos) {
+		int[] weakCounts = new int[TypeChart.TYPE_COUNT];
+		for (int combo : combos) {
+			int weaknesses = TypeChart.weaknessMask(combo);
+			for (int type = 0; type < TypeChart.TYPE_COUNT; type++) {
+				if ((weaknesses & (1 << type)) != 0) {
+					weakCounts[type]++;
+				}
+			}
+		}
+
+		List<Integer> shared = new ArrayList<>();
+		for (int type = 0; type < TypeChart.TYPE_COUNT; type++) {
+			if (weakCounts[type] >= 2) {
+				shared.add(type);
+			}
+		}
+		shared.sort((a, b) -> weakCounts[b] - weakCounts[a]);
+
+		Map<String, Integer> result = new LinkedHashMap<>();
+		for (int type : shared) {
+			result.put(PokemonTypeEffectiveness.TYPES[type], weakCounts[type]);
+		}
+		return result;
+	}
+
+	/**
+	 * Defending types hit super-effectively by at least one of the team's own (STAB) types
+	 */
+	private int coveredTypes(int teamTypes) {
+		int covered = 0;
+		for (int type = 0; type < TypeChart.TYPE_COUNT; type++) {
+			if ((teamTypes & (1 << type)) != 0) {
+				covered |= TypeChart.superEffectiveMask(type);
+			}
+		}
+		return covered;
+	}
+
+	/**
+	 * Rank every indexed Pokemon by how hard its types hit the team minus how hard the
+	 * team's types hit it, breaking ties on base stat total
+	 */
+	private List<TypeCoverageDTO.Counter> counters(int[] combos, int limit, Set<String> team) {
+		List<PokedexIndex.Ranked> ranked = pokedexIndex.top((typeMask, statTotal) -> {
+			int candidate = TypeChart.combo(typeMask);
+			if (candidate < 0) {
+				return Long.MIN_VALUE;
+			}
+			int first = TypeChart.firstType(candidate);
+			int second = TypeChart.secondType(candidate);
+			int score = 0;
+			for (int combo : combos) {
+				int offense = Math.max(TypeChart.multiplier(first, combo), TypeChart.multiplier(second, combo));
+				int defense = Math.max(
+						TypeChart.multiplier(TypeChart.firstType(combo), candidate),
+						TypeChart.multiplier(TypeChart.secondType(combo), candidate));
+				score += offense - defense;
+			}
+			return ((long) score << 32) | statTotal;
+		}, limit, team);
+
+		List<TypeCoverageDTO.Counter> counters = new ArrayList<>(ranked.size());
+		for (PokedexIndex.Ranked entry : ranked) {
+			counters.add(new TypeCoverageDTO.Counter(
+				entry.getId(),
+				entry.getName(),
+				TypeChart.typeNames(entry.getTypeMask()),
+				(int) (entry.getScore() >> 32)
+			));
+		}
+		return counters;
+	}
+
+	private List<String> normalize(List<String> teamNames) {
+		List<String> team = new ArrayList<>();
+		if (teamNames != null) {
+			for (String name : teamNames) {
+				String normalized = name.trim().toLowerCase();
+				if (!normalized.isEmpty() && !team.contains(normalized)) {
+					team.add(normalized);
+				}
+			}
+		}
+		if (team.isEmpty() || team.size() > MAX_TEAM_SIZE) {
+			throw new APIException(
+				String.format(ExceptionConstants.TYPE_COVERAGE_TEAM_SIZE_MESSAGE, MAX_TEAM_SIZE),
+				ExceptionConstants.VALIDATION_ERROR,
+				ExceptionConstants.BAD_REQUEST,
+				Instant.now().toString()
+			);
+		}
+		return team;
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.boltedex.types;
+
+import com.example.boltedex.pokemon.PokemonTypeEffectiveness;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weakness, resistance and immunity maps for every defending profile, built once from {@link TypeChart}.
+ *
+ * A Pokemon only keeps its types; all Pokemon with the same types share these read-only maps,
+ * which are expanded into the response JSON at the API boundary.
+ */
+public final class TypeMatchups {
+	private TypeMatchups() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	private static final List<Map<String, Double>> WEAKNESSES = new ArrayList<>(TypeChart.COMBO_COUNT);
+	private static final List<Map<String, Double>> RESISTANCES = new ArrayList<>(TypeChart.COMBO_COUNT);
+	private static final List<Map<String, Double>> IMMUNITIES = new ArrayList<>(TypeChart.COMBO_COUNT);
+
+	static {
+		for (int combo = 0; combo < TypeChart.COMBO_COUNT; combo++) {
+			boolean valid = TypeChart.firstType(combo) <= TypeChart.secondType(combo);
+			WEAKNESSES.add(valid ? expand(combo, TypeChart.weaknessMask(combo)) : Collections.emptyMap());
+			RESISTANCES.add(valid ? expand(combo, TypeChart.resistanceMask(combo)) : Collections.emptyMap());
+			IMMUNITIES.add(valid ? expand(combo, TypeChart.immunityMask(combo)) : Collections.emptyMap());
+		}
+	}
+
+	public static Map<String, Double> weaknesses(List<String> types) {
+		return lookup(WEAKNESSES, types);
+	}
+
+	public static Map<String, Double> resistances(List<String> types) {
+		return lookup(RESISTANCES, types);
+	}
+
+	public static Map<String, Double> immunities(List<String> types) {
+		return lookup(IMMUNITIES, types);
+	}
+
+	private static Map<String, Double> lookup(List<Map<String, Double>> table, List<String> types) {
+		int combo = TypeChart.combo(TypeChart.typeMask(types));
+		return combo >= 0 ? table.get(combo) : Collections.emptyMap();
+	}
+
+	private static Map<String, Double> expand(int combo, int attackMask) {
+		Map<String, Double> matchups = new LinkedHashMap<>();
+		for (int attack = 0; attack < TypeChart.TYPE_COUNT; attack++) {
+			if ((attackMask & (1 << attack)) != 0) {
+				matchups.put(PokemonTypeEffectiveness.TYPES[attack],
+						TypeChart.toMultiplier(TypeChart.multiplier(attack, combo)));
+			}
+		}
+		return Collections.unmodifiableMap(matchups);
+	}
+}
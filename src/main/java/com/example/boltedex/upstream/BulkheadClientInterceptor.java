@@ -0,0 +1,21 @@
+package com.example.boltedex.upstream;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Admits the calling request to its endpoint bulkhead before the call reaches the shared upstream limiter
+ */
+public class BulkheadClientInterceptor implements ClientHttpRequestInterceptor {
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		EndpointBulkhead.enterUpstream();
+		return execution.execute(request, body);
+	}
+}
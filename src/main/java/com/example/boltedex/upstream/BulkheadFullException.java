@@ -0,0 +1,17 @@
+package com.example.boltedex.upstream;
+
+import com.example.boltedex.exception.ExceptionConstants;
+
+/**
+ * A request needed PokeAPI while its endpoint's bulkhead and queue were full; answered with 503 and Retry-After
+ */
+public class BulkheadFullException extends LoadShedException {
+
+	public BulkheadFullException(String endpoint, long retryAfterSeconds) {
+		super(
+			String.format(ExceptionConstants.BULKHEAD_FULL_MESSAGE, endpoint),
+			ExceptionConstants.OVERLOADED_ERROR,
+			retryAfterSeconds
+		);
+	}
+}
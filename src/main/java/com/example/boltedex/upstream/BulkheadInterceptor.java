@@ -0,0 +1,41 @@
+package com.example.boltedex.upstream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Binds the requests of one endpoint group to its bulkhead for the duration of the handler
+ */
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+	private final EndpointBulkhead bulkhead;
+
+	public BulkheadInterceptor(EndpointBulkhead bulkhead) {
+		this.bulkhead = bulkhead;
+	}
+
+	@Override
+	public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+			@NonNull Object handler) {
+		EndpointBulkhead.bind(bulkhead);
+		return true;
+	}
+
+	/**
+	 * Streamed responses are written on another thread; the request thread gives its slot back here
+	 */
+	@Override
+	public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request,
+			@NonNull HttpServletResponse response, @NonNull Object handler) {
+		EndpointBulkhead.unbind();
+	}
+
+	@Override
+	public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+			@NonNull Object handler, @Nullable Exception ex) {
+		EndpointBulkhead.unbind();
+	}
+}
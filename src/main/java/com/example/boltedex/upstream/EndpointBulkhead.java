@@ -0,0 +1,154 @@
+package com.example.boltedex.upstream;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency cap with a short bounded queue for the upstream-bound requests of one endpoint.
+ *
+ * A request is bound to its endpoint's bulkhead when it starts, but only takes a slot on its first
+ * PokeAPI call (see {@link #enterUpstream()}); requests answered from the caches never queue here.
+ * When all slots are busy, up to queueSize requests wait at most maxWaitMillis for one, and the rest
+ * are rejected straight away with {@link BulkheadFullException}.
+ */
+public class EndpointBulkhead {
+
+	private static final ThreadLocal<Admission> CURRENT = new ThreadLocal<>();
+
+	private final String name;
+	private final int maxConcurrent;
+	private final int queueSize;
+	private final long maxWaitMillis;
+	private final long retryAfterSeconds;
+	private final Semaphore permits;
+	private final AtomicInteger queued = new AtomicInteger();
+
+	private final LongAdder bound = new LongAdder();
+	private final LongAdder admitted = new LongAdder();
+	private final LongAdder waited = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+
+	public EndpointBulkhead(String name, int maxConcurrent, int queueSize, long maxWaitMillis, long retryAfterSeconds) {
+		this.name = name;
+		this.maxConcurrent = maxConcurrent;
+		this.queueSize = queueSize;
+		this.maxWaitMillis = maxWaitMillis;
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.permits = new Semaphore(maxConcurrent, true);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Attach the bulkhead to the request running on this thread; nothing is acquired yet
+	 */
+	public static void bind(EndpointBulkhead bulkhead) {
+		bulkhead.bound.increment();
+		CURRENT.set(new Admission(bulkhead));
+	}
+
+	/**
+	 * Bulkhead of the request running on this thread, or null, for handing the request to another thread
+	 */
+	public static EndpointBulkhead current() {
+		Admission admission = CURRENT.get();
+		return admission != null ? admission.bulkhead : null;
+	}
+
+	/**
+	 * Bind a request already counted by {@link #bind} to the thread that carries on its work, such as
+	 * a streamed response body. Does nothing for a request that was not bound.
+	 */
+	public static void resume(EndpointBulkhead bulkhead) {
+		if (bulkhead != null) {
+			CURRENT.set(new Admission(bulkhead));
+		}
+	}
+
+	/**
+	 * Detach the request from its bulkhead, giving back the slot if it took one
+	 */
+	public static void unbind() {
+		Admission admission = CURRENT.get();
+		CURRENT.remove();
+		if (admission != null && admission.admitted) {
+			admission.bulkhead.release();
+		}
+	}
+
+	/**
+	 * Called before each PokeAPI call. The first call of a bound request takes a slot, later ones
+	 * reuse it; calls from unbound threads (schedulers, refresh jobs) pass freely. A streamed page
+	 * takes its slot before handing its misses to the fetch pool, and holds it for them.
+	 */
+	public static void enterUpstream() {
+		Admission admission = CURRENT.get();
+		if (admission == null || admission.admitted) {
+			return;
+		}
+		EndpointBulkhead bulkhead = admission.bulkhead;
+		if (!bulkhead.tryAcquire()) {
+			throw new BulkheadFullException(bulkhead.name, bulkhead.retryAfterSeconds);
+		}
+		admission.admitted = true;
+	}
+
+	boolean tryAcquire() {
+		if (permits.tryAcquire()) {
+			admitted.increment();
+			return true;
+		}
+		if (queued.incrementAndGet() > queueSize) {
+			queued.decrementAndGet();
+			rejected.increment();
+			return false;
+		}
+		try {
+			waited.increment();
+			if (permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+				admitted.increment();
+				return true;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			queued.decrementAndGet();
+		}
+		rejected.increment();
+		return false;
+	}
+
+	void release() {
+		permits.release();
+	}
+
+	public Map<String, Object> describe() {
+		Map<String, Object> description = new LinkedHashMap<>();
+		description.put("name", name);
+		description.put("maxConcurrent", maxConcurrent);
+		description.put("queueSize", queueSize);
+		description.put("maxWaitMs", maxWaitMillis);
+		description.put("active", maxConcurrent - permits.availablePermits());
+		description.put("queued", queued.get());
+		description.put("requests", bound.sum());
+		description.put("admitted", admitted.sum());
+		description.put("waited", waited.sum());
+		description.put("rejected", rejected.sum());
+		return description;
+	}
+
+	private static final class Admission {
+		final EndpointBulkhead bulkhead;
+		boolean admitted;
+
+		Admission(EndpointBulkhead bulkhead) {
+			this.bulkhead = bulkhead;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.example.boltedex.upstream;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One {@link EndpointBulkhead} per endpoint group, sized from bulkhead.{name}.max-concurrent and
+ * bulkhead.{name}.queue-size. The defaults add up to well under Tomcat's 200 worker threads, so an
+ * upstream incident can tie up at most that many workers and cached reads always find a free one.
+ */
+@Component
+public class EndpointBulkheads {
+
+	public static final String DETAIL = "detail";
+	public static final String SEARCH = "search";
+	public static final String EVOLUTION = "evolution";
+	public static final String ABILITIES = "abilities";
+	public static final String ENCOUNTERS = "encounters";
+	public static final String COVERAGE = "coverage";
+	public static final String SPRITES = "sprites";
+
+	private static final List<String> NAMES = List.of(DETAIL, SEARCH, EVOLUTION, ABILITIES, ENCOUNTERS, COVERAGE, SPRITES);
+	private static final String PROPERTY_PREFIX = "bulkhead.";
+
+	@Value("${bulkhead.enabled:true}")
+	private boolean enabled = true;
+
+	@Value("${bulkhead.max-wait-ms:50}")
+	private long maxWaitMillis = 50;
+
+	@Value("${bulkhead.retry-after-seconds:2}")
+	private long retryAfterSeconds = 2;
+
+	@Autowired
+	private Environment environment;
+
+	private final Map<String, EndpointBulkhead> bulkheads = new LinkedHashMap<>();
+
+	@PostConstruct
+	void init() {
+		for (String name : NAMES) {
+			String prefix = PROPERTY_PREFIX + name + ".";
+			bulkheads.put(name, new EndpointBulkhead(name,
+					environment.getProperty(prefix + "max-concurrent", Integer.class, defaultConcurrency(name)),
+					environment.getProperty(prefix + "queue-size", Integer.class, defaultConcurrency(name) / 2),
+					maxWaitMillis, retryAfterSeconds));
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public EndpointBulkhead get(String name) {
+		return bulkheads.get(name);
+	}
+
+	public List<Map<String, Object>> describe() {
+		List<Map<String, Object>> descriptions = new ArrayList<>();
+		for (EndpointBulkhead bulkhead : bulkheads.values()) {
+			descriptions.add(bulkhead.describe());
+		}
+		return descriptions;
+	}
+
+	private static int defaultConcurrency(String name) {
+		switch (name) {
+			case DETAIL:
+				return 24;
+			case SEARCH:
+				return 16;
+			case COVERAGE:
+				return 8;
+			default:
+				return 12;
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.example.boltedex.upstream;
+
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.exception.ExceptionConstants;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * A request was turned away before reaching PokeAPI because capacity ran out; answered with 503 and
+ * Retry-After. Callers must let it through as it is rather than wrap it or skip over it.
+ */
+@Getter
+public class LoadShedException extends APIException {
+	private final long retryAfterSeconds;
+
+	protected LoadShedException(String message, String errorCode, long retryAfterSeconds) {
+		super(message, errorCode, ExceptionConstants.SERVICE_UNAVAILABLE, Instant.now().toString());
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+}
@@ -0,0 +1,29 @@
+package com.example.boltedex.upstream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/upstream")
+public class UpstreamAdminController {
+
+	@Autowired
+	private UpstreamLimiter upstreamLimiter;
+
+	@Autowired
+	private EndpointBulkheads endpointBulkheads;
+
+	@GetMapping("/stats")
+	public ResponseEntity<Map<String, Object>> getUpstreamStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("limiter", upstreamLimiter.describe());
+		stats.put("bulkheads", endpointBulkheads.describe());
+		return ResponseEntity.ok(stats);
+	}
+}
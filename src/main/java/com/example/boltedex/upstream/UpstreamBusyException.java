@@ -0,0 +1,13 @@
+package com.example.boltedex.upstream;
+
+import com.example.boltedex.exception.ExceptionConstants;
+
+/**
+ * An interactive request timed out waiting for a slot under the adaptive PokeAPI concurrency limit
+ */
+public class UpstreamBusyException extends LoadShedException {
+
+	public UpstreamBusyException(long retryAfterSeconds) {
+		super(ExceptionConstants.UPSTREAM_BUSY_MESSAGE, ExceptionConstants.API_ERROR, retryAfterSeconds);
+	}
+}
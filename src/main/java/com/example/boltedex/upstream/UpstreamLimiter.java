@@ -0,0 +1,167 @@
+package com.example.boltedex.upstream;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shared concurrency limit for PokeAPI calls, adapted with AIMD.
+ *
+ * The limit grows by 1/limit per successful call while it is being used, is halved on 429/503 or
+ * connection failures, and shrinks by 10% when short-term latency climbs well above the long-term
+ * average (the queueing signal). Background calls leave a quarter of the limit free for
+ * interactive ones and never overtake an interactive caller that is waiting.
+ */
+public class UpstreamLimiter {
+
+	private static final double THROTTLE_BACKOFF_RATIO = 0.5;
+	private static final double LATENCY_BACKOFF_RATIO = 0.9;
+	private static final double LATENCY_TOLERANCE = 2.0;
+	private static final double SHORT_SMOOTHING = 0.2;
+	private static final double LONG_SMOOTHING = 0.02;
+
+	private final int minLimit;
+	private final int maxLimit;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+
+	private double limit;
+	private int inFlight;
+	private int interactiveWaiting;
+	private long pausedUntilNanos;
+	private boolean paused;
+	private double shortLatencyNanos;
+	private double longLatencyNanos;
+
+	public UpstreamLimiter(int minLimit, int maxLimit, int initialLimit) {
+		this.minLimit = Math.max(1, minLimit);
+		this.maxLimit = Math.max(this.minLimit, maxLimit);
+		this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+	}
+
+	/**
+	 * Wait for a slot; returns false if none freed up within the timeout
+	 */
+	public boolean acquire(UpstreamPriority priority, long timeout, TimeUnit unit) throws InterruptedException {
+		boolean interactive = priority == UpstreamPriority.INTERACTIVE;
+		long remaining = unit.toNanos(timeout);
+		lock.lock();
+		try {
+			if (interactive) {
+				interactiveWaiting++;
+			}
+			try {
+				while (!admits(interactive)) {
+					if (remaining <= 0) {
+						return false;
+					}
+					long wait = remaining;
+					long pauseLeft = pausedUntilNanos - System.nanoTime();
+					if (paused && pauseLeft > 0) {
+						wait = Math.min(wait, pauseLeft);
+					}
+					long started = System.nanoTime();
+					changed.awaitNanos(wait);
+					remaining -= System.nanoTime() - started;
+				}
+				inFlight++;
+				return true;
+			} finally {
+				if (interactive) {
+					interactiveWaiting--;
+					// Background callers held back by this one may be admissible now
+					changed.signalAll();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Return a slot and feed the call's outcome into the limit. A negative latency means no sample.
+	 */
+	public void release(long latencyNanos, boolean overloaded) {
+		lock.lock();
+		try {
+			inFlight--;
+			if (overloaded) {
+				limit = Math.max(minLimit, limit * THROTTLE_BACKOFF_RATIO);
+			} else if (latencyNanos >= 0) {
+				if (longLatencyNanos == 0) {
+					shortLatencyNanos = latencyNanos;
+					longLatencyNanos = latencyNanos;
+				} else {
+					shortLatencyNanos += SHORT_SMOOTHING * (latencyNanos - shortLatencyNanos);
+					longLatencyNanos += LONG_SMOOTHING * (latencyNanos - longLatencyNanos);
+				}
+				if (shortLatencyNanos > longLatencyNanos * LATENCY_TOLERANCE) {
+					limit = Math.max(minLimit, limit * LATENCY_BACKOFF_RATIO);
+				} else if (inFlight + 1 >= limit / 2) {
+					// Only grow while the current limit is actually being used
+					limit = Math.min(maxLimit, limit + 1.0 / limit);
+				}
+			}
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Hold back all new calls until the upstream's Retry-After has passed
+	 */
+	public void pause(long millis) {
+		lock.lock();
+		try {
+			long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+			if (!paused || until - pausedUntilNanos > 0) {
+				pausedUntilNanos = until;
+				paused = true;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getLimit() {
+		lock.lock();
+		try {
+			return (int) limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public Map<String, Object> describe() {
+		lock.lock();
+		try {
+			Map<String, Object> details = new LinkedHashMap<>();
+			details.put("limit", (int) limit);
+			details.put("inFlight", inFlight);
+			details.put("interactiveWaiting", interactiveWaiting);
+			details.put("latencyMillis", Math.round(longLatencyNanos / 1_000_000.0));
+			return details;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean admits(boolean interactive) {
+		if (paused) {
+			if (pausedUntilNanos - System.nanoTime() > 0) {
+				return false;
+			}
+			paused = false;
+		}
+		int capacity = (int) limit;
+		if (interactive) {
+			return inFlight < capacity;
+		}
+		int reserved = capacity > 1 ? Math.max(1, capacity / 4) : 0;
+		return interactiveWaiting == 0 && inFlight < capacity - reserved;
+	}
+}
@@ -0,0 +1,141 @@
+package com.example.boltedex.upstream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puts every RestTemplate call through the shared {@link UpstreamLimiter}.
+ *
+ * 429 and 503 responses pause the limiter for their Retry-After and, like connection failures,
+ * are retried for GET/HEAD with full-jitter exponential backoff. Interactive callers wait at most
+ * acquireTimeoutMillis for a slot; background callers wait as long as it takes.
+ */
+public class UpstreamLimiterInterceptor implements ClientHttpRequestInterceptor {
+
+	private static final Logger logger = LoggerFactory.getLogger(UpstreamLimiterInterceptor.class);
+	private static final long BUSY_RETRY_AFTER_SECONDS = 1;
+
+	private final UpstreamLimiter limiter;
+	private final int maxRetries;
+	private final long baseBackoffMillis;
+	private final long maxBackoffMillis;
+	private final long acquireTimeoutMillis;
+
+	public UpstreamLimiterInterceptor(UpstreamLimiter limiter, int maxRetries, long baseBackoffMillis,
+			long maxBackoffMillis, long acquireTimeoutMillis) {
+		this.limiter = limiter;
+		this.maxRetries = maxRetries;
+		this.baseBackoffMillis = baseBackoffMillis;
+		this.maxBackoffMillis = maxBackoffMillis;
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		boolean idempotent = request.getMethod() == HttpMethod.GET || request.getMethod() == HttpMethod.HEAD;
+		int attempts = idempotent ? maxRetries + 1 : 1;
+
+		for (int attempt = 1; ; attempt++) {
+			acquire();
+			long started = System.nanoTime();
+			ClientHttpResponse response;
+			try {
+				response = execution.execute(request, body);
+			} catch (IOException e) {
+				limiter.release(-1, true);
+				if (attempt >= attempts) {
+					throw e;
+				}
+				logger.debug("Retrying {} after {}", request.getURI(), e.getMessage());
+				sleep(backoff(attempt));
+				continue;
+			}
+
+			int status = response.getStatusCode().value();
+			boolean throttled = status == 429 || status == 503;
+			limiter.release(System.nanoTime() - started, throttled);
+			if (!throttled) {
+				return response;
+			}
+
+			long retryAfter = retryAfterMillis(response.getHeaders());
+			if (retryAfter > 0) {
+				limiter.pause(retryAfter);
+			}
+			// Give up rather than hold a caller past the backoff cap; the error handler sees the 429/503
+			if (attempt >= attempts || retryAfter > maxBackoffMillis) {
+				return response;
+			}
+			response.close();
+			logger.debug("PokeAPI returned {} for {}, retry {} of {}", status, request.getURI(), attempt, maxRetries);
+			sleep(Math.max(retryAfter, backoff(attempt)));
+		}
+	}
+
+	private void acquire() throws IOException {
+		UpstreamPriority priority = UpstreamPriority.current();
+		long timeout = priority == UpstreamPriority.INTERACTIVE ? acquireTimeoutMillis : Long.MAX_VALUE;
+		try {
+			if (!limiter.acquire(priority, timeout, TimeUnit.MILLISECONDS)) {
+				throw new UpstreamBusyException(BUSY_RETRY_AFTER_SECONDS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted waiting for an upstream slot");
+		}
+	}
+
+	/**
+	 * Full jitter: uniform between zero and the capped exponential delay for this attempt
+	 */
+	private long backoff(int attempt) {
+		long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+		return ThreadLocalRandom.current().nextLong(ceiling + 1);
+	}
+
+	/**
+	 * Retry-After as delta-seconds or an HTTP date, 0 when absent or unparseable
+	 */
+	static long retryAfterMillis(HttpHeaders headers) {
+		String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+		if (value == null || value.isBlank()) {
+			return 0;
+		}
+		try {
+			return Math.max(0, Long.parseLong(value.trim()) * 1000);
+		} catch (NumberFormatException e) {
+			// Not delta-seconds, try the date form
+		}
+		try {
+			ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+			return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+		} catch (DateTimeParseException e) {
+			return 0;
+		}
+	}
+
+	private static void sleep(long millis) throws InterruptedIOException {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted during upstream retry backoff");
+		}
+	}
+}
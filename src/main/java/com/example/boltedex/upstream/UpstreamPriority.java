@@ -0,0 +1,31 @@
+package com.example.boltedex.upstream;
+
+/**
+ * Who a PokeAPI call is for. Request threads are INTERACTIVE; preloads, scheduled refreshes and
+ * admin refresh jobs run their tasks through {@link #background(Runnable)}.
+ */
+public enum UpstreamPriority {
+	INTERACTIVE,
+	BACKGROUND;
+
+	private static final ThreadLocal<UpstreamPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+	public static UpstreamPriority current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Wrap a task so the upstream calls it makes queue behind interactive ones
+	 */
+	public static Runnable background(Runnable task) {
+		return () -> {
+			UpstreamPriority previous = CURRENT.get();
+			CURRENT.set(BACKGROUND);
+			try {
+				task.run();
+			} finally {
+				CURRENT.set(previous);
+			}
+		};
+	}
+}
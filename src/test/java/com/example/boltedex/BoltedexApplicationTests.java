@@ -1,13 +1,19 @@
 package com.example.boltedex;
 
+import com.example.boltedex.support.InMemoryRedisServer;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.TestPropertySource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 @SpringBootTest
 @TestPropertySource(properties = {
 	"spring.data.redis.host=localhost",
-	"spring.data.redis.port=6379",
 	"spring.data.redis.password=",
 	"spring.data.redis.username=",
 	"cache.preload.pokemon-details=false",
@@ -15,6 +21,23 @@ import org.springframework.test.context.TestPropertySource;
 })
 class BoltedexApplicationTests {
 
+	private static InMemoryRedisServer redisServer;
+
+	@DynamicPropertySource
+	static void redisProperties(DynamicPropertyRegistry registry) {
+		try {
+			redisServer = new InMemoryRedisServer();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		registry.add("spring.data.redis.port", redisServer::getPort);
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		redisServer.close();
+	}
+
 	@Test
 	void contextLoads() {
 	}
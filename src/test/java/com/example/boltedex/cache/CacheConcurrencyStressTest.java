@@ -0,0 +1,315 @@
+package com.example.boltedex.cache;
+
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.pokemon.Pokemon;
+import com.example.boltedex.pokemon.PokemonAPIClientDTO;
+import com.example.boltedex.pokemon.PokemonAPIClientImplementation;
+import com.example.boltedex.support.FixturePokeApiServer;
+import com.example.boltedex.support.InMemoryRedisServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * High-contention tests of the cache and preload paths against the in-memory Redis server and the
+ * fixture PokeAPI stand-in: many threads are released at once on the same keys while the name index
+ * is being rebuilt underneath them.
+ * Excluded from the default build, run with: mvn test -Pstress-test
+ *
+ * Tunables (system properties): stress.threads, stress.rounds
+ */
+@Tag("stress")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheConcurrencyStressTest {
+
+	private static final List<String> NAMES = Arrays.asList(
+			"blastoise", "bulbasaur", "charizard", "charmander", "charmeleon", "eevee", "gyarados", "ivysaur",
+			"magikarp", "pichu", "pikachu", "raichu", "squirtle", "venusaur", "wartortle");
+	private static final int THREADS = Integer.getInteger("stress.threads", 16);
+	private static final int ROUNDS = Integer.getInteger("stress.rounds", 20);
+	private static final int HOT_KEYS_TOP_K = 20;
+
+	private static InMemoryRedisServer redisServer;
+	private static FixturePokeApiServer pokeApiServer;
+
+	@Autowired
+	private PokemonAPIClientImplementation pokemonAPIClient;
+
+	@Autowired
+	private CacheRefreshScheduler cacheRefreshScheduler;
+
+	@Autowired
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Autowired
+	private TieredCacheRegistry tieredCacheRegistry;
+
+	@Autowired
+	private HotKeyTracker hotKeyTracker;
+
+	@Autowired
+	private CacheWriteBehind cacheWriteBehind;
+
+	@DynamicPropertySource
+	static void stubServers(DynamicPropertyRegistry registry) {
+		try {
+			redisServer = new InMemoryRedisServer();
+			pokeApiServer = new FixturePokeApiServer();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		// A little upstream latency widens the windows the races need
+		pokeApiServer.setLatency(5, 5);
+
+		registry.add("spring.data.redis.host", () -> "localhost");
+		registry.add("spring.data.redis.port", redisServer::getPort);
+		registry.add("pokeapi.base-url", pokeApiServer::getBaseUrl);
+		registry.add("cache.preload.on-startup", () -> "false");
+		registry.add("cache.snapshot.load-on-startup", () -> "false");
+		registry.add("cache.hot-keys.top-k", () -> String.valueOf(HOT_KEYS_TOP_K));
+	}
+
+	@AfterAll
+	static void stopServers() throws IOException {
+		if (pokeApiServer != null) {
+			pokeApiServer.close();
+		}
+		if (redisServer != null) {
+			redisServer.close();
+		}
+	}
+
+	@Test
+	@Order(1)
+	void concurrentEvolutionLookupsFetchEachResourceOnce() throws Exception {
+		List<String> family = List.of("squirtle", "wartortle", "blastoise");
+
+		race(THREADS, thread -> {
+			List<Pokemon.EvolutionStage> chain = pokemonAPIClient.getPokemonEvolutionChain(family.get(thread % family.size()));
+			assertEquals(family, chain.stream().map(Pokemon.EvolutionStage::getName).toList());
+		});
+
+		assertEquals(1, pokeApiServer.requestCount("/api/v2/evolution-chain/3"));
+		for (String name : family) {
+			assertEquals(1, pokeApiServer.requestCount("/api/v2/pokemon-species/" + name), name);
+			assertEquals(1, pokeApiServer.requestCount("/api/v2/pokemon/" + name), name);
+		}
+	}
+
+	@Test
+	@Order(2)
+	void concurrentDetailMissesFetchEachPokemonOnce() throws Exception {
+		race(THREADS, thread -> {
+			// Every thread walks the names from a different starting point, so each key is contended
+			for (int i = 0; i < NAMES.size(); i++) {
+				String name = NAMES.get((i + thread) % NAMES.size());
+				assertEquals(name, pokemonAPIClient.getPokemon(name).getName());
+			}
+		});
+
+		for (String name : NAMES) {
+			assertEquals(1, pokeApiServer.requestCount("/api/v2/pokemon/" + name), name);
+		}
+	}
+
+	@Test
+	@Order(3)
+	void concurrentPreloadsFetchTheNameListOnce() throws Exception {
+		for (int round = 0; round < 3; round++) {
+			makeNameIndexStale();
+			long before = pokeApiServer.requestCount("/api/v2/pokemon");
+
+			// The startup preload and the 3am cron landing together
+			race(4, thread -> cacheRefreshScheduler.preloadPokemonCache());
+
+			assertEquals(before + 1, pokeApiServer.requestCount("/api/v2/pokemon"));
+		}
+		assertEquals(NAMES.size(), stringRedisTemplate.opsForZSet().size(CacheKeys.POKEMON_NAMES_ZSET_KEY));
+	}
+
+	@Test
+	@Order(4)
+	void nameIndexIsNeverEmptyOrPartialDuringRefresh() throws Exception {
+		cacheRefreshScheduler.preloadPokemonCache();
+		Queue<Long> observedSizes = new ConcurrentLinkedQueue<>();
+
+		whileRefreshing(() -> race(THREADS, thread -> {
+			for (int i = 0; i < ROUNDS * 10; i++) {
+				Long size = stringRedisTemplate.opsForZSet().size(CacheKeys.POKEMON_NAMES_ZSET_KEY);
+				if (size == null || size != NAMES.size()) {
+					observedSizes.add(size == null ? -1 : size);
+				}
+			}
+		}));
+
+		assertTrue(observedSizes.isEmpty(), "Name index seen with sizes " + observedSizes);
+	}
+
+	@Test
+	@Order(5)
+	void paginationStaysConsistentDuringRefresh() throws Exception {
+		cacheRefreshScheduler.preloadPokemonCache();
+
+		whileRefreshing(() -> race(THREADS, thread -> {
+			for (int round = 0; round < ROUNDS; round++) {
+				assertEquals(NAMES, walkPages(null, 4));
+			}
+		}));
+	}
+
+	@Test
+	@Order(6)
+	void concurrentSearchesWriteOneConsistentResultSet() throws Exception {
+		List<String> expected = NAMES.stream().filter(name -> name.contains("a")).toList();
+
+		for (int round = 0; round < ROUNDS; round++) {
+			stringRedisTemplate.delete(CacheKeys.POKEMON_SEARCH_PREFIX + "a");
+			race(THREADS, thread -> {
+				PokemonAPIClientDTO page = pokemonAPIClient.getPokemons(null, 3, "a");
+				// A reader must never see a search set that is still being filled
+				assertEquals(expected.size(), page.getTotalCount());
+				assertEquals(expected.subList(0, 3), page.getResults().stream().map(Pokemon::getName).toList());
+			});
+			assertEquals(expected, walkPages("a", 3));
+			// The set is written with its TTL in the same script, never left without one
+			assertTrue(stringRedisTemplate.getExpire(CacheKeys.POKEMON_SEARCH_PREFIX + "a") > 0);
+		}
+	}
+
+	@Test
+	@Order(7)
+	void inProcessStateStaysBoundedUnderKeyChurn() throws Exception {
+		cacheRefreshScheduler.preloadPokemonCache();
+		int lookups = THREADS * 2000;
+		long upstreamBefore = pokeApiServer.totalRequests();
+		long redisReadsBefore = redisServer.commandCount("GET");
+		AtomicInteger notFound = new AtomicInteger();
+
+		race(THREADS, thread -> {
+			for (int i = 0; i < 2000; i++) {
+				String name = "missingno-" + thread + "-" + i;
+				try {
+					pokemonAPIClient.getPokemon(name);
+				} catch (APIException e) {
+					notFound.incrementAndGet();
+				}
+				hotKeyTracker.record(RefreshDataset.ABILITIES, name);
+			}
+		});
+
+		assertEquals(lookups, notFound.get());
+		// Unknown names are answered from the Bloom filter; only its ~1% false positives reach Redis and PokeAPI
+		assertTrue(pokeApiServer.totalRequests() - upstreamBefore <= lookups / 50);
+		assertTrue(redisServer.commandCount("GET") - redisReadsBefore <= lookups / 50);
+		assertTrue(hotKeyTracker.candidateCount(RefreshDataset.ABILITIES) <= HOT_KEYS_TOP_K * 4);
+		for (Map<String, Object> cache : tieredCacheRegistry.describe()) {
+			assertTrue((int) cache.get("localSize") <= (int) cache.get("localMaxSize"), cache.toString());
+		}
+		Map<String, Object> writeBehind = cacheWriteBehind.describe();
+		assertTrue((int) writeBehind.get("pending") <= (int) writeBehind.get("capacity"));
+	}
+
+	private List<String> walkPages(String query, int limit) {
+		List<String> seen = new ArrayList<>();
+		String cursor = null;
+		for (int page = 0; page <= NAMES.size(); page++) {
+			PokemonAPIClientDTO result = pokemonAPIClient.getPokemons(cursor, limit, query);
+			if (result.getResults().isEmpty()) {
+				return seen;
+			}
+			result.getResults().forEach(pokemon -> seen.add(pokemon.getName()));
+			cursor = result.getNextCursor();
+		}
+		fail("Pagination did not terminate: " + seen);
+		return seen;
+	}
+
+	private void makeNameIndexStale() {
+		stringRedisTemplate.expire(CacheKeys.POKEMON_NAMES_ZSET_KEY, 60, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Rebuild the name index over and over (as the preload does when it finds it stale) while the readers run
+	 */
+	private void whileRefreshing(ThrowingRunnable readers) throws Exception {
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicInteger refreshes = new AtomicInteger();
+		Thread refresher = new Thread(() -> {
+			while (!done.get()) {
+				makeNameIndexStale();
+				cacheRefreshScheduler.preloadPokemonCache();
+				refreshes.incrementAndGet();
+			}
+		}, "stress-refresher");
+		refresher.start();
+		try {
+			readers.run();
+		} finally {
+			done.set(true);
+			refresher.join(TimeUnit.SECONDS.toMillis(30));
+		}
+		assertTrue(refreshes.get() > 0, "The index was never refreshed while the readers ran");
+	}
+
+	/**
+	 * Release every thread at once on the task and rethrow the first failure
+	 */
+	private static void race(int threads, ThreadTask task) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				int thread = i;
+				futures.add(pool.submit(() -> {
+					start.await();
+					task.run(thread);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(2, TimeUnit.MINUTES);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@FunctionalInterface
+	private interface ThreadTask {
+		void run(int thread) throws Exception;
+	}
+
+	@FunctionalInterface
+	private interface ThrowingRunnable {
+		void run() throws Exception;
+	}
+}
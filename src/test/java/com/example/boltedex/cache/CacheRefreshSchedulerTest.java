@@ -0,0 +1,157 @@
+package com.example.boltedex.cache;
+
+import com.example.boltedex.pokemon.Pokemon;
+import com.example.boltedex.pokemon.PokemonAPIClientImplementation;
+import com.example.boltedex.search.PokedexIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CacheRefreshSchedulerTest {
+
+	@Mock
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Mock
+	private RedisTemplate<String, Pokemon> pokemonRedisTemplate;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private ValueOperations<String, Pokemon> valueOperations;
+
+	@Mock
+	private PokemonAPIClientImplementation pokemonAPIClient;
+
+	@Mock
+	private TieredCache<Pokemon> detailCache;
+
+	@Mock
+	private HotKeyTracker hotKeyTracker;
+
+	@Mock
+	private RestTemplate restTemplate;
+
+	@Spy
+	private WarmupProgress warmupProgress = new WarmupProgress();
+
+	@Spy
+	private PokedexIndex pokedexIndex = new PokedexIndex();
+
+	@InjectMocks
+	private CacheRefreshScheduler cacheRefreshScheduler;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(pokemonRedisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(pokemonAPIClient.getDetailCache()).thenReturn(detailCache);
+		when(detailCache.getPolicy()).thenReturn(new CachePolicy(Duration.ofHours(24), Duration.ofMinutes(10), 0, false));
+		when(hotKeyTracker.prioritize(eq(RefreshDataset.DETAILS), anyCollection()))
+				.thenAnswer(invocation -> List.copyOf((Collection<String>) invocation.getArgument(1)));
+		when(pokemonAPIClient.mapToPokemon(any(JsonNode.class))).thenAnswer(invocation -> {
+			JsonNode data = invocation.getArgument(0);
+			return pokemon(data.get("id").asInt(), data.get("name").asText());
+		});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldSkipFailingNamesWithoutFailingTheRunOrCountingThemAsWarm() {
+		List<String> names = List.of("bulbasaur", "missingno", "pikachu");
+		when(zSetOperations.range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, -1)).thenReturn(new LinkedHashSet<>(names));
+		stubDetail("bulbasaur", 1);
+		stubDetail("pikachu", 25);
+		when(restTemplate.exchange(endsWith("/pokemon/missingno"), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+				.thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+		cacheRefreshScheduler.preloadPokemonDetails();
+
+		verify(detailCache).put(eq("bulbasaur"), any(Pokemon.class), eq(Duration.ofHours(30)));
+		verify(detailCache).put(eq("pikachu"), any(Pokemon.class), eq(Duration.ofHours(30)));
+		assertEquals(2.0 / 3, warmupProgress.fraction(WarmupProgress.DETAILS), 1e-9);
+		Map<String, Object> details = (Map<String, Object>) warmupProgress.describe().get(WarmupProgress.DETAILS);
+		assertEquals(2L, details.get("completed"));
+		assertEquals(1L, details.get("failed"));
+	}
+
+	@Test
+	void shouldCompleteTheDetailsDatasetWhenEveryNameLoads() {
+		when(zSetOperations.range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, -1)).thenReturn(new LinkedHashSet<>(List.of("pikachu")));
+		stubDetail("pikachu", 25);
+
+		cacheRefreshScheduler.preloadPokemonDetails();
+
+		assertEquals(1.0, warmupProgress.fraction(WarmupProgress.DETAILS));
+	}
+
+	@Test
+	void shouldIndexPreloadedDetailsInBatches() {
+		List<String> names = new ArrayList<>();
+		for (int i = 1; i <= 450; i++) {
+			names.add(String.format("pokemon-%03d", i));
+		}
+		when(zSetOperations.range(CacheKeys.POKEMON_NAMES_ZSET_KEY, 0, -1)).thenReturn(new LinkedHashSet<>(names));
+		// Every entry is cached and fresh, so the run only indexes them
+		when(valueOperations.get(anyString())).thenAnswer(invocation -> {
+			String name = invocation.<String>getArgument(0).substring(CacheKeys.POKEMON_DETAIL_CACHE_PREFIX.length());
+			return pokemon(names.indexOf(name) + 1, name);
+		});
+
+		cacheRefreshScheduler.preloadPokemonDetails();
+
+		assertEquals(450, pokedexIndex.size());
+		verify(pokedexIndex, never()).upsert(any());
+		verify(pokedexIndex, times(3)).upsertAll(anyCollection());
+	}
+
+	private void stubDetail(String name, int id) {
+		when(restTemplate.exchange(endsWith("/pokemon/" + name), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+				.thenReturn(ResponseEntity.ok("{\"id\": " + id + ", \"name\": \"" + name + "\"}"));
+	}
+
+	private static Pokemon pokemon(int id, String name) {
+		Pokemon pokemon = new Pokemon();
+		pokemon.setId(id);
+		pokemon.setName(name);
+		pokemon.setTypes(List.of("normal"));
+		pokemon.setBaseStats(new Pokemon.Stats());
+		return pokemon;
+	}
+}
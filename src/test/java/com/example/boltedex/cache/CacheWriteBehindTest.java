@@ -0,0 +1,161 @@
+package com.example.boltedex.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CacheWriteBehindTest {
+
+	@Mock
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Mock
+	private RedisTemplate<String, String> template;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private RedisConnection connection;
+
+	@Mock
+	private RedisStringCommands stringCommands;
+
+	@Mock
+	private SnapshotService snapshotService;
+
+	private final RedisHealthMonitor redisHealthMonitor = new RedisHealthMonitor();
+	private final LocalFallbackCache localFallbackCache = new LocalFallbackCache();
+	private final CacheWriteBehind writeBehind = new CacheWriteBehind();
+
+	@BeforeEach
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	void setUp() {
+		when(template.opsForValue()).thenReturn(valueOperations);
+		when(template.getValueSerializer()).thenReturn((RedisSerializer) RedisSerializer.string());
+		when(connection.stringCommands()).thenReturn(stringCommands);
+		when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+			((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+			return List.of();
+		});
+		ReflectionTestUtils.setField(writeBehind, "stringRedisTemplate", stringRedisTemplate);
+		ReflectionTestUtils.setField(writeBehind, "redisHealthMonitor", redisHealthMonitor);
+		ReflectionTestUtils.setField(writeBehind, "localFallbackCache", localFallbackCache);
+		// Only the explicit flush in stop() writes, so the tests see exactly one batch
+		ReflectionTestUtils.setField(writeBehind, "flushIntervalMillis", 60_000L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		writeBehind.stop();
+	}
+
+	@Test
+	void shouldCoalesceQueuedWritesAndFlushThemOnShutdown() {
+		writeBehind.start();
+
+		assertTrue(writeBehind.submit(template, "test:pikachu", "electric", 1, TimeUnit.HOURS));
+		assertTrue(writeBehind.submit(template, "test:pikachu", "electric-updated", 1, TimeUnit.HOURS));
+		assertTrue(writeBehind.submit(template, "test:charizard", "fire", 1, TimeUnit.HOURS));
+		assertEquals("electric-updated", writeBehind.pending("test:pikachu"));
+		verifyNoInteractions(stringRedisTemplate);
+
+		writeBehind.stop();
+
+		verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+		verify(stringCommands).set(aryEq(raw("test:pikachu")), aryEq(raw("electric-updated")),
+				eq(Expiration.seconds(3600)), eq(RedisStringCommands.SetOption.upsert()));
+		verify(stringCommands, times(2)).set(any(byte[].class), any(byte[].class), any(Expiration.class),
+				any(RedisStringCommands.SetOption.class));
+		assertNull(writeBehind.pending("test:pikachu"));
+		assertEquals(1L, writeBehind.describe().get("coalesced"));
+		assertEquals(2L, writeBehind.describe().get("written"));
+	}
+
+	@Test
+	void shouldHandWritesBackToCallerWhenFull() {
+		ReflectionTestUtils.setField(writeBehind, "capacity", 1);
+		writeBehind.start();
+
+		assertTrue(writeBehind.submit(template, "test:pikachu", "electric", 1, TimeUnit.HOURS));
+		assertFalse(writeBehind.submit(template, "test:charizard", "fire", 1, TimeUnit.HOURS));
+		// Replacing a queued key does not grow the queue
+		assertTrue(writeBehind.submit(template, "test:pikachu", "electric-updated", 1, TimeUnit.HOURS));
+		assertEquals(1L, writeBehind.describe().get("overflowed"));
+	}
+
+	@Test
+	void shouldDropWritesWhenFullUnderDropPolicy() {
+		ReflectionTestUtils.setField(writeBehind, "capacity", 1);
+		ReflectionTestUtils.setField(writeBehind, "onFull", CacheWriteBehind.ON_FULL_DROP);
+		writeBehind.start();
+
+		writeBehind.submit(template, "test:pikachu", "electric", 1, TimeUnit.HOURS);
+
+		assertTrue(writeBehind.submit(template, "test:charizard", "fire", 1, TimeUnit.HOURS));
+		assertNull(writeBehind.pending("test:charizard"));
+	}
+
+	@Test
+	void shouldKeepBatchInLocalFallbackWhenRedisDrops() {
+		when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+				.thenThrow(new RedisConnectionFailureException("Connection refused"));
+		writeBehind.start();
+		writeBehind.submit(template, "test:pikachu", "electric", 1, TimeUnit.HOURS);
+
+		writeBehind.stop();
+
+		assertFalse(redisHealthMonitor.isAvailable());
+		assertEquals("electric", localFallbackCache.get("test:pikachu"));
+		assertNull(writeBehind.pending("test:pikachu"));
+	}
+
+	@Test
+	void shouldServeQueuedFillsBeforeTheyAreFlushed() {
+		writeBehind.start();
+		TieredCache<String> cache = new TieredCache<>("test", "test:",
+				new CachePolicy(Duration.ofHours(1), Duration.ofMinutes(5), 0, false), template, CacheCodec.identity(),
+				redisHealthMonitor, localFallbackCache, snapshotService, writeBehind, Runnable::run);
+
+		assertEquals("electric", cache.get("pikachu", name -> "electric"));
+		assertEquals("electric", cache.getIfPresent("pikachu"));
+
+		verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+		verify(valueOperations, times(1)).get("test:pikachu");
+	}
+
+	@Test
+	void shouldLeaveWritesToCallerWhenNotRunning() {
+		assertFalse(writeBehind.submit(template, "test:pikachu", "electric", 1, TimeUnit.HOURS));
+	}
+
+	private static byte[] raw(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,147 @@
+package com.example.boltedex.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HotKeyTrackerTest {
+
+	@Mock
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private RedisConnection connection;
+
+	@Mock
+	private RedisKeyCommands keyCommands;
+
+	@Mock
+	private RedisZSetCommands zSetCommands;
+
+	private final HotKeyTracker tracker = new HotKeyTracker();
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(connection.keyCommands()).thenReturn(keyCommands);
+		when(connection.zSetCommands()).thenReturn(zSetCommands);
+		when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+			((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+			return List.of();
+		});
+		ReflectionTestUtils.setField(tracker, "stringRedisTemplate", stringRedisTemplate);
+		ReflectionTestUtils.setField(tracker, "redisHealthMonitor", new RedisHealthMonitor());
+		ReflectionTestUtils.setField(tracker, "topK", 3);
+		ReflectionTestUtils.setField(tracker, "sketchWidth", 64);
+		tracker.init();
+	}
+
+	@Test
+	void shouldRankSkewedTrafficAndOrderPreloadByIt() {
+		record(RefreshDataset.DETAILS, "pikachu", 50);
+		record(RefreshDataset.DETAILS, "charizard", 20);
+		record(RefreshDataset.DETAILS, "mewtwo", 5);
+		for (int i = 0; i < 30; i++) {
+			tracker.record(RefreshDataset.DETAILS, "rare-" + i);
+		}
+
+		assertEquals(List.of("pikachu", "charizard", "mewtwo"), tracker.hottest(RefreshDataset.DETAILS, 3));
+		assertEquals(List.of("pikachu", "charizard", "abra", "bulbasaur"),
+				tracker.prioritize(RefreshDataset.DETAILS, List.of("abra", "bulbasaur", "charizard", "pikachu")));
+		// Datasets are tracked separately
+		assertTrue(tracker.hottest(RefreshDataset.ABILITIES, 3).isEmpty());
+	}
+
+	@Test
+	void shouldLetOldPopularityDecay() {
+		HotKeyTracker.FrequencySketch sketch = new HotKeyTracker.FrequencySketch(16);
+		for (int i = 0; i < 100; i++) {
+			sketch.increment("pikachu");
+		}
+		int before = sketch.estimate("pikachu");
+
+		// One full sample of other traffic halves every counter
+		for (int i = 0; i < sketch.sampleSize; i++) {
+			sketch.increment("other-" + (i % 7));
+		}
+
+		assertTrue(before >= 100);
+		assertTrue(sketch.estimate("pikachu") <= before / 2 + 1, "estimate: " + sketch.estimate("pikachu"));
+	}
+
+	@Test
+	void shouldRestoreBeforeTheFirstPersistAndPersistThroughStagingKey() {
+		record(RefreshDataset.DETAILS, "pikachu", 5);
+		when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong()))
+				.thenThrow(new IllegalStateException("LOADING"))
+				.thenReturn(Set.of());
+
+		// The previous top-K could not be read back, so nothing may overwrite it yet
+		tracker.persist();
+		verifyNoInteractions(connection);
+
+		// Without waiting for warm-up to call restore()
+		tracker.persist();
+		tracker.restore();
+
+		byte[] staging = raw(CacheKeys.POKEMON_HOT_KEYS_PREFIX + "details:staging");
+		verify(zSetCommands).zAdd(aryEq(staging), anySet());
+		verify(keyCommands).rename(aryEq(staging), aryEq(raw(CacheKeys.POKEMON_HOT_KEYS_PREFIX + "details")));
+		// Datasets without traffic keep whatever was persisted before
+		verify(keyCommands, times(1)).rename(any(byte[].class), any(byte[].class));
+		// One failed read, then one per dataset; the later restore() is a no-op
+		verify(zSetOperations, times(1 + HotKeyTracker.TRACKED.size())).reverseRangeWithScores(anyString(), anyLong(), anyLong());
+	}
+
+	@Test
+	void shouldSeedFromPersistedTopK() {
+		Set<ZSetOperations.TypedTuple<String>> persisted = new LinkedHashSet<>();
+		persisted.add(new DefaultTypedTuple<>("eevee", 40.0));
+		persisted.add(new DefaultTypedTuple<>("gengar", 10.0));
+		when(zSetOperations.reverseRangeWithScores(CacheKeys.POKEMON_HOT_KEYS_PREFIX + "evolution", 0, 2))
+				.thenReturn(persisted);
+
+		tracker.restore();
+		record(RefreshDataset.EVOLUTION, "gengar", 5);
+
+		assertEquals(List.of("eevee", "gengar"), tracker.hottest(RefreshDataset.EVOLUTION, 3));
+	}
+
+	private void record(RefreshDataset dataset, String name, int times) {
+		for (int i = 0; i < times; i++) {
+			tracker.record(dataset, name);
+		}
+	}
+
+	private static byte[] raw(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,142 @@
+package com.example.boltedex.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisHealthMonitorTest {
+
+	@Mock
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private SnapshotService snapshotService;
+
+	private final RedisHealthMonitor redisHealthMonitor = new RedisHealthMonitor();
+	private final LocalFallbackCache localFallbackCache = new LocalFallbackCache();
+
+	@BeforeEach
+	void setUp() {
+		when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(stringRedisTemplate.execute(any(RedisCallback.class))).thenReturn("PONG");
+		ReflectionTestUtils.setField(redisHealthMonitor, "stringRedisTemplate", stringRedisTemplate);
+		ReflectionTestUtils.setField(redisHealthMonitor, "localFallbackCache", localFallbackCache);
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisHealthMonitor.stop();
+	}
+
+	@Test
+	void shouldResyncFallbackEntriesWithTheirPolicyTtl() {
+		TieredCache<String> missingCache = new TieredCache<>("missing", CacheKeys.POKEMON_MISSING_PREFIX,
+				new CachePolicy(Duration.ofMinutes(10), Duration.ofMinutes(10), 0, false), stringRedisTemplate,
+				CacheCodec.identity(), redisHealthMonitor, localFallbackCache, snapshotService, new CacheWriteBehind(),
+				Runnable::run);
+		redisHealthMonitor.reportFailure(new RedisConnectionFailureException("Connection refused"));
+
+		missingCache.put("missingno", "1");
+		redisHealthMonitor.checkHealth();
+
+		assertTrue(redisHealthMonitor.isAvailable());
+		ArgumentCaptor<Long> ttl = ArgumentCaptor.forClass(Long.class);
+		verify(valueOperations).set(eq(CacheKeys.POKEMON_MISSING_PREFIX + "missingno"), eq("1"), ttl.capture(),
+				eq(TimeUnit.SECONDS));
+		assertTrue(ttl.getValue() > 590 && ttl.getValue() <= 600, "TTL was " + ttl.getValue());
+	}
+
+	@Test
+	void shouldDropFallbackEntriesThatWouldAlreadyHaveExpired() {
+		redisHealthMonitor.reportFailure(new RedisConnectionFailureException("Connection refused"));
+		localFallbackCache.put(CacheKeys.POKEMON_MISSING_PREFIX + "missingno", "1", 0, TimeUnit.SECONDS);
+
+		redisHealthMonitor.checkHealth();
+
+		assertTrue(redisHealthMonitor.isAvailable());
+		verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+	}
+
+	@Test
+	void shouldRecoverWhileTheSharedSchedulerIsBlockedByAPreload() throws Exception {
+		// Boot's default scheduler has a single thread, which the details preload holds for minutes
+		ThreadPoolTaskScheduler sharedScheduler = new ThreadPoolTaskScheduler();
+		sharedScheduler.initialize();
+		CountDownLatch preloadRunning = new CountDownLatch(1);
+		CountDownLatch preloadReleased = new CountDownLatch(1);
+		sharedScheduler.execute(() -> {
+			preloadRunning.countDown();
+			try {
+				preloadReleased.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		ReflectionTestUtils.setField(redisHealthMonitor, "healthCheckIntervalMillis", 20L);
+
+		try {
+			assertTrue(preloadRunning.await(5, TimeUnit.SECONDS));
+			redisHealthMonitor.reportFailure(new RedisConnectionFailureException("Connection refused"));
+			localFallbackCache.put(CacheKeys.POKEMON_MISSING_PREFIX + "missingno", "1", 10, TimeUnit.MINUTES);
+
+			redisHealthMonitor.start();
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (!redisHealthMonitor.isAvailable() && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+
+			assertTrue(redisHealthMonitor.isAvailable());
+			assertEquals(1, preloadReleased.getCount());
+			verify(valueOperations).set(eq(CacheKeys.POKEMON_MISSING_PREFIX + "missingno"), eq("1"), anyLong(),
+					eq(TimeUnit.SECONDS));
+		} finally {
+			preloadReleased.countDown();
+			sharedScheduler.shutdown();
+		}
+	}
+
+	@Test
+	void shouldStopServingFallbackEntriesOnceExpiredOrResynced() {
+		localFallbackCache.put(CacheKeys.POKEMON_MISSING_PREFIX + "expired", "1", 0, TimeUnit.SECONDS);
+		localFallbackCache.put(CacheKeys.POKEMON_MISSING_PREFIX + "missingno", "1", 10, TimeUnit.MINUTES);
+		assertNull(localFallbackCache.get(CacheKeys.POKEMON_MISSING_PREFIX + "expired"));
+		assertEquals("1", localFallbackCache.get(CacheKeys.POKEMON_MISSING_PREFIX + "missingno"));
+		redisHealthMonitor.reportFailure(new RedisConnectionFailureException("Connection refused"));
+
+		redisHealthMonitor.checkHealth();
+
+		// Redis owns the entry now; a later outage must not serve this copy over a newer value
+		assertNull(localFallbackCache.get(CacheKeys.POKEMON_MISSING_PREFIX + "missingno"));
+		assertEquals(0, localFallbackCache.size());
+	}
+}
@@ -0,0 +1,125 @@
+package com.example.boltedex.cache;
+
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.pokemon.Pokemon;
+import com.example.boltedex.pokemon.PokemonAPIClientImplementation;
+import com.example.boltedex.search.PokedexIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshJobServiceTest {
+
+	@Mock
+	private PokemonAPIClientImplementation pokemonAPIClient;
+
+	@Mock
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Mock
+	private Executor cacheRefreshExecutor;
+
+	@Spy
+	private PokedexIndex pokedexIndex = new PokedexIndex();
+
+	@InjectMocks
+	private RefreshJobService refreshJobService;
+
+	@Test
+	void shouldRefreshIdRangeAndReportProgress() throws Exception {
+		pokedexIndex.upsertAll(List.of(pokemon(1, "bulbasaur"), pokemon(4, "charmander"), pokemon(7, "squirtle")));
+
+		RefreshJob job = refreshJobService.submit(request(null, 1, 4, List.of("details", "species")));
+		runQueued();
+
+		verify(pokemonAPIClient).refreshCachedEntry(RefreshDataset.DETAILS, "bulbasaur");
+		verify(pokemonAPIClient).refreshCachedEntry(RefreshDataset.SPECIES, "charmander");
+		verify(pokemonAPIClient, never()).refreshCachedEntry(any(), eq("squirtle"));
+
+		Map<String, Object> progress = job.describe();
+		assertEquals(RefreshJob.Status.COMPLETED, progress.get("status"));
+		assertEquals(4L, progress.get("total"));
+		assertEquals(4L, progress.get("completed"));
+		assertEquals(100.0, progress.get("percent"));
+	}
+
+	@Test
+	void shouldRejectIdenticalActiveJob() {
+		RefreshJob first = refreshJobService.submit(request(List.of("Pikachu", "eevee"), null, null, null));
+
+		APIException error = assertThrows(APIException.class, () ->
+				refreshJobService.submit(request(List.of("eevee", "pikachu"), null, null, null)));
+
+		assertEquals(409, error.getStatusCode());
+		assertTrue(error.getMessage().contains(first.getId()));
+	}
+
+	@Test
+	void shouldStopCancelledJobBeforeNextEntry() throws Exception {
+		RefreshJob job = refreshJobService.submit(request(List.of("pikachu", "eevee"), null, null, List.of("abilities")));
+		doAnswer(invocation -> {
+			refreshJobService.cancel(job.getId());
+			return null;
+		}).when(pokemonAPIClient).refreshCachedEntry(RefreshDataset.ABILITIES, "eevee");
+
+		runQueued();
+
+		assertEquals(RefreshJob.Status.CANCELLED, job.getStatus());
+		verify(pokemonAPIClient, never()).refreshCachedEntry(any(), eq("pikachu"));
+	}
+
+	@Test
+	void shouldRejectUnknownDataset() {
+		APIException error = assertThrows(APIException.class, () ->
+				refreshJobService.submit(request(List.of("pikachu"), null, null, List.of("moves"))));
+
+		assertEquals(400, error.getStatusCode());
+		verifyNoInteractions(cacheRefreshExecutor);
+	}
+
+	@Test
+	void shouldReturnNotFoundForUnknownJob() {
+		APIException error = assertThrows(APIException.class, () -> refreshJobService.get("missing"));
+
+		assertEquals(404, error.getStatusCode());
+	}
+
+	private void runQueued() {
+		ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+		verify(cacheRefreshExecutor).execute(task.capture());
+		task.getValue().run();
+	}
+
+	private static RefreshJobRequest request(List<String> names, Integer fromId, Integer toId, List<String> datasets) {
+		RefreshJobRequest request = new RefreshJobRequest();
+		request.setNames(names);
+		request.setFromId(fromId);
+		request.setToId(toId);
+		request.setDatasets(datasets);
+		return request;
+	}
+
+	private static Pokemon pokemon(int id, String name) {
+		Pokemon pokemon = new Pokemon();
+		pokemon.setId(id);
+		pokemon.setName(name);
+		pokemon.setTypes(List.of("normal"));
+		pokemon.setBaseStats(new Pokemon.Stats());
+		return pokemon;
+	}
+}
@@ -0,0 +1,49 @@
+package com.example.boltedex.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotFileTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void shouldRoundTripNamesAndRawValues() throws Exception {
+		// Arrange
+		Path path = tempDir.resolve("pokedex.snapshot");
+		List<String> names = Arrays.asList("bulbasaur", "charmander", "pikachu");
+		Map<String, byte[]> entries = new LinkedHashMap<>();
+		entries.put("pokemon:detail:pikachu", "{\"id\":25,\"name\":\"pikachu\"}".getBytes(StandardCharsets.UTF_8));
+		entries.put("pokemon:species:pikachu", "{\"evolution_chain\":{}}".getBytes(StandardCharsets.UTF_8));
+
+		// Act
+		SnapshotFile.write(path, names, entries);
+		SnapshotFile snapshot = SnapshotFile.open(path);
+
+		// Assert
+		assertEquals(names, snapshot.getNames());
+		assertEquals(2, snapshot.size());
+		assertArrayEquals(entries.get("pokemon:detail:pikachu"), snapshot.get("pokemon:detail:pikachu"));
+		assertArrayEquals(entries.get("pokemon:species:pikachu"), snapshot.get("pokemon:species:pikachu"));
+		assertNull(snapshot.get("pokemon:detail:missingno"));
+		assertFalse(Files.exists(tempDir.resolve("pokedex.snapshot.tmp")));
+	}
+
+	@Test
+	void shouldRejectFileThatIsNotASnapshot() throws Exception {
+		// Arrange
+		Path path = tempDir.resolve("garbage.snapshot");
+		Files.write(path, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 });
+
+		// Act & Assert
+		assertThrows(java.io.IOException.class, () -> SnapshotFile.open(path));
+	}
+}
@@ -0,0 +1,87 @@
+package com.example.boltedex.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SnapshotServiceTest {
+
+	private static final String PIKACHU = CacheKeys.POKEMON_DETAIL_CACHE_PREFIX + "pikachu";
+	private static final byte[] PIKACHU_JSON = "{\"id\":25,\"name\":\"pikachu\"}".getBytes(StandardCharsets.UTF_8);
+
+	@TempDir
+	Path tempDir;
+
+	@Mock
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Spy
+	private LocalFallbackCache localFallbackCache = new LocalFallbackCache();
+
+	@InjectMocks
+	private SnapshotService snapshotService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Path path = tempDir.resolve("pokedex.snapshot");
+		SnapshotFile.write(path, List.of("bulbasaur", "pikachu"), Map.of(PIKACHU, PIKACHU_JSON));
+		ReflectionTestUtils.setField(snapshotService, "snapshotPath", path.toString());
+		ReflectionTestUtils.setField(snapshotService, "loadOnStartup", true);
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+	}
+
+	@Test
+	void shouldKeepServingTheSnapshotWhenRedisCannotBeLoadedUntilWarmupCompletes() {
+		when(zSetOperations.size(CacheKeys.POKEMON_NAMES_ZSET_KEY))
+				.thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+		assertTrue(snapshotService.openForServing());
+		assertThrows(RedisConnectionFailureException.class, snapshotService::loadIntoRedisIfEmpty);
+
+		assertArrayEquals(PIKACHU_JSON, snapshotService.read(PIKACHU));
+		assertEquals(List.of("bulbasaur", "pikachu"), localFallbackCache.getNames());
+
+		snapshotService.stopServing();
+
+		assertNull(snapshotService.read(PIKACHU));
+	}
+
+	@Test
+	void shouldKeepServingTheSnapshotAfterRedisAlreadyHasTheIndex() {
+		when(zSetOperations.size(CacheKeys.POKEMON_NAMES_ZSET_KEY)).thenReturn(2L);
+
+		assertFalse(snapshotService.loadIntoRedisIfEmpty());
+
+		assertArrayEquals(PIKACHU_JSON, snapshotService.read(PIKACHU));
+		verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.boltedex.cache;
+
+import com.example.boltedex.support.InMemoryRedisServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the replace script itself (on the in-memory server's Lua runtime) through a real Lettuce connection
+ */
+class SortedSetWriterTest {
+
+	private static final String KEY = CacheKeys.POKEMON_NAMES_ZSET_KEY;
+
+	private InMemoryRedisServer redisServer;
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate template;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		redisServer = new InMemoryRedisServer();
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redisServer.getPort()));
+		connectionFactory.afterPropertiesSet();
+		template = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		connectionFactory.destroy();
+		redisServer.close();
+	}
+
+	@Test
+	void shouldReplaceTheSetWithItsTtlAcrossZaddBatches() {
+		// More members than one ZADD batch of the script
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < 2500; i++) {
+			names.add(String.format("pokemon-%04d", i));
+		}
+		template.opsForZSet().add(KEY, "stale", 0);
+
+		SortedSetWriter.replace(template, KEY, names, 2, TimeUnit.HOURS);
+
+		assertEquals(2500L, template.opsForZSet().size(KEY));
+		assertNull(template.opsForZSet().score(KEY, "stale"));
+		assertEquals(Set.of("pokemon-0000", "pokemon-0001"), template.opsForZSet().range(KEY, 0, 1));
+		assertEquals(Set.of("pokemon-2499"), template.opsForZSet().range(KEY, -1, -1));
+		assertEquals(0.0, template.opsForZSet().score(KEY, "pokemon-1000"));
+		Long ttl = template.getExpire(KEY, TimeUnit.SECONDS);
+		assertTrue(ttl > 7190 && ttl <= 7200, "TTL was " + ttl);
+	}
+
+	@Test
+	void shouldLeaveTheCurrentSetInPlaceForNoMembers() {
+		SortedSetWriter.replace(template, KEY, List.of("pikachu", "bulbasaur", "pikachu"), 1, TimeUnit.HOURS);
+
+		SortedSetWriter.replace(template, KEY, List.of(), 1, TimeUnit.HOURS);
+
+		assertEquals(List.of("bulbasaur", "pikachu"), new ArrayList<>(template.opsForZSet().range(KEY, 0, -1)));
+		// Only the first call ran the script
+		assertEquals(1, redisServer.commandCount("ZADD"));
+	}
+}
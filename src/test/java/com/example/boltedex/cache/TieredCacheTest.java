@@ -0,0 +1,199 @@
+package com.example.boltedex.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TieredCacheTest {
+
+	@Mock
+	private RedisTemplate<String, String> template;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private SnapshotService snapshotService;
+
+	private final RedisHealthMonitor redisHealthMonitor = new RedisHealthMonitor();
+	private final LocalFallbackCache localFallbackCache = new LocalFallbackCache();
+	private final CacheWriteBehind cacheWriteBehind = new CacheWriteBehind();
+
+	@BeforeEach
+	void setUp() {
+		when(template.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	void shouldServeRepeatReadsFromLocalTier() {
+		TieredCache<String> cache = cache(new CachePolicy(Duration.ofHours(1), Duration.ofMinutes(5), 10, true));
+		when(valueOperations.get("test:pikachu")).thenReturn("electric");
+
+		assertEquals("electric", cache.getIfPresent("pikachu"));
+		assertEquals("electric", cache.getIfPresent("pikachu"));
+
+		verify(valueOperations, times(1)).get("test:pikachu");
+		assertEquals(1L, cache.describe().get("localHits"));
+		assertEquals(1L, cache.describe().get("remoteHits"));
+	}
+
+	@Test
+	void shouldServeStaleLocalEntryWhileRereadingRedis() {
+		TieredCache<String> cache = cache(new CachePolicy(Duration.ofHours(1), Duration.ZERO, 10, true));
+		when(valueOperations.get("test:pikachu")).thenReturn("electric", "electric-updated");
+
+		cache.getIfPresent("pikachu");
+
+		// The stale copy is returned while the refresh (run inline here) picks up the new value
+		assertEquals("electric", cache.getIfPresent("pikachu"));
+		assertEquals("electric-updated", cache.getIfPresent("pikachu"));
+		assertEquals(2L, cache.describe().get("staleHits"));
+		// Stale reads are not counted as fresh local hits
+		assertEquals(0L, cache.describe().get("localHits"));
+	}
+
+	@Test
+	void shouldServeStaleEntryAgainWhenRefreshPoolIsFull() {
+		AtomicInteger rejected = new AtomicInteger();
+		TieredCache<String> cache = new TieredCache<>("test", "test:",
+				new CachePolicy(Duration.ofHours(1), Duration.ZERO, 10, true), template, CacheCodec.identity(),
+				redisHealthMonitor, localFallbackCache, snapshotService, cacheWriteBehind, task -> {
+					if (rejected.getAndIncrement() == 0) {
+						throw new RejectedExecutionException("full");
+					}
+					task.run();
+				});
+		when(valueOperations.get("test:pikachu")).thenReturn("electric", "electric-updated");
+		cache.getIfPresent("pikachu");
+
+		// Rejected: the stale copy is served, and the next read submits the refresh again
+		assertEquals("electric", cache.getIfPresent("pikachu"));
+		assertEquals("electric", cache.getIfPresent("pikachu"));
+		assertEquals("electric-updated", cache.getIfPresent("pikachu"));
+		verify(valueOperations, times(3)).get("test:pikachu");
+	}
+
+	@Test
+	void shouldReadPageMissesWithOneMget() {
+		TieredCache<String> cache = cache(new CachePolicy(Duration.ofHours(1), Duration.ofMinutes(5), 10, true));
+		when(valueOperations.get("test:pikachu")).thenReturn("electric");
+		cache.getIfPresent("pikachu");
+		when(valueOperations.multiGet(List.of("test:charizard", "test:missingno")))
+				.thenReturn(Arrays.asList("fire", null));
+
+		Map<String, String> found = cache.getAllPresent(List.of("pikachu", "charizard", "missingno"));
+
+		assertEquals(Map.of("pikachu", "electric", "charizard", "fire"), found);
+		verify(valueOperations, times(1)).multiGet(anyList());
+		assertEquals(1L, cache.describe().get("misses"));
+	}
+
+	@Test
+	void shouldShareOneLoadBetweenConcurrentMisses() throws Exception {
+		TieredCache<String> cache = cache(new CachePolicy(Duration.ofHours(1), Duration.ofMinutes(5), 10, true));
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			Future<String> first = pool.submit(() -> cache.get("pikachu", name -> {
+				calls.incrementAndGet();
+				started.countDown();
+				await(release);
+				return "electric";
+			}));
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+			Future<String> second = pool.submit(() -> cache.get("pikachu", name -> {
+				calls.incrementAndGet();
+				return "electric";
+			}));
+			// Give the second caller time to reach the in-flight load before releasing it
+			Thread.sleep(100);
+			release.countDown();
+
+			assertEquals("electric", first.get(5, TimeUnit.SECONDS));
+			assertEquals("electric", second.get(5, TimeUnit.SECONDS));
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertEquals(1, calls.get());
+		verify(valueOperations, times(1)).set("test:pikachu", "electric", 1L, TimeUnit.HOURS);
+	}
+
+	@Test
+	void shouldWritePreloadedEntriesWithTheirOwnTtlAndKeepThemLocal() {
+		TieredCache<String> cache = cache(new CachePolicy(Duration.ofHours(24), Duration.ofMinutes(5), 10, true));
+		when(template.expire("test:pikachu", 30 * 3600L, TimeUnit.SECONDS)).thenReturn(true);
+
+		cache.put("pikachu", "electric", Duration.ofHours(30));
+
+		verify(valueOperations).set("test:pikachu", "electric", 30 * 3600L, TimeUnit.SECONDS);
+		assertEquals("electric", cache.getIfPresent("pikachu"));
+		verify(valueOperations, never()).get("test:pikachu");
+		assertTrue(cache.extend("pikachu", Duration.ofHours(30)));
+	}
+
+	@Test
+	void shouldNotCacheValuesTheCodecDeclines() {
+		TieredCache<String> cache = new TieredCache<>("test", "test:",
+				new CachePolicy(Duration.ofHours(1), Duration.ofMinutes(5), 10, true), template,
+				CacheCodec.of(stored -> stored, value -> value.isEmpty() ? null : value),
+				redisHealthMonitor, localFallbackCache, snapshotService, cacheWriteBehind, Runnable::run);
+
+		assertEquals("", cache.get("pikachu", name -> ""));
+
+		verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+		assertEquals(0, cache.describe().get("localSize"));
+	}
+
+	@Test
+	void shouldWriteToLocalFallbackWhileRedisIsDown() {
+		TieredCache<String> cache = cache(new CachePolicy(Duration.ofHours(1), Duration.ofMinutes(5), 0, false));
+		when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+		assertEquals("electric", cache.get("pikachu", name -> "electric"));
+
+		assertFalse(redisHealthMonitor.isAvailable());
+		assertEquals("electric", localFallbackCache.get("test:pikachu"));
+		verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+	}
+
+	private TieredCache<String> cache(CachePolicy policy) {
+		return new TieredCache<>("test", "test:", policy, template, CacheCodec.identity(),
+				redisHealthMonitor, localFallbackCache, snapshotService, cacheWriteBehind, Runnable::run);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.example.boltedex.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamValidatorTest {
+
+	@Test
+	void shouldRoundTripWithAndWithoutEtag() {
+		UpstreamValidator tagged = UpstreamValidator.of("W/\"abc def\"", "{\"id\":25}");
+		UpstreamValidator decoded = UpstreamValidator.decode(tagged.encode());
+
+		assertEquals("W/\"abc def\"", decoded.getEtag());
+		assertEquals(tagged.getContentHash(), decoded.getContentHash());
+
+		UpstreamValidator untagged = UpstreamValidator.decode(UpstreamValidator.of(null, "{}").encode());
+		assertNull(untagged.getEtag());
+		assertNull(UpstreamValidator.decode(null));
+	}
+
+	@Test
+	void shouldMatchOnlyIdenticalBody() {
+		UpstreamValidator validator = UpstreamValidator.of(null, "{\"id\":25,\"name\":\"pikachu\"}");
+
+		assertTrue(validator.matches("{\"id\":25,\"name\":\"pikachu\"}"));
+		assertFalse(validator.matches("{\"id\":25,\"name\":\"raichu\"}"));
+	}
+}
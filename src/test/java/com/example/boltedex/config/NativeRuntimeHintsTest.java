@@ -0,0 +1,38 @@
+package com.example.boltedex.config;
+
+import com.example.boltedex.pokemon.Pokemon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeRuntimeHintsTest {
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	@BeforeEach
+	void setUp() {
+		new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+	}
+
+	@Test
+	void shouldRegisterJacksonBindingForCachedModels() throws Exception {
+		assertTrue(RuntimeHintsPredicates.reflection().onType(Pokemon.class)
+				.withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onMethod(Pokemon.class.getMethod("getWeaknesses")).test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onMethod(Pokemon.Abilities.class.getMethod("setDescription", String.class)).test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onMethod(Pokemon.Encounter.class.getMethod("getChance")).test(hints));
+	}
+
+	@Test
+	void shouldRegisterSerializerSupportTypes() {
+		assertTrue(RuntimeHintsPredicates.reflection().onType(RedisConfig.StoredPokemon.class).test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onType(ArrayList.class)
+				.withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints));
+	}
+}
@@ -0,0 +1,51 @@
+package com.example.boltedex.encounter;
+
+import com.example.boltedex.pokemon.Pokemon;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncounterCodecTest {
+
+	@Test
+	void shouldRoundTripWithSharedDictionary() {
+		List<Pokemon.Encounter> encounters = List.of(
+				encounter("viridian-forest-area", "red", "walk", 3, 5, 5),
+				encounter("viridian-forest-area", "blue", "walk", 3, 5, 5),
+				encounter("power-plant-area", "red", "walk", 20, 24, 25));
+
+		String encoded = EncounterCodec.encode(encounters);
+
+		assertEquals("e1|viridian-forest-area,red,walk,blue,power-plant-area|0.1.2.3.5.5;0.3.2.3.5.5;4.1.2.20.24.25", encoded);
+		assertEquals(encounters, EncounterCodec.decode(encoded));
+		assertEquals(List.of(), EncounterCodec.decode(EncounterCodec.encode(List.of())));
+	}
+
+	@Test
+	void shouldNotDecodeLegacyAreaNameList() {
+		assertNull(EncounterCodec.decode("[\"viridian-forest-area\"]"));
+		assertNull(EncounterCodec.decode(null));
+	}
+
+	@Test
+	void shouldRoundTripAreaRates() {
+		List<Pokemon.Encounter> encounters = List.of(
+				encounter("route-1", "red", "walk", 2, 5, 45),
+				encounter("route-1", "gold", "walk", 2, 4, 30));
+
+		assertEquals(encounters, EncounterCodec.decodeRates("route-1", EncounterCodec.encodeRates(encounters)));
+	}
+
+	private static Pokemon.Encounter encounter(String area, String version, String method, int min, int max, int chance) {
+		Pokemon.Encounter encounter = new Pokemon.Encounter();
+		encounter.setLocationArea(area);
+		encounter.setVersion(version);
+		encounter.setMethod(method);
+		encounter.setMinLevel(min);
+		encounter.setMaxLevel(max);
+		encounter.setChance(chance);
+		return encounter;
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.boltedex.exception;
+
+import com.example.boltedex.upstream.UpstreamBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class GlobalExceptionHandlerTest {
+
+	private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new FailingController())
+			.setControllerAdvice(new GlobalExceptionHandler())
+			.build();
+
+	@Test
+	void shouldCreateExpectedErrorsWithoutStackTrace() {
+		APIException notFound = notFound("missingno");
+		APIException wrapped = new APIException("Failed", ExceptionConstants.INTERNAL_ERROR,
+				ExceptionConstants.INTERNAL_SERVER_ERROR, Instant.now().toString(), new IllegalStateException("boom"));
+
+		assertTrue(notFound.isExpected());
+		assertEquals(0, notFound.getStackTrace().length);
+		assertFalse(wrapped.isExpected());
+		assertTrue(wrapped.getStackTrace().length > 0);
+	}
+
+	@Test
+	void shouldAnswerExpectedErrorsWithProblemJson() throws Exception {
+		mockMvc.perform(get("/api/missing"))
+				.andExpect(status().isNotFound())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+				.andExpect(jsonPath("$.status").value(404))
+				.andExpect(jsonPath("$.detail").value("Pokemon not found: missingno"))
+				.andExpect(jsonPath("$.errorCode").value(ExceptionConstants.NOT_FOUND_ERROR))
+				.andExpect(jsonPath("$.instance").value("/api/missing"))
+				.andExpect(jsonPath("$.stackTrace").doesNotExist());
+	}
+
+	@Test
+	void shouldHideUnexpectedFailureDetails() throws Exception {
+		mockMvc.perform(get("/api/broken"))
+				.andExpect(status().isInternalServerError())
+				.andExpect(jsonPath("$.detail").value(ExceptionConstants.GENERIC_ERROR_MESSAGE))
+				.andExpect(jsonPath("$.errorCode").value(ExceptionConstants.INTERNAL_ERROR))
+				.andExpect(content().string(not(containsString("NullPointerException"))));
+	}
+
+	@Test
+	void shouldKeepSpringRequestErrorsAsClientErrors() throws Exception {
+		mockMvc.perform(get("/api/limit").param("limit", "lots"))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+				.andExpect(jsonPath("$.errorCode").value(ExceptionConstants.VALIDATION_ERROR));
+		mockMvc.perform(get("/api/limit"))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON));
+	}
+
+	@Test
+	void shouldAnswerShedRequestsWithRetryAfter() throws Exception {
+		mockMvc.perform(get("/api/busy"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+				.andExpect(jsonPath("$.detail").value(ExceptionConstants.UPSTREAM_BUSY_MESSAGE));
+	}
+
+	@Test
+	void shouldLimitStackTracesPerWindow() {
+		StackTraceLogLimiter limiter = new StackTraceLogLimiter(2, 1000);
+
+		assertTrue(limiter.tryAcquire(0));
+		assertTrue(limiter.tryAcquire(10));
+		assertFalse(limiter.tryAcquire(20));
+		assertFalse(limiter.tryAcquire(30));
+		assertTrue(limiter.tryAcquire(1000));
+		assertEquals(2, limiter.drainSuppressed());
+		assertEquals(0, limiter.drainSuppressed());
+	}
+
+	private static APIException notFound(String name) {
+		return new APIException(
+			String.format(ExceptionConstants.POKEMON_NOT_FOUND_MESSAGE, name),
+			ExceptionConstants.NOT_FOUND_ERROR,
+			ExceptionConstants.NOT_FOUND,
+			Instant.now().toString()
+		);
+	}
+
+	@RestController
+	static class FailingController {
+
+		@GetMapping("/api/missing")
+		public Map<String, String> missing() {
+			throw notFound("missingno");
+		}
+
+		@GetMapping("/api/broken")
+		public Map<String, String> broken() {
+			throw new NullPointerException("name");
+		}
+
+		@GetMapping("/api/busy")
+		public Map<String, String> busy() {
+			throw new UpstreamBusyException(1);
+		}
+
+		@GetMapping("/api/limit")
+		public Map<String, Integer> limit(@RequestParam int limit) {
+			return Map.of("limit", limit);
+		}
+	}
+}
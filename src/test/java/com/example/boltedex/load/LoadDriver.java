@@ -0,0 +1,195 @@
+package com.example.boltedex.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load driver: a fixed number of workers issue a weighted mix of search, detail,
+ * evolution and abilities requests for a fixed duration and record per-scenario latencies.
+ */
+public class LoadDriver {
+
+	public enum Scenario {
+		SEARCH(40), DETAIL(30), EVOLUTION(15), ABILITIES(15);
+
+		private final int weight;
+
+		Scenario(int weight) {
+			this.weight = weight;
+		}
+	}
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+	private final String baseUrl;
+	private final List<String> names;
+	private final List<String> queries;
+
+	public LoadDriver(String baseUrl, List<String> names, List<String> queries) {
+		this.baseUrl = baseUrl;
+		this.names = names;
+		this.queries = queries;
+	}
+
+	public Report run(int threads, Duration duration) throws InterruptedException {
+		Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+		for (Scenario scenario : Scenario.values()) {
+			recorders.put(scenario, new LatencyRecorder());
+		}
+		AtomicLong errors = new AtomicLong();
+		CountDownLatch done = new CountDownLatch(threads);
+		long deadline = System.nanoTime() + duration.toNanos();
+		long start = System.nanoTime();
+
+		for (int i = 0; i < threads; i++) {
+			Thread worker = new Thread(() -> {
+				try {
+					while (System.nanoTime() < deadline) {
+						Scenario scenario = pickScenario();
+						long began = System.nanoTime();
+						boolean ok = send(scenario);
+						recorders.get(scenario).record(System.nanoTime() - began);
+						if (!ok) {
+							errors.incrementAndGet();
+						}
+					}
+				} finally {
+					done.countDown();
+				}
+			}, "load-driver-" + i);
+			worker.setDaemon(true);
+			worker.start();
+		}
+
+		done.await(duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+		return new Report(recorders, errors.get(), System.nanoTime() - start);
+	}
+
+	private boolean send(Scenario scenario) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		String name = names.get(random.nextInt(names.size()));
+		String path;
+		switch (scenario) {
+			case SEARCH:
+				String query = queries.get(random.nextInt(queries.size()));
+				path = "/api/pokemon/search?limit=30" + (query.isEmpty() ? "" : "&query=" + query);
+				break;
+			case DETAIL:
+				path = "/api/pokemon/detail/" + name;
+				break;
+			case EVOLUTION:
+				path = "/api/pokemon/evolution/" + name;
+				break;
+			default:
+				path = "/api/pokemon/abilities/" + name;
+				break;
+		}
+		try {
+			HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+					.timeout(Duration.ofSeconds(30))
+					.GET()
+					.build();
+			HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+			return response.statusCode() < 400;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	private static Scenario pickScenario() {
+		int roll = ThreadLocalRandom.current().nextInt(100);
+		for (Scenario scenario : Scenario.values()) {
+			roll -= scenario.weight;
+			if (roll < 0) {
+				return scenario;
+			}
+		}
+		return Scenario.DETAIL;
+	}
+
+	static final class LatencyRecorder {
+		private long[] samples = new long[1024];
+		private int size;
+
+		synchronized void record(long nanos) {
+			if (size == samples.length) {
+				samples = Arrays.copyOf(samples, size * 2);
+			}
+			samples[size++] = nanos;
+		}
+
+		synchronized long[] sorted() {
+			long[] copy = Arrays.copyOf(samples, size);
+			Arrays.sort(copy);
+			return copy;
+		}
+	}
+
+	public static final class Report {
+		private final Map<Scenario, LatencyRecorder> recorders;
+		private final long errors;
+		private final long elapsedNanos;
+
+		private Report(Map<Scenario, LatencyRecorder> recorders, long errors, long elapsedNanos) {
+			this.recorders = recorders;
+			this.errors = errors;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		public long totalRequests() {
+			long total = 0;
+			for (LatencyRecorder recorder : recorders.values()) {
+				total += recorder.sorted().length;
+			}
+			return total;
+		}
+
+		public long errors() {
+			return errors;
+		}
+
+		public double throughput() {
+			return totalRequests() / (elapsedNanos / 1_000_000_000.0);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder out = new StringBuilder();
+			out.append(String.format("%-10s %8s %10s %10s %10s%n", "scenario", "count", "p50(ms)", "p99(ms)", "p999(ms)"));
+			long[] all = new long[0];
+			for (Map.Entry<Scenario, LatencyRecorder> entry : recorders.entrySet()) {
+				long[] samples = entry.getValue().sorted();
+				out.append(row(entry.getKey().name().toLowerCase(Locale.ROOT), samples));
+				long[] merged = Arrays.copyOf(all, all.length + samples.length);
+				System.arraycopy(samples, 0, merged, all.length, samples.length);
+				all = merged;
+			}
+			Arrays.sort(all);
+			out.append(row("all", all));
+			out.append(String.format("throughput: %.1f req/s, errors: %d%n", throughput(), errors));
+			return out.toString();
+		}
+
+		private static String row(String label, long[] sorted) {
+			return String.format("%-10s %8d %10.2f %10.2f %10.2f%n", label, sorted.length,
+					percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999));
+		}
+
+		static double percentile(long[] sorted, double quantile) {
+			if (sorted.length == 0) {
+				return 0.0;
+			}
+			int index = (int) Math.ceil(quantile * sorted.length) - 1;
+			return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.example.boltedex.load;
+
+import com.example.boltedex.support.FixturePokeApiServer;
+import com.example.boltedex.support.InMemoryRedisServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end load test against the fixture PokeAPI stand-in and the in-memory Redis server.
+ * Runs offline; excluded from the default build, run with: mvn test -Pload-test
+ *
+ * Tunables (system properties): load.threads, load.durationSeconds,
+ * load.upstreamLatencyMillis, load.upstreamJitterMillis, load.upstreamErrorRate
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PokedexLoadTest {
+
+	private static final List<String> NAMES = Arrays.asList(
+			"bulbasaur", "ivysaur", "venusaur", "charmander", "charmeleon", "charizard",
+			"squirtle", "wartortle", "blastoise", "pikachu", "raichu", "pichu",
+			"magikarp", "gyarados", "eevee");
+	private static final List<String> QUERIES = Arrays.asList("", "", "char", "saur", "chu", "a", "tortle");
+
+	private static InMemoryRedisServer redisServer;
+	private static FixturePokeApiServer pokeApiServer;
+
+	@LocalServerPort
+	private int port;
+
+	@DynamicPropertySource
+	static void stubServers(DynamicPropertyRegistry registry) {
+		try {
+			redisServer = new InMemoryRedisServer();
+			pokeApiServer = new FixturePokeApiServer();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		pokeApiServer.setLatency(Long.getLong("load.upstreamLatencyMillis", 20),
+				Long.getLong("load.upstreamJitterMillis", 20));
+		pokeApiServer.setErrorRate(Double.parseDouble(System.getProperty("load.upstreamErrorRate", "0")), 503);
+
+		registry.add("spring.data.redis.host", () -> "localhost");
+		registry.add("spring.data.redis.port", redisServer::getPort);
+		registry.add("pokeapi.base-url", pokeApiServer::getBaseUrl);
+		registry.add("cache.preload.on-startup", () -> "false");
+		registry.add("cache.snapshot.load-on-startup", () -> "false");
+	}
+
+	@AfterAll
+	static void stopServers() throws IOException {
+		if (pokeApiServer != null) {
+			pokeApiServer.close();
+		}
+		if (redisServer != null) {
+			redisServer.close();
+		}
+	}
+
+	@Test
+	void mixedWorkloadStaysWithinErrorBudget() throws Exception {
+		// Arrange
+		LoadDriver driver = new LoadDriver("http://localhost:" + port, NAMES, QUERIES);
+		int threads = Integer.getInteger("load.threads", 16);
+		Duration duration = Duration.ofSeconds(Long.getLong("load.durationSeconds", 20));
+
+		// Act
+		LoadDriver.Report cold = driver.run(threads, Duration.ofSeconds(3));
+		LoadDriver.Report warm = driver.run(threads, duration);
+
+		// Assert
+		System.out.println("=== Cold cache ===");
+		System.out.print(cold);
+		System.out.println("=== Warm cache ===");
+		System.out.print(warm);
+		System.out.println("upstream requests: " + pokeApiServer.totalRequests());
+
+		assertTrue(warm.totalRequests() > 0);
+		double allowedErrors = Double.parseDouble(System.getProperty("load.upstreamErrorRate", "0")) > 0 ? 0.5 : 0.01;
+		assertTrue(warm.errors() <= warm.totalRequests() * allowedErrors,
+				"Error rate above budget: " + warm.errors() + "/" + warm.totalRequests());
+	}
+}
@@ -1,5 +1,23 @@
 package com.example.boltedex.pokemon;
 
+import com.example.boltedex.cache.CacheWriteBehind;
+import com.example.boltedex.cache.HotKeyTracker;
+import com.example.boltedex.cache.LocalFallbackCache;
+import com.example.boltedex.cache.RedisHealthMonitor;
+import com.example.boltedex.cache.RefreshDataset;
+import com.example.boltedex.cache.SnapshotService;
+import com.example.boltedex.cache.TieredCacheRegistry;
+import com.example.boltedex.cache.WarmupProgress;
+import com.example.boltedex.encounter.LocationIndex;
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.search.FuzzyNameIndex;
+import com.example.boltedex.search.KnownNameFilter;
+import com.example.boltedex.search.NameSuggestIndex;
+import com.example.boltedex.search.PokedexIndex;
+import com.example.boltedex.search.PokedexQuery;
+import com.example.boltedex.upstream.BulkheadFullException;
+import com.example.boltedex.upstream.EndpointBulkhead;
+import com.example.boltedex.upstream.UpstreamBusyException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,15 +25,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -44,6 +73,48 @@ class PokemonAPIClientImplementationTest {
 	@Mock
 	private ValueOperations<String, Pokemon> valueOperations;
 
+	@Mock
+	private ValueOperations<String, String> stringValueOperations;
+
+	@Mock
+	private SnapshotService snapshotService;
+
+	@Spy
+	private RedisHealthMonitor redisHealthMonitor = new RedisHealthMonitor();
+
+	@Spy
+	private LocalFallbackCache localFallbackCache = new LocalFallbackCache();
+
+	@Spy
+	private PokedexIndex pokedexIndex = new PokedexIndex();
+
+	@Spy
+	private FuzzyNameIndex fuzzyNameIndex = new FuzzyNameIndex();
+
+	@Spy
+	private NameSuggestIndex nameSuggestIndex = new NameSuggestIndex();
+
+	@Spy
+	private KnownNameFilter knownNameFilter = new KnownNameFilter();
+
+	@Mock
+	private LocationIndex locationIndex;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Spy
+	private ExecutorService pokemonFetchExecutor = Executors.newFixedThreadPool(2);
+
+	@Mock
+	private HotKeyTracker hotKeyTracker;
+
+	@Spy
+	private TieredCacheRegistry tieredCacheRegistry = new TieredCacheRegistry();
+
+	@Spy
+	private WarmupProgress warmupProgress = new WarmupProgress();
+
 	@InjectMocks
 	private PokemonAPIClientImplementation pokemonAPIClient;
 
@@ -56,6 +127,17 @@ class PokemonAPIClientImplementationTest {
 		// Mock Redis operations
 		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
 		when(pokemonRedisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOperations);
+
+		// Dataset caches over the mocked templates, with the default policies
+		ReflectionTestUtils.setField(tieredCacheRegistry, "environment", new MockEnvironment());
+		ReflectionTestUtils.setField(tieredCacheRegistry, "redisHealthMonitor", redisHealthMonitor);
+		ReflectionTestUtils.setField(tieredCacheRegistry, "localFallbackCache", localFallbackCache);
+		ReflectionTestUtils.setField(tieredCacheRegistry, "snapshotService", snapshotService);
+		// Not started, so cache fills are written inline and verifiable here
+		ReflectionTestUtils.setField(tieredCacheRegistry, "cacheWriteBehind", new CacheWriteBehind());
+		ReflectionTestUtils.setField(tieredCacheRegistry, "refreshExecutor", pokemonFetchExecutor);
+		pokemonAPIClient.initCaches();
 
 		// Create mock JSON responses
 		mockPokemonListResponse = objectMapper.readTree("""
@@ -108,25 +190,20 @@ class PokemonAPIClientImplementationTest {
 		// Arrange
 
 		// Simulate empty name cache
-		when(zSetOperations.size("pokemon:names:sorted")).thenReturn(0L);
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(0L);
 
 		// Mock fetching all Pokémon names from the API
 		when(restTemplate.getForObject(
 				eq("https://pokeapi.co/api/v2/pokemon?limit=2000"),
 				eq(JsonNode.class))).thenReturn(mockPokemonListResponse);
 
-		// Mock successful caching of fetched names
-		when(zSetOperations.add(eq("pokemon:names:sorted"), eq("pikachu"), eq(0.0))).thenReturn(true);
-		when(zSetOperations.add(eq("pokemon:names:sorted"), eq("charizard"), eq(0.0))).thenReturn(true);
-		when(zSetOperations.add(eq("pokemon:names:sorted"), eq("blastoise"), eq(0.0))).thenReturn(true);
-
 		// Simulate paginated name retrieval
 		Set<String> mockNames = new LinkedHashSet<>(Arrays.asList("pikachu", "charizard"));
-		when(zSetOperations.range("pokemon:names:sorted", 0, 1)).thenReturn(mockNames);
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 0, 1)).thenReturn(mockNames);
 
 		// Mock cache miss for both Pokémon
-		when(valueOperations.get("pokemon:detail:pikachu")).thenReturn(null);
-		when(valueOperations.get("pokemon:detail:charizard")).thenReturn(null);
+		when(valueOperations.multiGet(List.of("pokemon:{dex}:detail:pikachu", "pokemon:{dex}:detail:charizard")))
+				.thenReturn(Arrays.asList(null, null));
 
 		// Mock successful API fetch for individual Pokémon
 		when(restTemplate.getForObject(
@@ -145,9 +222,13 @@ class PokemonAPIClientImplementationTest {
 		assertEquals(2, result.getResults().size());
 
 		// Verify flow and interactions
-		verify(zSetOperations, times(2)).size("pokemon:names:sorted");
+		// Empty check, re-check under the rebuild lock, total count
+		verify(zSetOperations, times(3)).size("pokemon:{dex}:names:sorted");
 		verify(restTemplate).getForObject("https://pokeapi.co/api/v2/pokemon?limit=2000", JsonNode.class);
-		verify(zSetOperations).range("pokemon:names:sorted", 0, 1);
+		// The fetched names replace the index in one script
+		verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("pokemon:{dex}:names:sorted")),
+				any(Object[].class));
+		verify(zSetOperations).range("pokemon:{dex}:names:sorted", 0, 1);
 		verify(restTemplate).getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", JsonNode.class);
 		verify(restTemplate).getForObject("https://pokeapi.co/api/v2/pokemon/charizard", JsonNode.class);
 
@@ -160,17 +241,17 @@ class PokemonAPIClientImplementationTest {
 		// Arrange
 
 		// Mock cached pokemon names exist
-		when(zSetOperations.size("pokemon:names:sorted")).thenReturn(3L);
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(3L);
 
 		Set<String> mockNames = new LinkedHashSet<>(Arrays.asList("pikachu", "charizard"));
-		when(zSetOperations.range("pokemon:names:sorted", 0, 1)).thenReturn(mockNames);
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 0, 1)).thenReturn(mockNames);
 
 		// Mock cached pokemon details (cache hit)
 		Pokemon cachedPikachu = createMockPokemon("pikachu", 25);
 		Pokemon cachedCharizard = createMockPokemon("charizard", 6);
 
-		when(valueOperations.get("pokemon:detail:pikachu")).thenReturn(cachedPikachu);
-		when(valueOperations.get("pokemon:detail:charizard")).thenReturn(cachedCharizard);
+		when(valueOperations.multiGet(List.of("pokemon:{dex}:detail:pikachu", "pokemon:{dex}:detail:charizard")))
+				.thenReturn(Arrays.asList(cachedPikachu, cachedCharizard));
 
 		// Act
 		PokemonAPIClientDTO result = pokemonAPIClient.getPokemons(null, 2, null);
@@ -184,9 +265,9 @@ class PokemonAPIClientImplementationTest {
 		// Verify no API calls were made (all cached)
 		verify(restTemplate, never()).getForObject(contains("pokemon/"), eq(JsonNode.class));
 
-		// Verify cache was checked
-		verify(valueOperations).get("pokemon:detail:pikachu");
-		verify(valueOperations).get("pokemon:detail:charizard");
+		// Verify the page was read from the cache in one round trip
+		verify(valueOperations).multiGet(List.of("pokemon:{dex}:detail:pikachu", "pokemon:{dex}:detail:charizard"));
+		verify(valueOperations, never()).get(anyString());
 	}
 
 	@Test
@@ -194,18 +275,15 @@ class PokemonAPIClientImplementationTest {
 		// Arrange
 
 		// Mock cached pokemon names exist
-		when(zSetOperations.size("pokemon:names:sorted")).thenReturn(3L);
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(3L);
 
 		// Mock search cache miss
-		String searchCacheKey = "pokemon:search:pika";
+		String searchCacheKey = "pokemon:{dex}:search:pika";
 		when(zSetOperations.size(searchCacheKey)).thenReturn(0L).thenReturn(1L); // First call: cache miss, second call: total count
 
 		// Mock all pokemon names for search
 		Set<String> allNames = new LinkedHashSet<>(Arrays.asList("pikachu", "charizard", "blastoise"));
-		when(zSetOperations.range("pokemon:names:sorted", 0, -1)).thenReturn(allNames);
-
-		// Mock search results caching
-		when(zSetOperations.add(eq(searchCacheKey), eq("pikachu"), eq(0.0))).thenReturn(true);
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 0, -1)).thenReturn(allNames);
 
 		// Mock getting search results
 		Set<String> searchResults = new LinkedHashSet<>(Collections.singletonList("pikachu"));
@@ -213,7 +291,7 @@ class PokemonAPIClientImplementationTest {
 
 		// Mock cached pokemon details
 		Pokemon cachedPikachu = createMockPokemon("pikachu", 25);
-		when(valueOperations.get("pokemon:detail:pikachu")).thenReturn(cachedPikachu);
+		when(valueOperations.multiGet(List.of("pokemon:{dex}:detail:pikachu"))).thenReturn(List.of(cachedPikachu));
 
 		// Act
 		PokemonAPIClientDTO result = pokemonAPIClient.getPokemons(null, 1, "pika");
@@ -224,8 +302,280 @@ class PokemonAPIClientImplementationTest {
 		assertEquals("pikachu", result.getResults().get(0).getName());
 
 		// Verify search caching
-		verify(zSetOperations).add(searchCacheKey, "pikachu", 0.0);
-		verify(stringRedisTemplate).expire(searchCacheKey, 1, TimeUnit.HOURS);
+		verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(searchCacheKey)), eq("3600000"),
+				eq("pikachu"));
+	}
+
+	@Test
+	void shouldNotCreateSearchKeyWhenNothingMatches() {
+		// Arrange
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(3L);
+		when(zSetOperations.size("pokemon:{dex}:search:pickachu")).thenReturn(0L);
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 0, -1))
+				.thenReturn(new LinkedHashSet<>(Arrays.asList("blastoise", "charizard", "pikachu")));
+		when(zSetOperations.range("pokemon:{dex}:search:pickachu", 0, 29)).thenReturn(Collections.emptySet());
+
+		// Act
+		PokemonAPIClientDTO result = pokemonAPIClient.getPokemons(null, 30, "pickachu");
+
+		// Assert
+		assertTrue(result.getResults().isEmpty());
+		verify(stringRedisTemplate, never()).execute(any(RedisScript.class), eq(List.of("pokemon:{dex}:search:pickachu")),
+				any(Object[].class));
+	}
+
+	@Test
+	void shouldRankFuzzyMatchesByEditDistance() {
+		// Arrange
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 0, -1))
+				.thenReturn(new LinkedHashSet<>(Arrays.asList("blastoise", "charizard", "pichu", "pikachu", "raichu")));
+		Map<String, Pokemon> cached = Map.of(
+				"pokemon:{dex}:detail:pikachu", createMockPokemon("pikachu", 25),
+				"pokemon:{dex}:detail:pichu", createMockPokemon("pichu", 172));
+		when(valueOperations.multiGet(anyList())).thenAnswer(invocation ->
+				invocation.<List<String>>getArgument(0).stream().map(cached::get).toList());
+
+		// Act
+		PokemonAPIClientDTO result = pokemonAPIClient.fuzzySearchPokemons(null, 30, "pickachu");
+
+		// Assert
+		assertEquals(1, result.getTotalCount());
+		assertEquals("pikachu", result.getResults().get(0).getName());
+		verifyNoInteractions(restTemplate);
+	}
+
+	@Test
+	void shouldSuggestFromTrieWithoutFetchingDetails() {
+		// Arrange
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 0, -1))
+				.thenReturn(new LinkedHashSet<>(Arrays.asList("pichu", "pidgey", "pikachu", "raichu")));
+		pokedexIndex.upsert(createMockPokemon("pikachu", 25));
+
+		// Act
+		List<PokemonSuggestionDTO> suggestions = pokemonAPIClient.suggestPokemons("Pi", 2);
+
+		// Assert
+		assertEquals(2, suggestions.size());
+		assertEquals("pichu", suggestions.get(0).getName());
+		assertEquals("pidgey", suggestions.get(1).getName());
+		assertEquals(25, pokemonAPIClient.suggestPokemons("pika", 10).get(0).getId());
+		assertEquals("https://example.com/pikachu-front.png", pokemonAPIClient.suggestPokemons("pika", 10).get(0).getSprite());
+		verify(zSetOperations, times(1)).range("pokemon:{dex}:names:sorted", 0, -1);
+		verifyNoInteractions(valueOperations, restTemplate);
+	}
+
+	@Test
+	void shouldRejectUnknownNameWithoutAnyLookup() {
+		// Arrange
+		knownNameFilter.rebuild(Arrays.asList("blastoise", "charizard", "pikachu"));
+
+		// Act
+		APIException error = assertThrows(APIException.class, () -> pokemonAPIClient.getPokemon("pikachuu"));
+
+		// Assert
+		assertEquals(404, error.getStatusCode());
+		verifyNoInteractions(valueOperations, stringValueOperations, restTemplate);
+	}
+
+	@Test
+	void shouldNegativelyCacheUpstreamNotFound() {
+		// Arrange
+		when(restTemplate.getForObject(
+				eq("https://pokeapi.co/api/v2/pokemon/missingno"),
+				eq(JsonNode.class))).thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+		// Act
+		APIException first = assertThrows(APIException.class, () -> pokemonAPIClient.getPokemon("missingno"));
+		when(stringValueOperations.get("pokemon:missing:missingno")).thenReturn("1");
+		APIException second = assertThrows(APIException.class, () -> pokemonAPIClient.getPokemon("missingno"));
+
+		// Assert
+		assertEquals(404, first.getStatusCode());
+		assertEquals(404, second.getStatusCode());
+		verify(stringValueOperations).set("pokemon:missing:missingno", "1", 10L, TimeUnit.MINUTES);
+		verify(restTemplate, times(1)).getForObject("https://pokeapi.co/api/v2/pokemon/missingno", JsonNode.class);
+		// Misses never count towards the hot keys
+		verify(hotKeyTracker, never()).record(any(), anyString());
+	}
+
+	@Test
+	void shouldRecordHotKeyOnlyAfterTheDetailsLoad() {
+		// Arrange
+		when(valueOperations.get("pokemon:{dex}:detail:pikachu")).thenReturn(createMockPokemon("pikachu", 25));
+		when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/charizard", JsonNode.class))
+				.thenThrow(new RuntimeException("Connection reset"));
+
+		// Act
+		Pokemon pikachu = pokemonAPIClient.getPokemon("pikachu");
+		assertThrows(APIException.class, () -> pokemonAPIClient.getPokemon("charizard"));
+
+		// Assert
+		assertEquals("pikachu", pikachu.getName());
+		verify(hotKeyTracker).record(RefreshDataset.DETAILS, "pikachu");
+		verify(hotKeyTracker, never()).record(RefreshDataset.DETAILS, "charizard");
+	}
+
+	@Test
+	void shouldMergeEncounterDetailsAndUpdateLocationIndex() throws Exception {
+		// Arrange
+		when(stringValueOperations.get("pokemon:location:encounters:pikachu")).thenReturn("[\"viridian-forest-area\"]");
+		when(restTemplate.getForObject(
+				eq("https://pokeapi.co/api/v2/pokemon/pikachu/encounters"),
+				eq(JsonNode.class))).thenReturn(objectMapper.readTree("""
+				[
+				    {
+				        "location_area": {"name": "viridian-forest-area"},
+				        "version_details": [
+				            {
+				                "version": {"name": "red"},
+				                "encounter_details": [
+				                    {"min_level": 3, "max_level": 3, "chance": 3, "method": {"name": "walk"}},
+				                    {"min_level": 5, "max_level": 5, "chance": 2, "method": {"name": "walk"}}
+				                ]
+				            }
+				        ]
+				    },
+				    {
+				        "location_area": {"name": "power-plant-area"},
+				        "version_details": [
+				            {
+				                "version": {"name": "red"},
+				                "encounter_details": [
+				                    {"min_level": 20, "max_level": 24, "chance": 25, "method": {"name": "walk"}}
+				                ]
+				            }
+				        ]
+				    }
+				]
+				"""));
+
+		// Act
+		List<Pokemon.Encounter> encounters = pokemonAPIClient.getPokemonEncounters("pikachu");
+
+		// Assert
+		assertEquals(2, encounters.size());
+		assertEquals(3, encounters.get(0).getMinLevel());
+		assertEquals(5, encounters.get(0).getMaxLevel());
+		assertEquals(5, encounters.get(0).getChance());
+		verify(stringValueOperations).set(eq("pokemon:location:encounters:pikachu"), startsWith("e1|"), eq(24L), eq(TimeUnit.HOURS));
+		verify(locationIndex).record("pikachu", null, encounters);
+	}
+
+	@Test
+	void shouldFallBackToStaticSpritesForEvolutionStagesWithoutShowdownArt() throws Exception {
+		// Arrange
+		when(restTemplate.getForObject(
+				eq("https://pokeapi.co/api/v2/pokemon-species/missingno"),
+				eq(JsonNode.class))).thenReturn(objectMapper.readTree("""
+				{"evolution_chain": {"url": "https://pokeapi.co/api/v2/evolution-chain/1/"}}
+				"""));
+		when(restTemplate.getForObject(
+				eq("https://pokeapi.co/api/v2/evolution-chain/1"),
+				eq(JsonNode.class))).thenReturn(objectMapper.readTree("""
+				{"chain": {"species": {"name": "missingno"}, "evolves_to": []}}
+				"""));
+		when(restTemplate.getForObject(
+				eq("https://pokeapi.co/api/v2/pokemon/missingno"),
+				eq(JsonNode.class))).thenReturn(objectMapper.readTree("""
+				{
+				    "id": 0,
+				    "name": "missingno",
+				    "height": 30,
+				    "weight": 159,
+				    "types": [],
+				    "stats": [],
+				    "sprites": {
+				        "front_default": "https://example.com/missingno-front.png",
+				        "back_default": null,
+				        "front_shiny": "https://example.com/missingno-shiny-front.png",
+				        "other": {"showdown": {"front_default": null, "back_default": null}}
+				    }
+				}
+				"""));
+
+		// Act
+		List<Pokemon.EvolutionStage> stages = pokemonAPIClient.getPokemonEvolutionChain("missingno");
+
+		// Assert
+		assertEquals(1, stages.size());
+		assertEquals("https://example.com/missingno-front.png", stages.get(0).getSprites().getFrontDefault());
+		assertEquals("https://example.com/missingno-shiny-front.png", stages.get(0).getSprites().getFrontShiny());
+		assertNull(stages.get(0).getSprites().getBackDefault());
+	}
+
+	@Test
+	void shouldStreamCachedPokemonBeforeUpstreamMisses() {
+		// Arrange
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(3L);
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 0, 1))
+				.thenReturn(new LinkedHashSet<>(Arrays.asList("blastoise", "pikachu")));
+
+		// blastoise is a cold miss, pikachu is cached
+		when(valueOperations.multiGet(List.of("pokemon:{dex}:detail:blastoise", "pokemon:{dex}:detail:pikachu")))
+				.thenReturn(Arrays.asList(null, createMockPokemon("pikachu", 25)));
+		when(restTemplate.getForObject(
+				eq("https://pokeapi.co/api/v2/pokemon/blastoise"),
+				eq(JsonNode.class))).thenReturn(mockPokemonResponse);
+
+		// Act
+		List<String> emitted = new ArrayList<>();
+		PokemonAPIClientDTO result = pokemonAPIClient.streamPokemons(null, 2, null, pokemon -> emitted.add(pokemon.getName()));
+
+		// Assert
+		assertEquals("pikachu", emitted.get(0));
+		assertEquals(2, emitted.size());
+		assertEquals(2, result.getResults().size());
+		assertEquals("pikachu", result.getNextCursor());
+		assertEquals(3, result.getTotalCount());
+		verify(valueOperations).set(eq("pokemon:{dex}:detail:blastoise"), any(Pokemon.class), eq(24L), eq(TimeUnit.HOURS));
+	}
+
+	@Test
+	void shouldResolveStreamedMissInlineWhenFetchPoolIsFull() {
+		// Arrange
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(3L);
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 0, 1))
+				.thenReturn(new LinkedHashSet<>(Arrays.asList("blastoise", "pikachu")));
+		when(valueOperations.multiGet(List.of("pokemon:{dex}:detail:blastoise", "pokemon:{dex}:detail:pikachu")))
+				.thenReturn(Arrays.asList(null, createMockPokemon("pikachu", 25)));
+		when(restTemplate.getForObject(
+				eq("https://pokeapi.co/api/v2/pokemon/blastoise"),
+				eq(JsonNode.class))).thenReturn(mockPokemonResponse);
+		doThrow(new RejectedExecutionException("queue full")).when(pokemonFetchExecutor).execute(any(Runnable.class));
+
+		// Act
+		List<String> emitted = new ArrayList<>();
+		PokemonAPIClientDTO result = pokemonAPIClient.streamPokemons(null, 2, null, pokemon -> emitted.add(pokemon.getName()));
+
+		// Assert
+		assertEquals(2, emitted.size());
+		assertEquals(2, result.getResults().size());
+		verify(restTemplate).getForObject("https://pokeapi.co/api/v2/pokemon/blastoise", JsonNode.class);
+	}
+
+	@Test
+	void shouldShedColdStreamedPageBeforeEmittingAnything() {
+		// Arrange
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(3L);
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 0, 1))
+				.thenReturn(new LinkedHashSet<>(Arrays.asList("blastoise", "pikachu")));
+		when(valueOperations.multiGet(List.of("pokemon:{dex}:detail:blastoise", "pokemon:{dex}:detail:pikachu")))
+				.thenReturn(Arrays.asList(null, createMockPokemon("pikachu", 25)));
+		// A search bulkhead with no free slot and no queue
+		EndpointBulkhead.bind(new EndpointBulkhead("search", 0, 0, 0, 2));
+
+		// Act
+		List<String> emitted = new ArrayList<>();
+		try {
+			assertThrows(BulkheadFullException.class,
+					() -> pokemonAPIClient.streamPokemons(null, 2, null, pokemon -> emitted.add(pokemon.getName())));
+		} finally {
+			EndpointBulkhead.unbind();
+		}
+
+		// Assert
+		assertTrue(emitted.isEmpty());
+		verify(restTemplate, never()).getForObject(eq("https://pokeapi.co/api/v2/pokemon/blastoise"), eq(JsonNode.class));
 	}
 
 	@Test
@@ -233,21 +583,21 @@ class PokemonAPIClientImplementationTest {
 		// Arrange
 
 		// Mock cached pokemon names exist
-		when(zSetOperations.size("pokemon:names:sorted")).thenReturn(5L);
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(5L);
 
 		// Mock cursor rank
-		when(zSetOperations.rank("pokemon:names:sorted", "pikachu")).thenReturn(0L);
+		when(zSetOperations.rank("pokemon:{dex}:names:sorted", "pikachu")).thenReturn(0L);
 
 		// Mock getting names after cursor
 		Set<String> mockNames = new LinkedHashSet<>(Arrays.asList("charizard", "blastoise"));
-		when(zSetOperations.range("pokemon:names:sorted", 1, 2)).thenReturn(mockNames);
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 1, 2)).thenReturn(mockNames);
 
 		// Mock cached pokemon details
 		Pokemon cachedCharizard = createMockPokemon("charizard", 6);
 		Pokemon cachedBlastoise = createMockPokemon("blastoise", 9);
 
-		when(valueOperations.get("pokemon:detail:charizard")).thenReturn(cachedCharizard);
-		when(valueOperations.get("pokemon:detail:blastoise")).thenReturn(cachedBlastoise);
+		when(valueOperations.multiGet(List.of("pokemon:{dex}:detail:charizard", "pokemon:{dex}:detail:blastoise")))
+				.thenReturn(Arrays.asList(cachedCharizard, cachedBlastoise));
 
 		// Act
 		PokemonAPIClientDTO result = pokemonAPIClient.getPokemons("pikachu", 2, null);
@@ -258,15 +608,15 @@ class PokemonAPIClientImplementationTest {
 		assertEquals("charizard", result.getResults().get(0).getName());
 		assertEquals("blastoise", result.getResults().get(1).getName());
 
-		verify(zSetOperations).rank("pokemon:names:sorted", "pikachu");
-		verify(zSetOperations).range("pokemon:names:sorted", 1, 2);
+		verify(zSetOperations).rank("pokemon:{dex}:names:sorted", "pikachu");
+		verify(zSetOperations).range("pokemon:{dex}:names:sorted", 1, 2);
 	}
 
 	@Test
 	void shouldHandleAPIError() {
 		// Arrange
 		// Mock empty cache
-		when(zSetOperations.size("pokemon:names:sorted")).thenReturn(0L);
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(0L);
 		// Mock API error when fetching pokemon list
 		when(restTemplate.getForObject(
 				eq("https://pokeapi.co/api/v2/pokemon?limit=2000"),
@@ -286,10 +636,10 @@ class PokemonAPIClientImplementationTest {
 		// Arrange
 		// Simulate one Pokémon in cache (pikachu), no detail in cache, and API throws
 		// on fetch
-		when(zSetOperations.size("pokemon:names:sorted")).thenReturn(1L).thenReturn(1L); // Two calls: empty check + total count
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(1L).thenReturn(1L); // Two calls: empty check + total count
 		Set<String> mockNames = new LinkedHashSet<>(Collections.singletonList("pikachu"));
-		when(zSetOperations.range("pokemon:names:sorted", 0, 0)).thenReturn(mockNames);
-		when(valueOperations.get("pokemon:detail:pikachu")).thenReturn(null);
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 0, 0)).thenReturn(mockNames);
+		when(valueOperations.multiGet(List.of("pokemon:{dex}:detail:pikachu"))).thenReturn(Collections.singletonList(null));
 		when(restTemplate.getForObject(
 				eq("https://pokeapi.co/api/v2/pokemon/pikachu"),
 				eq(JsonNode.class))).thenThrow(new RuntimeException("Pokemon API Error"));
@@ -303,6 +653,82 @@ class PokemonAPIClientImplementationTest {
 		assertEquals(1, result.getTotalCount()); // Total count is still 1 (from cache size)
 	}
 
+	@Test
+	void shouldFailWholePageWhenUpstreamIsBusy() {
+		// Arrange
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(1L);
+		Set<String> mockNames = new LinkedHashSet<>(Collections.singletonList("pikachu"));
+		when(zSetOperations.range("pokemon:{dex}:names:sorted", 0, 0)).thenReturn(mockNames);
+		when(valueOperations.multiGet(List.of("pokemon:{dex}:detail:pikachu"))).thenReturn(Collections.singletonList(null));
+		when(restTemplate.getForObject(
+				eq("https://pokeapi.co/api/v2/pokemon/pikachu"),
+				eq(JsonNode.class))).thenThrow(new UpstreamBusyException(1));
+
+		// Act
+		UpstreamBusyException page = assertThrows(UpstreamBusyException.class,
+				() -> pokemonAPIClient.getPokemons(null, 1, null));
+		UpstreamBusyException detail = assertThrows(UpstreamBusyException.class,
+				() -> pokemonAPIClient.getPokemon("pikachu"));
+
+		// Assert
+		assertEquals(503, page.getStatusCode());
+		assertEquals(503, detail.getStatusCode());
+		assertEquals(1, detail.getRetryAfterSeconds());
+	}
+
+	@Test
+	void shouldServeFromLocalFallbackWhenRedisUnavailable() {
+		// Arrange
+		// Redis connection fails on the first name index lookup
+		when(zSetOperations.size("pokemon:{dex}:names:sorted"))
+				.thenThrow(new RedisConnectionFailureException("Connection refused"));
+		when(valueOperations.get(anyString()))
+				.thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+		// Names and details come from the API instead
+		when(restTemplate.getForObject(
+				eq("https://pokeapi.co/api/v2/pokemon?limit=2000"),
+				eq(JsonNode.class))).thenReturn(mockPokemonListResponse);
+		when(restTemplate.getForObject(
+				eq("https://pokeapi.co/api/v2/pokemon/blastoise"),
+				eq(JsonNode.class))).thenReturn(mockPokemonResponse);
+
+		// Act
+		PokemonAPIClientDTO result = pokemonAPIClient.getPokemons(null, 1, null);
+		PokemonAPIClientDTO cachedResult = pokemonAPIClient.getPokemons(null, 1, null);
+
+		// Assert
+		assertFalse(redisHealthMonitor.isAvailable());
+		assertEquals(1, result.getResults().size());
+		assertEquals("blastoise", result.getNextCursor()); // Sorted like the Redis ZSET
+		assertEquals(3, result.getTotalCount());
+		assertEquals(1, cachedResult.getResults().size());
+
+		// Second page served from the local cache without another detail fetch
+		verify(restTemplate, times(1)).getForObject("https://pokeapi.co/api/v2/pokemon/blastoise", JsonNode.class);
+		verify(restTemplate, times(1)).getForObject("https://pokeapi.co/api/v2/pokemon?limit=2000", JsonNode.class);
+	}
+
+	@Test
+	void shouldAnswerSearchesWith503UntilTheIndexHasEveryName() {
+		// Arrange
+		when(zSetOperations.size("pokemon:{dex}:names:sorted")).thenReturn(2L);
+		warmupProgress.start(WarmupProgress.DETAILS, 2);
+		warmupProgress.advance(WarmupProgress.DETAILS);
+		pokedexIndex.upsert(createMockPokemon("pikachu", 25));
+		PokedexQuery query = PokedexQuery.of(null, List.of("electric"), null, null);
+
+		// Act & Assert
+		APIException exception = assertThrows(APIException.class, () -> pokemonAPIClient.searchPokemons("", 10, query));
+		assertEquals(503, exception.getStatusCode());
+
+		// A name that failed to load ends the run without holding searches back
+		warmupProgress.fail(WarmupProgress.DETAILS);
+		PokemonAPIClientDTO result = pokemonAPIClient.searchPokemons("", 10, query);
+		assertEquals(1, result.getTotalCount());
+		assertEquals("pikachu", result.getNextCursor());
+	}
+
 	private Pokemon createMockPokemon(String name, int id) {
 		Pokemon pokemon = new Pokemon();
 		pokemon.setId(id);
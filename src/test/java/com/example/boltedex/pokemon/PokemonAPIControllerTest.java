@@ -0,0 +1,45 @@
+package com.example.boltedex.pokemon;
+
+import com.example.boltedex.exception.ExceptionConstants;
+import com.example.boltedex.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class PokemonAPIControllerTest {
+
+	private final PokemonAPIClient pokemonAPIClient = mock(PokemonAPIClient.class);
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		PokemonAPIClientService service = new PokemonAPIClientService();
+		ReflectionTestUtils.setField(service, "pokemonAPIClient", pokemonAPIClient);
+		PokemonAPIController controller = new PokemonAPIController();
+		ReflectionTestUtils.setField(controller, "pokemonAPIClientService", service);
+		mockMvc = MockMvcBuilders.standaloneSetup(controller)
+				.setControllerAdvice(new GlobalExceptionHandler())
+				.build();
+	}
+
+	@Test
+	void shouldRejectIndexAndFuzzyParametersOnStreamedSearch() throws Exception {
+		mockMvc.perform(get("/api/pokemon/search").param("stream", "true").param("filter", "speed>=100"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.errorCode").value(ExceptionConstants.VALIDATION_ERROR));
+		mockMvc.perform(get("/api/pokemon/search").param("stream", "true").param("sort", "-speed"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/pokemon/search").param("stream", "true").param("query", "pika")
+						.param("mode", "fuzzy"))
+				.andExpect(status().isBadRequest());
+
+		verify(pokemonAPIClient, never()).streamPokemons(any(), anyInt(), any(), any());
+	}
+}
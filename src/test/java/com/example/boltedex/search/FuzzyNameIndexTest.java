@@ -0,0 +1,57 @@
+package com.example.boltedex.search;
+
+import com.example.boltedex.cache.PokemonNamesRefreshedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FuzzyNameIndexTest {
+
+	private FuzzyNameIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new FuzzyNameIndex();
+		index.rebuild(List.of("pikachu", "pichu", "raichu", "gyarados", "magikarp", "mr-mime", "charizard", "charmander"));
+	}
+
+	@Test
+	void shouldFindCommonMisspellings() {
+		assertEquals(List.of("pikachu"), index.search("pickachu"));
+		assertEquals(List.of("gyarados"), index.search("Gyrados"));
+		assertEquals(List.of("magikarp"), index.search("magikrap"));
+		assertEquals(List.of("mr-mime"), index.search("mr mime"));
+	}
+
+	@Test
+	void shouldRankByEditDistanceThenName() {
+		// pichu is exact, pikachu is two insertions away, raichu two substitutions
+		assertEquals(List.of("pichu", "pikachu", "raichu"), index.search("pichu"));
+	}
+
+	@Test
+	void shouldUseSmallerBudgetForShortQueries() {
+		assertTrue(index.search("pku").isEmpty());
+		assertTrue(index.search("   ").isEmpty());
+	}
+
+	@Test
+	void shouldRebuildWhenNamesRefresh() {
+		assertTrue(index.search("eevee").isEmpty());
+
+		index.onNamesRefreshed(new PokemonNamesRefreshedEvent(List.of("eevee", "vaporeon")));
+
+		assertEquals(List.of("eevee"), index.search("evee"));
+		assertTrue(index.search("pikachu").isEmpty());
+	}
+
+	@Test
+	void shouldBoundEditDistance() {
+		assertEquals(1, FuzzyNameIndex.editDistance("gyrados", "gyarados", 2));
+		assertEquals(1, FuzzyNameIndex.editDistance("magikrap", "magikarp", 2));
+		assertEquals(3, FuzzyNameIndex.editDistance("bulbasaur", "charizard", 2));
+	}
+}
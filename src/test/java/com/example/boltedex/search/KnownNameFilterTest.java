@@ -0,0 +1,42 @@
+package com.example.boltedex.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KnownNameFilterTest {
+
+	@Test
+	void shouldAdmitEverythingUntilBuilt() {
+		KnownNameFilter filter = new KnownNameFilter();
+
+		assertTrue(filter.isEmpty());
+		assertTrue(filter.mightContain("anything"));
+	}
+
+	@Test
+	void shouldNeverRejectIndexedNamesAndRejectMostOthers() {
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < 1300; i++) {
+			names.add("pokemon-" + i);
+		}
+		KnownNameFilter filter = new KnownNameFilter();
+		filter.rebuild(names);
+
+		for (String name : names) {
+			assertTrue(filter.mightContain(name));
+		}
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain("unknown-" + i)) {
+				falsePositives++;
+			}
+		}
+		// Sized for 1%; allow generous slack so the test is not flaky
+		assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+		assertTrue(filter.mightContain("25"));
+	}
+}
@@ -0,0 +1,34 @@
+package com.example.boltedex.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameSuggestIndexTest {
+
+	private NameSuggestIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new NameSuggestIndex();
+		index.rebuild(List.of("pikachu", "pichu", "pikachu-alola-cap", "pidgey", "pidgeotto", "raichu", "mew", "mewtwo"));
+	}
+
+	@Test
+	void shouldReturnNamesUnderPrefixInOrder() {
+		assertEquals(List.of("pichu", "pidgeotto", "pidgey", "pikachu", "pikachu-alola-cap"), index.suggest("pi", 10));
+		assertEquals(List.of("pikachu", "pikachu-alola-cap"), index.suggest("PIKA", 10));
+		assertEquals(List.of("mew"), index.suggest("mew", 1));
+	}
+
+	@Test
+	void shouldHandleMissesAndEmptyPrefix() {
+		assertTrue(index.suggest("zz", 10).isEmpty());
+		assertTrue(index.suggest("pikachuu", 10).isEmpty());
+		assertEquals(List.of("mew", "mewtwo"), index.suggest("", 2));
+		assertTrue(new NameSuggestIndex().suggest("pi", 10).isEmpty());
+	}
+}
@@ -0,0 +1,118 @@
+package com.example.boltedex.search;
+
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.pokemon.Pokemon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokedexIndexTest {
+
+	private PokedexIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new PokedexIndex();
+		index.upsertAll(List.of(
+				pokemon(6, "charizard", List.of("fire", "flying"), 78, 84, 78, 109, 85, 100),
+				pokemon(4, "charmander", List.of("fire"), 39, 52, 43, 60, 50, 65),
+				pokemon(25, "pikachu", List.of("electric"), 35, 55, 40, 50, 50, 90),
+				pokemon(26, "raichu", List.of("electric"), 60, 90, 55, 90, 80, 110),
+				pokemon(38, "ninetales", List.of("fire"), 73, 76, 75, 81, 100, 100),
+				pokemon(78, "rapidash", List.of("fire"), 65, 100, 70, 80, 80, 105)
+		));
+	}
+
+	@Test
+	void shouldFilterByTypeAndStatAndSortDescending() {
+		PokedexQuery query = PokedexQuery.of(null, List.of("fire"), List.of("speed>=100"), "-specialAttack");
+
+		PokedexIndex.Page page = index.search(query, "", 30);
+
+		assertEquals(List.of("charizard", "ninetales", "rapidash"), page.getNames());
+		assertEquals(3, page.getTotalCount());
+	}
+
+	@Test
+	void shouldRequireAllTypesAndCombineNameSubstring() {
+		assertEquals(List.of("charizard"),
+				index.search(PokedexQuery.of(null, List.of("fire", "flying"), null, null), "", 30).getNames());
+		assertEquals(List.of("charmander", "charizard"),
+				index.search(PokedexQuery.of("char", null, null, "id"), "", 30).getNames());
+	}
+
+	@Test
+	void shouldPageWithNameCursorInSortOrder() {
+		PokedexQuery query = PokedexQuery.of(null, null, List.of("total>300"), "-speed");
+
+		PokedexIndex.Page first = index.search(query, "", 2);
+		PokedexIndex.Page second = index.search(query, first.getNames().get(1), 2);
+
+		assertEquals(List.of("raichu", "rapidash"), first.getNames());
+		assertEquals(List.of("charizard", "ninetales"), second.getNames());
+		assertEquals(6, first.getTotalCount());
+	}
+
+	@Test
+	void shouldApplyIncrementalUpdates() {
+		PokedexQuery query = PokedexQuery.of(null, List.of("electric"), List.of("speed>100"), null);
+		assertEquals(List.of("raichu"), index.search(query, "", 30).getNames());
+
+		index.upsert(pokemon(25, "pikachu", List.of("electric"), 35, 55, 40, 50, 50, 120));
+		index.upsert(pokemon(125, "electabuzz", List.of("electric"), 65, 83, 57, 95, 85, 105));
+
+		assertEquals(List.of("electabuzz", "pikachu", "raichu"), index.search(query, "", 30).getNames());
+		assertEquals(7, index.size());
+	}
+
+	@Test
+	void shouldRejectUnknownFilterSortAndType() {
+		APIException filter = assertThrows(APIException.class,
+				() -> PokedexQuery.of(null, null, List.of("luck>=3"), null));
+		assertEquals(400, filter.getStatusCode());
+		assertThrows(APIException.class, () -> PokedexQuery.of(null, null, null, "-luck"));
+		assertThrows(APIException.class, () -> PokedexQuery.of(null, List.of("shadow"), null, null));
+		assertNull(PokedexQuery.of("pika", null, null, " "));
+	}
+
+	@Test
+	void shouldRejectOversizedFilterValuesAsBadRequest() {
+		APIException filter = assertThrows(APIException.class,
+				() -> PokedexQuery.of(null, null, List.of("attack>99999999999"), null));
+		assertEquals(400, filter.getStatusCode());
+	}
+
+	@Test
+	void shouldClampExclusiveBoundsAtTheIntRange() {
+		PokedexQuery aboveMax = PokedexQuery.of(null, null, List.of("attack>" + Integer.MAX_VALUE), null);
+		PokedexQuery belowMin = PokedexQuery.of(null, null, List.of("attack<" + Integer.MIN_VALUE), null);
+		PokedexQuery everything = PokedexQuery.of(null, null, List.of("attack<=9999999999"), null);
+
+		assertEquals(Integer.MAX_VALUE, aboveMax.getMin(PokedexStat.ATTACK));
+		assertTrue(index.search(aboveMax, "", 30).getNames().isEmpty());
+		assertEquals(Integer.MIN_VALUE, belowMin.getMax(PokedexStat.ATTACK));
+		assertTrue(index.search(belowMin, "", 30).getNames().isEmpty());
+		assertEquals(index.size(), index.search(everything, "", 30).getNames().size());
+	}
+
+	private static Pokemon pokemon(int id, String name, List<String> types,
+			int hp, int attack, int defense, int specialAttack, int specialDefense, int speed) {
+		Pokemon.Stats stats = new Pokemon.Stats();
+		stats.setHp(hp);
+		stats.setAttack(attack);
+		stats.setDefense(defense);
+		stats.setSpecialAttack(specialAttack);
+		stats.setSpecialDefense(specialDefense);
+		stats.setSpeed(speed);
+
+		Pokemon pokemon = new Pokemon();
+		pokemon.setId(id);
+		pokemon.setName(name);
+		pokemon.setTypes(types);
+		pokemon.setBaseStats(stats);
+		return pokemon;
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.boltedex.sprite;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpriteControllerTest {
+
+	@TempDir
+	Path cacheDir;
+
+	@Mock
+	private SpriteStore spriteStore;
+
+	@InjectMocks
+	private SpriteController spriteController;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Path blob = Files.write(cacheDir.resolve("abc"), "0123456789".getBytes());
+		when(spriteStore.resolve(25, SpriteVariant.FRONT_DEFAULT)).thenReturn(new SpriteFile(blob, "abc", "image/gif", 10));
+		mockMvc = MockMvcBuilders.standaloneSetup(spriteController).build();
+	}
+
+	@Test
+	void shouldServeWholeSpriteWithEtag() throws Exception {
+		mockMvc.perform(get("/api/pokemon/sprite/25/front-default"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"abc\""))
+				.andExpect(header().string("Accept-Ranges", "bytes"))
+				.andExpect(content().contentType("image/gif"))
+				.andExpect(content().string("0123456789"));
+	}
+
+	@Test
+	void shouldServeRequestedRange() throws Exception {
+		mockMvc.perform(get("/api/pokemon/sprite/25/front-default").header("Range", "bytes=2-5"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string("Content-Range", "bytes 2-5/10"))
+				.andExpect(content().string("2345"));
+	}
+
+	@Test
+	void shouldAnswerNotModifiedForMatchingEtag() throws Exception {
+		mockMvc.perform(get("/api/pokemon/sprite/25/front-default").header("If-None-Match", "\"abc\""))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+	}
+
+	@Test
+	void shouldRejectUnsatisfiableRange() throws Exception {
+		mockMvc.perform(get("/api/pokemon/sprite/25/front-default").header("Range", "bytes=50-"))
+				.andExpect(status().isRequestedRangeNotSatisfiable())
+				.andExpect(header().string("Content-Range", "bytes */10"));
+	}
+}
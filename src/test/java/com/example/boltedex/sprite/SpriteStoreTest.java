@@ -0,0 +1,106 @@
+package com.example.boltedex.sprite;
+
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.pokemon.Pokemon;
+import com.example.boltedex.pokemon.PokemonAPIClientService;
+import com.example.boltedex.search.PokedexIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@ExtendWith(MockitoExtension.class)
+class SpriteStoreTest {
+
+	private static final byte[] GIF = "GIF89a-pikachu".getBytes();
+
+	@TempDir
+	Path cacheDir;
+
+	@Mock
+	private PokemonAPIClientService pokemonAPIClientService;
+
+	@Spy
+	private PokedexIndex pokedexIndex = new PokedexIndex();
+
+	@Spy
+	private RestTemplate restTemplate = new RestTemplate();
+
+	@InjectMocks
+	private SpriteStore spriteStore;
+
+	private MockRestServiceServer server;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(spriteStore, "cachePath", cacheDir.toString());
+		server = MockRestServiceServer.bindTo(restTemplate).build();
+
+		Pokemon.Sprites sprites = new Pokemon.Sprites();
+		sprites.setFrontDefault("https://example.com/25.gif");
+		sprites.setFrontShiny("https://example.com/25-shiny.gif");
+		Pokemon pikachu = new Pokemon();
+		pikachu.setId(25);
+		pikachu.setName("pikachu");
+		pikachu.setTypes(List.of("electric"));
+		pikachu.setBaseStats(new Pokemon.Stats());
+		pikachu.setSprites(sprites);
+		pokedexIndex.upsert(pikachu);
+		lenient().when(pokemonAPIClientService.getPokemon("pikachu")).thenReturn(pikachu);
+	}
+
+	@Test
+	void shouldDownloadOnceAndServeFromDisk() throws Exception {
+		server.expect(once(), requestTo("https://example.com/25.gif")).andRespond(withSuccess(GIF, MediaType.IMAGE_GIF));
+
+		SpriteFile first = spriteStore.resolve(25, SpriteVariant.FRONT_DEFAULT);
+		SpriteFile second = spriteStore.resolve(25, SpriteVariant.FRONT_DEFAULT);
+
+		assertEquals(first.getPath(), second.getPath());
+		assertArrayEquals(GIF, Files.readAllBytes(first.getPath()));
+		assertEquals("image/gif", first.getContentType());
+		assertEquals(first.getHash(), first.getPath().getFileName().toString());
+		server.verify();
+
+		// A fresh store finds the sprite through its on-disk ref without any download
+		SpriteStore restarted = new SpriteStore();
+		ReflectionTestUtils.setField(restarted, "cachePath", cacheDir.toString());
+		assertEquals(first.getPath(), restarted.resolve(25, SpriteVariant.FRONT_DEFAULT).getPath());
+	}
+
+	@Test
+	void shouldStoreIdenticalSpritesOnce() {
+		server.expect(once(), requestTo("https://example.com/25.gif")).andRespond(withSuccess(GIF, MediaType.IMAGE_GIF));
+		server.expect(once(), requestTo("https://example.com/25-shiny.gif")).andRespond(withSuccess(GIF, MediaType.IMAGE_GIF));
+
+		SpriteFile front = spriteStore.resolve(25, SpriteVariant.FRONT_DEFAULT);
+		SpriteFile shiny = spriteStore.resolve(25, SpriteVariant.FRONT_SHINY);
+
+		assertEquals(front.getPath(), shiny.getPath());
+	}
+
+	@Test
+	void shouldReturnNotFoundForMissingVariant() {
+		APIException error = assertThrows(APIException.class, () -> spriteStore.resolve(25, SpriteVariant.BACK_SHINY));
+
+		assertEquals(404, error.getStatusCode());
+	}
+}
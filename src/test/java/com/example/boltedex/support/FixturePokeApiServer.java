@@ -0,0 +1,199 @@
+package com.example.boltedex.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Offline PokeAPI stand-in serving the recorded fixtures under src/test/resources/pokeapi.
+ *
+ * A request for /api/v2/pokemon/pikachu is answered from pokeapi/pokemon/pikachu.json (numeric ids
+ * are resolved through the fixture ids), and the list endpoint from pokeapi/pokemon.json. Absolute
+ * PokeAPI URLs inside the fixtures are rewritten to point back at this server. Latency and error
+ * rate can be tuned at runtime to exercise slow or failing upstream behaviour.
+ */
+public class FixturePokeApiServer implements AutoCloseable {
+
+	private static final String RECORDED_BASE_URL = "https://pokeapi.co/api/v2";
+	private static final String API_PREFIX = "/api/v2";
+
+	private final HttpServer server;
+	private final Path fixtureRoot;
+	private final Map<String, String> aliases = new ConcurrentHashMap<>();
+	private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+	private final AtomicLong totalRequests = new AtomicLong();
+
+	private volatile long latencyMillis;
+	private volatile long latencyJitterMillis;
+	private volatile double errorRate;
+	private volatile int errorStatus = 503;
+
+	public FixturePokeApiServer() throws IOException {
+		this.fixtureRoot = locateFixtures();
+		indexPokemonIds();
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+		this.server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "fixture-pokeapi");
+			thread.setDaemon(true);
+			return thread;
+		}));
+		this.server.createContext("/", this::handle);
+		this.server.start();
+	}
+
+	public String getBaseUrl() {
+		return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + API_PREFIX;
+	}
+
+	/**
+	 * Add a fixed delay plus uniform jitter to every response
+	 */
+	public void setLatency(long latencyMillis, long jitterMillis) {
+		this.latencyMillis = latencyMillis;
+		this.latencyJitterMillis = jitterMillis;
+	}
+
+	/**
+	 * Fail the given fraction of requests with the given HTTP status
+	 */
+	public void setErrorRate(double errorRate, int errorStatus) {
+		this.errorRate = errorRate;
+		this.errorStatus = errorStatus;
+	}
+
+	public long requestCount(String path) {
+		AtomicLong count = requestCounts.get(normalize(path));
+		return count != null ? count.get() : 0;
+	}
+
+	public long totalRequests() {
+		return totalRequests.get();
+	}
+
+	public void resetCounts() {
+		requestCounts.clear();
+		totalRequests.set(0);
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			String path = normalize(exchange.getRequestURI().getPath());
+			totalRequests.incrementAndGet();
+			requestCounts.computeIfAbsent(path, key -> new AtomicLong()).incrementAndGet();
+
+			simulateLatency();
+			if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+				send(exchange, errorStatus, "{\"detail\":\"injected error\"}");
+				return;
+			}
+
+			Path fixture = resolve(path);
+			if (fixture == null) {
+				send(exchange, 404, "Not Found");
+				return;
+			}
+			String body = Files.readString(fixture).replace(RECORDED_BASE_URL, getBaseUrl());
+			send(exchange, 200, body);
+		}
+	}
+
+	private Path resolve(String path) {
+		if (!path.startsWith(API_PREFIX + "/")) {
+			return null;
+		}
+		String[] segments = path.substring(API_PREFIX.length() + 1).split("/");
+		if (segments.length >= 2) {
+			String alias = aliases.get(segments[0] + "/" + segments[1]);
+			if (alias != null) {
+				segments[1] = alias;
+			}
+		}
+		Path fixture = fixtureRoot.resolve(String.join("/", segments) + ".json").normalize();
+		if (!fixture.startsWith(fixtureRoot) || !Files.isRegularFile(fixture)) {
+			return null;
+		}
+		return fixture;
+	}
+
+	private void indexPokemonIds() throws IOException {
+		ObjectMapper mapper = new ObjectMapper();
+		for (String resource : new String[] { "pokemon", "pokemon-species" }) {
+			Path directory = fixtureRoot.resolve(resource);
+			if (!Files.isDirectory(directory)) {
+				continue;
+			}
+			try (Stream<Path> files = Files.list(directory)) {
+				for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".json"))::iterator) {
+					JsonNode node = mapper.readTree(file.toFile());
+					String name = file.getFileName().toString().replace(".json", "");
+					if (node.has("id")) {
+						aliases.put(resource + "/" + node.get("id").asText(), name);
+					}
+				}
+			}
+		}
+	}
+
+	private void simulateLatency() {
+		long delay = latencyMillis;
+		if (latencyJitterMillis > 0) {
+			delay += ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1);
+		}
+		if (delay <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void send(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private static String normalize(String path) {
+		return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+	}
+
+	private static Path locateFixtures() throws IOException {
+		URL root = FixturePokeApiServer.class.getClassLoader().getResource("pokeapi/pokemon.json");
+		if (root == null) {
+			throw new IOException("PokeAPI fixtures not found on the test classpath");
+		}
+		try {
+			return Paths.get(root.toURI()).getParent();
+		} catch (URISyntaxException e) {
+			throw new IOException(e);
+		}
+	}
+}
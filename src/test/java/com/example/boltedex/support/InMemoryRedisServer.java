@@ -0,0 +1,936 @@
+package com.example.boltedex.support;
+
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaError;
+import org.luaj.vm2.LuaString;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.Varargs;
+import org.luaj.vm2.lib.VarArgFunction;
+import org.luaj.vm2.lib.jse.JsePlatform;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Containerless Redis stand-in for tests: speaks RESP2 over a local socket and implements the
+ * string, key, sorted-set and hash commands the application uses. Commands execute one at a time
+ * under a single lock, matching Redis' single-threaded semantics. EVAL and EVALSHA run the script
+ * itself on LuaJ, with redis.call dispatching back into the same commands while the lock is held.
+ */
+public class InMemoryRedisServer implements AutoCloseable {
+
+	private final ServerSocket serverSocket;
+	private final Map<String, Entry> data = new HashMap<>();
+	private final Map<String, AtomicLong> commandCounts = new ConcurrentHashMap<>();
+	private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+	// SHA1 -> source of every script seen by EVAL or SCRIPT LOAD
+	private final Map<String, String> scripts = new ConcurrentHashMap<>();
+	private volatile boolean running = true;
+
+	public InMemoryRedisServer() throws IOException {
+		this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+		Thread acceptor = new Thread(this::acceptLoop, "in-memory-redis-acceptor");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	public long commandCount(String command) {
+		AtomicLong count = commandCounts.get(command.toUpperCase(Locale.ROOT));
+		return count != null ? count.get() : 0;
+	}
+
+	public synchronized void flushAll() {
+		data.clear();
+	}
+
+	/**
+	 * Simulate an outage: drop every client connection and refuse new ones until {@link #resume()}
+	 */
+	public void pause() {
+		running = false;
+		for (Socket client : clients) {
+			closeQuietly(client);
+		}
+	}
+
+	public void resume() {
+		running = true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		pause();
+		serverSocket.close();
+	}
+
+	private void acceptLoop() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				if (!running) {
+					closeQuietly(socket);
+					continue;
+				}
+				clients.add(socket);
+				Thread handler = new Thread(() -> serve(socket), "in-memory-redis-client");
+				handler.setDaemon(true);
+				handler.start();
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		try (socket;
+				InputStream in = new BufferedInputStream(socket.getInputStream());
+				OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+			while (running) {
+				List<byte[]> command = readCommand(in);
+				if (command == null) {
+					return;
+				}
+				if (command.isEmpty()) {
+					continue;
+				}
+				Object reply;
+				try {
+					reply = execute(command);
+				} catch (RedisError e) {
+					reply = e;
+				}
+				writeReply(out, reply);
+				if (in.available() == 0) {
+					out.flush();
+				}
+			}
+		} catch (IOException e) {
+			// client went away
+		} finally {
+			clients.remove(socket);
+		}
+	}
+
+	// ---- command dispatch ----
+
+	private Object execute(List<byte[]> command) {
+		String name = str(command.get(0)).toUpperCase(Locale.ROOT);
+		commandCounts.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+		List<byte[]> args = command.subList(1, command.size());
+
+		switch (name) {
+			case "PING":
+				return args.isEmpty() ? Status.PONG : args.get(0);
+			case "ECHO":
+				return args.get(0);
+			case "HELLO":
+				throw new RedisError("ERR unknown command 'HELLO'");
+			case "CLIENT":
+			case "SELECT":
+			case "AUTH":
+			case "READONLY":
+				return Status.OK;
+			case "QUIT":
+				return Status.OK;
+			case "COMMAND":
+				return Collections.emptyList();
+			case "INFO":
+				return bytes("# Server\r\nredis_version:7.2.0\r\nredis_mode:standalone\r\n");
+			default:
+				break;
+		}
+
+		synchronized (this) {
+			switch (name) {
+				case "GET": return get(args);
+				case "SET": return set(args);
+				case "SETEX": return set(List.of(args.get(0), args.get(2), bytes("EX"), args.get(1)));
+				case "MGET": return mget(args);
+				case "MSET": return mset(args);
+				case "INCR": return incrBy(args.get(0), 1);
+				case "INCRBY": return incrBy(args.get(0), Long.parseLong(str(args.get(1))));
+				case "DEL":
+				case "UNLINK": return del(args);
+				case "EXISTS": return exists(args);
+				case "EXPIRE": return expire(args.get(0), Long.parseLong(str(args.get(1))) * 1000);
+				case "PEXPIRE": return expire(args.get(0), Long.parseLong(str(args.get(1))));
+				case "PERSIST": return persist(args.get(0));
+				case "TTL": return ttl(args.get(0), 1000);
+				case "PTTL": return ttl(args.get(0), 1);
+				case "TYPE": return type(args.get(0));
+				case "RENAME": return rename(args.get(0), args.get(1));
+				case "KEYS": return keys(str(args.get(0)));
+				case "SCAN": return scan(args);
+				case "DBSIZE": return (long) liveKeys().size();
+				case "FLUSHALL":
+				case "FLUSHDB": data.clear(); return Status.OK;
+				case "ZADD": return zadd(args);
+				case "ZCARD": return (long) zsetOrEmpty(args.get(0)).size();
+				case "ZRANGE": return zrange(args, false);
+				case "ZREVRANGE": return zrange(args, true);
+				case "ZRANK": return zrank(args.get(0), args.get(1));
+				case "ZSCORE": return zscore(args.get(0), args.get(1));
+				case "ZREM": return zrem(args);
+				case "ZINCRBY": return zincrby(args);
+				case "HSET":
+				case "HMSET": return hset(args, name);
+				case "HGET": return hashOrEmpty(args.get(0)).get(str(args.get(1)));
+				case "HMGET": return hmget(args);
+				case "HGETALL": return hgetall(args.get(0));
+				case "HDEL": return hdel(args);
+				case "HLEN": return (long) hashOrEmpty(args.get(0)).size();
+				case "EVAL": return eval(loadScript(str(args.get(0))), args);
+				case "EVALSHA": return eval(str(args.get(0)).toLowerCase(Locale.ROOT), args);
+				case "SCRIPT": return script(args);
+				default:
+					throw new RedisError("ERR unknown command '" + name + "'");
+			}
+		}
+	}
+
+	// ---- strings ----
+
+	private Object get(List<byte[]> args) {
+		Entry entry = live(str(args.get(0)));
+		if (entry == null) {
+			return null;
+		}
+		return string(entry);
+	}
+
+	private Object set(List<byte[]> args) {
+		String key = str(args.get(0));
+		byte[] value = args.get(1);
+		long expireAt = 0;
+		boolean nx = false;
+		boolean xx = false;
+		boolean keepTtl = false;
+		for (int i = 2; i < args.size(); i++) {
+			String option = str(args.get(i)).toUpperCase(Locale.ROOT);
+			switch (option) {
+				case "EX": expireAt = now() + Long.parseLong(str(args.get(++i))) * 1000; break;
+				case "PX": expireAt = now() + Long.parseLong(str(args.get(++i))); break;
+				case "EXAT": expireAt = Long.parseLong(str(args.get(++i))) * 1000; break;
+				case "PXAT": expireAt = Long.parseLong(str(args.get(++i))); break;
+				case "NX": nx = true; break;
+				case "XX": xx = true; break;
+				case "KEEPTTL": keepTtl = true; break;
+				default: throw new RedisError("ERR syntax error");
+			}
+		}
+		Entry existing = live(key);
+		if ((nx && existing != null) || (xx && existing == null)) {
+			return null;
+		}
+		Entry entry = new Entry(value);
+		entry.expireAt = keepTtl && existing != null ? existing.expireAt : expireAt;
+		data.put(key, entry);
+		return Status.OK;
+	}
+
+	private Object mget(List<byte[]> args) {
+		List<Object> values = new ArrayList<>(args.size());
+		for (byte[] key : args) {
+			Entry entry = live(str(key));
+			values.add(entry != null && entry.value instanceof byte[] ? entry.value : null);
+		}
+		return values;
+	}
+
+	private Object mset(List<byte[]> args) {
+		for (int i = 0; i + 1 < args.size(); i += 2) {
+			data.put(str(args.get(i)), new Entry(args.get(i + 1)));
+		}
+		return Status.OK;
+	}
+
+	private Object incrBy(byte[] rawKey, long delta) {
+		String key = str(rawKey);
+		Entry entry = live(key);
+		long value = entry != null ? Long.parseLong(str(string(entry))) : 0;
+		value += delta;
+		Entry updated = new Entry(bytes(Long.toString(value)));
+		updated.expireAt = entry != null ? entry.expireAt : 0;
+		data.put(key, updated);
+		return value;
+	}
+
+	// ---- keys ----
+
+	private Object del(List<byte[]> args) {
+		long removed = 0;
+		for (byte[] key : args) {
+			if (live(str(key)) != null) {
+				data.remove(str(key));
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+	private Object exists(List<byte[]> args) {
+		long count = 0;
+		for (byte[] key : args) {
+			if (live(str(key)) != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private Object expire(byte[] key, long millis) {
+		Entry entry = live(str(key));
+		if (entry == null) {
+			return 0L;
+		}
+		if (millis <= 0) {
+			data.remove(str(key));
+		} else {
+			entry.expireAt = now() + millis;
+		}
+		return 1L;
+	}
+
+	private Object persist(byte[] key) {
+		Entry entry = live(str(key));
+		if (entry == null || entry.expireAt == 0) {
+			return 0L;
+		}
+		entry.expireAt = 0;
+		return 1L;
+	}
+
+	private Object ttl(byte[] key, long unit) {
+		Entry entry = live(str(key));
+		if (entry == null) {
+			return -2L;
+		}
+		if (entry.expireAt == 0) {
+			return -1L;
+		}
+		return (entry.expireAt - now() + unit - 1) / unit;
+	}
+
+	private Object type(byte[] key) {
+		Entry entry = live(str(key));
+		if (entry == null) {
+			return new Status("none");
+		}
+		if (entry.value instanceof ZSet) {
+			return new Status("zset");
+		}
+		if (entry.value instanceof Map) {
+			return new Status("hash");
+		}
+		return new Status("string");
+	}
+
+	private Object rename(byte[] source, byte[] target) {
+		Entry entry = live(str(source));
+		if (entry == null) {
+			throw new RedisError("ERR no such key");
+		}
+		data.remove(str(source));
+		data.put(str(target), entry);
+		return Status.OK;
+	}
+
+	private Object keys(String pattern) {
+		Pattern regex = globToRegex(pattern);
+		List<Object> keys = new ArrayList<>();
+		for (String key : liveKeys()) {
+			if (regex.matcher(key).matches()) {
+				keys.add(bytes(key));
+			}
+		}
+		return keys;
+	}
+
+	private Object scan(List<byte[]> args) {
+		int cursor = Integer.parseInt(str(args.get(0)));
+		Pattern regex = null;
+		int count = 10;
+		for (int i = 1; i < args.size(); i++) {
+			String option = str(args.get(i)).toUpperCase(Locale.ROOT);
+			if (option.equals("MATCH")) {
+				regex = globToRegex(str(args.get(++i)));
+			} else if (option.equals("COUNT")) {
+				count = Integer.parseInt(str(args.get(++i)));
+			} else {
+				i++;
+			}
+		}
+		List<String> keys = new ArrayList<>(liveKeys());
+		Collections.sort(keys);
+		int end = Math.min(keys.size(), cursor + count);
+		List<Object> page = new ArrayList<>();
+		for (int i = cursor; i < end; i++) {
+			if (regex == null || regex.matcher(keys.get(i)).matches()) {
+				page.add(bytes(keys.get(i)));
+			}
+		}
+		int next = end >= keys.size() ? 0 : end;
+		return List.of(bytes(Integer.toString(next)), page);
+	}
+
+	// ---- sorted sets ----
+
+	private Object zadd(List<byte[]> args) {
+		String key = str(args.get(0));
+		boolean nx = false;
+		boolean xx = false;
+		boolean ch = false;
+		int i = 1;
+		for (; i < args.size(); i++) {
+			String option = str(args.get(i)).toUpperCase(Locale.ROOT);
+			if (option.equals("NX")) {
+				nx = true;
+			} else if (option.equals("XX")) {
+				xx = true;
+			} else if (option.equals("CH")) {
+				ch = true;
+			} else if (option.equals("GT") || option.equals("LT") || option.equals("INCR")) {
+				throw new RedisError("ERR " + option + " is not supported by the test server");
+			} else {
+				break;
+			}
+		}
+		ZSet zset = zsetForWrite(key);
+		long changed = 0;
+		for (; i + 1 < args.size(); i += 2) {
+			double score = Double.parseDouble(str(args.get(i)));
+			String member = str(args.get(i + 1));
+			Double previous = zset.scores.get(member);
+			if ((nx && previous != null) || (xx && previous == null)) {
+				continue;
+			}
+			zset.put(member, score);
+			if (previous == null || (ch && previous != score)) {
+				changed++;
+			}
+		}
+		return changed;
+	}
+
+	private Object zrange(List<byte[]> args, boolean reverse) {
+		ZSet zset = zsetOrEmpty(args.get(0));
+		long start = Long.parseLong(str(args.get(1)));
+		long stop = Long.parseLong(str(args.get(2)));
+		boolean withScores = false;
+		for (int i = 3; i < args.size(); i++) {
+			String option = str(args.get(i)).toUpperCase(Locale.ROOT);
+			if (option.equals("WITHSCORES")) {
+				withScores = true;
+			} else if (option.equals("REV")) {
+				reverse = true;
+			} else {
+				throw new RedisError("ERR ZRANGE " + option + " is not supported by the test server");
+			}
+		}
+		List<ZMember> members = new ArrayList<>(zset.ordered);
+		if (reverse) {
+			Collections.reverse(members);
+		}
+		int size = members.size();
+		if (start < 0) {
+			start = Math.max(0, size + start);
+		}
+		if (stop < 0) {
+			stop = size + stop;
+		}
+		stop = Math.min(stop, size - 1);
+		List<Object> result = new ArrayList<>();
+		for (long index = start; index <= stop; index++) {
+			ZMember member = members.get((int) index);
+			result.add(bytes(member.member));
+			if (withScores) {
+				result.add(bytes(formatScore(member.score)));
+			}
+		}
+		return result;
+	}
+
+	private Object zrank(byte[] key, byte[] member) {
+		ZSet zset = zsetOrEmpty(key);
+		Double score = zset.scores.get(str(member));
+		if (score == null) {
+			return null;
+		}
+		return (long) zset.ordered.headSet(new ZMember(str(member), score)).size();
+	}
+
+	private Object zscore(byte[] key, byte[] member) {
+		Double score = zsetOrEmpty(key).scores.get(str(member));
+		return score != null ? bytes(formatScore(score)) : null;
+	}
+
+	private Object zrem(List<byte[]> args) {
+		ZSet zset = zsetOrEmpty(args.get(0));
+		long removed = 0;
+		for (byte[] member : args.subList(1, args.size())) {
+			if (zset.remove(str(member))) {
+				removed++;
+			}
+		}
+		if (zset.size() == 0) {
+			data.remove(str(args.get(0)));
+		}
+		return removed;
+	}
+
+	private Object zincrby(List<byte[]> args) {
+		ZSet zset = zsetForWrite(str(args.get(0)));
+		String member = str(args.get(2));
+		double score = zset.scores.getOrDefault(member, 0.0) + Double.parseDouble(str(args.get(1)));
+		zset.put(member, score);
+		return bytes(formatScore(score));
+	}
+
+	// ---- hashes ----
+
+	private Object hset(List<byte[]> args, String name) {
+		String key = str(args.get(0));
+		Entry entry = live(key);
+		Map<String, byte[]> hash;
+		if (entry == null) {
+			hash = new LinkedHashMap<>();
+			data.put(key, new Entry(hash));
+		} else {
+			hash = hash(entry);
+		}
+		long added = 0;
+		for (int i = 1; i + 1 < args.size(); i += 2) {
+			if (hash.put(str(args.get(i)), args.get(i + 1)) == null) {
+				added++;
+			}
+		}
+		return name.equals("HMSET") ? Status.OK : added;
+	}
+
+	private Object hmget(List<byte[]> args) {
+		Map<String, byte[]> hash = hashOrEmpty(args.get(0));
+		List<Object> values = new ArrayList<>();
+		for (byte[] field : args.subList(1, args.size())) {
+			values.add(hash.get(str(field)));
+		}
+		return values;
+	}
+
+	private Object hgetall(byte[] key) {
+		List<Object> values = new ArrayList<>();
+		for (Map.Entry<String, byte[]> field : hashOrEmpty(key).entrySet()) {
+			values.add(bytes(field.getKey()));
+			values.add(field.getValue());
+		}
+		return values;
+	}
+
+	private Object hdel(List<byte[]> args) {
+		Map<String, byte[]> hash = hashOrEmpty(args.get(0));
+		long removed = 0;
+		for (byte[] field : args.subList(1, args.size())) {
+			if (hash.remove(str(field)) != null) {
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+	// ---- scripts ----
+
+	private String loadScript(String source) {
+		String sha = sha1(source);
+		scripts.putIfAbsent(sha, source);
+		return sha;
+	}
+
+	private Object script(List<byte[]> args) {
+		String subcommand = str(args.get(0)).toUpperCase(Locale.ROOT);
+		switch (subcommand) {
+			case "LOAD": return bytes(loadScript(str(args.get(1))));
+			case "EXISTS": {
+				List<Object> exists = new ArrayList<>();
+				for (byte[] sha : args.subList(1, args.size())) {
+					exists.add(scripts.containsKey(str(sha).toLowerCase(Locale.ROOT)) ? 1L : 0L);
+				}
+				return exists;
+			}
+			case "FLUSH": scripts.clear(); return Status.OK;
+			default: throw new RedisError("ERR unknown SCRIPT subcommand '" + subcommand + "'");
+		}
+	}
+
+	private Object eval(String sha, List<byte[]> args) {
+		String source = scripts.get(sha);
+		if (source == null) {
+			throw new RedisError("NOSCRIPT No matching script. Please use EVAL.");
+		}
+		int numKeys = Integer.parseInt(str(args.get(1)));
+		// Redis scripts run on Lua 5.1, where unpack is still a global
+		Globals globals = JsePlatform.standardGlobals();
+		globals.set("unpack", globals.get("table").get("unpack"));
+		globals.set("KEYS", luaArray(args.subList(2, 2 + numKeys)));
+		globals.set("ARGV", luaArray(args.subList(2 + numKeys, args.size())));
+		LuaTable redis = new LuaTable();
+		redis.set("call", new VarArgFunction() {
+			@Override
+			public Varargs invoke(Varargs callArgs) {
+				List<byte[]> command = new ArrayList<>(callArgs.narg());
+				for (int i = 1; i <= callArgs.narg(); i++) {
+					command.add(fromLuaString(callArgs.arg(i)));
+				}
+				try {
+					return toLua(execute(command));
+				} catch (RedisError e) {
+					throw new LuaError(e.getMessage());
+				}
+			}
+		});
+		globals.set("redis", redis);
+		try {
+			return fromLua(globals.load(source, "@user_script").call());
+		} catch (LuaError e) {
+			throw new RedisError("ERR Error running script: " + e.getMessage());
+		}
+	}
+
+	private static byte[] fromLuaString(LuaValue value) {
+		if (value.type() != LuaValue.TSTRING) {
+			return bytes(value.tojstring());
+		}
+		LuaString string = value.checkstring();
+		byte[] raw = new byte[string.rawlen()];
+		string.copyInto(0, raw, 0, raw.length);
+		return raw;
+	}
+
+	private static LuaTable luaArray(List<byte[]> values) {
+		LuaTable table = new LuaTable();
+		for (int i = 0; i < values.size(); i++) {
+			table.set(i + 1, LuaValue.valueOf(values.get(i)));
+		}
+		return table;
+	}
+
+	private static LuaValue toLua(Object reply) {
+		if (reply == null) {
+			return LuaValue.FALSE;
+		} else if (reply instanceof Long) {
+			return LuaValue.valueOf((Long) reply);
+		} else if (reply instanceof byte[]) {
+			return LuaValue.valueOf((byte[]) reply);
+		} else if (reply instanceof Status) {
+			LuaTable status = new LuaTable();
+			status.set("ok", ((Status) reply).text);
+			return status;
+		} else if (reply instanceof List) {
+			LuaTable table = new LuaTable();
+			int i = 1;
+			for (Object value : (List<?>) reply) {
+				table.set(i++, toLua(value));
+			}
+			return table;
+		}
+		throw new IllegalStateException("Unsupported reply type " + reply.getClass());
+	}
+
+	// Lua to RESP conversion as Redis does it: numbers are truncated to integers, false and nil become nil
+	private static Object fromLua(LuaValue value) {
+		if (value.isnil() || value == LuaValue.FALSE) {
+			return null;
+		} else if (value.isboolean()) {
+			return 1L;
+		} else if (value.type() == LuaValue.TNUMBER) {
+			return value.tolong();
+		} else if (value.isstring()) {
+			return fromLuaString(value);
+		} else if (value.istable()) {
+			if (!value.get("ok").isnil()) {
+				return new Status(value.get("ok").tojstring());
+			}
+			if (!value.get("err").isnil()) {
+				return new RedisError(value.get("err").tojstring());
+			}
+			List<Object> values = new ArrayList<>();
+			for (int i = 1; !value.get(i).isnil(); i++) {
+				values.add(fromLua(value.get(i)));
+			}
+			return values;
+		}
+		throw new RedisError("ERR unsupported script return type " + value.typename());
+	}
+
+	// ---- storage helpers ----
+
+	private Entry live(String key) {
+		Entry entry = data.get(key);
+		if (entry != null && entry.expireAt != 0 && entry.expireAt <= now()) {
+			data.remove(key);
+			return null;
+		}
+		return entry;
+	}
+
+	private Set<String> liveKeys() {
+		data.entrySet().removeIf(entry -> entry.getValue().expireAt != 0 && entry.getValue().expireAt <= now());
+		return data.keySet();
+	}
+
+	private static byte[] string(Entry entry) {
+		if (!(entry.value instanceof byte[])) {
+			throw new RedisError("WRONGTYPE Operation against a key holding the wrong kind of value");
+		}
+		return (byte[]) entry.value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, byte[]> hash(Entry entry) {
+		if (!(entry.value instanceof Map)) {
+			throw new RedisError("WRONGTYPE Operation against a key holding the wrong kind of value");
+		}
+		return (Map<String, byte[]>) entry.value;
+	}
+
+	private Map<String, byte[]> hashOrEmpty(byte[] key) {
+		Entry entry = live(str(key));
+		return entry != null ? hash(entry) : new LinkedHashMap<>();
+	}
+
+	private ZSet zsetOrEmpty(byte[] key) {
+		Entry entry = live(str(key));
+		if (entry == null) {
+			return new ZSet();
+		}
+		if (!(entry.value instanceof ZSet)) {
+			throw new RedisError("WRONGTYPE Operation against a key holding the wrong kind of value");
+		}
+		return (ZSet) entry.value;
+	}
+
+	private ZSet zsetForWrite(String key) {
+		Entry entry = live(key);
+		if (entry == null) {
+			ZSet zset = new ZSet();
+			data.put(key, new Entry(zset));
+			return zset;
+		}
+		if (!(entry.value instanceof ZSet)) {
+			throw new RedisError("WRONGTYPE Operation against a key holding the wrong kind of value");
+		}
+		return (ZSet) entry.value;
+	}
+
+	private static long now() {
+		return System.currentTimeMillis();
+	}
+
+	private static String formatScore(double score) {
+		return score == Math.rint(score) && !Double.isInfinite(score) ? Long.toString((long) score) : Double.toString(score);
+	}
+
+	private static Pattern globToRegex(String glob) {
+		StringBuilder regex = new StringBuilder();
+		for (int i = 0; i < glob.length(); i++) {
+			char c = glob.charAt(i);
+			switch (c) {
+				case '*': regex.append(".*"); break;
+				case '?': regex.append('.'); break;
+				case '[': regex.append('['); break;
+				case ']': regex.append(']'); break;
+				case '\\': regex.append(Pattern.quote(String.valueOf(glob.charAt(++i)))); break;
+				default: regex.append(Pattern.quote(String.valueOf(c)));
+			}
+		}
+		return Pattern.compile(regex.toString(), Pattern.DOTALL);
+	}
+
+	// Keys and members are kept as ISO-8859-1 strings so arbitrary bytes round-trip and sort like Redis
+	private static String sha1(String script) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(bytes(script)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String str(byte[] value) {
+		return new String(value, StandardCharsets.ISO_8859_1);
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	// ---- RESP protocol ----
+
+	private static List<byte[]> readCommand(InputStream in) throws IOException {
+		int marker = in.read();
+		if (marker == -1) {
+			return null;
+		}
+		if (marker != '*') {
+			// inline command
+			String line = (char) marker + readLine(in);
+			List<byte[]> parts = new ArrayList<>();
+			for (String part : line.trim().split("\\s+")) {
+				if (!part.isEmpty()) {
+					parts.add(bytes(part));
+				}
+			}
+			return parts;
+		}
+		int count = Integer.parseInt(readLine(in));
+		List<byte[]> parts = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			if (in.read() != '$') {
+				throw new IOException("Expected bulk string");
+			}
+			int length = Integer.parseInt(readLine(in));
+			byte[] value = in.readNBytes(length);
+			if (value.length != length) {
+				throw new EOFException();
+			}
+			in.read();
+			in.read();
+			parts.add(value);
+		}
+		return parts;
+	}
+
+	private static String readLine(InputStream in) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int b;
+		while ((b = in.read()) != -1) {
+			if (b == '\r') {
+				in.read();
+				break;
+			}
+			line.write(b);
+		}
+		if (b == -1) {
+			throw new EOFException();
+		}
+		return line.toString(StandardCharsets.ISO_8859_1);
+	}
+
+	private static void writeReply(OutputStream out, Object reply) throws IOException {
+		if (reply == null) {
+			out.write(bytes("$-1\r\n"));
+		} else if (reply instanceof Status) {
+			out.write(bytes("+" + ((Status) reply).text + "\r\n"));
+		} else if (reply instanceof RedisError) {
+			out.write(bytes("-" + ((RedisError) reply).getMessage() + "\r\n"));
+		} else if (reply instanceof Long) {
+			out.write(bytes(":" + reply + "\r\n"));
+		} else if (reply instanceof byte[]) {
+			byte[] value = (byte[]) reply;
+			out.write(bytes("$" + value.length + "\r\n"));
+			out.write(value);
+			out.write(bytes("\r\n"));
+		} else if (reply instanceof List) {
+			List<?> values = (List<?>) reply;
+			out.write(bytes("*" + values.size() + "\r\n"));
+			for (Object value : values) {
+				writeReply(out, value);
+			}
+		} else {
+			throw new IllegalStateException("Unsupported reply type " + reply.getClass());
+		}
+	}
+
+	private static void closeQuietly(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private long expireAt;
+
+		private Entry(Object value) {
+			this.value = value;
+		}
+	}
+
+	private static final class ZMember implements Comparable<ZMember> {
+		private final String member;
+		private final double score;
+
+		private ZMember(String member, double score) {
+			this.member = member;
+			this.score = score;
+		}
+
+		@Override
+		public int compareTo(ZMember other) {
+			int byScore = Double.compare(score, other.score);
+			return byScore != 0 ? byScore : member.compareTo(other.member);
+		}
+	}
+
+	private static final class ZSet {
+		private final Map<String, Double> scores = new HashMap<>();
+		private final TreeSet<ZMember> ordered = new TreeSet<>();
+
+		private void put(String member, double score) {
+			Double previous = scores.put(member, score);
+			if (previous != null) {
+				ordered.remove(new ZMember(member, previous));
+			}
+			ordered.add(new ZMember(member, score));
+		}
+
+		private boolean remove(String member) {
+			Double previous = scores.remove(member);
+			if (previous == null) {
+				return false;
+			}
+			ordered.remove(new ZMember(member, previous));
+			return true;
+		}
+
+		private int size() {
+			return scores.size();
+		}
+	}
+
+	private static final class Status {
+		private static final Status OK = new Status("OK");
+		private static final Status PONG = new Status("PONG");
+
+		private final String text;
+
+		private Status(String text) {
+			this.text = text;
+		}
+	}
+
+	private static final class RedisError extends RuntimeException {
+		private RedisError(String message) {
+			super(message, null, false, false);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.example.boltedex.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class RequestTimingTest {
+
+	@AfterEach
+	void tearDown() {
+		RequestTiming.end();
+	}
+
+	@Test
+	void shouldTakeNestedSpansOutOfTheOuterOne() throws Exception {
+		RequestTiming timing = RequestTiming.begin();
+
+		long redis = RequestTiming.start();
+		long json = RequestTiming.start();
+		Thread.sleep(30);
+		RequestTiming.stop(RequestTiming.Phase.JSON, json);
+		RequestTiming.stop(RequestTiming.Phase.REDIS, redis);
+
+		assertTrue(timing.nanos(RequestTiming.Phase.JSON) >= TimeUnit.MILLISECONDS.toNanos(30));
+		assertTrue(timing.nanos(RequestTiming.Phase.REDIS) < TimeUnit.MILLISECONDS.toNanos(20));
+		assertEquals(1, timing.calls(RequestTiming.Phase.REDIS));
+	}
+
+	@Test
+	void shouldDoNothingOutsideARequest() {
+		long started = RequestTiming.start();
+		RequestTiming.stop(RequestTiming.Phase.UPSTREAM, started);
+		RequestTiming.countCache(1, 1);
+
+		assertNull(RequestTiming.current());
+	}
+
+	@Test
+	void shouldAddPoolWorkToTheSubmittingRequest() throws Exception {
+		RequestTiming timing = RequestTiming.begin();
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			pool.submit(RequestTiming.propagate(() -> {
+				long started = RequestTiming.start();
+				RequestTiming.stop(RequestTiming.Phase.UPSTREAM, started);
+				RequestTiming.countCache(0, 1);
+			})).get(5, TimeUnit.SECONDS);
+		} finally {
+			pool.shutdownNow();
+		}
+		RequestTiming.countCache(3, 0);
+
+		assertEquals(1, timing.calls(RequestTiming.Phase.UPSTREAM));
+		assertEquals(3, timing.cacheHits());
+		assertEquals(1, timing.cacheMisses());
+	}
+
+	@Test
+	void shouldSendServerTimingHeaderForApiRequests() throws Exception {
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TimedController())
+				.setControllerAdvice(new ServerTimingAdvice())
+				.addFilters(new ServerTimingFilter())
+				.build();
+
+		mockMvc.perform(get("/api/timed"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(ServerTimingAdvice.SERVER_TIMING_HEADER, containsString("redis;dur=")))
+				.andExpect(header().string(ServerTimingAdvice.SERVER_TIMING_HEADER, containsString("upstream;dur=0.0, ")))
+				.andExpect(header().string(ServerTimingAdvice.SERVER_TIMING_HEADER, containsString("cache;desc=\"hit=2 miss=1\"")))
+				.andExpect(header().string(ServerTimingAdvice.SERVER_TIMING_HEADER, containsString("app;dur=")));
+		mockMvc.perform(get("/actuator/timed"))
+				.andExpect(header().doesNotExist(ServerTimingAdvice.SERVER_TIMING_HEADER));
+		assertNull(RequestTiming.current());
+	}
+
+	@RestController
+	static class TimedController {
+
+		@GetMapping({"/api/timed", "/actuator/timed"})
+		public Map<String, List<String>> timed() {
+			long started = RequestTiming.start();
+			RequestTiming.stop(RequestTiming.Phase.REDIS, started);
+			RequestTiming.countCache(2, 1);
+			return Map.of("names", List.of("pikachu"));
+		}
+	}
+}
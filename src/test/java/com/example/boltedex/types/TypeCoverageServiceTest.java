@@ -0,0 +1,105 @@
+package com.example.boltedex.types;
+
+import com.example.boltedex.exception.APIException;
+import com.example.boltedex.pokemon.Pokemon;
+import com.example.boltedex.pokemon.PokemonAPIClientService;
+import com.example.boltedex.search.PokedexIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TypeCoverageServiceTest {
+
+	@Mock
+	private PokemonAPIClientService pokemonAPIClientService;
+
+	@Spy
+	private PokedexIndex pokedexIndex = new PokedexIndex();
+
+	@InjectMocks
+	private TypeCoverageService typeCoverageService;
+
+	private final List<Pokemon> dex = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		dex.add(pokemon(6, "charizard", List.of("fire", "flying"), 534));
+		dex.add(pokemon(9, "blastoise", List.of("water"), 530));
+		dex.add(pokemon(3, "venusaur", List.of("grass", "poison"), 525));
+		dex.add(pokemon(26, "raichu", List.of("electric"), 485));
+		dex.add(pokemon(76, "golem", List.of("rock", "ground"), 495));
+		dex.add(pokemon(130, "gyarados", List.of("water", "flying"), 540));
+		pokedexIndex.upsertAll(dex);
+	}
+
+	@Test
+	void shouldPrecomputeDualTypeMultipliers() {
+		int fire = TypeChart.indexOf("fire");
+		int electric = TypeChart.indexOf("electric");
+		int grassBug = TypeChart.combo(TypeChart.typeMask(List.of("grass", "bug")));
+		int ground = TypeChart.combo(TypeChart.typeMask(List.of("ground")));
+
+		assertEquals(16, TypeChart.multiplier(fire, grassBug));
+		assertEquals(0, TypeChart.multiplier(electric, ground));
+		assertNotEquals(0, TypeChart.immunityMask(ground) & (1 << electric));
+		assertEquals(List.of("grass", "bug"), TypeChart.typeNames(TypeChart.typeMask(List.of("bug", "grass"))));
+	}
+
+	@Test
+	void shouldReportSharedWeaknessesUncoveredTypesAndCounters() {
+		stubTeam("charizard", "gyarados");
+
+		TypeCoverageDTO coverage = typeCoverageService.analyze(List.of("Charizard", "gyarados"), 3);
+
+		assertEquals(List.of("charizard", "gyarados"), coverage.getTeam());
+		// Both flying types take 4x/2x from rock and electric
+		assertEquals(2, coverage.getSharedWeaknesses().get("electric"));
+		assertEquals(2, coverage.getSharedWeaknesses().get("rock"));
+		assertTrue(coverage.getUncoveredTypes().contains("electric"));
+		assertFalse(coverage.getUncoveredTypes().contains("grass"));
+
+		List<String> counterNames = coverage.getCounters().stream().map(TypeCoverageDTO.Counter::getName).toList();
+		assertEquals("raichu", counterNames.get(0));
+		assertFalse(counterNames.contains("charizard"));
+		assertEquals(3, counterNames.size());
+	}
+
+	@Test
+	void shouldRejectOversizedTeam() {
+		APIException error = assertThrows(APIException.class, () -> typeCoverageService.analyze(
+				List.of("a", "b", "c", "d", "e", "f", "g"), 10));
+
+		assertEquals(400, error.getStatusCode());
+		verifyNoInteractions(pokemonAPIClientService);
+	}
+
+	private void stubTeam(String... names) {
+		for (String name : names) {
+			Pokemon pokemon = dex.stream().filter(p -> p.getName().equals(name)).findFirst().orElseThrow();
+			when(pokemonAPIClientService.getPokemon(name)).thenReturn(pokemon);
+		}
+	}
+
+	private static Pokemon pokemon(int id, String name, List<String> types, int total) {
+		Pokemon.Stats stats = new Pokemon.Stats();
+		stats.setHp(total);
+
+		Pokemon pokemon = new Pokemon();
+		pokemon.setId(id);
+		pokemon.setName(name);
+		pokemon.setTypes(types);
+		pokemon.setBaseStats(stats);
+		return pokemon;
+	}
+}
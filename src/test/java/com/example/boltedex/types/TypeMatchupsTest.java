@@ -0,0 +1,76 @@
+package com.example.boltedex.types;
+
+import com.example.boltedex.config.RedisConfig;
+import com.example.boltedex.pokemon.Pokemon;
+import com.example.boltedex.pokemon.PokemonTypeEffectiveness;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class TypeMatchupsTest {
+
+	@Test
+	void shouldMatchEffectivenessForEveryTypeCombination() {
+		String[] types = PokemonTypeEffectiveness.TYPES;
+		for (int first = 0; first < types.length; first++) {
+			for (int second = first; second < types.length; second++) {
+				List<String> defenders = first == second ? List.of(types[first]) : List.of(types[first], types[second]);
+				for (String attack : types) {
+					Double expected = PokemonTypeEffectiveness.getEffectiveness(attack, defenders);
+					String matchup = attack + " vs " + defenders;
+					assertEquals(expected > 1.0 ? expected : null, TypeMatchups.weaknesses(defenders).get(attack), matchup);
+					assertEquals(expected > 0.0 && expected < 1.0 ? expected : null,
+							TypeMatchups.resistances(defenders).get(attack), matchup);
+					assertEquals(expected == 0.0 ? expected : null, TypeMatchups.immunities(defenders).get(attack), matchup);
+				}
+			}
+		}
+	}
+
+	@Test
+	void shouldShareOneProfilePerTypeCombination() {
+		Map<String, Double> charizard = TypeMatchups.weaknesses(List.of("fire", "flying"));
+
+		assertSame(charizard, TypeMatchups.weaknesses(List.of("flying", "fire")));
+		assertEquals(4.0, charizard.get("rock"));
+		assertThrows(UnsupportedOperationException.class, () -> charizard.put("water", 2.0));
+		assertTrue(TypeMatchups.weaknesses(List.of()).isEmpty());
+	}
+
+	@Test
+	void shouldKeepMatchupsOutOfStoredDetails() throws Exception {
+		Pokemon charizard = new Pokemon();
+		charizard.setId(6);
+		charizard.setName("charizard");
+		charizard.setTypes(List.of("fire", "flying"));
+		RedisSerializer<Pokemon> serializer = serializer();
+
+		byte[] stored = serializer.serialize(charizard);
+		byte[] rendered = new ObjectMapper().writeValueAsBytes(charizard);
+
+		assertFalse(new String(stored, StandardCharsets.UTF_8).contains("weaknesses"));
+		assertTrue(new String(rendered, StandardCharsets.UTF_8).contains("\"rock\":4.0"));
+		assertTrue(stored.length * 2 < rendered.length);
+		assertEquals(charizard.getWeaknesses(), serializer.deserialize(stored).getWeaknesses());
+
+		// Entries written before matchups were derived still read back
+		Pokemon legacy = serializer.deserialize(rendered);
+		assertEquals("charizard", legacy.getName());
+		assertSame(charizard.getWeaknesses(), legacy.getWeaknesses());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RedisSerializer<Pokemon> serializer() {
+		return (RedisSerializer<Pokemon>) new RedisConfig()
+				.redisTemplate(mock(RedisConnectionFactory.class))
+				.getValueSerializer();
+	}
+}
@@ -0,0 +1,116 @@
+package com.example.boltedex.upstream;
+
+import com.example.boltedex.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class EndpointBulkheadTest {
+
+	@AfterEach
+	void tearDown() {
+		EndpointBulkhead.unbind();
+	}
+
+	@Test
+	void shouldTakeOneSlotPerRequestAndGiveItBack() {
+		EndpointBulkhead bulkhead = new EndpointBulkhead("detail", 1, 0, 0, 2);
+
+		EndpointBulkhead.bind(bulkhead);
+		EndpointBulkhead.enterUpstream();
+		EndpointBulkhead.enterUpstream();
+		assertEquals(1, bulkhead.describe().get("active"));
+
+		EndpointBulkhead.unbind();
+		assertEquals(0, bulkhead.describe().get("active"));
+		assertEquals(1L, bulkhead.describe().get("admitted"));
+	}
+
+	@Test
+	void shouldRejectOnceSlotsAndQueueAreTaken() {
+		EndpointBulkhead bulkhead = new EndpointBulkhead("detail", 1, 0, 0, 2);
+		assertTrue(bulkhead.tryAcquire());
+
+		EndpointBulkhead.bind(bulkhead);
+		BulkheadFullException rejection = assertThrows(BulkheadFullException.class, EndpointBulkhead::enterUpstream);
+
+		assertEquals(503, rejection.getStatusCode());
+		assertEquals(2, rejection.getRetryAfterSeconds());
+		assertEquals(1L, bulkhead.describe().get("rejected"));
+		// The rejected request holds nothing, so unbinding must not hand out an extra slot
+		EndpointBulkhead.unbind();
+		assertEquals(1, bulkhead.describe().get("active"));
+	}
+
+	@Test
+	void shouldLetQueuedRequestWaitForAFreedSlot() throws Exception {
+		EndpointBulkhead bulkhead = new EndpointBulkhead("detail", 1, 1, 2000, 2);
+		assertTrue(bulkhead.tryAcquire());
+
+		Thread holder = new Thread(() -> {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			bulkhead.release();
+		});
+		holder.start();
+
+		assertTrue(bulkhead.tryAcquire());
+		holder.join();
+		assertEquals(1L, bulkhead.describe().get("waited"));
+	}
+
+	@Test
+	void shouldPassCallsFromUnboundThreads() {
+		EndpointBulkhead.enterUpstream();
+	}
+
+	@Test
+	void shouldShedUpstreamRequestsButServeCachedOnesWhenFull() throws Exception {
+		EndpointBulkhead bulkhead = new EndpointBulkhead("detail", 1, 0, 0, 2);
+		assertTrue(bulkhead.tryAcquire());
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new BulkheadedController())
+				.setControllerAdvice(new GlobalExceptionHandler())
+				.addInterceptors(new BulkheadInterceptor(bulkhead))
+				.build();
+
+		mockMvc.perform(get("/api/cached"))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/upstream"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+				.andExpect(jsonPath("$.errorCode").value("OVERLOADED_ERROR"));
+
+		bulkhead.release();
+		mockMvc.perform(get("/api/upstream"))
+				.andExpect(status().isOk());
+		assertEquals(0, bulkhead.describe().get("active"));
+	}
+
+	@RestController
+	static class BulkheadedController {
+
+		@GetMapping("/api/cached")
+		public Map<String, String> cached() {
+			return Map.of("name", "pikachu");
+		}
+
+		@GetMapping("/api/upstream")
+		public Map<String, String> upstream() {
+			EndpointBulkhead.enterUpstream();
+			return Map.of("name", "pikachu");
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.example.boltedex.upstream;
+
+import com.example.boltedex.exception.APIException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class UpstreamLimiterInterceptorTest {
+
+	private static final String URL = "https://pokeapi.co/api/v2/pokemon/pikachu";
+
+	private UpstreamLimiter limiter;
+	private RestTemplate restTemplate;
+	private MockRestServiceServer server;
+
+	@BeforeEach
+	void setUp() {
+		limiter = new UpstreamLimiter(1, 16, 8);
+		restTemplate = new RestTemplate();
+		restTemplate.getInterceptors().add(new UpstreamLimiterInterceptor(limiter, 2, 1, 20, 50));
+		server = MockRestServiceServer.bindTo(restTemplate).build();
+	}
+
+	@Test
+	void shouldRetryThrottledGetAndCutLimit() {
+		server.expect(once(), requestTo(URL))
+				.andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "0"));
+		server.expect(once(), requestTo(URL))
+				.andRespond(withSuccess("{\"name\":\"pikachu\"}", MediaType.APPLICATION_JSON));
+
+		String body = restTemplate.getForObject(URL, String.class);
+
+		assertEquals("{\"name\":\"pikachu\"}", body);
+		assertEquals(4, limiter.getLimit());
+		server.verify();
+	}
+
+	@Test
+	void shouldSurfaceThrottleOnceRetriesAreExhausted() {
+		server.expect(times(3), requestTo(URL)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+
+		assertThrows(HttpClientErrorException.TooManyRequests.class, () -> restTemplate.getForObject(URL, String.class));
+		server.verify();
+	}
+
+	@Test
+	void shouldNotWaitPastLongRetryAfter() {
+		server.expect(once(), requestTo(URL))
+				.andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "120"));
+
+		assertThrows(Exception.class, () -> restTemplate.getForObject(URL, String.class));
+		server.verify();
+
+		// The limiter is now paused, so an interactive caller times out with 503 instead of queueing
+		APIException busy = assertThrows(APIException.class, () -> restTemplate.getForObject(URL, String.class));
+		assertEquals(503, busy.getStatusCode());
+	}
+
+	@Test
+	void shouldParseRetryAfterForms() throws Exception {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, "3");
+		assertEquals(TimeUnit.SECONDS.toMillis(3), UpstreamLimiterInterceptor.retryAfterMillis(headers));
+
+		headers.set(HttpHeaders.RETRY_AFTER, "Wed, 21 Oct 2015 07:28:00 GMT");
+		assertEquals(0, UpstreamLimiterInterceptor.retryAfterMillis(headers));
+
+		headers.set(HttpHeaders.RETRY_AFTER, "soon");
+		assertEquals(0, UpstreamLimiterInterceptor.retryAfterMillis(headers));
+	}
+}
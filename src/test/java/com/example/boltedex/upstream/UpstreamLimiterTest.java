@@ -0,0 +1,98 @@
+package com.example.boltedex.upstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamLimiterTest {
+
+	private static final long MILLIS = 1_000_000L;
+
+	@Test
+	void shouldGrowAdditivelyAndHalveOnThrottle() throws Exception {
+		UpstreamLimiter limiter = new UpstreamLimiter(1, 32, 4);
+
+		for (int i = 0; i < 40; i++) {
+			for (int slot = 0; slot < 3; slot++) {
+				assertTrue(limiter.acquire(UpstreamPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS));
+			}
+			for (int slot = 0; slot < 3; slot++) {
+				limiter.release(10 * MILLIS, false);
+			}
+		}
+		int grown = limiter.getLimit();
+		assertTrue(grown > 4, "limit should grow while in use, was " + grown);
+
+		assertTrue(limiter.acquire(UpstreamPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS));
+		limiter.release(-1, true);
+		assertEquals(grown / 2, limiter.getLimit(), 1);
+	}
+
+	@Test
+	void shouldBackOffWhenLatencyClimbs() throws Exception {
+		UpstreamLimiter limiter = new UpstreamLimiter(1, 32, 16);
+		for (int i = 0; i < 20; i++) {
+			limiter.acquire(UpstreamPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS);
+			limiter.release(10 * MILLIS, false);
+		}
+		int before = limiter.getLimit();
+
+		for (int i = 0; i < 5; i++) {
+			limiter.acquire(UpstreamPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS);
+			limiter.release(200 * MILLIS, false);
+		}
+
+		assertTrue(limiter.getLimit() < before);
+	}
+
+	@Test
+	void shouldKeepHeadroomForInteractiveCalls() throws Exception {
+		UpstreamLimiter limiter = new UpstreamLimiter(1, 4, 4);
+
+		// One of the four slots is reserved, so background stops at three
+		for (int i = 0; i < 3; i++) {
+			assertTrue(limiter.acquire(UpstreamPriority.BACKGROUND, 0, TimeUnit.MILLISECONDS));
+		}
+		assertFalse(limiter.acquire(UpstreamPriority.BACKGROUND, 10, TimeUnit.MILLISECONDS));
+		assertTrue(limiter.acquire(UpstreamPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	void shouldServeWaitingInteractiveCallerFirst() throws Exception {
+		UpstreamLimiter limiter = new UpstreamLimiter(1, 1, 1);
+		assertTrue(limiter.acquire(UpstreamPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS));
+
+		CountDownLatch waiting = new CountDownLatch(1);
+		AtomicBoolean interactiveAcquired = new AtomicBoolean();
+		Thread interactive = new Thread(() -> {
+			try {
+				waiting.countDown();
+				interactiveAcquired.set(limiter.acquire(UpstreamPriority.INTERACTIVE, 5, TimeUnit.SECONDS));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		interactive.start();
+		waiting.await();
+		Thread.sleep(50);
+
+		limiter.release(MILLIS, false);
+		interactive.join(5000);
+
+		assertTrue(interactiveAcquired.get());
+		assertFalse(limiter.acquire(UpstreamPriority.BACKGROUND, 10, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	void shouldHoldCallsDuringRetryAfterPause() throws Exception {
+		UpstreamLimiter limiter = new UpstreamLimiter(1, 8, 8);
+		limiter.pause(200);
+
+		assertFalse(limiter.acquire(UpstreamPriority.INTERACTIVE, 20, TimeUnit.MILLISECONDS));
+		assertTrue(limiter.acquire(UpstreamPriority.INTERACTIVE, 2, TimeUnit.SECONDS));
+	}
+}